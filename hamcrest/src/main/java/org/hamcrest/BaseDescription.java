@@ -1,7 +1,6 @@
 package org.hamcrest;
 
 import org.hamcrest.internal.ArrayIterator;
-import org.hamcrest.internal.SelfDescribingValueIterator;
 
 import java.util.Arrays;
 import java.util.Iterator;
@@ -58,7 +57,7 @@ public abstract class BaseDescription implements Description {
             append(descriptionOf(value));
             append("F>");
         } else if (value.getClass().isArray()) {
-            appendValueList("[",", ","]", new ArrayIterator(value));
+            appendValueList("[",", ","]", ArrayIterator.of(value));
         } else {
             append('<');
             append(descriptionOf(value));
@@ -88,7 +87,17 @@ public abstract class BaseDescription implements Description {
     }
 
     private <T> Description appendValueList(String start, String separator, String end, Iterator<T> values) {
-        return appendList(start, separator, end, new SelfDescribingValueIterator<>(values));
+        boolean separate = false;
+
+        append(start);
+        while (values.hasNext()) {
+            if (separate) append(separator);
+            appendValue(values.next());
+            separate = true;
+        }
+        append(end);
+
+        return this;
     }
 
     @Override
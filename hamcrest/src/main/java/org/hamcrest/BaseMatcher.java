@@ -46,4 +46,16 @@ public abstract class BaseMatcher<T> implements Matcher<T> {
         return true;
     }
 
+    /**
+     * Tells a diagnosing matcher whether anything will read its mismatch description.
+     * {@link #matches(Object)} on a {@link DiagnosingMatcher} or {@link TypeSafeDiagnosingMatcher}
+     * passes {@link Description#NONE}, so matchers can skip building mismatch text, and skip
+     * any work done only to describe the mismatch, when this returns false.
+     * @param mismatch the mismatch description passed to the matcher
+     * @return false iff the mismatch description discards everything appended to it
+     */
+    protected static boolean isDiagnosing(Description mismatch) {
+        return !(mismatch instanceof Description.NullDescription);
+    }
+
 }
@@ -0,0 +1,31 @@
+package org.hamcrest;
+
+/**
+ * A {@link SelfDescribing} object that can declare its description to be immutable,
+ * so that it may be rendered once and reused.
+ *
+ * <p>{@link StringDescription} appends the cached text of such an object instead of
+ * calling {@link #describeTo(Description)} again. Composite matchers whose components
+ * all have immutable descriptions keep a {@link DescriptionCache} of their own, so a
+ * large matcher tree is rendered once and later reports reuse the cached fragments.</p>
+ *
+ * @see DescriptionCache
+ */
+public interface CacheableSelfDescribing extends SelfDescribing {
+
+    /**
+     * Whether {@link #describeTo(Description)} always produces the same output for this
+     * instance. This must be fixed when the object is constructed.
+     *
+     * @return true if the description of this object never changes
+     */
+    boolean hasImmutableDescription();
+
+    /**
+     * The cache of the rendered description, if this object keeps one.
+     *
+     * @return the cache, or null if the description is not cached
+     */
+    DescriptionCache descriptionCache();
+
+}
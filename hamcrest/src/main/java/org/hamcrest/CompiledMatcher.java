@@ -0,0 +1,62 @@
+package org.hamcrest;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.UndeclaredThrowableException;
+
+/**
+ * Evaluates a matcher through its {@link Matcher#toMethodHandle() method handle}, while
+ * describing itself and its mismatches exactly as the original matcher does.
+ *
+ * @param <T> the matched value type
+ */
+public class CompiledMatcher<T> extends BaseMatcher<T> {
+
+    private final Matcher<T> matcher;
+    private final MethodHandle handle;
+
+    private CompiledMatcher(Matcher<T> matcher) {
+        this.matcher = matcher;
+        this.handle = matcher.toMethodHandle();
+    }
+
+    @Override
+    public boolean matches(Object actual) {
+        try {
+            return (boolean) handle.invokeExact(actual);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new UndeclaredThrowableException(e);
+        }
+    }
+
+    @Override
+    public void describeTo(Description description) {
+        matcher.describeTo(description);
+    }
+
+    @Override
+    public void describeMismatch(Object item, Description description) {
+        matcher.describeMismatch(item, description);
+    }
+
+    /**
+     * Compiles a matcher into a tree of method handles, so that evaluating it does not make a
+     * polymorphic {@link Matcher#matches(Object)} call at each level. The compiled matcher
+     * matches the same values, and has the same description and mismatch descriptions, as the
+     * original.
+     * For example:
+     * <pre>assertThat(order, compile(allOf(hasProperty("region", equalTo("EU")), hasProperty("size", greaterThan(10)))))</pre>
+     *
+     * @param <T>
+     *     the matcher type.
+     * @param matcher
+     *     the matcher to compile
+     * @return The matcher.
+     * @throws IllegalStateException if a {@link Lowerable} matcher lowers to a handle of the wrong type
+     */
+    public static <T> Matcher<T> compile(Matcher<T> matcher) {
+        return new CompiledMatcher<>(matcher);
+    }
+
+}
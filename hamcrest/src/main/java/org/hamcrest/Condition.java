@@ -98,8 +98,10 @@ public abstract class Condition<T> {
             if (matcher.matches(theValue)) {
                 return true;
             }
-            mismatch.appendText(message);
-            matcher.describeMismatch(theValue, mismatch);
+            if (BaseMatcher.isDiagnosing(mismatch)) {
+                mismatch.appendText(message);
+                matcher.describeMismatch(theValue, mismatch);
+            }
             return false;
         }
 
@@ -50,6 +50,25 @@ public class CoreMatchers {
     return org.hamcrest.core.AllOf.allOf(matchers);
   }
 
+  /**
+   * Creates a matcher that matches if the examined object matches <b>ALL</b> of the specified matchers,
+   * evaluating them in the order that has been observed to reject mismatching objects most cheaply.
+   * A small random sample of calls evaluates every matcher to measure its pass rate and cost, and
+   * the evaluation order is adjusted from those measurements. The description, and the mismatch
+   * description, always follow the declared order.
+   * For example:
+   * <pre>assertThat(document, adaptiveAllOf(Arrays.asList(hasXPath("/a/b"), notNullValue())))</pre>
+   *
+   * @param <T>
+   *     the matcher type.
+   * @param matchers
+   *     all the matchers must pass.
+   * @return The matcher.
+   */
+  public static <T> org.hamcrest.Matcher<T> adaptiveAllOf(java.lang.Iterable<org.hamcrest.Matcher<? super T>> matchers) {
+    return org.hamcrest.core.AllOf.adaptiveAllOf(matchers);
+  }
+
   /**
    * Creates a matcher that matches if the examined object matches <b>ANY</b> of the specified matchers.
    * For example:
@@ -81,6 +100,25 @@ public class CoreMatchers {
     return org.hamcrest.core.AnyOf.anyOf(matchers);
   }
 
+  /**
+   * Creates a matcher that matches if the examined object matches <b>ANY</b> of the specified matchers,
+   * evaluating them in the order that has been observed to accept matching objects most cheaply.
+   * A small random sample of calls evaluates every matcher to measure its pass rate and cost, and
+   * the evaluation order is adjusted from those measurements. The description always follows the
+   * declared order.
+   * For example:
+   * <pre>assertThat("myValue", adaptiveAnyOf(Arrays.asList(matchesPattern("[a-z]+Value"), startsWith("my"))))</pre>
+   *
+   * @param <T>
+   *     the matcher type.
+   * @param matchers
+   *     any the matchers must pass.
+   * @return The matcher.
+   */
+  public static <T> org.hamcrest.core.AnyOf<T> adaptiveAnyOf(java.lang.Iterable<org.hamcrest.Matcher<? super T>> matchers) {
+    return org.hamcrest.core.AnyOf.adaptiveAnyOf(matchers);
+  }
+
   /**
    * Creates a matcher that matches when both of the specified matchers match the examined object.
    * For example:
@@ -131,6 +169,24 @@ public class CoreMatchers {
     return org.hamcrest.core.DescribedAs.describedAs(description, matcher, values);
   }
 
+  /**
+   * Creates a matcher that matches exactly when the specified matcher does, and has the
+   * same description and mismatch description, but evaluates nested combinations of core
+   * matchers as a flat plan with redundant steps removed. If there is nothing to optimise,
+   * the specified matcher is returned.
+   * For example:
+   * <pre>Matcher&lt;String&gt; rule = optimized(both(startsWith("a")).and(endsWith("z")).and(containsString("m")))</pre>
+   *
+   * @param <T>
+   *     the matcher type.
+   * @param matcher
+   *     the matcher tree to optimise
+   * @return The matcher.
+   */
+  public static <T> org.hamcrest.Matcher<T> optimized(org.hamcrest.Matcher<T> matcher) {
+    return org.hamcrest.core.Optimized.optimized(matcher);
+  }
+
   /**
    * Creates a matcher for {@link Iterable}s that only matches when a single pass over the
    * examined {@link Iterable} yields items that are all matched by the specified
@@ -148,6 +204,46 @@ public class CoreMatchers {
     return org.hamcrest.core.Every.everyItem(itemMatcher);
   }
 
+  /**
+   * Creates a matcher for {@link Iterable}s that only matches when the examined
+   * {@link Iterable} yields items that are all matched by the specified
+   * <code>itemMatcher</code>, which must be thread safe. The items of large
+   * {@link java.util.Collection}s are matched in parallel in the common
+   * {@link java.util.concurrent.ForkJoinPool}, stopping as soon as an item does not match.
+   * For example:
+   * <pre>assertThat(documents, everyItemInParallel(hasXPath("/order/id")))</pre>
+   *
+   * @param <U>
+   *     the matcher type.
+   * @param itemMatcher
+   *     the matcher to apply to every item provided by the examined {@link Iterable}
+   * @return The matcher.
+   */
+  public static <U> org.hamcrest.Matcher<java.lang.Iterable<? extends U>> everyItemInParallel(org.hamcrest.Matcher<U> itemMatcher) {
+    return org.hamcrest.core.Every.everyItemInParallel(itemMatcher);
+  }
+
+  /**
+   * Creates a matcher for {@link Iterable}s that only matches when the examined
+   * {@link Iterable} yields items that are all matched by the specified
+   * <code>itemMatcher</code>, which must be thread safe. The items of large
+   * {@link java.util.Collection}s are matched in parallel in the specified pool, stopping
+   * as soon as an item does not match.
+   * For example:
+   * <pre>assertThat(documents, everyItemInParallel(hasXPath("/order/id"), pool))</pre>
+   *
+   * @param <U>
+   *     the matcher type.
+   * @param itemMatcher
+   *     the matcher to apply to every item provided by the examined {@link Iterable}
+   * @param pool
+   *     the pool in which to match items
+   * @return The matcher.
+   */
+  public static <U> org.hamcrest.Matcher<java.lang.Iterable<? extends U>> everyItemInParallel(org.hamcrest.Matcher<U> itemMatcher, java.util.concurrent.ForkJoinPool pool) {
+    return org.hamcrest.core.Every.everyItemInParallel(itemMatcher, pool);
+  }
+
   /**
    * Decorates another Matcher, retaining its behaviour, but allowing tests
    * to be slightly more expressive.
@@ -257,10 +353,70 @@ public class CoreMatchers {
   }
 
   /**
-   * Creates a matcher for {@link Iterable}s that matches when consecutive passes over the
-   * examined {@link Iterable} yield at least one item that is matched by the corresponding
-   * matcher from the specified <code>itemMatchers</code>.  Whilst matching, each traversal of
-   * the examined {@link Iterable} will stop as soon as a matching item is found.
+   * Creates a matcher for {@link Iterable}s that only matches when a single pass over the
+   * examined {@link Iterable} yields at least one item that is matched by the specified
+   * <code>itemMatcher</code>, and that reports the mismatches chosen by the specified
+   * <code>diagnostics</code> when none is.
+   * For example:
+   * <pre>assertThat(prices, hasItem(closeTo(9.99, 0.001), ItemDiagnostics.closestMismatches(3, p -&gt; Math.abs(p - 9.99))))</pre>
+   *
+   * @param <T>
+   *     the matcher type.
+   * @param itemMatcher
+   *     the matcher to apply to items provided by the examined {@link Iterable}
+   * @param diagnostics
+   *     what to report of the items when none matches
+   * @return The matcher.
+   */
+  public static <T> org.hamcrest.Matcher<java.lang.Iterable<? extends T>> hasItem(org.hamcrest.Matcher<? super T> itemMatcher, org.hamcrest.core.ItemDiagnostics<? super T> diagnostics) {
+    return IsIterableContaining.hasItem(itemMatcher, diagnostics);
+  }
+
+  /**
+   * Creates a matcher for {@link Iterable}s that only matches when the examined
+   * {@link Iterable} yields at least one item that is matched by the specified
+   * <code>itemMatcher</code>, which must be thread safe. The items of large
+   * {@link java.util.Collection}s are matched in parallel in the common
+   * {@link java.util.concurrent.ForkJoinPool}, stopping as soon as a matching item is found.
+   * For example:
+   * <pre>assertThat(documents, hasItemInParallel(hasXPath("/order[@priority='high']")))</pre>
+   *
+   * @param <T>
+   *     the matcher type.
+   * @param itemMatcher
+   *     the matcher to apply to items provided by the examined {@link Iterable}
+   * @return The matcher.
+   */
+  public static <T> org.hamcrest.Matcher<java.lang.Iterable<? extends T>> hasItemInParallel(org.hamcrest.Matcher<? super T> itemMatcher) {
+    return IsIterableContaining.hasItemInParallel(itemMatcher);
+  }
+
+  /**
+   * Creates a matcher for {@link Iterable}s that only matches when the examined
+   * {@link Iterable} yields at least one item that is matched by the specified
+   * <code>itemMatcher</code>, which must be thread safe. The items of large
+   * {@link java.util.Collection}s are matched in parallel in the specified pool, stopping
+   * as soon as a matching item is found.
+   * For example:
+   * <pre>assertThat(documents, hasItemInParallel(hasXPath("/order[@priority='high']"), pool))</pre>
+   *
+   * @param <T>
+   *     the matcher type.
+   * @param itemMatcher
+   *     the matcher to apply to items provided by the examined {@link Iterable}
+   * @param pool
+   *     the pool in which to match items
+   * @return The matcher.
+   */
+  public static <T> org.hamcrest.Matcher<java.lang.Iterable<? extends T>> hasItemInParallel(org.hamcrest.Matcher<? super T> itemMatcher, java.util.concurrent.ForkJoinPool pool) {
+    return IsIterableContaining.hasItemInParallel(itemMatcher, pool);
+  }
+
+  /**
+   * Creates a matcher for {@link Iterable}s that matches when a single pass over the
+   * examined {@link Iterable} yields, for each of the specified <code>itemMatchers</code>,
+   * at least one item that it matches.  Whilst matching, the traversal of the examined
+   * {@link Iterable} will stop as soon as every matcher has matched an item.
    * For example:
    * <pre>assertThat(Arrays.asList("foo", "bar", "baz"), hasItems(endsWith("z"), endsWith("o")))</pre>
    *
@@ -276,10 +432,10 @@ public class CoreMatchers {
   }
 
   /**
-   * Creates a matcher for {@link Iterable}s that matches when consecutive passes over the
-   * examined {@link Iterable} yield at least one item that is equal to the corresponding
-   * item from the specified <code>items</code>.  Whilst matching, each traversal of the
-   * examined {@link Iterable} will stop as soon as a matching item is found.
+   * Creates a matcher for {@link Iterable}s that matches when a single pass over the
+   * examined {@link Iterable} yields, for each of the specified <code>items</code>, at
+   * least one item that is equal to it.  Whilst matching, the traversal of the examined
+   * {@link Iterable} will stop as soon as every item has been found.
    * For example:
    * <pre>assertThat(Arrays.asList("foo", "bar", "baz"), hasItems("baz", "foo"))</pre>
    *
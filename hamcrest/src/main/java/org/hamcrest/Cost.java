@@ -0,0 +1,132 @@
+package org.hamcrest;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Units for the estimated costs reported by {@link Costed} matchers, and helpers to
+ * combine them.
+ *
+ * <p>{@link #UNKNOWN} is {@link Double#NaN}, so any estimate computed from an unknown
+ * cost is itself unknown.</p>
+ */
+public final class Cost {
+
+    /**
+     * The cost of a matcher whose cost cannot be estimated, such as one that runs arbitrary code.
+     */
+    public static final double UNKNOWN = Double.NaN;
+
+    /**
+     * The cost of a null, identity or type check, or of comparing simple values.
+     */
+    public static final double CONSTANT = 1;
+
+    /**
+     * The cost of scanning a string.
+     */
+    public static final double STRING = 4;
+
+    /**
+     * The cost of evaluating a regular expression.
+     */
+    public static final double REGEX = 50;
+
+    /**
+     * The cost of finding and reading properties or fields by reflection.
+     */
+    public static final double REFLECTION = 200;
+
+    /**
+     * The cost of evaluating an XPath expression.
+     */
+    public static final double XPATH = 1000;
+
+    /**
+     * The number of elements assumed to be in a collection, array or map whose size is not known
+     * in advance.
+     */
+    public static final double ASSUMED_SIZE = 16;
+
+    private Cost() {
+    }
+
+    /**
+     * The estimated cost of a matcher.
+     *
+     * @param matcher the matcher
+     * @return the cost estimated by <var>matcher</var> if it is {@link Costed}, otherwise {@link #UNKNOWN}
+     */
+    public static double of(Object matcher) {
+        return matcher instanceof Costed ? ((Costed) matcher).estimatedCost() : UNKNOWN;
+    }
+
+    /**
+     * The estimated cost of evaluating every one of some matchers.
+     *
+     * @param matchers the matchers
+     * @return the sum of their costs
+     */
+    public static double sum(Iterable<?> matchers) {
+        double total = 0;
+        for (Object matcher : matchers) {
+            total += of(matcher);
+        }
+        return total;
+    }
+
+    /**
+     * The estimated cost of a step that is repeated for each element of a collection, array or
+     * map whose size is not known in advance.
+     *
+     * @param elementCost the cost for each element
+     * @return the cost for the whole collection
+     */
+    public static double perElement(double elementCost) {
+        return CONSTANT + ASSUMED_SIZE * elementCost;
+    }
+
+    /**
+     * Orders matchers so that the cheapest are first, keeping the declared order of matchers of
+     * equal cost. Matchers whose costs are not known might rely on being evaluated in declared order,
+     * for example after a type check, so they are never reordered.
+     *
+     * @param <M> the matcher type
+     * @param matchers the matchers, in declared order
+     * @return a new list of the matchers in order of increasing cost, or null if any cost is unknown
+     */
+    public static <M> List<M> cheapestFirst(Iterable<M> matchers) {
+        List<M> ordered = new ArrayList<>();
+        final Map<M, Double> costs = new IdentityHashMap<>();
+        for (M matcher : matchers) {
+            double cost = of(matcher);
+            if (!isKnown(cost)) {
+                return null;
+            }
+            ordered.add(matcher);
+            costs.put(matcher, cost);
+        }
+        Collections.sort(ordered, new Comparator<M>() {
+            @Override
+            public int compare(M a, M b) {
+                return Double.compare(costs.get(a), costs.get(b));
+            }
+        });
+        return ordered;
+    }
+
+    /**
+     * Tests whether a cost is known.
+     *
+     * @param cost the cost to check
+     * @return false if <var>cost</var> is {@link #UNKNOWN}
+     */
+    public static boolean isKnown(double cost) {
+        return !Double.isNaN(cost);
+    }
+
+}
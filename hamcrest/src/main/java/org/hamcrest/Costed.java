@@ -0,0 +1,23 @@
+package org.hamcrest;
+
+/**
+ * A {@link Matcher} that can estimate how expensive it is to evaluate, relative
+ * to the units defined in {@link Cost}.
+ *
+ * <p>Combinations such as {@link org.hamcrest.core.AllOf} and {@link org.hamcrest.core.AnyOf}
+ * evaluate cheaper matchers first when the costs of all their matchers are known. Matchers
+ * that run arbitrary code, or that wrap a matcher whose cost is not known, should return
+ * {@link Cost#UNKNOWN} so that their evaluation order is left as declared.</p>
+ *
+ * @see Cost
+ */
+public interface Costed {
+
+    /**
+     * Estimates the cost of one call to {@link Matcher#matches(Object)}.
+     *
+     * @return the estimated cost, or {@link Cost#UNKNOWN}
+     */
+    double estimatedCost();
+
+}
@@ -22,6 +22,19 @@ public interface Description {
      */
     Description appendText(String text);
 
+    /**
+     * Appends text formatted as by {@link String#format(String, Object...)}. The text is
+     * only formatted when the description keeps it, so matchers can call this while matching
+     * without paying for text that {@link #NONE} would discard.
+     *
+     * @param format the format string.
+     * @param args the arguments referenced by the format string.
+     * @return the update description when displaying the matcher error.
+     */
+    default Description appendText(String format, Object... args) {
+        return appendText(String.format(format, args));
+    }
+
     /**
      * Appends the description of a {@link SelfDescribing} value to this description.
      *
@@ -103,6 +116,11 @@ public interface Description {
             return this;
         }
 
+        @Override
+        public Description appendText(String format, Object... args) {
+            return this;
+        }
+
         @Override
         public Description appendValue(Object value) {
             return this;
@@ -0,0 +1,108 @@
+package org.hamcrest;
+
+import java.lang.ref.SoftReference;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+/**
+ * Holds the rendered description of a {@link CacheableSelfDescribing} object.
+ *
+ * <p>The text is rendered on first use and held through a {@link SoftReference}, so the
+ * memory used by the descriptions of large matcher trees can be reclaimed when needed.
+ * Rendering is not synchronised: concurrent first uses may each render the same text.</p>
+ */
+public final class DescriptionCache {
+
+    private volatile SoftReference<String> rendered;
+
+    /**
+     * Creates an empty cache. Use {@link #forComponents(Iterable)} to create a cache
+     * for a composite only if all its components have immutable descriptions.
+     */
+    public DescriptionCache() {
+    }
+
+    /**
+     * Returns the description of <var>owner</var>, rendering it if it is not cached.
+     *
+     * @param owner the object that holds this cache
+     * @return the rendered description
+     */
+    public String render(SelfDescribing owner) {
+        SoftReference<String> reference = rendered;
+        String text = reference == null ? null : reference.get();
+        if (text == null) {
+            StringDescription description = new StringDescription();
+            owner.describeTo(description);
+            text = description.toString();
+            rendered = new SoftReference<>(text);
+        }
+        return text;
+    }
+
+    /**
+     * Tests whether an object declares its description to be immutable.
+     *
+     * @param value the object to check
+     * @return true if <var>value</var> is a {@link CacheableSelfDescribing} with an immutable description
+     */
+    public static boolean isImmutable(Object value) {
+        return value instanceof CacheableSelfDescribing
+            && ((CacheableSelfDescribing) value).hasImmutableDescription();
+    }
+
+    /**
+     * Tests whether the description of a value appended with {@link Description#appendValue(Object)}
+     * can never change, because the value is null or of an immutable JDK type.
+     *
+     * @param value the value to check
+     * @return true if the described form of <var>value</var> is fixed
+     */
+    public static boolean isImmutableValue(Object value) {
+        return value == null
+            || value instanceof String
+            || value instanceof Integer
+            || value instanceof Long
+            || value instanceof Short
+            || value instanceof Byte
+            || value instanceof Character
+            || value instanceof Boolean
+            || value instanceof Double
+            || value instanceof Float
+            || value instanceof BigInteger
+            || value instanceof BigDecimal
+            || value instanceof Class
+            || value instanceof Enum;
+    }
+
+    /**
+     * Creates a cache for a composite, if all of its components have immutable descriptions.
+     *
+     * @param components the components appended to the composite's description
+     * @return a new cache, or null if any component may change its description
+     */
+    public static DescriptionCache forComponents(Iterable<?> components) {
+        for (Object component : components) {
+            if (!isImmutable(component)) {
+                return null;
+            }
+        }
+        return new DescriptionCache();
+    }
+
+    /**
+     * Creates a cache for a composite, if all of its components have immutable descriptions.
+     *
+     * @param components the components appended to the composite's description
+     * @return a new cache, or null if any component may change its description
+     */
+    public static DescriptionCache forComponents(Object... components) {
+        for (Object component : components) {
+            if (!isImmutable(component)) {
+                return null;
+            }
+        }
+        return new DescriptionCache();
+    }
+
+}
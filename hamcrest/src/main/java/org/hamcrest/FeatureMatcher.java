@@ -1,7 +1,12 @@
 package org.hamcrest;
 
+import org.hamcrest.internal.MatcherHandles;
 import org.hamcrest.internal.ReflectiveTypeFinder;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+
 /**
  * Supporting class for matching a feature of an object. Implement <code>featureValueOf()</code>
  * in a subclass to pull out the feature to be matched against.
@@ -9,9 +14,11 @@ import org.hamcrest.internal.ReflectiveTypeFinder;
  * @param <T> The type of the object to be matched
  * @param <U> The type of the feature to be matched
  */
-public abstract class FeatureMatcher<T, U> extends TypeSafeDiagnosingMatcher<T> {
+public abstract class FeatureMatcher<T, U> extends TypeSafeDiagnosingMatcher<T> implements Costed, Lowerable {
 
   private static final ReflectiveTypeFinder TYPE_FINDER = new ReflectiveTypeFinder("featureValueOf", 1, 0);
+  private static final MethodHandle FEATURE_VALUE_OF = MatcherHandles.findVirtual(MethodHandles.lookup(), FeatureMatcher.class, "featureValueOf",
+          MethodType.methodType(Object.class, Object.class));
   private final Matcher<? super U> subMatcher;
   private final String featureDescription;
   private final String featureName;
@@ -36,12 +43,24 @@ public abstract class FeatureMatcher<T, U> extends TypeSafeDiagnosingMatcher<T>
    */
   protected abstract U featureValueOf(T actual);
 
+  /**
+   * Estimates the cost of {@link #featureValueOf(Object)}. Subclasses that know the cost of
+   * extracting their feature should override this, so that combinations can plan around it.
+   *
+   * @return the estimated cost, {@link Cost#UNKNOWN} by default
+   */
+  protected double featureCost() {
+    return Cost.UNKNOWN;
+  }
+
   @Override
   protected boolean matchesSafely(T actual, Description mismatch) {
     final U featureValue = featureValueOf(actual);
     if (!subMatcher.matches(featureValue)) {
-      mismatch.appendText(featureName).appendText(" ");
-      subMatcher.describeMismatch(featureValue, mismatch);
+      if (isDiagnosing(mismatch)) {
+        mismatch.appendText(featureName).appendText(" ");
+        subMatcher.describeMismatch(featureValue, mismatch);
+      }
       return false;
     }
     return true;
@@ -53,4 +72,23 @@ public abstract class FeatureMatcher<T, U> extends TypeSafeDiagnosingMatcher<T>
                .appendDescriptionOf(subMatcher);
   }
 
+  /**
+   * The cost of extracting the feature plus the cost of the sub-matcher.
+   */
+  @Override
+  public double estimatedCost() {
+    return featureCost() + Cost.of(subMatcher);
+  }
+
+  /**
+   * Lowers to the lowered sub-matcher applied to the result of {@link #featureValueOf(Object)}.
+   * A subclass that overrides {@link #matchesSafely(Object, Description)} is not lowered (see
+   * {@link MatcherHandles#lower}).
+   */
+  @Override
+  public MethodHandle lower(Lowering lowering) {
+    MethodHandle featureMatches = MethodHandles.filterArguments(lowering.lower(subMatcher), 0, FEATURE_VALUE_OF.bindTo(this));
+    return MatcherHandles.typeSafe(expectedType(), featureMatches);
+  }
+
 }
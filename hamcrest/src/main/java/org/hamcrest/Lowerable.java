@@ -0,0 +1,38 @@
+package org.hamcrest;
+
+import java.lang.invoke.MethodHandle;
+
+/**
+ * A {@link Matcher} that can express its evaluation as a tree of method handles, so that a
+ * composed matcher can be evaluated without a polymorphic {@link Matcher#matches(Object)}
+ * call at each level of the tree.
+ *
+ * <p>The handle returned must have the type <code>(Object)boolean</code> and give
+ * the same result as {@link Matcher#matches(Object)} for every value. Matchers that hold other
+ * matchers lower them through the given {@link Lowering}, which falls back to calling
+ * {@link Matcher#matches(Object)} on matchers that cannot be lowered.</p>
+ */
+public interface Lowerable {
+
+    /**
+     * Lowers this matcher.
+     *
+     * @param lowering lowers the matchers held by this matcher
+     * @return a handle of type <code>(Object)boolean</code> that evaluates this matcher
+     */
+    MethodHandle lower(Lowering lowering);
+
+    /**
+     * Lowers the matchers held by a {@link Lowerable} matcher.
+     */
+    interface Lowering {
+
+        /**
+         * @param matcher a matcher held by the matcher being lowered
+         * @return a handle of type <code>(Object)boolean</code> that evaluates the matcher
+         */
+        MethodHandle lower(Matcher<?> matcher);
+
+    }
+
+}
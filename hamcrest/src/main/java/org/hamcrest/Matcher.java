@@ -1,5 +1,9 @@
 package org.hamcrest;
 
+import org.hamcrest.internal.MatcherHandles;
+
+import java.lang.invoke.MethodHandle;
+
 /**
  * <p>
  * A matcher over acceptable values.
@@ -54,6 +58,29 @@ public interface Matcher<T> extends SelfDescribing {
      */
     void describeMismatch(Object actual, Description mismatchDescription);
 
+    /**
+     * Returns a method handle of type <code>(Object)boolean</code> that gives the same result
+     * as {@link #matches(Object)}. Matchers that implement {@link Lowerable}, including most
+     * built-in matchers, are lowered to a tree of method handle combinators, so that the
+     * result does not make a polymorphic call to <code>matches</code> at each level of a
+     * composed matcher. Other matchers, and subclasses that override <code>matches</code>
+     * without declaring {@link Lowerable#lower}, are called through <code>matches</code>.
+     *
+     * <p>The JIT compiler can only inline the tree when it sees the handle as a constant, so
+     * keep the handle in a <code>static final</code> field, or link it through a
+     * {@link java.lang.invoke.ConstantCallSite}, and call it with <code>invokeExact</code>:</p>
+     * <pre>
+     * private static final MethodHandle IS_ROUTABLE = allOf(notNullValue(), greaterThan(10)).toMethodHandle();
+     *
+     * boolean routable = (boolean) IS_ROUTABLE.invokeExact((Object) size);
+     * </pre>
+     *
+     * @return a handle that evaluates this matcher
+     */
+    default MethodHandle toMethodHandle() {
+        return MatcherHandles.lower(this);
+    }
+
     /**
      * This method simply acts a friendly reminder not to implement Matcher directly and
      * instead extend BaseMatcher. It's easy to ignore JavaDoc, but a bit harder to ignore
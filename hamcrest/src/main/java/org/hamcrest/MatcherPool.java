@@ -0,0 +1,55 @@
+package org.hamcrest;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * A pool of matchers, so that equal matchers can share one instance.
+ *
+ * <p>The built-in matchers, such as <code>equalTo</code>, <code>hasProperty</code>,
+ * <code>allOf</code> and <code>containsString</code>, are equal when they are built from
+ * equal matchers and equal values, and cache their hash codes, so they can be used as keys
+ * of hash tables. Values are only compared by <code>equals</code> if they are immutable:
+ * strings, boxed primitives, enums, classes, {@link java.math.BigInteger} and
+ * {@link java.math.BigDecimal}. Any other value, such as a collection, an array or a mutable
+ * bean, may be changed by its owner, so a matcher holding it, such as
+ * <code>equalTo(list)</code> or <code>in(list)</code>, is only equal to matchers holding the
+ * same instance; interning it never hands one caller a matcher of another caller's
+ * value. Matchers that do not override <code>equals</code> are only equal to themselves, so
+ * interning them shares nothing. Pooled matchers that are no longer used elsewhere can be
+ * garbage collected.</p>
+ */
+public final class MatcherPool {
+
+    private static final Map<Matcher<?>, WeakReference<Matcher<?>>> POOL = new WeakHashMap<>();
+
+    private MatcherPool() {
+    }
+
+    /**
+     * Returns the pooled matcher that is equal to the specified matcher, adding it to the
+     * pool if there is none.
+     * For example:
+     * <pre>rules.add(intern(hasProperty("type", equalTo("trade"))))</pre>
+     *
+     * @param <T>
+     *     the matcher type.
+     * @param matcher
+     *     the matcher to intern
+     * @return A matcher equal to <code>matcher</code>, which is the same instance for all equal matchers.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> Matcher<T> intern(Matcher<T> matcher) {
+        synchronized (POOL) {
+            WeakReference<Matcher<?>> reference = POOL.get(matcher);
+            Matcher<?> pooled = reference == null ? null : reference.get();
+            if (pooled == null) {
+                POOL.put(matcher, new WeakReference<Matcher<?>>(matcher));
+                return matcher;
+            }
+            return (Matcher<T>) pooled;
+        }
+    }
+
+}
@@ -0,0 +1,239 @@
+package org.hamcrest;
+
+import java.util.function.DoublePredicate;
+import java.util.function.IntPredicate;
+import java.util.function.LongPredicate;
+import java.util.function.Predicate;
+
+/**
+ * Adapts matchers to the functional interfaces of <code>java.util.function</code>, so
+ * that they can be used as filters, for example in a <code>java.util.stream</code> pipeline.
+ *
+ * <p>The adapters never describe anything. A {@link TypeSafeDiagnosingMatcher} is
+ * evaluated against {@link Description#NONE}, rather than a new description per call.
+ * When the type of the tested values is given, a {@link TypeSafeMatcher} or
+ * {@link TypeSafeDiagnosingMatcher} that accepts that type skips its per-call type check.
+ * Numeric matchers that implement {@link PrimitiveMatching}, such as <code>equalTo</code>,
+ * <code>closeTo</code> and the ordering comparisons, test primitive values without boxing,
+ * unless they are subclasses that inherit those methods rather than declare them.</p>
+ */
+public final class MatcherPredicates {
+
+    private static final ClassValue<Boolean> DECLARES_PRIMITIVE_MATCHING = new ClassValue<Boolean>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            try {
+                type.getDeclaredMethod("matchesInt", int.class);
+                type.getDeclaredMethod("matchesLong", long.class);
+                type.getDeclaredMethod("matchesDouble", double.class);
+                return true;
+            } catch (NoSuchMethodException e) {
+                return false;
+            }
+        }
+    };
+
+    private MatcherPredicates() {
+    }
+
+    /**
+     * Creates a {@link Predicate} that is satisfied by the values matched by the specified matcher.
+     * For example:
+     * <pre>names.stream().filter(asPredicate(startsWith("a")))</pre>
+     *
+     * @param <T>
+     *     the type of the tested values.
+     * @param matcher
+     *     the matcher to apply to each tested value
+     * @return The predicate.
+     */
+    public static <T> Predicate<T> asPredicate(Matcher<? super T> matcher) {
+        if (matcher instanceof TypeSafeMatcher) {
+            return new TypeSafePredicate<>((TypeSafeMatcher<? super T>) matcher, true);
+        }
+        if (matcher instanceof TypeSafeDiagnosingMatcher) {
+            return new TypeSafeDiagnosingPredicate<>((TypeSafeDiagnosingMatcher<? super T>) matcher, true);
+        }
+        return new MatcherPredicate<>(matcher);
+    }
+
+    /**
+     * Creates a {@link Predicate} that is satisfied by the values matched by the specified
+     * matcher. The predicate relies on the tested values being instances of <code>type</code>,
+     * which the compiler ensures unless unchecked conversions are used.
+     * For example:
+     * <pre>names.stream().filter(asPredicate(String.class, startsWith("a")))</pre>
+     *
+     * @param <T>
+     *     the type of the tested values.
+     * @param type
+     *     the class of the tested values
+     * @param matcher
+     *     the matcher to apply to each tested value
+     * @return The predicate.
+     */
+    public static <T> Predicate<T> asPredicate(Class<T> type, Matcher<? super T> matcher) {
+        if (matcher instanceof TypeSafeMatcher) {
+            TypeSafeMatcher<? super T> typeSafe = (TypeSafeMatcher<? super T>) matcher;
+            return new TypeSafePredicate<>(typeSafe, !typeSafe.expectedType().isAssignableFrom(type));
+        }
+        if (matcher instanceof TypeSafeDiagnosingMatcher) {
+            TypeSafeDiagnosingMatcher<? super T> typeSafe = (TypeSafeDiagnosingMatcher<? super T>) matcher;
+            return new TypeSafeDiagnosingPredicate<>(typeSafe, !typeSafe.expectedType().isAssignableFrom(type));
+        }
+        return new MatcherPredicate<>(matcher);
+    }
+
+    /**
+     * Creates an {@link IntPredicate} that is satisfied by the values matched by the
+     * specified matcher. Matchers that implement {@link PrimitiveMatching} test each
+     * value directly; others are applied to each value boxed as an {@link Integer}.
+     * For example:
+     * <pre>IntStream.range(0, 100).filter(asIntPredicate(greaterThan(90)))</pre>
+     *
+     * @param matcher
+     *     the matcher to apply to each tested value
+     * @return The predicate.
+     */
+    public static IntPredicate asIntPredicate(final Matcher<? super Integer> matcher) {
+        final PrimitiveMatching primitive = primitiveMatchingOf(matcher);
+        if (primitive != null) {
+            return new IntPredicate() {
+                @Override
+                public boolean test(int value) {
+                    return primitive.matchesInt(value);
+                }
+            };
+        }
+        return new IntPredicate() {
+            @Override
+            public boolean test(int value) {
+                return matcher.matches(value);
+            }
+        };
+    }
+
+    /**
+     * Creates a {@link LongPredicate} that is satisfied by the values matched by the
+     * specified matcher. Matchers that implement {@link PrimitiveMatching} test each
+     * value directly; others are applied to each value boxed as a {@link Long}.
+     * For example:
+     * <pre>LongStream.of(timestamps).filter(asLongPredicate(lessThan(deadline)))</pre>
+     *
+     * @param matcher
+     *     the matcher to apply to each tested value
+     * @return The predicate.
+     */
+    public static LongPredicate asLongPredicate(final Matcher<? super Long> matcher) {
+        final PrimitiveMatching primitive = primitiveMatchingOf(matcher);
+        if (primitive != null) {
+            return new LongPredicate() {
+                @Override
+                public boolean test(long value) {
+                    return primitive.matchesLong(value);
+                }
+            };
+        }
+        return new LongPredicate() {
+            @Override
+            public boolean test(long value) {
+                return matcher.matches(value);
+            }
+        };
+    }
+
+    /**
+     * Creates a {@link DoublePredicate} that is satisfied by the values matched by the
+     * specified matcher. Matchers that implement {@link PrimitiveMatching} test each
+     * value directly; others are applied to each value boxed as a {@link Double}.
+     * For example:
+     * <pre>DoubleStream.of(readings).filter(asDoublePredicate(closeTo(1.0, 0.1)))</pre>
+     *
+     * @param matcher
+     *     the matcher to apply to each tested value
+     * @return The predicate.
+     */
+    public static DoublePredicate asDoublePredicate(final Matcher<? super Double> matcher) {
+        final PrimitiveMatching primitive = primitiveMatchingOf(matcher);
+        if (primitive != null) {
+            return new DoublePredicate() {
+                @Override
+                public boolean test(double value) {
+                    return primitive.matchesDouble(value);
+                }
+            };
+        }
+        return new DoublePredicate() {
+            @Override
+            public boolean test(double value) {
+                return matcher.matches(value);
+            }
+        };
+    }
+
+    /**
+     * @return <var>matcher</var> as {@link PrimitiveMatching}, or null if it is not, or its own
+     * class does not declare the methods, as a subclass that inherits them may override
+     * <code>matches</code>, which they would not agree with
+     */
+    private static PrimitiveMatching primitiveMatchingOf(Matcher<?> matcher) {
+        if (matcher instanceof PrimitiveMatching && DECLARES_PRIMITIVE_MATCHING.get(matcher.getClass())) {
+            return (PrimitiveMatching) matcher;
+        }
+        return null;
+    }
+
+    private static final class MatcherPredicate<T> implements Predicate<T> {
+        private final Matcher<? super T> matcher;
+
+        MatcherPredicate(Matcher<? super T> matcher) {
+            this.matcher = matcher;
+        }
+
+        @Override
+        public boolean test(T item) {
+            return matcher.matches(item);
+        }
+    }
+
+    private static final class TypeSafePredicate<T> implements Predicate<T> {
+        private final TypeSafeMatcher<T> matcher;
+        private final Class<?> expectedType;
+        private final boolean checkType;
+
+        @SuppressWarnings("unchecked")
+        TypeSafePredicate(TypeSafeMatcher<? super T> matcher, boolean checkType) {
+            this.matcher = (TypeSafeMatcher<T>) matcher;
+            this.expectedType = matcher.expectedType();
+            this.checkType = checkType;
+        }
+
+        @Override
+        public boolean test(T item) {
+            return item != null
+                    && (!checkType || expectedType.isInstance(item))
+                    && matcher.matchesSafely(item);
+        }
+    }
+
+    private static final class TypeSafeDiagnosingPredicate<T> implements Predicate<T> {
+        private final TypeSafeDiagnosingMatcher<T> matcher;
+        private final Class<?> expectedType;
+        private final boolean checkType;
+
+        @SuppressWarnings("unchecked")
+        TypeSafeDiagnosingPredicate(TypeSafeDiagnosingMatcher<? super T> matcher, boolean checkType) {
+            this.matcher = (TypeSafeDiagnosingMatcher<T>) matcher;
+            this.expectedType = matcher.expectedType();
+            this.checkType = checkType;
+        }
+
+        @Override
+        public boolean test(T item) {
+            return item != null
+                    && (!checkType || expectedType.isInstance(item))
+                    && matcher.matchesSafely(item, Description.NONE);
+        }
+    }
+
+}
@@ -6,10 +6,12 @@ import org.hamcrest.core.StringRegularExpression;
 import org.hamcrest.exception.ThrowsException;
 import org.hamcrest.optional.OptionalEmpty;
 import org.hamcrest.optional.OptionalWithValue;
+import org.hamcrest.stream.StreamMatching;
 import org.hamcrest.text.IsEqualCompressingWhiteSpace;
 
 import java.util.Optional;
 import java.util.regex.Pattern;
+import java.util.stream.Stream;
 
 /**
  * Builder methods for various matchers.
@@ -164,6 +166,25 @@ public class Matchers {
     return org.hamcrest.core.AllOf.allOf(first, second, third, fourth, fifth, sixth);
   }
 
+  /**
+   * Creates a matcher that matches if the examined object matches <b>ALL</b> of the specified matchers,
+   * evaluating them in the order that has been observed to reject mismatching objects most cheaply.
+   * A small random sample of calls evaluates every matcher to measure its pass rate and cost, and
+   * the evaluation order is adjusted from those measurements. The description, and the mismatch
+   * description, always follow the declared order.
+   * For example:
+   * <pre>assertThat(document, adaptiveAllOf(Arrays.asList(hasXPath("/a/b"), notNullValue())))</pre>
+   *
+   * @param <T>
+   *     the matcher type.
+   * @param matchers
+   *     all the matchers must pass.
+   * @return The matcher.
+   */
+  public static <T> org.hamcrest.Matcher<T> adaptiveAllOf(java.lang.Iterable<org.hamcrest.Matcher<? super T>> matchers) {
+    return org.hamcrest.core.AllOf.adaptiveAllOf(matchers);
+  }
+
   /**
    * Creates a matcher that matches if the examined object matches <b>ANY</b> of the specified matchers.
    * For example:
@@ -300,6 +321,25 @@ public class Matchers {
     return org.hamcrest.core.AnyOf.anyOf(first, second, third, fourth, fifth, sixth);
   }
 
+  /**
+   * Creates a matcher that matches if the examined object matches <b>ANY</b> of the specified matchers,
+   * evaluating them in the order that has been observed to accept matching objects most cheaply.
+   * A small random sample of calls evaluates every matcher to measure its pass rate and cost, and
+   * the evaluation order is adjusted from those measurements. The description always follows the
+   * declared order.
+   * For example:
+   * <pre>assertThat("myValue", adaptiveAnyOf(Arrays.asList(matchesPattern("[a-z]+Value"), startsWith("my"))))</pre>
+   *
+   * @param <T>
+   *     the matcher type.
+   * @param matchers
+   *     any the matchers must pass.
+   * @return The matcher.
+   */
+  public static <T> org.hamcrest.core.AnyOf<T> adaptiveAnyOf(java.lang.Iterable<org.hamcrest.Matcher<? super T>> matchers) {
+    return org.hamcrest.core.AnyOf.adaptiveAnyOf(matchers);
+  }
+
   /**
    * Creates a matcher that matches when both of the specified matchers match the examined object.
    * For example:
@@ -350,6 +390,130 @@ public class Matchers {
     return org.hamcrest.core.DescribedAs.describedAs(description, matcher, values);
   }
 
+  /**
+   * Compiles a matcher into a tree of method handles, so that evaluating it does not make a
+   * polymorphic {@link Matcher#matches(Object)} call at each level. The compiled matcher
+   * matches the same values, and has the same description and mismatch descriptions, as the
+   * original.
+   * For example:
+   * <pre>assertThat(order, compile(allOf(hasProperty("region", equalTo("EU")), hasProperty("size", greaterThan(10)))))</pre>
+   *
+   * @param <T>
+   *     the matcher type.
+   * @param matcher
+   *     the matcher to compile
+   * @return The matcher.
+   */
+  public static <T> org.hamcrest.Matcher<T> compile(org.hamcrest.Matcher<T> matcher) {
+    return org.hamcrest.CompiledMatcher.compile(matcher);
+  }
+
+  /**
+   * Creates a matcher that matches exactly when the specified matcher does, and has the
+   * same description and mismatch description, but evaluates nested combinations of core
+   * matchers as a flat plan with redundant steps removed. If there is nothing to optimise,
+   * the specified matcher is returned.
+   * For example:
+   * <pre>Matcher&lt;String&gt; rule = optimized(both(startsWith("a")).and(endsWith("z")).and(containsString("m")))</pre>
+   *
+   * @param <T>
+   *     the matcher type.
+   * @param matcher
+   *     the matcher tree to optimise
+   * @return The matcher.
+   */
+  public static <T> org.hamcrest.Matcher<T> optimized(org.hamcrest.Matcher<T> matcher) {
+    return org.hamcrest.core.Optimized.optimized(matcher);
+  }
+
+  /**
+   * Creates a {@link java.util.function.Predicate} that is satisfied by the values matched by the specified matcher.
+   * For example:
+   * <pre>names.stream().filter(asPredicate(startsWith("a")))</pre>
+   *
+   * @param <T>
+   *     the type of the tested values.
+   * @param matcher
+   *     the matcher to apply to each tested value
+   * @return The predicate.
+   */
+  public static <T> java.util.function.Predicate<T> asPredicate(org.hamcrest.Matcher<? super T> matcher) {
+    return org.hamcrest.MatcherPredicates.asPredicate(matcher);
+  }
+
+  /**
+   * Creates a {@link java.util.function.Predicate} that is satisfied by the values matched by the specified
+   * matcher, and that relies on the tested values being instances of <code>type</code>.
+   * For example:
+   * <pre>names.stream().filter(asPredicate(String.class, startsWith("a")))</pre>
+   *
+   * @param <T>
+   *     the type of the tested values.
+   * @param type
+   *     the class of the tested values
+   * @param matcher
+   *     the matcher to apply to each tested value
+   * @return The predicate.
+   */
+  public static <T> java.util.function.Predicate<T> asPredicate(java.lang.Class<T> type, org.hamcrest.Matcher<? super T> matcher) {
+    return org.hamcrest.MatcherPredicates.asPredicate(type, matcher);
+  }
+
+  /**
+   * Creates an {@link java.util.function.IntPredicate} that is satisfied by the values matched by the specified matcher.
+   * For example:
+   * <pre>IntStream.range(0, 100).filter(asIntPredicate(greaterThan(90)))</pre>
+   *
+   * @param matcher
+   *     the matcher to apply to each tested value
+   * @return The predicate.
+   */
+  public static java.util.function.IntPredicate asIntPredicate(org.hamcrest.Matcher<? super java.lang.Integer> matcher) {
+    return org.hamcrest.MatcherPredicates.asIntPredicate(matcher);
+  }
+
+  /**
+   * Creates a {@link java.util.function.LongPredicate} that is satisfied by the values matched by the specified matcher.
+   * For example:
+   * <pre>LongStream.of(timestamps).filter(asLongPredicate(lessThan(deadline)))</pre>
+   *
+   * @param matcher
+   *     the matcher to apply to each tested value
+   * @return The predicate.
+   */
+  public static java.util.function.LongPredicate asLongPredicate(org.hamcrest.Matcher<? super java.lang.Long> matcher) {
+    return org.hamcrest.MatcherPredicates.asLongPredicate(matcher);
+  }
+
+  /**
+   * Creates a {@link java.util.function.DoublePredicate} that is satisfied by the values matched by the specified matcher.
+   * For example:
+   * <pre>DoubleStream.of(readings).filter(asDoublePredicate(closeTo(1.0, 0.1)))</pre>
+   *
+   * @param matcher
+   *     the matcher to apply to each tested value
+   * @return The predicate.
+   */
+  public static java.util.function.DoublePredicate asDoublePredicate(org.hamcrest.Matcher<? super java.lang.Double> matcher) {
+    return org.hamcrest.MatcherPredicates.asDoublePredicate(matcher);
+  }
+
+  /**
+   * Returns the pooled matcher that is equal to the specified matcher, adding it to the pool if
+   * there is none, so that equal matchers can share one instance.
+   * For example:
+   * <pre>rules.add(intern(hasProperty("type", equalTo("trade"))))</pre>
+   *
+   * @param <T>
+   *     the matcher type.
+   * @param matcher
+   *     the matcher to intern
+   * @return A matcher equal to <code>matcher</code>, which is the same instance for all equal matchers.
+   */
+  public static <T> org.hamcrest.Matcher<T> intern(org.hamcrest.Matcher<T> matcher) {
+    return org.hamcrest.MatcherPool.intern(matcher);
+  }
+
   /**
    * Creates a matcher for {@link Iterable}s that only matches when a single pass over the
    * examined {@link Iterable} yields items that are all matched by the specified
@@ -367,6 +531,46 @@ public class Matchers {
     return org.hamcrest.core.Every.everyItem(itemMatcher);
   }
 
+  /**
+   * Creates a matcher for {@link Iterable}s that only matches when the examined
+   * {@link Iterable} yields items that are all matched by the specified
+   * <code>itemMatcher</code>, which must be thread safe. The items of large
+   * {@link java.util.Collection}s are matched in parallel in the common
+   * {@link java.util.concurrent.ForkJoinPool}, stopping as soon as an item does not match.
+   * For example:
+   * <pre>assertThat(documents, everyItemInParallel(hasXPath("/order/id")))</pre>
+   *
+   * @param <U>
+   *     the matcher type.
+   * @param itemMatcher
+   *     the matcher to apply to every item provided by the examined {@link Iterable}
+   * @return The matcher.
+   */
+  public static <U> org.hamcrest.Matcher<java.lang.Iterable<? extends U>> everyItemInParallel(org.hamcrest.Matcher<U> itemMatcher) {
+    return org.hamcrest.core.Every.everyItemInParallel(itemMatcher);
+  }
+
+  /**
+   * Creates a matcher for {@link Iterable}s that only matches when the examined
+   * {@link Iterable} yields items that are all matched by the specified
+   * <code>itemMatcher</code>, which must be thread safe. The items of large
+   * {@link java.util.Collection}s are matched in parallel in the specified pool, stopping
+   * as soon as an item does not match.
+   * For example:
+   * <pre>assertThat(documents, everyItemInParallel(hasXPath("/order/id"), pool))</pre>
+   *
+   * @param <U>
+   *     the matcher type.
+   * @param itemMatcher
+   *     the matcher to apply to every item provided by the examined {@link Iterable}
+   * @param pool
+   *     the pool in which to match items
+   * @return The matcher.
+   */
+  public static <U> org.hamcrest.Matcher<java.lang.Iterable<? extends U>> everyItemInParallel(org.hamcrest.Matcher<U> itemMatcher, java.util.concurrent.ForkJoinPool pool) {
+    return org.hamcrest.core.Every.everyItemInParallel(itemMatcher, pool);
+  }
+
   /**
    * Decorates another Matcher, retaining its behaviour, but allowing tests
    * to be slightly more expressive.
@@ -476,10 +680,70 @@ public class Matchers {
   }
 
   /**
-   * Creates a matcher for {@link Iterable}s that matches when consecutive passes over the
-   * examined {@link Iterable} yield at least one item that is matched by the corresponding
-   * matcher from the specified <code>itemMatchers</code>.  Whilst matching, each traversal of
-   * the examined {@link Iterable} will stop as soon as a matching item is found.
+   * Creates a matcher for {@link Iterable}s that only matches when a single pass over the
+   * examined {@link Iterable} yields at least one item that is matched by the specified
+   * <code>itemMatcher</code>, and that reports the mismatches chosen by the specified
+   * <code>diagnostics</code> when none is.
+   * For example:
+   * <pre>assertThat(prices, hasItem(closeTo(9.99, 0.001), ItemDiagnostics.closestMismatches(3, p -&gt; Math.abs(p - 9.99))))</pre>
+   *
+   * @param <T>
+   *     the matcher type.
+   * @param itemMatcher
+   *     the matcher to apply to items provided by the examined {@link Iterable}
+   * @param diagnostics
+   *     what to report of the items when none matches
+   * @return The matcher.
+   */
+  public static <T> org.hamcrest.Matcher<java.lang.Iterable<? extends T>> hasItem(org.hamcrest.Matcher<? super T> itemMatcher, org.hamcrest.core.ItemDiagnostics<? super T> diagnostics) {
+    return IsIterableContaining.hasItem(itemMatcher, diagnostics);
+  }
+
+  /**
+   * Creates a matcher for {@link Iterable}s that only matches when the examined
+   * {@link Iterable} yields at least one item that is matched by the specified
+   * <code>itemMatcher</code>, which must be thread safe. The items of large
+   * {@link java.util.Collection}s are matched in parallel in the common
+   * {@link java.util.concurrent.ForkJoinPool}, stopping as soon as a matching item is found.
+   * For example:
+   * <pre>assertThat(documents, hasItemInParallel(hasXPath("/order[@priority='high']")))</pre>
+   *
+   * @param <T>
+   *     the matcher type.
+   * @param itemMatcher
+   *     the matcher to apply to items provided by the examined {@link Iterable}
+   * @return The matcher.
+   */
+  public static <T> org.hamcrest.Matcher<java.lang.Iterable<? extends T>> hasItemInParallel(org.hamcrest.Matcher<? super T> itemMatcher) {
+    return IsIterableContaining.hasItemInParallel(itemMatcher);
+  }
+
+  /**
+   * Creates a matcher for {@link Iterable}s that only matches when the examined
+   * {@link Iterable} yields at least one item that is matched by the specified
+   * <code>itemMatcher</code>, which must be thread safe. The items of large
+   * {@link java.util.Collection}s are matched in parallel in the specified pool, stopping
+   * as soon as a matching item is found.
+   * For example:
+   * <pre>assertThat(documents, hasItemInParallel(hasXPath("/order[@priority='high']"), pool))</pre>
+   *
+   * @param <T>
+   *     the matcher type.
+   * @param itemMatcher
+   *     the matcher to apply to items provided by the examined {@link Iterable}
+   * @param pool
+   *     the pool in which to match items
+   * @return The matcher.
+   */
+  public static <T> org.hamcrest.Matcher<java.lang.Iterable<? extends T>> hasItemInParallel(org.hamcrest.Matcher<? super T> itemMatcher, java.util.concurrent.ForkJoinPool pool) {
+    return IsIterableContaining.hasItemInParallel(itemMatcher, pool);
+  }
+
+  /**
+   * Creates a matcher for {@link Iterable}s that matches when a single pass over the
+   * examined {@link Iterable} yields, for each of the specified <code>itemMatchers</code>,
+   * at least one item that it matches.  Whilst matching, the traversal of the examined
+   * {@link Iterable} will stop as soon as every matcher has matched an item.
    * For example:
    * <pre>assertThat(Arrays.asList("foo", "bar", "baz"), hasItems(endsWith("z"), endsWith("o")))</pre>
    *
@@ -495,10 +759,10 @@ public class Matchers {
   }
 
   /**
-   * Creates a matcher for {@link Iterable}s that matches when consecutive passes over the
-   * examined {@link Iterable} yield at least one item that is equal to the corresponding
-   * item from the specified <code>items</code>.  Whilst matching, each traversal of the
-   * examined {@link Iterable} will stop as soon as a matching item is found.
+   * Creates a matcher for {@link Iterable}s that matches when a single pass over the
+   * examined {@link Iterable} yields, for each of the specified <code>items</code>, at
+   * least one item that is equal to it.  Whilst matching, the traversal of the examined
+   * {@link Iterable} will stop as soon as every item has been found.
    * For example:
    * <pre>assertThat(Arrays.asList("foo", "bar", "baz"), hasItems("baz", "foo"))</pre>
    *
@@ -938,6 +1202,26 @@ public class Matchers {
     return ArrayMatching.arrayContaining(itemMatchers);
   }
 
+  /**
+   * Creates a matcher for arrays that matches when each item in the examined array satisfies the
+   * corresponding matcher in the specified list of matchers, and that describes a mismatch as
+   * the edits that would make the items match, within the budgets of the specified
+   * <code>diff</code>.
+   * For example:
+   * <pre>assertThat(actualRows, arrayContainingWithDiff(expectedRowMatchers, SequenceDiff.defaultBudget()))</pre>
+   *
+   * @param <E>
+   *     the matcher type.
+   * @param itemMatchers
+   *     a list of matchers, each of which must be satisfied by the corresponding item in an examined array
+   * @param diff
+   *     the budgets for finding the edits
+   * @return The matcher.
+   */
+  public static <E> org.hamcrest.Matcher<E[]> arrayContainingWithDiff(java.util.List<org.hamcrest.Matcher<? super E>> itemMatchers, org.hamcrest.collection.SequenceDiff diff) {
+    return ArrayMatching.arrayContainingWithDiff(itemMatchers, diff);
+  }
+
   /**
    * <p>
    * Creates an order agnostic matcher for arrays that matches when each item in the
@@ -1282,6 +1566,27 @@ public class Matchers {
     return org.hamcrest.collection.IsIterableContainingInOrder.contains(itemMatchers);
   }
 
+  /**
+   * Creates a matcher for {@link Iterable}s that matches when a single pass over the
+   * examined {@link Iterable} yields a series of items, each satisfying the corresponding
+   * matcher in the specified list of matchers, and that describes a mismatch as the edits
+   * that would make the items match, within the budgets of the specified <code>diff</code>.
+   * For example:
+   * <pre>assertThat(actualRows, containsWithDiff(expectedRowMatchers, SequenceDiff.defaultBudget()))</pre>
+   *
+   * @param <E>
+   *     the matcher type.
+   * @param itemMatchers
+   *     a list of matchers, each of which must be satisfied by the corresponding item provided by
+   *     an examined {@link Iterable}
+   * @param diff
+   *     the budgets for finding the edits
+   * @return The matcher.
+   */
+  public static <E> org.hamcrest.Matcher<java.lang.Iterable<? extends E>> containsWithDiff(java.util.List<org.hamcrest.Matcher<? super E>> itemMatchers, org.hamcrest.collection.SequenceDiff diff) {
+    return org.hamcrest.collection.IsIterableContainingInOrder.containsWithDiff(itemMatchers, diff);
+  }
+
   /**
    * <p>
    * Creates an order agnostic matcher for {@link Iterable}s that matches when a single pass over
@@ -1451,6 +1756,138 @@ public class Matchers {
     return org.hamcrest.collection.IsIterableWithSize.iterableWithSize(size);
   }
 
+  /**
+   * Creates a matcher for {@link Iterable}s that matches when each item of the examined
+   * {@link Iterable} is not less than the item before it, in their natural order.
+   * For example:
+   * <pre>assertThat(Arrays.asList(1, 2, 2, 3), sorted())</pre>
+   *
+   * @param <T>
+   *     the matcher type.
+   * @return The matcher.
+   */
+  public static <T extends java.lang.Comparable<? super T>> org.hamcrest.Matcher<java.lang.Iterable<? extends T>> sorted() {
+    return org.hamcrest.collection.IsSorted.sorted();
+  }
+
+  /**
+   * Creates a matcher for {@link Iterable}s that matches when each item of the examined
+   * {@link Iterable} is not less than the item before it, according to the specified comparator.
+   * For example:
+   * <pre>assertThat(Arrays.asList("b", "a"), sortedBy(Comparator.reverseOrder()))</pre>
+   *
+   * @param <T>
+   *     the matcher type.
+   * @param comparator
+   *     the order of the items
+   * @return The matcher.
+   */
+  public static <T> org.hamcrest.Matcher<java.lang.Iterable<? extends T>> sortedBy(java.util.Comparator<? super T> comparator) {
+    return org.hamcrest.collection.IsSorted.sortedBy(comparator);
+  }
+
+  /**
+   * Creates a matcher for {@link Iterable}s that matches when each item of the examined
+   * {@link Iterable} is greater than the item before it, in their natural order.
+   * For example:
+   * <pre>assertThat(Arrays.asList(1, 2, 3), strictlyIncreasing())</pre>
+   *
+   * @param <T>
+   *     the matcher type.
+   * @return The matcher.
+   */
+  public static <T extends java.lang.Comparable<? super T>> org.hamcrest.Matcher<java.lang.Iterable<? extends T>> strictlyIncreasing() {
+    return org.hamcrest.collection.IsSorted.strictlyIncreasing();
+  }
+
+  /**
+   * Creates a matcher for {@link Iterable}s that matches when each item of the examined
+   * {@link Iterable} is greater than the item before it, according to the specified comparator.
+   * For example:
+   * <pre>assertThat(Arrays.asList("c", "b", "a"), strictlyIncreasingBy(Comparator.reverseOrder()))</pre>
+   *
+   * @param <T>
+   *     the matcher type.
+   * @param comparator
+   *     the order of the items
+   * @return The matcher.
+   */
+  public static <T> org.hamcrest.Matcher<java.lang.Iterable<? extends T>> strictlyIncreasingBy(java.util.Comparator<? super T> comparator) {
+    return org.hamcrest.collection.IsSorted.strictlyIncreasingBy(comparator);
+  }
+
+  /**
+   * Creates a matcher for <code>int[]</code>s that matches when each element is not less than
+   * the element before it.
+   * For example:
+   * <pre>assertThat(new int[] {1, 2, 2, 3}, sortedIntArray())</pre>
+   *
+   * @return The matcher.
+   */
+  public static org.hamcrest.Matcher<int[]> sortedIntArray() {
+    return org.hamcrest.collection.IsSortedArray.sortedIntArray();
+  }
+
+  /**
+   * Creates a matcher for <code>long[]</code>s that matches when each element is not less than
+   * the element before it.
+   * For example:
+   * <pre>assertThat(new long[] {1L, 2L, 2L, 3L}, sortedLongArray())</pre>
+   *
+   * @return The matcher.
+   */
+  public static org.hamcrest.Matcher<long[]> sortedLongArray() {
+    return org.hamcrest.collection.IsSortedArray.sortedLongArray();
+  }
+
+  /**
+   * Creates a matcher for <code>double[]</code>s that matches when each element is not less
+   * than the element before it, as ordered by {@link Double#compare}.
+   * For example:
+   * <pre>assertThat(new double[] {0.5, 1.0, 1.0}, sortedDoubleArray())</pre>
+   *
+   * @return The matcher.
+   */
+  public static org.hamcrest.Matcher<double[]> sortedDoubleArray() {
+    return org.hamcrest.collection.IsSortedArray.sortedDoubleArray();
+  }
+
+  /**
+   * Creates a matcher for <code>int[]</code>s that matches when each element is greater than
+   * the element before it.
+   * For example:
+   * <pre>assertThat(new int[] {1, 2, 3}, strictlyIncreasingIntArray())</pre>
+   *
+   * @return The matcher.
+   */
+  public static org.hamcrest.Matcher<int[]> strictlyIncreasingIntArray() {
+    return org.hamcrest.collection.IsSortedArray.strictlyIncreasingIntArray();
+  }
+
+  /**
+   * Creates a matcher for <code>long[]</code>s that matches when each element is greater than
+   * the element before it.
+   * For example:
+   * <pre>assertThat(new long[] {1L, 2L, 3L}, strictlyIncreasingLongArray())</pre>
+   *
+   * @return The matcher.
+   */
+  public static org.hamcrest.Matcher<long[]> strictlyIncreasingLongArray() {
+    return org.hamcrest.collection.IsSortedArray.strictlyIncreasingLongArray();
+  }
+
+  /**
+   * Creates a matcher for <code>double[]</code>s that matches when each element is greater
+   * than the element before it, as ordered by {@link Double#compare}.
+   * For example:
+   * <pre>assertThat(new double[] {0.5, 1.0, 1.5}, strictlyIncreasingDoubleArray())</pre>
+   *
+   * @return The matcher.
+   */
+  public static org.hamcrest.Matcher<double[]> strictlyIncreasingDoubleArray() {
+    return org.hamcrest.collection.IsSortedArray.strictlyIncreasingDoubleArray();
+  }
+
   /**
    * Creates a matcher for {@link java.util.Map}s matching when the examined {@link java.util.Map} contains
    * at least one entry whose key satisfies the specified <code>keyMatcher</code> <b>and</b> whose
@@ -1493,6 +1930,25 @@ public class Matchers {
     return org.hamcrest.collection.IsMapContaining.hasEntry(key, value);
   }
 
+  /**
+   * Creates a matcher for {@link java.util.Map}s matching when the examined {@link java.util.Map} contains
+   * every entry of the specified map: a key equal to each of its keys, whose value is equal to
+   * that key's value. The examined map may contain other entries.
+   * For example:
+   * <pre>assertThat(config, hasEntries(expectedSettings))</pre>
+   *
+   * @param <K>
+   *     the map key type.
+   * @param <V>
+   *     the map value type.
+   * @param entries
+   *     the entries that the examined map must contain
+   * @return The matcher.
+   */
+  public static <K, V> org.hamcrest.Matcher<java.util.Map<? extends K, ? extends V>> hasEntries(java.util.Map<? extends K, ? extends V> entries) {
+    return org.hamcrest.collection.IsMapContainingEntries.hasEntries(entries);
+  }
+
   /**
    * Creates a matcher for {@link java.util.Map}s matching when the examined {@link java.util.Map} contains
    * at least one key that satisfies the specified matcher.
@@ -2314,4 +2770,92 @@ public class Matchers {
   public static <T extends Runnable> Matcher<T> throwsExceptionWithMessage(Matcher<String> messageMatcher) {
     return ThrowsException.throwsExceptionWithMessage(messageMatcher);
   }
+
+  /**
+   * Creates a matcher for {@link Stream}s that matches when the examined stream yields at least one
+   * element that is matched by the specified <code>elementMatcher</code>. Elements are taken
+   * until a matching one is found.
+   * For example:
+   * <pre>assertThat(Stream.of("foo", "bar"), streamHasItem(startsWith("ba")))</pre>
+   *
+   * @param <E>
+   *     the type of the elements.
+   * @param elementMatcher
+   *     the matcher to apply to elements of the examined stream
+   * @return The matcher.
+   */
+  public static <E> Matcher<Stream<? extends E>> streamHasItem(Matcher<? super E> elementMatcher) {
+    return StreamMatching.streamHasItem(elementMatcher);
+  }
+
+  /**
+   * Creates a matcher for {@link Stream}s that matches when every element of the examined stream is
+   * matched by the specified <code>elementMatcher</code>. Elements are taken until one does
+   * not match.
+   * For example:
+   * <pre>assertThat(Stream.of("foo", "bar"), streamEveryItem(hasLength(3)))</pre>
+   *
+   * @param <E>
+   *     the type of the elements.
+   * @param elementMatcher
+   *     the matcher to apply to every element of the examined stream
+   * @return The matcher.
+   */
+  public static <E> Matcher<Stream<? extends E>> streamEveryItem(Matcher<? super E> elementMatcher) {
+    return StreamMatching.streamEveryItem(elementMatcher);
+  }
+
+  /**
+   * Creates a matcher for {@link Stream}s that matches when the examined stream yields as many elements
+   * as there are specified matchers, each matched by the matcher in the same position.
+   * Elements are taken until one does not match or there is one more than there are matchers.
+   * For example:
+   * <pre>assertThat(Stream.of("foo", "bar"), streamContains(equalTo("foo"), equalTo("bar")))</pre>
+   *
+   * @param <E>
+   *     the type of the elements.
+   * @param elementMatchers
+   *     the matchers that must be satisfied by the elements of the examined stream, in order
+   * @return The matcher.
+   */
+  @SafeVarargs
+  public static <E> Matcher<Stream<? extends E>> streamContains(Matcher<? super E>... elementMatchers) {
+    return StreamMatching.streamContains(elementMatchers);
+  }
+
+  /**
+   * Creates a matcher for {@link Stream}s that matches when the examined stream yields elements matched
+   * by the specified matchers in the same relative order. Elements are taken until the last
+   * matcher is satisfied.
+   * For example:
+   * <pre>assertThat(Stream.of("foo", "bar"), streamContainsInRelativeOrder(equalTo("bar")))</pre>
+   *
+   * @param <E>
+   *     the type of the elements.
+   * @param elementMatchers
+   *     the matchers that must be satisfied by elements of the examined stream, in relative order
+   * @return The matcher.
+   */
+  @SafeVarargs
+  public static <E> Matcher<Stream<? extends E>> streamContainsInRelativeOrder(Matcher<? super E>... elementMatchers) {
+    return StreamMatching.streamContainsInRelativeOrder(elementMatchers);
+  }
+
+  /**
+   * Creates a matcher for {@link Stream}s that matches when the number of elements of the examined
+   * stream satisfies the specified matcher. The number is taken from the stream if it is known
+   * exactly; otherwise the elements are counted, stopping once there are more than
+   * <code>sizeMatcher</code> can match, if it has such a bound.
+   * For example:
+   * <pre>assertThat(Stream.of("foo", "bar"), streamWithSize(lessThan(3)))</pre>
+   *
+   * @param <E>
+   *     the type of the elements.
+   * @param sizeMatcher
+   *     a matcher for the number of elements of the examined stream
+   * @return The matcher.
+   */
+  public static <E> Matcher<Stream<? extends E>> streamWithSize(Matcher<? super Integer> sizeMatcher) {
+    return StreamMatching.streamWithSize(sizeMatcher);
+  }
 }
@@ -0,0 +1,30 @@
+package org.hamcrest;
+
+/**
+ * Implemented by matchers that can test a primitive value without boxing it.
+ *
+ * <p>Each method must give the same result as {@link Matcher#matches(Object)} would for
+ * the value boxed as an {@link Integer}, {@link Long} or {@link Double} respectively.
+ * Used by the adapters in {@link MatcherPredicates}.</p>
+ */
+public interface PrimitiveMatching {
+
+    /**
+     * @param actual the value to test
+     * @return the result of matching the value boxed as an {@link Integer}
+     */
+    boolean matchesInt(int actual);
+
+    /**
+     * @param actual the value to test
+     * @return the result of matching the value boxed as a {@link Long}
+     */
+    boolean matchesLong(long actual);
+
+    /**
+     * @param actual the value to test
+     * @return the result of matching the value boxed as a {@link Double}
+     */
+    boolean matchesDouble(double actual);
+
+}
@@ -48,6 +48,23 @@ public class StringDescription extends BaseDescription {
         return toString(selfDescribing);
     }
 
+    /**
+     * Appends the description of <var>value</var>, reusing its cached rendering if it keeps
+     * a {@link DescriptionCache}. Subclasses may change how values are rendered, so they
+     * always describe <var>value</var> afresh.
+     */
+    @Override
+    public Description appendDescriptionOf(SelfDescribing value) {
+        if (value instanceof CacheableSelfDescribing && getClass() == StringDescription.class) {
+            DescriptionCache cache = ((CacheableSelfDescribing) value).descriptionCache();
+            if (cache != null) {
+                append(cache.render(value));
+                return this;
+            }
+        }
+        return super.appendDescriptionOf(value);
+    }
+
     @Override
     protected void append(String str) {
         try {
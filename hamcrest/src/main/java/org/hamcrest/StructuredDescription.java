@@ -0,0 +1,365 @@
+package org.hamcrest;
+
+import org.hamcrest.internal.ArrayIterator;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * A {@link Description} that records the calls made to it as a tree of typed
+ * {@link Node}s, for tools that need to process descriptions rather than read them.
+ *
+ * <p>The tree can be streamed as JSON to any {@link Appendable} with
+ * {@link #writeJsonTo(Appendable)}, so large descriptions need not be built up as
+ * an intermediate String. {@link #toString()} gives the same text as a
+ * {@link StringDescription} would for the same calls.</p>
+ *
+ * <p>For example, the description of <code>allOf(equalTo(1), nullValue())</code> is
+ * written as:</p>
+ * <pre>[{"type":"describe","class":"org.hamcrest.core.AllOf","children":[
+ *   {"type":"list","start":"(","separator":" and ","end":")","items":[
+ *     {"type":"describe","class":"org.hamcrest.core.IsEqual","children":[
+ *       {"type":"value","class":"java.lang.Integer","text":"&lt;1&gt;"}]},
+ *     {"type":"describe","class":"org.hamcrest.core.IsNull","children":[
+ *       {"type":"text","text":"null"}]}]}]}]</pre>
+ */
+public final class StructuredDescription implements Description {
+
+    /**
+     * The kind of call recorded by a {@link Node}.
+     */
+    public enum Kind {
+        /** Plain text from {@link Description#appendText(String)}. */
+        TEXT,
+        /** A value from {@link Description#appendValue(Object)}. */
+        VALUE,
+        /** A list from {@link Description#appendList} or {@link Description#appendValueList}. */
+        LIST,
+        /** The description of a {@link SelfDescribing} object, from {@link Description#appendDescriptionOf(SelfDescribing)}. */
+        DESCRIBE
+    }
+
+    /**
+     * A recorded call to a description.
+     */
+    public static final class Node {
+        private final Kind kind;
+        private final String text;
+        private final String className;
+        private final String start;
+        private final String separator;
+        private final String end;
+        private final List<Node> children;
+
+        private Node(Kind kind, String text, String className, String start, String separator, String end) {
+            this.kind = kind;
+            this.text = text;
+            this.className = className;
+            this.start = start;
+            this.separator = separator;
+            this.end = end;
+            this.children = (kind == Kind.LIST || kind == Kind.DESCRIBE) ? new ArrayList<Node>() : Collections.<Node>emptyList();
+        }
+
+        /**
+         * @return the kind of call this node records
+         */
+        public Kind kind() {
+            return kind;
+        }
+
+        /**
+         * @return the appended text of a {@link Kind#TEXT} node, the rendered form of a
+         * {@link Kind#VALUE} node, or null for other kinds
+         */
+        public String text() {
+            return text;
+        }
+
+        /**
+         * @return the class of the value of a {@link Kind#VALUE} node or of the described object
+         * of a {@link Kind#DESCRIBE} node; null for a null value and for other kinds
+         */
+        public String className() {
+            return className;
+        }
+
+        /**
+         * @return the prefix of a {@link Kind#LIST} node, or null for other kinds
+         */
+        public String start() {
+            return start;
+        }
+
+        /**
+         * @return the separator of a {@link Kind#LIST} node, or null for other kinds
+         */
+        public String separator() {
+            return separator;
+        }
+
+        /**
+         * @return the suffix of a {@link Kind#LIST} node, or null for other kinds
+         */
+        public String end() {
+            return end;
+        }
+
+        /**
+         * @return the items of a {@link Kind#LIST} node, the calls made while describing a
+         * {@link Kind#DESCRIBE} node, or an empty list for other kinds
+         */
+        public List<Node> children() {
+            return Collections.unmodifiableList(children);
+        }
+    }
+
+    private final List<Node> nodes = new ArrayList<>();
+    private List<Node> current = nodes;
+
+    /**
+     * Creates a new, empty, description.
+     */
+    public StructuredDescription() {
+    }
+
+    /**
+     * @return the top level calls recorded by this description
+     */
+    public List<Node> nodes() {
+        return Collections.unmodifiableList(nodes);
+    }
+
+    @Override
+    public Description appendText(String text) {
+        current.add(new Node(Kind.TEXT, text, null, null, null, null));
+        return this;
+    }
+
+    @Override
+    public Description appendDescriptionOf(SelfDescribing value) {
+        Node node = new Node(Kind.DESCRIBE, null, value.getClass().getName(), null, null, null);
+        current.add(node);
+        describeInto(node, value);
+        return this;
+    }
+
+    @Override
+    public Description appendValue(Object value) {
+        if (value != null && value.getClass().isArray()) {
+            Node node = new Node(Kind.LIST, null, null, "[", ", ", "]");
+            current.add(node);
+            for (Iterator<Object> i = ArrayIterator.of(value); i.hasNext();) {
+                node.children.add(valueNode(i.next()));
+            }
+        } else {
+            current.add(valueNode(value));
+        }
+        return this;
+    }
+
+    @SafeVarargs
+    @Override
+    public final <T> Description appendValueList(String start, String separator, String end, T... values) {
+        return appendValueList(start, separator, end, Arrays.asList(values));
+    }
+
+    @Override
+    public <T> Description appendValueList(String start, String separator, String end, Iterable<T> values) {
+        Node node = new Node(Kind.LIST, null, null, start, separator, end);
+        current.add(node);
+        List<Node> outer = current;
+        current = node.children;
+        try {
+            for (T value : values) {
+                appendValue(value);
+            }
+        } finally {
+            current = outer;
+        }
+        return this;
+    }
+
+    @Override
+    public Description appendList(String start, String separator, String end, Iterable<? extends SelfDescribing> values) {
+        Node node = new Node(Kind.LIST, null, null, start, separator, end);
+        current.add(node);
+        List<Node> outer = current;
+        current = node.children;
+        try {
+            for (SelfDescribing value : values) {
+                appendDescriptionOf(value);
+            }
+        } finally {
+            current = outer;
+        }
+        return this;
+    }
+
+    private void describeInto(Node node, SelfDescribing value) {
+        List<Node> outer = current;
+        current = node.children;
+        try {
+            value.describeTo(this);
+        } finally {
+            current = outer;
+        }
+    }
+
+    private static Node valueNode(Object value) {
+        String text = new StringDescription().appendValue(value).toString();
+        return new Node(Kind.VALUE, text, value == null ? null : value.getClass().getName(), null, null, null);
+    }
+
+    /**
+     * Writes the recorded calls as a JSON array of node objects. Each object has a
+     * <code>"type"</code> of <code>"text"</code>, <code>"value"</code>, <code>"list"</code>
+     * or <code>"describe"</code>, and the fields that apply to that kind of {@link Node}.
+     *
+     * @param out where to write the JSON
+     * @throws IOException if <var>out</var> fails
+     */
+    public void writeJsonTo(Appendable out) throws IOException {
+        writeJsonArray(out, nodes);
+    }
+
+    /**
+     * Returns the recorded calls as JSON.
+     *
+     * @return the JSON form of this description
+     * @see #writeJsonTo(Appendable)
+     */
+    public String toJson() {
+        StringBuilder json = new StringBuilder();
+        try {
+            writeJsonTo(json);
+        } catch (IOException e) {
+            throw new RuntimeException("Could not write description", e);
+        }
+        return json.toString();
+    }
+
+    /**
+     * Returns the description as plain text, as a {@link StringDescription} would.
+     */
+    @Override
+    public String toString() {
+        StringBuilder text = new StringBuilder();
+        appendText(text, nodes);
+        return text.toString();
+    }
+
+    private static void appendText(StringBuilder text, List<Node> nodes) {
+        for (Node node : nodes) {
+            appendText(text, node);
+        }
+    }
+
+    private static void appendText(StringBuilder text, Node node) {
+        switch (node.kind) {
+            case TEXT:
+            case VALUE:
+                text.append(node.text);
+                break;
+            case DESCRIBE:
+                appendText(text, node.children);
+                break;
+            case LIST:
+                text.append(node.start);
+                for (Iterator<Node> i = node.children.iterator(); i.hasNext();) {
+                    appendText(text, i.next());
+                    if (i.hasNext()) text.append(node.separator);
+                }
+                text.append(node.end);
+                break;
+            default:
+                throw new IllegalStateException("unknown node kind " + node.kind);
+        }
+    }
+
+    private static void writeJsonArray(Appendable out, List<Node> nodes) throws IOException {
+        out.append('[');
+        boolean separate = false;
+        for (Node node : nodes) {
+            if (separate) out.append(',');
+            writeJsonObject(out, node);
+            separate = true;
+        }
+        out.append(']');
+    }
+
+    private static void writeJsonObject(Appendable out, Node node) throws IOException {
+        out.append("{\"type\":");
+        switch (node.kind) {
+            case TEXT:
+                out.append("\"text\",\"text\":");
+                writeJsonString(out, node.text);
+                break;
+            case VALUE:
+                out.append("\"value\",\"class\":");
+                writeJsonString(out, node.className);
+                out.append(",\"text\":");
+                writeJsonString(out, node.text);
+                break;
+            case LIST:
+                out.append("\"list\",\"start\":");
+                writeJsonString(out, node.start);
+                out.append(",\"separator\":");
+                writeJsonString(out, node.separator);
+                out.append(",\"end\":");
+                writeJsonString(out, node.end);
+                out.append(",\"items\":");
+                writeJsonArray(out, node.children);
+                break;
+            case DESCRIBE:
+                out.append("\"describe\",\"class\":");
+                writeJsonString(out, node.className);
+                out.append(",\"children\":");
+                writeJsonArray(out, node.children);
+                break;
+            default:
+                throw new IllegalStateException("unknown node kind " + node.kind);
+        }
+        out.append('}');
+    }
+
+    private static void writeJsonString(Appendable out, String s) throws IOException {
+        if (s == null) {
+            out.append("null");
+            return;
+        }
+        out.append('"');
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            switch (c) {
+                case '"':
+                    out.append("\\\"");
+                    break;
+                case '\\':
+                    out.append("\\\\");
+                    break;
+                case '\n':
+                    out.append("\\n");
+                    break;
+                case '\r':
+                    out.append("\\r");
+                    break;
+                case '\t':
+                    out.append("\\t");
+                    break;
+                default:
+                    if (c < 0x20) {
+                        out.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        out.append(c);
+                    }
+            }
+        }
+        out.append('"');
+    }
+
+}
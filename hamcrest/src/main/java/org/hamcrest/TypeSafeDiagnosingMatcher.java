@@ -22,7 +22,9 @@ public abstract class TypeSafeDiagnosingMatcher<T> extends BaseMatcher<T> {
 
     /**
      * Subclasses should implement this. The item will already have been checked
-     * for the specific type and will never be null.
+     * for the specific type and will never be null. When called from {@link #matches(Object)},
+     * the mismatch description is {@link Description#NONE}: use {@link #isDiagnosing(Description)}
+     * to avoid building a mismatch description that nothing will read.
      *
      * @param item
      *     the item.
@@ -59,12 +61,16 @@ public abstract class TypeSafeDiagnosingMatcher<T> extends BaseMatcher<T> {
       this(TYPE_FINDER);
     }
 
+    Class<?> expectedType() {
+        return expectedType;
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public final boolean matches(Object item) {
         return item != null
             && expectedType.isInstance(item)
-            && matchesSafely((T) item, new Description.NullDescription());
+            && matchesSafely((T) item, Description.NONE);
     }
 
     @SuppressWarnings("unchecked")
@@ -53,6 +53,10 @@ public abstract class TypeSafeMatcher<T> extends BaseMatcher<T> {
      */
     protected abstract boolean matchesSafely(T item);
 
+    Class<?> expectedType() {
+        return expectedType;
+    }
+
     /**
      * Describe the mismatch. The item will already have been checked for
      * the specific type and will never be null. Subclasses should override this.
@@ -1,5 +1,7 @@
 package org.hamcrest.beans;
 
+import org.hamcrest.Cost;
+import org.hamcrest.Costed;
 import org.hamcrest.Description;
 import org.hamcrest.Matcher;
 import org.hamcrest.TypeSafeMatcher;
@@ -15,7 +17,7 @@ import org.hamcrest.collection.ArrayMatching;
  * @author Nat Pryce
  * @author Steve Freeman
  */
-public class HasProperty<T> extends TypeSafeMatcher<T> {
+public class HasProperty<T> extends TypeSafeMatcher<T> implements Costed {
 
     private final String propertyName;
 
@@ -47,6 +49,11 @@ public class HasProperty<T> extends TypeSafeMatcher<T> {
         description.appendText("hasProperty(").appendValue(propertyName).appendText(")");
     }
 
+    @Override
+    public double estimatedCost() {
+        return Cost.REFLECTION;
+    }
+
     /**
      * Creates a matcher that matches when the examined object has a JavaBean property
      * with the specified name.
@@ -1,13 +1,26 @@
 package org.hamcrest.beans;
 
+import org.hamcrest.CacheableSelfDescribing;
 import org.hamcrest.Condition;
+import org.hamcrest.Cost;
+import org.hamcrest.Costed;
 import org.hamcrest.Description;
+import org.hamcrest.DescriptionCache;
+import org.hamcrest.Lowerable;
 import org.hamcrest.Matcher;
 import org.hamcrest.TypeSafeDiagnosingMatcher;
+import org.hamcrest.index.Constraint;
+import org.hamcrest.index.MatcherAnalyzer;
+import org.hamcrest.index.Sargable;
+import org.hamcrest.internal.MatcherHandles;
 
 import java.beans.PropertyDescriptor;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.ListIterator;
@@ -67,12 +80,19 @@ import static org.hamcrest.beans.PropertyUtil.NO_ARGUMENTS;
  * @author Steve Freeman
  * @author cristcost at github
  */
-public class HasPropertyWithValue<T> extends TypeSafeDiagnosingMatcher<T> {
+public class HasPropertyWithValue<T> extends TypeSafeDiagnosingMatcher<T> implements CacheableSelfDescribing, Costed, Lowerable, Sargable {
 
     private static final Condition.Step<PropertyDescriptor, Method> WITH_READ_METHOD = withReadMethod();
+    private static final Object NO_VALUE = new Object();
+    private static final MethodHandle PROPERTY_VALUE = MatcherHandles.findVirtual(MethodHandles.lookup(), HasPropertyWithValue.class,
+            "propertyValueOf", MethodType.methodType(Object.class, Object.class));
+    private static final MethodHandle HAS_VALUE = MatcherHandles.findStatic(MethodHandles.lookup(), HasPropertyWithValue.class,
+            "hasValue", MethodType.methodType(boolean.class, Object.class));
     private final String propertyName;
     private final Matcher<Object> valueMatcher;
     private final String messageFormat;
+    private final DescriptionCache descriptionCache;
+    private int cachedHashCode;
 
     /**
      * Constructor, best called from {@link #hasProperty(String, Matcher)} or
@@ -95,6 +115,7 @@ public class HasPropertyWithValue<T> extends TypeSafeDiagnosingMatcher<T> {
         this.propertyName = propertyName;
         this.valueMatcher = nastyGenericsWorkaround(valueMatcher);
         this.messageFormat = messageFormat;
+        this.descriptionCache = DescriptionCache.forComponents(valueMatcher);
     }
 
     @Override
@@ -102,7 +123,7 @@ public class HasPropertyWithValue<T> extends TypeSafeDiagnosingMatcher<T> {
         return propertyOn(bean, mismatch)
                   .and(WITH_READ_METHOD)
                   .and(withPropertyValue(bean))
-                  .matching(valueMatcher, String.format(messageFormat, propertyName));
+                  .matching(valueMatcher, isDiagnosing(mismatch) ? String.format(messageFormat, propertyName) : "");
     }
 
     @Override
@@ -111,10 +132,63 @@ public class HasPropertyWithValue<T> extends TypeSafeDiagnosingMatcher<T> {
                    .appendDescriptionOf(valueMatcher).appendText(")");
     }
 
+    @Override
+    public double estimatedCost() {
+        return Cost.REFLECTION + Cost.of(valueMatcher);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        HasPropertyWithValue<?> other = (HasPropertyWithValue<?>) o;
+        return propertyName.equals(other.propertyName) && valueMatcher.equals(other.valueMatcher)
+                && messageFormat.equals(other.messageFormat);
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = cachedHashCode;
+        if (hash == 0) {
+            hash = 31 * (31 * getClass().hashCode() + propertyName.hashCode()) + valueMatcher.hashCode();
+            cachedHashCode = hash;
+        }
+        return hash;
+    }
+
+    @Override
+    public MethodHandle lower(Lowering lowering) {
+        MethodHandle valueMatches = MethodHandles.guardWithTest(HAS_VALUE, lowering.lower(valueMatcher), MatcherHandles.constant(false));
+        return MethodHandles.filterArguments(valueMatches, 0, PROPERTY_VALUE.bindTo(this));
+    }
+
+    @Override
+    public List<Constraint> constraints() {
+        List<Constraint> constraints = new ArrayList<>();
+        for (Constraint constraint : MatcherAnalyzer.constraintsOf(valueMatcher)) {
+            constraints.add(constraint.onProperty(propertyName));
+        }
+        return constraints;
+    }
+
+    @Override
+    public boolean hasImmutableDescription() {
+        return descriptionCache != null;
+    }
+
+    @Override
+    public DescriptionCache descriptionCache() {
+        return descriptionCache;
+    }
+
     private Condition<PropertyDescriptor> propertyOn(T bean, Description mismatch) {
         PropertyDescriptor property = PropertyUtil.getPropertyDescriptor(propertyName, bean);
         if (property == null) {
-            mismatch.appendText("No property \"" + propertyName + "\"");
+            mismatch.appendText("No property \"%s\"", propertyName);
             return notMatched();
         }
 
@@ -142,6 +216,29 @@ public class HasPropertyWithValue<T> extends TypeSafeDiagnosingMatcher<T> {
         };
     }
 
+    private Object propertyValueOf(Object bean) {
+        if (bean == null) {
+            return NO_VALUE;
+        }
+        PropertyDescriptor property = PropertyUtil.getPropertyDescriptor(propertyName, bean);
+        Method readMethod = property == null ? null : property.getReadMethod();
+        if (readMethod == null) {
+            return NO_VALUE;
+        }
+        try {
+            return readMethod.invoke(bean, NO_ARGUMENTS);
+        } catch (InvocationTargetException e) {
+            return NO_VALUE;
+        } catch (Exception e) {
+            throw new IllegalStateException(
+              "Calling: '" + readMethod + "' should not have thrown " + e);
+        }
+    }
+
+    private static boolean hasValue(Object value) {
+        return value != NO_VALUE;
+    }
+
     @SuppressWarnings("unchecked")
     private static Matcher<Object> nastyGenericsWorkaround(Matcher<?> valueMatcher) {
         return (Matcher<Object>) valueMatcher;
@@ -153,7 +250,7 @@ public class HasPropertyWithValue<T> extends TypeSafeDiagnosingMatcher<T> {
             public Condition<Method> apply(PropertyDescriptor property, Description mismatch) {
                 final Method readMethod = property.getReadMethod();
                 if (null == readMethod) {
-                    mismatch.appendText("property \"" + property.getName() + "\" is not readable");
+                    mismatch.appendText("property \"%s\" is not readable", property.getName());
                     return notMatched();
                 }
                 return matched(readMethod, mismatch);
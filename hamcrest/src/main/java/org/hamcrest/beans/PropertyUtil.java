@@ -3,6 +3,8 @@ package org.hamcrest.beans;
 import java.beans.IntrospectionException;
 import java.beans.Introspector;
 import java.beans.PropertyDescriptor;
+import java.lang.reflect.Method;
+import java.util.List;
 
 /**
  * Utility class with static methods for accessing properties on JavaBean objects.
@@ -55,6 +57,40 @@ public class PropertyUtil {
       }
     }
 
+    /**
+     * Returns the value at the end of a path of JavaBean properties, following the path as
+     * {@link HasPropertyWithValue#hasPropertyAtPath(String, org.hamcrest.Matcher)} does.
+     *
+     * @param path
+     *     the property names, from the object outwards; empty for the object itself.
+     * @param fromObj
+     *     the object at the start of the path.
+     * @param absent
+     *     the result if the path cannot be followed.
+     * @return the value of the last property, or <var>absent</var> if an object on the path is null,
+     * does not have a readable property with the next name, or its read method fails.
+     * @throws IllegalArgumentException if there's a introspection failure
+     */
+    public static Object getPropertyValueAtPath(List<String> path, Object fromObj, Object absent) throws IllegalArgumentException {
+        Object value = fromObj;
+        for (String propertyName : path) {
+            if (value == null) {
+                return absent;
+            }
+            PropertyDescriptor property = getPropertyDescriptor(propertyName, value);
+            Method readMethod = property == null ? null : property.getReadMethod();
+            if (readMethod == null) {
+                return absent;
+            }
+            try {
+                value = readMethod.invoke(value, NO_ARGUMENTS);
+            } catch (Exception e) {
+                return absent;
+            }
+        }
+        return value;
+    }
+
     /**
      * Empty object array, used for documenting that we are deliberately passing no arguments to a method.
      */
@@ -1,5 +1,7 @@
 package org.hamcrest.beans;
 
+import org.hamcrest.Cost;
+import org.hamcrest.Costed;
 import org.hamcrest.Description;
 import org.hamcrest.DiagnosingMatcher;
 import org.hamcrest.Matcher;
@@ -19,7 +21,7 @@ import static org.hamcrest.core.IsEqual.equalTo;
  * @param <T> the matcher value type.
  * @see #samePropertyValuesAs(Object, String...)
  */
-public class SamePropertyValuesAs<T> extends DiagnosingMatcher<T> {
+public class SamePropertyValuesAs<T> extends DiagnosingMatcher<T> implements Costed {
 
     private final T expectedBean;
     private final Set<String> propertyNames;
@@ -58,12 +60,17 @@ public class SamePropertyValuesAs<T> extends DiagnosingMatcher<T> {
         }
     }
 
+    @Override
+    public double estimatedCost() {
+        return Cost.REFLECTION;
+    }
+
     private boolean isCompatibleType(Object actual, Description mismatchDescription) {
         if (expectedBean.getClass().isAssignableFrom(actual.getClass())) {
             return true;
         }
 
-        mismatchDescription.appendText("is incompatible type: " + actual.getClass().getSimpleName());
+        mismatchDescription.appendText("is incompatible type: %s", actual.getClass().getSimpleName());
         return false;
     }
 
@@ -71,7 +78,7 @@ public class SamePropertyValuesAs<T> extends DiagnosingMatcher<T> {
         Set<String> actualPropertyNames = propertyNamesFrom(propertyDescriptorsFor(actual, Object.class), ignoredFields);
         actualPropertyNames.removeAll(propertyNames);
         if (!actualPropertyNames.isEmpty()) {
-            mismatchDescription.appendText("has extra properties called " + actualPropertyNames);
+            mismatchDescription.appendText("has extra properties called %s", actualPropertyNames);
             return false;
         }
         return true;
@@ -127,7 +134,7 @@ public class SamePropertyValuesAs<T> extends DiagnosingMatcher<T> {
         public boolean matches(Object actual, Description mismatch) {
             final Object actualValue = readProperty(readMethod, actual);
             if (!matcher.matches(actualValue)) {
-                mismatch.appendText(propertyName + " ");
+                mismatch.appendText("%s ", propertyName);
                 matcher.describeMismatch(actualValue, mismatch);
                 return false;
             }
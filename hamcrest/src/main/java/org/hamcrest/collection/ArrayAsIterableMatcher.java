@@ -1,5 +1,7 @@
 package org.hamcrest.collection;
 
+import org.hamcrest.Cost;
+import org.hamcrest.Costed;
 import org.hamcrest.Description;
 import org.hamcrest.Matcher;
 import org.hamcrest.TypeSafeDiagnosingMatcher;
@@ -16,7 +18,7 @@ import static java.util.Arrays.asList;
  * @param <E> the collection element type
  * @author Steve Freeman 2016 http://www.hamcrest.com
  */
-public class ArrayAsIterableMatcher<E> extends TypeSafeMatcher<E[]> {
+public class ArrayAsIterableMatcher<E> extends TypeSafeMatcher<E[]> implements Costed {
 
   /**
    * The matchers to match iterable against
@@ -50,6 +52,9 @@ public class ArrayAsIterableMatcher<E> extends TypeSafeMatcher<E[]> {
 
   @Override
   public boolean matchesSafely(E[] item) {
+      if (iterableMatcher.getClass() == IsIterableContainingInOrder.class) {
+          return ((IsIterableContainingInOrder<?>) iterableMatcher).matchesArray(item);
+      }
       return iterableMatcher.matches(asList(item));
   }
 
@@ -64,4 +69,9 @@ public class ArrayAsIterableMatcher<E> extends TypeSafeMatcher<E[]> {
           .appendText(" ").appendText(message);
   }
 
+  @Override
+  public double estimatedCost() {
+    return Cost.of(iterableMatcher);
+  }
+
 }
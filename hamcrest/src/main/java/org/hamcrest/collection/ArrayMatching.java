@@ -190,6 +190,26 @@ public class ArrayMatching {
       return new ArrayAsIterableMatcher<>(new IsIterableContainingInOrder<>(itemMatchers), itemMatchers, "");
   }
 
+  /**
+   * Creates a matcher for arrays that matches when each item in the examined array satisfies the
+   * corresponding matcher in the specified list of matchers, and that describes a mismatch as
+   * the edits that would make the items match, within the budgets of the specified
+   * <code>diff</code>.
+   * For example:
+   * <pre>assertThat(actualRows, arrayContainingWithDiff(expectedRowMatchers, SequenceDiff.defaultBudget()))</pre>
+   *
+   * @param <E>
+   *     the matcher type.
+   * @param itemMatchers
+   *     a list of matchers, each of which must be satisfied by the corresponding item in an examined array
+   * @param diff
+   *     the budgets for finding the edits
+   * @return The matcher.
+   */
+  public static <E> Matcher<E[]> arrayContainingWithDiff(List<Matcher<? super E>> itemMatchers, SequenceDiff diff) {
+      return new ArrayAsIterableMatcher<>(new IsIterableContainingInOrder<>(itemMatchers, diff), itemMatchers, "");
+  }
+
   /**
    * Converts item array to corresponding array of <code>equalTo</code> matchers
    * @param items items to convert
@@ -1,5 +1,7 @@
 package org.hamcrest.collection;
 
+import org.hamcrest.Cost;
+import org.hamcrest.Costed;
 import org.hamcrest.Description;
 import org.hamcrest.Matcher;
 import org.hamcrest.TypeSafeDiagnosingMatcher;
@@ -13,7 +15,7 @@ import static java.util.Arrays.asList;
  *
  * @param <T> the array element type
  */
-public class HasItemInArray<T> extends TypeSafeMatcher<T[]> {
+public class HasItemInArray<T> extends TypeSafeMatcher<T[]> implements Costed {
 
     private final Matcher<? super T> elementMatcher;
     private final TypeSafeDiagnosingMatcher<Iterable<? extends T>> collectionMatcher;
@@ -45,4 +47,9 @@ public class HasItemInArray<T> extends TypeSafeMatcher<T[]> {
             .appendDescriptionOf(elementMatcher);
     }
 
+    @Override
+    public double estimatedCost() {
+        return Cost.perElement(Cost.of(elementMatcher));
+    }
+
 }
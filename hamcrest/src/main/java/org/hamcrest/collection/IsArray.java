@@ -1,5 +1,7 @@
 package org.hamcrest.collection;
 
+import org.hamcrest.Cost;
+import org.hamcrest.Costed;
 import org.hamcrest.Description;
 import org.hamcrest.Matcher;
 import org.hamcrest.TypeSafeMatcher;
@@ -12,7 +14,7 @@ import java.util.Arrays;
  *
  * @param <T> the array element type
  */
-public class IsArray<T> extends TypeSafeMatcher<T[]> {
+public class IsArray<T> extends TypeSafeMatcher<T[]> implements Costed {
 
     private final Matcher<? super T>[] elementMatchers;
 
@@ -57,6 +59,11 @@ public class IsArray<T> extends TypeSafeMatcher<T[]> {
                                Arrays.asList(elementMatchers));
     }
 
+    @Override
+    public double estimatedCost() {
+        return Cost.sum(Arrays.asList(elementMatchers));
+    }
+
     /**
      * Returns the string that starts the description.
      *
@@ -1,5 +1,7 @@
 package org.hamcrest.collection;
 
+import org.hamcrest.Cost;
+import org.hamcrest.Costed;
 import org.hamcrest.Description;
 import org.hamcrest.Matcher;
 import org.hamcrest.TypeSafeMatcher;
@@ -16,7 +18,7 @@ import static org.hamcrest.core.IsEqual.equalTo;
  * @deprecated As of release 2.1, replaced by {@link ArrayMatching}.
  */
 @Deprecated
-public class IsArrayContainingInAnyOrder<E> extends TypeSafeMatcher<E[]> {
+public class IsArrayContainingInAnyOrder<E> extends TypeSafeMatcher<E[]> implements Costed {
 
     private final IsIterableContainingInAnyOrder<E> iterableMatcher;
     private final Collection<Matcher<? super E>> matchers;
@@ -47,6 +49,11 @@ public class IsArrayContainingInAnyOrder<E> extends TypeSafeMatcher<E[]> {
             .appendText(" in any order");
     }
 
+    @Override
+    public double estimatedCost() {
+        return Cost.of(iterableMatcher);
+    }
+
     /**
      * Creates an order agnostic matcher for arrays that matches when each item in the
      * examined array satisfies one matcher anywhere in the specified matchers.
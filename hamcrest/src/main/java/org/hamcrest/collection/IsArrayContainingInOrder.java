@@ -1,5 +1,7 @@
 package org.hamcrest.collection;
 
+import org.hamcrest.Cost;
+import org.hamcrest.Costed;
 import org.hamcrest.Description;
 import org.hamcrest.Matcher;
 import org.hamcrest.TypeSafeMatcher;
@@ -16,7 +18,7 @@ import static org.hamcrest.core.IsEqual.equalTo;
  *
  * @deprecated As of release 2.1, replaced by {@link ArrayMatching}.
  */
-public class IsArrayContainingInOrder<E> extends TypeSafeMatcher<E[]> {
+public class IsArrayContainingInOrder<E> extends TypeSafeMatcher<E[]> implements Costed {
 
     private final Collection<Matcher<? super E>> matchers;
     private final IsIterableContainingInOrder<E> iterableMatcher;
@@ -33,7 +35,7 @@ public class IsArrayContainingInOrder<E> extends TypeSafeMatcher<E[]> {
 
     @Override
     public boolean matchesSafely(E[] item) {
-        return iterableMatcher.matches(asList(item));
+        return iterableMatcher.matchesArray(item);
     }
 
     @Override
@@ -46,6 +48,11 @@ public class IsArrayContainingInOrder<E> extends TypeSafeMatcher<E[]> {
         description.appendList("[", ", ", "]", matchers);
     }
 
+    @Override
+    public double estimatedCost() {
+        return Cost.of(iterableMatcher);
+    }
+
     /**
      * Creates a matcher for arrays that matcheswhen each item in the examined array is
      * logically equal to the corresponding item in the specified items.  For a positive match,
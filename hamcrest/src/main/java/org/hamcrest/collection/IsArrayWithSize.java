@@ -1,5 +1,6 @@
 package org.hamcrest.collection;
 
+import org.hamcrest.Cost;
 import org.hamcrest.FeatureMatcher;
 import org.hamcrest.Matcher;
 
@@ -27,6 +28,11 @@ public class IsArrayWithSize<E> extends FeatureMatcher<E[], Integer> {
       return actual.length;
     }
 
+    @Override
+    protected double featureCost() {
+        return Cost.CONSTANT;
+    }
+
     /**
      * Creates a matcher for arrays that matches when the <code>length</code> of the array
      * satisfies the specified matcher.
@@ -1,5 +1,6 @@
 package org.hamcrest.collection;
 
+import org.hamcrest.Cost;
 import org.hamcrest.FeatureMatcher;
 import org.hamcrest.Matcher;
 
@@ -27,6 +28,11 @@ public class IsCollectionWithSize<E> extends FeatureMatcher<Collection<? extends
       return actual.size();
     }
 
+    @Override
+    protected double featureCost() {
+        return Cost.CONSTANT;
+    }
+
     /**
      * Creates a matcher for {@link java.util.Collection}s that matches when the <code>size()</code> method returns
      * a value that satisfies the specified matcher.
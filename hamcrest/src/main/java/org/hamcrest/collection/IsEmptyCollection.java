@@ -1,5 +1,7 @@
 package org.hamcrest.collection;
 
+import org.hamcrest.Cost;
+import org.hamcrest.Costed;
 import org.hamcrest.Description;
 import org.hamcrest.Matcher;
 import org.hamcrest.TypeSafeMatcher;
@@ -11,7 +13,7 @@ import java.util.Collection;
  *
  * @param <E> the collection element type
  */
-public class IsEmptyCollection<E> extends TypeSafeMatcher<Collection<? extends E>> {
+public class IsEmptyCollection<E> extends TypeSafeMatcher<Collection<? extends E>> implements Costed {
 
     /**
      * Constructor, best called from {@link #empty()} or
@@ -35,6 +37,11 @@ public class IsEmptyCollection<E> extends TypeSafeMatcher<Collection<? extends E
         description.appendText("an empty collection");
     }
 
+    @Override
+    public double estimatedCost() {
+        return Cost.CONSTANT;
+    }
+
     /**
      * Creates a matcher for {@link java.util.Collection}s matching examined collections whose <code>isEmpty</code>
      * method returns <code>true</code>.
@@ -1,5 +1,7 @@
 package org.hamcrest.collection;
 
+import org.hamcrest.Cost;
+import org.hamcrest.Costed;
 import org.hamcrest.Description;
 import org.hamcrest.Matcher;
 import org.hamcrest.TypeSafeMatcher;
@@ -9,7 +11,7 @@ import org.hamcrest.TypeSafeMatcher;
  *
  * @param <E> the iterable element type
  */
-public class IsEmptyIterable<E> extends TypeSafeMatcher<Iterable<? extends E>> {
+public class IsEmptyIterable<E> extends TypeSafeMatcher<Iterable<? extends E>> implements Costed {
 
     /**
      * Constructor, best called from {@link #emptyIterable()} or
@@ -32,6 +34,11 @@ public class IsEmptyIterable<E> extends TypeSafeMatcher<Iterable<? extends E>> {
         description.appendText("an empty iterable");
     }
 
+    @Override
+    public double estimatedCost() {
+        return Cost.CONSTANT;
+    }
+
     /**
      * Creates a matcher for {@link Iterable}s matching examined iterables that yield no items.
      * For example:
@@ -1,19 +1,28 @@
 package org.hamcrest.collection;
 
 import org.hamcrest.BaseMatcher;
+import org.hamcrest.Cost;
+import org.hamcrest.Costed;
 import org.hamcrest.Description;
 import org.hamcrest.Matcher;
+import org.hamcrest.index.Constraint;
+import org.hamcrest.index.Sargable;
 
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.SortedSet;
 
 /**
  * Tests if a collection contains a matching object.
  * @param <T> the type of the objects in the collection
  */
-public class IsIn<T> extends BaseMatcher<T> {
+public class IsIn<T> extends BaseMatcher<T> implements Costed, Sargable {
 
     private final Collection<T> collection;
+    private int cachedHashCode;
 
     /**
      * Constructor, best called from {@link #in(Collection)}.
@@ -43,6 +52,45 @@ public class IsIn<T> extends BaseMatcher<T> {
         buffer.appendValueList("{", ", ", "}", collection);
     }
 
+    @Override
+    public double estimatedCost() {
+        return collection instanceof Set ? Cost.CONSTANT : Cost.CONSTANT * (1 + collection.size());
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        // The collection may change, so is only equal to itself.
+        return collection == ((IsIn<?>) o).collection;
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = cachedHashCode;
+        if (hash == 0) {
+            hash = 31 * getClass().hashCode() + System.identityHashCode(collection);
+            cachedHashCode = hash;
+        }
+        return hash;
+    }
+
+    /**
+     * A sorted set may find elements by its own ordering, rather than by {@link Object#equals},
+     * so it gives no constraint.
+     */
+    @Override
+    public List<Constraint> constraints() {
+        if (collection instanceof SortedSet) {
+            return Collections.emptyList();
+        }
+        return Collections.singletonList(Constraint.oneOf(collection));
+    }
+
     /**
      * Creates a matcher that matches when the examined object is found within the
      * specified collection.
@@ -1,5 +1,7 @@
 package org.hamcrest.collection;
 
+import org.hamcrest.Cost;
+import org.hamcrest.Costed;
 import org.hamcrest.Description;
 import org.hamcrest.Matcher;
 import org.hamcrest.TypeSafeDiagnosingMatcher;
@@ -16,7 +18,7 @@ import static org.hamcrest.core.IsEqual.equalTo;
  *
  * @param <T> the type of items in the iterable.
  */
-public class IsIterableContainingInAnyOrder<T> extends TypeSafeDiagnosingMatcher<Iterable<? extends T>> {
+public class IsIterableContainingInAnyOrder<T> extends TypeSafeDiagnosingMatcher<Iterable<? extends T>> implements Costed {
 
     private final Collection<Matcher<? super T>> matchers;
 
@@ -50,6 +52,11 @@ public class IsIterableContainingInAnyOrder<T> extends TypeSafeDiagnosingMatcher
           .appendText(" in any order");
     }
 
+    @Override
+    public double estimatedCost() {
+        return Cost.perElement(Cost.sum(matchers));
+    }
+
     private static class Matching<S> {
       private final Collection<Matcher<? super S>> matchers;
       private final Description mismatchDescription;
@@ -1,12 +1,19 @@
 package org.hamcrest.collection;
 
+import org.hamcrest.CacheableSelfDescribing;
+import org.hamcrest.Cost;
+import org.hamcrest.Costed;
 import org.hamcrest.Description;
+import org.hamcrest.DescriptionCache;
 import org.hamcrest.Matcher;
 import org.hamcrest.TypeSafeDiagnosingMatcher;
+import org.hamcrest.core.IsEqual;
 import org.hamcrest.internal.NullSafety;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.RandomAccess;
 
 import static java.util.Collections.singletonList;
 import static org.hamcrest.collection.ArrayMatching.asEqualMatchers;
@@ -16,9 +23,13 @@ import static org.hamcrest.collection.ArrayMatching.asEqualMatchers;
  *
  * @param <E> the type of items in the iterable.
  */
-public class IsIterableContainingInOrder<E> extends TypeSafeDiagnosingMatcher<Iterable<? extends E>> {
+public class IsIterableContainingInOrder<E> extends TypeSafeDiagnosingMatcher<Iterable<? extends E>> implements CacheableSelfDescribing, Costed {
 
     private final List<Matcher<? super E>> matchers;
+    private final DescriptionCache descriptionCache;
+    private final Matcher<?>[] matcherArray;
+    private final Object[] expectedValues;
+    private final SequenceDiff diff;
 
     /**
      * Constructor, best called from one of the static "<code>contains</code>" factory methods.
@@ -30,11 +41,41 @@ public class IsIterableContainingInOrder<E> extends TypeSafeDiagnosingMatcher<It
      * @see #contains(List)
      */
     public IsIterableContainingInOrder(List<Matcher<? super E>> matchers) {
+        this(matchers, null);
+    }
+
+    /**
+     * Constructor, best called from {@link #containsWithDiff(List, SequenceDiff)}.
+     * @param matchers the matchers
+     * @param diff how to describe the difference between the items and the matchers, or null
+     *             to describe only the first item that differs
+     */
+    public IsIterableContainingInOrder(List<Matcher<? super E>> matchers, SequenceDiff diff) {
         this.matchers = matchers;
+        this.diff = diff;
+        this.descriptionCache = DescriptionCache.forComponents(matchers);
+        this.matcherArray = matchers.toArray(new Matcher<?>[0]);
+        this.expectedValues = expectedValuesOf(matcherArray);
     }
 
     @Override
     protected boolean matchesSafely(Iterable<? extends E> iterable, Description mismatchDescription) {
+        if (!isDiagnosing(mismatchDescription) && matcherArray.length > 0
+                && iterable instanceof List && iterable instanceof RandomAccess) {
+            return matchesList((List<?>) iterable);
+        }
+        if (diff != null && isDiagnosing(mismatchDescription) && matcherArray.length > 0) {
+            List<? extends E> items = itemsOf(iterable, diff.maxItems());
+            if (items != null) {
+                if (matchesList(items)) {
+                    return true;
+                }
+                if (diff.describe(items, matchers, mismatchDescription)) {
+                    return false;
+                }
+                iterable = items;
+            }
+        }
         final MatchSeries<E> matchSeries = new MatchSeries<>(matchers, mismatchDescription);
         for (E item : iterable) {
             if (!matchSeries.matches(item)) {
@@ -45,11 +86,100 @@ public class IsIterableContainingInOrder<E> extends TypeSafeDiagnosingMatcher<It
         return matchSeries.isFinished();
     }
 
+    /**
+     * Matches the items of an array, comparing them in bulk if every matcher is an
+     * {@link IsEqual}.
+     */
+    boolean matchesArray(Object[] items) {
+        if (expectedValues != null && expectedValues.length > 0) {
+            return Arrays.equals(items, expectedValues);
+        }
+        return matches(Arrays.asList(items));
+    }
+
+    /**
+     * Matches the items of a list by index, without describing a mismatch. A list of a
+     * different size is rejected before any item is matched.
+     */
+    private boolean matchesList(List<?> items) {
+        if (items.size() != matcherArray.length) {
+            return false;
+        }
+        if (expectedValues != null) {
+            for (int i = 0; i < expectedValues.length; i++) {
+                Object item = items.get(i);
+                if (item == null ? expectedValues[i] != null : !item.equals(expectedValues[i])) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        for (int i = 0; i < matcherArray.length; i++) {
+            if (!matcherArray[i].matches(items.get(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return the items as a list that can be read by index, or null if there are more than
+     * <var>maxItems</var>
+     */
+    private static <E> List<? extends E> itemsOf(Iterable<? extends E> iterable, int maxItems) {
+        if (iterable instanceof List && iterable instanceof RandomAccess) {
+            return (List<? extends E>) iterable;
+        }
+        List<E> items = new ArrayList<>();
+        for (E item : iterable) {
+            if (items.size() == maxItems) {
+                return null;
+            }
+            items.add(item);
+        }
+        return items;
+    }
+
+    /**
+     * For matchers that are all {@link IsEqual} of a value other than an array, which are
+     * matched by {@link Object#equals}, the expected values.
+     *
+     * @return the expected values, or null if any matcher is of another kind
+     */
+    private static Object[] expectedValuesOf(Matcher<?>[] matchers) {
+        Object[] values = new Object[matchers.length];
+        for (int i = 0; i < matchers.length; i++) {
+            if (matchers[i] == null || matchers[i].getClass() != IsEqual.class) {
+                return null;
+            }
+            values[i] = ((IsEqual<?>) matchers[i]).expectedValue();
+            if (values[i] != null && values[i].getClass().isArray()) {
+                return null;
+            }
+        }
+        return values;
+    }
+
     @Override
     public void describeTo(Description description) {
         description.appendText("iterable containing ").appendList("[", ", ", "]", matchers);
     }
 
+    @Override
+    public double estimatedCost() {
+        return Cost.CONSTANT + Cost.sum(matchers);
+    }
+
+    @Override
+    public boolean hasImmutableDescription() {
+        return descriptionCache != null;
+    }
+
+    @Override
+    public DescriptionCache descriptionCache() {
+        return descriptionCache;
+    }
+
     private static class MatchSeries<F> {
         private final List<Matcher<? super F>> matchers;
         private final Description mismatchDescription;
@@ -91,8 +221,10 @@ public class IsIterableContainingInOrder<E> extends TypeSafeDiagnosingMatcher<It
         }
 
       private void describeMismatch(Matcher<? super F> matcher, F item) {
-            mismatchDescription.appendText("item " + nextMatchIx + ": ");
-            matcher.describeMismatch(item, mismatchDescription);
+            if (isDiagnosing(mismatchDescription)) {
+                mismatchDescription.appendText("item %s: ", nextMatchIx);
+                matcher.describeMismatch(item, mismatchDescription);
+            }
         }
     }
 
@@ -175,4 +307,25 @@ public class IsIterableContainingInOrder<E> extends TypeSafeDiagnosingMatcher<It
         return new IsIterableContainingInOrder<>(itemMatchers);
     }
 
+    /**
+     * Creates a matcher for {@link Iterable}s that matches when a single pass over the
+     * examined {@link Iterable} yields a series of items, each satisfying the corresponding
+     * matcher in the specified list of matchers, and that describes a mismatch as the edits
+     * that would make the items match, within the budgets of the specified <code>diff</code>.
+     * For example:
+     * <pre>assertThat(actualRows, containsWithDiff(expectedRowMatchers, SequenceDiff.defaultBudget()))</pre>
+     *
+     * @param <E>
+     *     the matcher type.
+     * @param itemMatchers
+     *     a list of matchers, each of which must be satisfied by the corresponding item provided by
+     *     an examined {@link Iterable}
+     * @param diff
+     *     the budgets for finding the edits
+     * @return The matcher.
+     */
+    public static <E> Matcher<Iterable<? extends E>> containsWithDiff(List<Matcher<? super E>> itemMatchers, SequenceDiff diff) {
+        return new IsIterableContainingInOrder<>(itemMatchers, diff);
+    }
+
 }
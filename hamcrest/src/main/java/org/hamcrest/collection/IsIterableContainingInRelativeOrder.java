@@ -1,5 +1,7 @@
 package org.hamcrest.collection;
 
+import org.hamcrest.Cost;
+import org.hamcrest.Costed;
 import org.hamcrest.Description;
 import org.hamcrest.Matcher;
 import org.hamcrest.TypeSafeDiagnosingMatcher;
@@ -15,7 +17,7 @@ import static org.hamcrest.core.IsEqual.equalTo;
  *
  * @param <E> the type of items in the iterable.
  */
-public class IsIterableContainingInRelativeOrder<E> extends TypeSafeDiagnosingMatcher<Iterable<? extends E>> {
+public class IsIterableContainingInRelativeOrder<E> extends TypeSafeDiagnosingMatcher<Iterable<? extends E>> implements Costed {
     private final List<Matcher<? super E>> matchers;
 
     /**
@@ -38,6 +40,11 @@ public class IsIterableContainingInRelativeOrder<E> extends TypeSafeDiagnosingMa
         description.appendText("iterable containing ").appendList("[", ", ", "]", matchers).appendText(" in relative order");
     }
 
+    @Override
+    public double estimatedCost() {
+        return Cost.perElement(Cost.sum(matchers));
+    }
+
     private static class MatchSeriesInRelativeOrder<F> {
         public final List<Matcher<? super F>> matchers;
         private final Description mismatchDescription;
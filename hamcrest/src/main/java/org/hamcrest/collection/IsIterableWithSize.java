@@ -1,19 +1,35 @@
 package org.hamcrest.collection;
 
+import org.hamcrest.Cost;
+import org.hamcrest.Description;
 import org.hamcrest.FeatureMatcher;
 import org.hamcrest.Matcher;
+import org.hamcrest.index.MatcherAnalyzer;
 
-import java.util.Iterator;
+import java.util.Collection;
+import java.util.Spliterator;
+import java.util.function.Consumer;
 
 import static org.hamcrest.core.IsEqual.equalTo;
 
 /**
  * Matches if iterable size satisfies a size matcher.
  *
+ * <p>The size of a {@link Collection}, or of an iterable whose spliterator knows its exact
+ * size, is taken without iterating. Other iterables are counted; if the size matcher has a
+ * largest size that it can match, such as that of <code>equalTo</code> or
+ * <code>lessThan</code>, counting stops once that size is passed, and a mismatch is
+ * described as the size being more than that.</p>
+ *
  * @param <E> the iterable element type
  */
 public class IsIterableWithSize<E> extends FeatureMatcher<Iterable<E>, Integer> {
 
+    private static final int COUNTED_PAST_LIMIT = -1;
+
+    private final Matcher<? super Integer> sizeMatcher;
+    private final int largestMatchingSize;
+
     /**
      * Constructor, best called from {@link #iterableWithSize(int)} or
      * {@link #iterableWithSize(Matcher)}.
@@ -21,21 +37,80 @@ public class IsIterableWithSize<E> extends FeatureMatcher<Iterable<E>, Integer>
      */
     public IsIterableWithSize(Matcher<? super Integer> sizeMatcher) {
         super(sizeMatcher, "an iterable with size", "iterable size");
+        this.sizeMatcher = sizeMatcher;
+        this.largestMatchingSize = MatcherAnalyzer.largestIntegerMatchedBy(sizeMatcher);
+    }
+
+    @Override
+    protected boolean matchesSafely(Iterable<E> actual, Description mismatch) {
+        if (largestMatchingSize == Integer.MAX_VALUE) {
+            return super.matchesSafely(actual, mismatch);
+        }
+        int size = sizeOf(actual, largestMatchingSize + 1);
+        if (size == COUNTED_PAST_LIMIT) {
+            mismatch.appendText("iterable size was more than ").appendValue(largestMatchingSize);
+            return false;
+        }
+        if (!sizeMatcher.matches(size)) {
+            if (isDiagnosing(mismatch)) {
+                mismatch.appendText("iterable size ");
+                sizeMatcher.describeMismatch(size, mismatch);
+            }
+            return false;
+        }
+        return true;
     }
 
     @Override
     protected Integer featureValueOf(Iterable<E> actual) {
-      int size = 0;
-      for (Iterator<E> iterator = actual.iterator(); iterator.hasNext(); iterator.next()) {
-        size++;
-      }
-      return size;
+        return sizeOf(actual, Integer.MAX_VALUE);
+    }
+
+    @Override
+    protected double featureCost() {
+        return Cost.perElement(Cost.CONSTANT);
+    }
+
+    /**
+     * @return the size of <var>iterable</var>, or {@link #COUNTED_PAST_LIMIT} if it has to be
+     * counted and has at least <var>limit</var> elements
+     */
+    private static int sizeOf(Iterable<?> iterable, int limit) {
+        if (iterable instanceof Collection) {
+            return ((Collection<?>) iterable).size();
+        }
+        Spliterator<?> spliterator = iterable.spliterator();
+        long exactSize = spliterator.getExactSizeIfKnown();
+        if (exactSize >= 0) {
+            return (int) Math.min(exactSize, Integer.MAX_VALUE);
+        }
+        Counter counter = new Counter();
+        if (limit == Integer.MAX_VALUE) {
+            spliterator.forEachRemaining(counter);
+        } else {
+            while (counter.count < limit && spliterator.tryAdvance(counter)) {
+                // counted
+            }
+            if (counter.count == limit) {
+                return COUNTED_PAST_LIMIT;
+            }
+        }
+        return counter.count;
+    }
+
+    private static final class Counter implements Consumer<Object> {
+        int count;
+
+        @Override
+        public void accept(Object element) {
+            count++;
+        }
     }
 
     /**
      * Creates a matcher for {@link Iterable}s that matches when a single pass over the
      * examined {@link Iterable} yields an item count that satisfies the specified
-     * matcher.
+     * matcher. The size of a {@link Collection} is used without iterating it.
      * For example:
      * <pre>assertThat(Arrays.asList("foo", "bar"), iterableWithSize(equalTo(2)))</pre>
      *
@@ -52,7 +127,8 @@ public class IsIterableWithSize<E> extends FeatureMatcher<Iterable<E>, Integer>
     /**
      * Creates a matcher for {@link Iterable}s that matches when a single pass over the
      * examined {@link Iterable} yields an item count that is equal to the specified
-     * <code>size</code> argument.
+     * <code>size</code> argument. The size of a {@link Collection} is used without iterating
+     * it, and counting stops after <code>size + 1</code> items.
      * For example:
      * <pre>assertThat(Arrays.asList("foo", "bar"), iterableWithSize(2))</pre>
      *
@@ -1,24 +1,37 @@
 package org.hamcrest.collection;
 
+import org.hamcrest.Cost;
+import org.hamcrest.Costed;
 import org.hamcrest.Description;
 import org.hamcrest.Matcher;
 import org.hamcrest.TypeSafeMatcher;
+import org.hamcrest.core.IsAnything;
+import org.hamcrest.core.IsEqual;
 
+import java.util.HashMap;
+import java.util.Hashtable;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static org.hamcrest.core.IsAnything.anything;
 import static org.hamcrest.core.IsEqual.equalTo;
 
 /**
  * Matches if map keys, values or entries match the value matchers.
+ *
+ * <p>If the key matcher is an <code>equalTo</code>, and the examined map is a {@link HashMap},
+ * {@link LinkedHashMap}, {@link Hashtable} or {@link ConcurrentHashMap}, whose keys are found by
+ * {@link Object#equals}, the key is looked up rather than the entries scanned.</p>
  * @param <K> the type of the map keys
  * @param <V> the type of the map values
  */
-public class IsMapContaining<K, V> extends TypeSafeMatcher<Map<? extends K, ? extends V>> {
+public class IsMapContaining<K, V> extends TypeSafeMatcher<Map<? extends K, ? extends V>> implements Costed {
 
     private final Matcher<? super K> keyMatcher;
     private final Matcher<? super V> valueMatcher;
+    private final Object lookupKey;
 
     /**
      * Constructor, best called from one of the static factory methods (<code>hasKey</code>, <code>hasValue</code>,
@@ -35,10 +48,23 @@ public class IsMapContaining<K, V> extends TypeSafeMatcher<Map<? extends K, ? ex
     public IsMapContaining(Matcher<? super K> keyMatcher, Matcher<? super V> valueMatcher) {
         this.keyMatcher = keyMatcher;
         this.valueMatcher = valueMatcher;
+        this.lookupKey = lookupKeyOf(keyMatcher);
     }
 
     @Override
     public boolean matchesSafely(Map<? extends K, ? extends V> map) {
+        if (lookupKey != null && isLookupMap(map)) {
+            if (!map.containsKey(lookupKey)) {
+                return false;
+            }
+            if (valueMatcher.getClass() == IsAnything.class) {
+                return true;
+            }
+            // An access ordered LinkedHashMap would be reordered by get.
+            if (!(map instanceof LinkedHashMap)) {
+                return valueMatcher.matches(map.get(lookupKey));
+            }
+        }
         for (Entry<? extends K, ? extends V> entry : map.entrySet()) {
             if (keyMatcher.matches(entry.getKey()) && valueMatcher.matches(entry.getValue())) {
                 return true;
@@ -61,6 +87,33 @@ public class IsMapContaining<K, V> extends TypeSafeMatcher<Map<? extends K, ? ex
                    .appendText("]");
     }
 
+    @Override
+    public double estimatedCost() {
+        return Cost.perElement(Cost.of(keyMatcher) + Cost.of(valueMatcher));
+    }
+
+    /**
+     * @return whether the keys of <var>map</var> are found by {@link Object#equals}, without
+     * side effects of {@link Map#containsKey}
+     */
+    static boolean isLookupMap(Map<?, ?> map) {
+        Class<?> type = map.getClass();
+        return type == HashMap.class || type == LinkedHashMap.class || type == Hashtable.class || type == ConcurrentHashMap.class;
+    }
+
+    /**
+     * @return the key that every key matched by <var>keyMatcher</var> equals, or null if there
+     * is none, or it is null, which not every map can look up, or an array, which
+     * <code>equalTo</code> compares by its elements
+     */
+    static Object lookupKeyOf(Matcher<?> keyMatcher) {
+        if (keyMatcher.getClass() != IsEqual.class) {
+            return null;
+        }
+        Object key = ((IsEqual<?>) keyMatcher).expectedValue();
+        return key == null || key.getClass().isArray() ? null : key;
+    }
+
     /**
      * Creates a matcher for {@link java.util.Map}s matching when the examined {@link java.util.Map} contains
      * at least one entry whose key satisfies the specified <code>keyMatcher</code> <b>and</b> whose
@@ -0,0 +1,176 @@
+package org.hamcrest.collection;
+
+import org.hamcrest.Cost;
+import org.hamcrest.Costed;
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+import org.hamcrest.TypeSafeDiagnosingMatcher;
+import org.hamcrest.core.IsEqual;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import static org.hamcrest.core.IsEqual.equalTo;
+
+/**
+ * Matches if a map contains every entry of another map: a key equal to each of its keys, with
+ * a value equal to that key's value.
+ *
+ * <p>The entries are checked together: if the examined map is one whose keys can be looked
+ * up (see {@link IsMapContaining}), each expected key is looked up; otherwise the entries of
+ * the examined map are scanned once, each key looked up among the expected keys. A mismatch
+ * lists the keys that were missing and those whose values were different.</p>
+ *
+ * @param <K> the type of the map keys
+ * @param <V> the type of the map values
+ */
+public class IsMapContainingEntries<K, V> extends TypeSafeDiagnosingMatcher<Map<? extends K, ? extends V>> implements Costed {
+
+    private static final int MAX_LISTED_KEYS = 10;
+
+    private final Map<K, Matcher<? super V>> entries;
+    private final boolean areKeysHashable;
+
+    /**
+     * Constructor, best called from {@link #hasEntries(Map)}.
+     * @param entries the entries that matching maps contain
+     */
+    public IsMapContainingEntries(Map<? extends K, ? extends V> entries) {
+        this.entries = new LinkedHashMap<>();
+        boolean areKeysHashable = true;
+        for (Entry<? extends K, ? extends V> entry : entries.entrySet()) {
+            this.entries.put(entry.getKey(), new IsEqual<V>(entry.getValue()));
+            areKeysHashable &= entry.getKey() != null && !entry.getKey().getClass().isArray();
+        }
+        this.areKeysHashable = areKeysHashable;
+    }
+
+    @Override
+    protected boolean matchesSafely(Map<? extends K, ? extends V> map, Description mismatchDescription) {
+        List<Object> missing = new ArrayList<>();
+        Map<Object, Object> different = new LinkedHashMap<>();
+        if (areKeysHashable && IsMapContaining.isLookupMap(map) && !(map instanceof LinkedHashMap)) {
+            for (Entry<K, Matcher<? super V>> entry : entries.entrySet()) {
+                V value = map.get(entry.getKey());
+                if (value == null && !map.containsKey(entry.getKey())) {
+                    missing.add(entry.getKey());
+                } else if (!entry.getValue().matches(value)) {
+                    different.put(entry.getKey(), value);
+                }
+                if (!isDiagnosing(mismatchDescription) && !(missing.isEmpty() && different.isEmpty())) {
+                    return false;
+                }
+            }
+        } else {
+            scan(map, missing, different);
+        }
+        if (missing.isEmpty() && different.isEmpty()) {
+            return true;
+        }
+        describeMismatches(missing, different, mismatchDescription);
+        return false;
+    }
+
+    /**
+     * Scans the entries of <var>map</var> once, finding each expected key among them.
+     */
+    private void scan(Map<? extends K, ? extends V> map, List<Object> missing, Map<Object, Object> different) {
+        Map<Object, Object> found = new HashMap<>();
+        if (areKeysHashable) {
+            for (Entry<? extends K, ? extends V> entry : map.entrySet()) {
+                if (entries.containsKey(entry.getKey())) {
+                    found.put(entry.getKey(), entry.getValue());
+                }
+            }
+        } else {
+            // Array keys are equal by their elements, so cannot be found by hashing.
+            for (Entry<? extends K, ? extends V> entry : map.entrySet()) {
+                for (K key : entries.keySet()) {
+                    if (equalTo(key).matches(entry.getKey())) {
+                        found.put(key, entry.getValue());
+                    }
+                }
+            }
+        }
+        for (Entry<K, Matcher<? super V>> entry : entries.entrySet()) {
+            if (!found.containsKey(entry.getKey())) {
+                missing.add(entry.getKey());
+            } else if (!entry.getValue().matches(found.get(entry.getKey()))) {
+                different.put(entry.getKey(), found.get(entry.getKey()));
+            }
+        }
+    }
+
+    private void describeMismatches(List<Object> missing, Map<Object, Object> different, Description mismatchDescription) {
+        if (!missing.isEmpty()) {
+            mismatchDescription.appendText("missing keys [");
+            for (int i = 0; i < missing.size() && i < MAX_LISTED_KEYS; i++) {
+                mismatchDescription.appendText(i > 0 ? ", " : "").appendValue(missing.get(i));
+            }
+            appendRest(missing.size(), mismatchDescription);
+        }
+        if (!different.isEmpty()) {
+            mismatchDescription.appendText(missing.isEmpty() ? "different values for keys [" : " and different values for keys [");
+            int i = 0;
+            for (Entry<Object, Object> entry : different.entrySet()) {
+                if (i == MAX_LISTED_KEYS) {
+                    break;
+                }
+                mismatchDescription.appendText(i++ > 0 ? ", " : "").appendValue(entry.getKey()).appendText(": ");
+                entries.get(entry.getKey()).describeMismatch(entry.getValue(), mismatchDescription);
+            }
+            appendRest(different.size(), mismatchDescription);
+        }
+    }
+
+    private static void appendRest(int size, Description mismatchDescription) {
+        if (size > MAX_LISTED_KEYS) {
+            mismatchDescription.appendText(", and %s more", size - MAX_LISTED_KEYS);
+        }
+        mismatchDescription.appendText("]");
+    }
+
+    @Override
+    public void describeTo(Description description) {
+        description.appendText("map containing ");
+        description.appendText("[");
+        boolean isPastFirst = false;
+        for (Entry<K, Matcher<? super V>> entry : entries.entrySet()) {
+            if (isPastFirst) {
+                description.appendText(", ");
+            }
+            description.appendValue(entry.getKey()).appendText("->").appendDescriptionOf(entry.getValue());
+            isPastFirst = true;
+        }
+        description.appendText("]");
+    }
+
+    @Override
+    public double estimatedCost() {
+        return Cost.perElement(Cost.CONSTANT);
+    }
+
+    /**
+     * Creates a matcher for {@link java.util.Map}s matching when the examined {@link java.util.Map} contains
+     * every entry of the specified map: a key equal to each of its keys, whose value is equal to
+     * that key's value. The examined map may contain other entries.
+     * For example:
+     * <pre>assertThat(config, hasEntries(expectedSettings))</pre>
+     *
+     * @param <K>
+     *     the map key type.
+     * @param <V>
+     *     the map value type.
+     * @param entries
+     *     the entries that the examined map must contain
+     * @return The matcher.
+     */
+    public static <K, V> Matcher<Map<? extends K, ? extends V>> hasEntries(Map<? extends K, ? extends V> entries) {
+        return new IsMapContainingEntries<>(entries);
+    }
+
+}
@@ -1,5 +1,6 @@
 package org.hamcrest.collection;
 
+import org.hamcrest.Cost;
 import org.hamcrest.FeatureMatcher;
 import org.hamcrest.Matcher;
 
@@ -30,6 +31,11 @@ public final class IsMapWithSize<K, V> extends FeatureMatcher<Map<? extends K, ?
       return actual.size();
     }
 
+    @Override
+    protected double featureCost() {
+        return Cost.CONSTANT;
+    }
+
     /**
      * Creates a matcher for {@link java.util.Map}s that matches when the <code>size()</code> method returns
      * a value that satisfies the specified matcher.
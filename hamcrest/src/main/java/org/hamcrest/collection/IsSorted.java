@@ -0,0 +1,155 @@
+package org.hamcrest.collection;
+
+import org.hamcrest.Cost;
+import org.hamcrest.Costed;
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+import org.hamcrest.TypeSafeDiagnosingMatcher;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * Tests if the items of an iterable are in order, comparing each item with the one before
+ * it in a single pass. A mismatch is described by the first item that is out of order.
+ *
+ * @param <T> the type of items in the iterable
+ */
+public class IsSorted<T> extends TypeSafeDiagnosingMatcher<Iterable<? extends T>> implements Costed {
+
+    private final Comparator<? super T> comparator;
+    private final boolean isStrict;
+
+    /**
+     * Constructor, best called from one of the static factory methods.
+     * @param comparator the order of the items, or null for their natural order
+     * @param isStrict whether each item must be greater than, rather than not less than, the one before
+     * @see #sorted()
+     * @see #sortedBy(Comparator)
+     * @see #strictlyIncreasing()
+     * @see #strictlyIncreasingBy(Comparator)
+     */
+    public IsSorted(Comparator<? super T> comparator, boolean isStrict) {
+        this.comparator = comparator;
+        this.isStrict = isStrict;
+    }
+
+    @Override
+    protected boolean matchesSafely(Iterable<? extends T> iterable, Description mismatchDescription) {
+        if (iterable instanceof List && iterable instanceof RandomAccess) {
+            List<? extends T> items = (List<? extends T>) iterable;
+            for (int i = 0; i < items.size(); i++) {
+                if (!isInOrder(i, i == 0 ? null : items.get(i - 1), items.get(i), mismatchDescription)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        Iterator<? extends T> items = iterable.iterator();
+        T previous = null;
+        for (int i = 0; items.hasNext(); i++) {
+            T item = items.next();
+            if (!isInOrder(i, previous, item, mismatchDescription)) {
+                return false;
+            }
+            previous = item;
+        }
+        return true;
+    }
+
+    @SuppressWarnings("unchecked")
+    private boolean isInOrder(int index, T previous, T item, Description mismatchDescription) {
+        if (comparator == null && item == null) {
+            mismatchDescription.appendText("item %s was null", index);
+            return false;
+        }
+        if (index == 0) {
+            return true;
+        }
+        int comparison = comparator == null
+                ? ((Comparable<Object>) previous).compareTo(item)
+                : comparator.compare(previous, item);
+        if (isStrict ? comparison >= 0 : comparison > 0) {
+            mismatchDescription.appendText("out of order at item %s: ", index)
+                    .appendValue(item).appendText(" came after ").appendValue(previous);
+            return false;
+        }
+        return true;
+    }
+
+    @Override
+    public void describeTo(Description description) {
+        description.appendText(isStrict ? "an iterable in strictly ascending order" : "an iterable in ascending order");
+        if (comparator != null) {
+            description.appendText(" when compared by ").appendValue(comparator);
+        }
+    }
+
+    @Override
+    public double estimatedCost() {
+        return Cost.perElement(Cost.CONSTANT);
+    }
+
+    /**
+     * Creates a matcher for {@link Iterable}s that matches when each item of the examined
+     * {@link Iterable} is not less than the item before it, in their natural order.
+     * For example:
+     * <pre>assertThat(Arrays.asList(1, 2, 2, 3), sorted())</pre>
+     *
+     * @param <T>
+     *     the matcher type.
+     * @return The matcher.
+     */
+    public static <T extends Comparable<? super T>> Matcher<Iterable<? extends T>> sorted() {
+        return new IsSorted<>(null, false);
+    }
+
+    /**
+     * Creates a matcher for {@link Iterable}s that matches when each item of the examined
+     * {@link Iterable} is not less than the item before it, according to the specified comparator.
+     * For example:
+     * <pre>assertThat(Arrays.asList("b", "a"), sortedBy(Comparator.reverseOrder()))</pre>
+     *
+     * @param <T>
+     *     the matcher type.
+     * @param comparator
+     *     the order of the items
+     * @return The matcher.
+     */
+    public static <T> Matcher<Iterable<? extends T>> sortedBy(Comparator<? super T> comparator) {
+        return new IsSorted<>(comparator, false);
+    }
+
+    /**
+     * Creates a matcher for {@link Iterable}s that matches when each item of the examined
+     * {@link Iterable} is greater than the item before it, in their natural order.
+     * For example:
+     * <pre>assertThat(Arrays.asList(1, 2, 3), strictlyIncreasing())</pre>
+     *
+     * @param <T>
+     *     the matcher type.
+     * @return The matcher.
+     */
+    public static <T extends Comparable<? super T>> Matcher<Iterable<? extends T>> strictlyIncreasing() {
+        return new IsSorted<>(null, true);
+    }
+
+    /**
+     * Creates a matcher for {@link Iterable}s that matches when each item of the examined
+     * {@link Iterable} is greater than the item before it, according to the specified comparator.
+     * For example:
+     * <pre>assertThat(Arrays.asList("c", "b", "a"), strictlyIncreasingBy(Comparator.reverseOrder()))</pre>
+     *
+     * @param <T>
+     *     the matcher type.
+     * @param comparator
+     *     the order of the items
+     * @return The matcher.
+     */
+    public static <T> Matcher<Iterable<? extends T>> strictlyIncreasingBy(Comparator<? super T> comparator) {
+        return new IsSorted<>(comparator, true);
+    }
+
+}
@@ -0,0 +1,169 @@
+package org.hamcrest.collection;
+
+import org.hamcrest.Cost;
+import org.hamcrest.Costed;
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+import org.hamcrest.TypeSafeDiagnosingMatcher;
+
+/**
+ * Tests if the elements of an <code>int[]</code>, <code>long[]</code> or <code>double[]</code>
+ * are in ascending order, in a single pass that compares the primitive values without boxing
+ * them. Doubles are ordered as by {@link Double#compare}, as {@link java.util.Arrays#sort(double[])}
+ * orders them. A mismatch is described by the first element that is out of order.
+ *
+ * @param <A> the type of the array
+ */
+public class IsSortedArray<A> extends TypeSafeDiagnosingMatcher<A> implements Costed {
+
+    private final boolean isStrict;
+
+    /**
+     * Constructor, best called from one of the static factory methods.
+     * @param arrayType <code>int[].class</code>, <code>long[].class</code> or <code>double[].class</code>
+     * @param isStrict whether each element must be greater than, rather than not less than, the one before
+     */
+    public IsSortedArray(Class<A> arrayType, boolean isStrict) {
+        super(arrayType);
+        if (arrayType != int[].class && arrayType != long[].class && arrayType != double[].class) {
+            throw new IllegalArgumentException("Should be an array of int, long or double: " + arrayType);
+        }
+        this.isStrict = isStrict;
+    }
+
+    @Override
+    protected boolean matchesSafely(A array, Description mismatchDescription) {
+        int index = array instanceof int[] ? firstOutOfOrder((int[]) array)
+                : array instanceof long[] ? firstOutOfOrder((long[]) array)
+                : firstOutOfOrder((double[]) array);
+        if (index < 0) {
+            return true;
+        }
+        if (isDiagnosing(mismatchDescription)) {
+            mismatchDescription.appendText("out of order at item %s: ", index)
+                    .appendValue(elementAt(array, index)).appendText(" came after ").appendValue(elementAt(array, index - 1));
+        }
+        return false;
+    }
+
+    private static Object elementAt(Object array, int index) {
+        if (array instanceof int[]) {
+            return ((int[]) array)[index];
+        }
+        if (array instanceof long[]) {
+            return ((long[]) array)[index];
+        }
+        return ((double[]) array)[index];
+    }
+
+    private int firstOutOfOrder(int[] array) {
+        for (int i = 1; i < array.length; i++) {
+            if (isStrict ? array[i - 1] >= array[i] : array[i - 1] > array[i]) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private int firstOutOfOrder(long[] array) {
+        for (int i = 1; i < array.length; i++) {
+            if (isStrict ? array[i - 1] >= array[i] : array[i - 1] > array[i]) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private int firstOutOfOrder(double[] array) {
+        for (int i = 1; i < array.length; i++) {
+            int comparison = Double.compare(array[i - 1], array[i]);
+            if (isStrict ? comparison >= 0 : comparison > 0) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public void describeTo(Description description) {
+        description.appendText(isStrict ? "an array in strictly ascending order" : "an array in ascending order");
+    }
+
+    @Override
+    public double estimatedCost() {
+        return Cost.perElement(Cost.CONSTANT);
+    }
+
+    /**
+     * Creates a matcher for <code>int[]</code>s that matches when each element is not less than
+     * the element before it.
+     * For example:
+     * <pre>assertThat(new int[] {1, 2, 2, 3}, sortedIntArray())</pre>
+     *
+     * @return The matcher.
+     */
+    public static Matcher<int[]> sortedIntArray() {
+        return new IsSortedArray<>(int[].class, false);
+    }
+
+    /**
+     * Creates a matcher for <code>long[]</code>s that matches when each element is not less than
+     * the element before it.
+     * For example:
+     * <pre>assertThat(new long[] {1L, 2L, 2L, 3L}, sortedLongArray())</pre>
+     *
+     * @return The matcher.
+     */
+    public static Matcher<long[]> sortedLongArray() {
+        return new IsSortedArray<>(long[].class, false);
+    }
+
+    /**
+     * Creates a matcher for <code>double[]</code>s that matches when each element is not less
+     * than the element before it, as ordered by {@link Double#compare}.
+     * For example:
+     * <pre>assertThat(new double[] {0.5, 1.0, 1.0}, sortedDoubleArray())</pre>
+     *
+     * @return The matcher.
+     */
+    public static Matcher<double[]> sortedDoubleArray() {
+        return new IsSortedArray<>(double[].class, false);
+    }
+
+    /**
+     * Creates a matcher for <code>int[]</code>s that matches when each element is greater than
+     * the element before it.
+     * For example:
+     * <pre>assertThat(new int[] {1, 2, 3}, strictlyIncreasingIntArray())</pre>
+     *
+     * @return The matcher.
+     */
+    public static Matcher<int[]> strictlyIncreasingIntArray() {
+        return new IsSortedArray<>(int[].class, true);
+    }
+
+    /**
+     * Creates a matcher for <code>long[]</code>s that matches when each element is greater than
+     * the element before it.
+     * For example:
+     * <pre>assertThat(new long[] {1L, 2L, 3L}, strictlyIncreasingLongArray())</pre>
+     *
+     * @return The matcher.
+     */
+    public static Matcher<long[]> strictlyIncreasingLongArray() {
+        return new IsSortedArray<>(long[].class, true);
+    }
+
+    /**
+     * Creates a matcher for <code>double[]</code>s that matches when each element is greater
+     * than the element before it, as ordered by {@link Double#compare}.
+     * For example:
+     * <pre>assertThat(new double[] {0.5, 1.0, 1.5}, strictlyIncreasingDoubleArray())</pre>
+     *
+     * @return The matcher.
+     */
+    public static Matcher<double[]> strictlyIncreasingDoubleArray() {
+        return new IsSortedArray<>(double[].class, true);
+    }
+
+}
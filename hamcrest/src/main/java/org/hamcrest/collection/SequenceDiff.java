@@ -0,0 +1,328 @@
+package org.hamcrest.collection;
+
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Describes how a sequence of items differs from a sequence of item matchers as a compact
+ * edit script: the fewest items to remove from, and expected items to add to, the examined
+ * sequence so that each item is matched by the matcher in the same position. For example:
+ * <pre>differs in 2 places: item 3 unexpected: &lt;7&gt;; items 10 to 11 were [&lt;1&gt;, &lt;2&gt;] instead of [&lt;3&gt;]</pre>
+ *
+ * <p>The script is found with Myers' algorithm, bisecting on the middle snake, so it takes
+ * time proportional to the lengths of the sequences times the number of edits, and memory
+ * proportional to the number of edits. Budgets bound the number of items, edits and matcher
+ * evaluations; if a difference exceeds any of them, no script is given, and the matcher
+ * falls back to reporting the first item that differs.</p>
+ */
+public final class SequenceDiff {
+
+    private static final SequenceDiff DEFAULT = withBudget(1000000, 1000, 10000000L);
+    private static final int MAX_LISTED_VALUES = 5;
+
+    private final int maxItems;
+    private final int maxEdits;
+    private final long maxComparisons;
+
+    private SequenceDiff(int maxItems, int maxEdits, long maxComparisons) {
+        this.maxItems = maxItems;
+        this.maxEdits = maxEdits;
+        this.maxComparisons = maxComparisons;
+    }
+
+    /**
+     * The budgets used unless others are specified: a million items, a thousand edits and ten
+     * million matcher evaluations.
+     *
+     * @return the diff
+     */
+    public static SequenceDiff defaultBudget() {
+        return DEFAULT;
+    }
+
+    /**
+     * Creates a diff with the specified budgets.
+     *
+     * @param maxItems the largest number of examined items to hold
+     * @param maxEdits the largest number of edits to report
+     * @param maxComparisons the largest number of times to apply an item matcher
+     * @return the diff
+     */
+    public static SequenceDiff withBudget(int maxItems, int maxEdits, long maxComparisons) {
+        if (maxItems < 0 || maxEdits < 0 || maxComparisons < 0) {
+            throw new IllegalArgumentException("Budgets should not be negative");
+        }
+        return new SequenceDiff(maxItems, maxEdits, maxComparisons);
+    }
+
+    /**
+     * @return the largest number of examined items to hold
+     */
+    int maxItems() {
+        return maxItems;
+    }
+
+    /**
+     * Describes the edit script between items and matchers that do not match them.
+     *
+     * @param items the examined items
+     * @param matchers the item matchers
+     * @param mismatch the description to append to
+     * @return false, with nothing appended, if the difference exceeds a budget
+     */
+    boolean describe(List<?> items, List<? extends Matcher<?>> matchers, Description mismatch) {
+        if (items.size() > maxItems) {
+            return false;
+        }
+        List<Hunk> hunks;
+        try {
+            hunks = new Search(items, matchers).hunks();
+        } catch (OverBudget e) {
+            return false;
+        }
+        mismatch.appendText("differs in %s %s: ", hunks.size(), hunks.size() == 1 ? "place" : "places");
+        for (int i = 0; i < hunks.size(); i++) {
+            if (i > 0) {
+                mismatch.appendText("; ");
+            }
+            hunks.get(i).describeTo(items, matchers, mismatch);
+        }
+        return true;
+    }
+
+    /**
+     * The items from <code>itemStart</code> to <code>itemEnd</code> are replaced by the
+     * expectations from <code>matcherStart</code> to <code>matcherEnd</code>.
+     */
+    private static final class Hunk {
+        private final int itemStart;
+        private final int itemEnd;
+        private final int matcherStart;
+        private final int matcherEnd;
+
+        Hunk(int itemStart, int itemEnd, int matcherStart, int matcherEnd) {
+            this.itemStart = itemStart;
+            this.itemEnd = itemEnd;
+            this.matcherStart = matcherStart;
+            this.matcherEnd = matcherEnd;
+        }
+
+        void describeTo(List<?> items, List<? extends Matcher<?>> matchers, Description mismatch) {
+            if (itemEnd - itemStart == 1 && matcherEnd - matcherStart == 1) {
+                mismatch.appendText("item %s: ", itemStart);
+                matchers.get(matcherStart).describeMismatch(items.get(itemStart), mismatch);
+            } else if (matcherStart == matcherEnd) {
+                describeItemRange(mismatch);
+                mismatch.appendText(" unexpected: ");
+                appendValues(items.subList(itemStart, itemEnd), mismatch);
+            } else if (itemStart == itemEnd) {
+                mismatch.appendText("missing at item %s: ", itemStart);
+                appendDescriptions(matchers.subList(matcherStart, matcherEnd), mismatch);
+            } else {
+                describeItemRange(mismatch);
+                mismatch.appendText(itemEnd - itemStart == 1 ? " was " : " were ");
+                appendValues(items.subList(itemStart, itemEnd), mismatch);
+                mismatch.appendText(" instead of ");
+                appendDescriptions(matchers.subList(matcherStart, matcherEnd), mismatch);
+            }
+        }
+
+        private void describeItemRange(Description mismatch) {
+            if (itemEnd - itemStart == 1) {
+                mismatch.appendText("item %s", itemStart);
+            } else {
+                mismatch.appendText("items %s to %s", itemStart, itemEnd - 1);
+            }
+        }
+
+        private static void appendValues(List<?> values, Description mismatch) {
+            if (values.size() == 1) {
+                mismatch.appendValue(values.get(0));
+                return;
+            }
+            mismatch.appendText("[");
+            for (int i = 0; i < values.size() && i < MAX_LISTED_VALUES; i++) {
+                mismatch.appendText(i > 0 ? ", " : "").appendValue(values.get(i));
+            }
+            appendRest(values.size(), mismatch);
+        }
+
+        private static void appendDescriptions(List<? extends Matcher<?>> matchers, Description mismatch) {
+            if (matchers.size() == 1) {
+                mismatch.appendDescriptionOf(matchers.get(0));
+                return;
+            }
+            mismatch.appendText("[");
+            for (int i = 0; i < matchers.size() && i < MAX_LISTED_VALUES; i++) {
+                mismatch.appendText(i > 0 ? ", " : "").appendDescriptionOf(matchers.get(i));
+            }
+            appendRest(matchers.size(), mismatch);
+        }
+
+        private static void appendRest(int size, Description mismatch) {
+            if (size > MAX_LISTED_VALUES) {
+                mismatch.appendText(", and %s more", size - MAX_LISTED_VALUES);
+            }
+            mismatch.appendText("]");
+        }
+    }
+
+    /**
+     * A search for the shortest edit script, which throws {@link OverBudget} as soon as it
+     * exceeds a budget.
+     */
+    private final class Search {
+        private final List<?> items;
+        private final List<? extends Matcher<?>> matchers;
+        private final List<Hunk> hunks = new ArrayList<>();
+        private final int[] forward;
+        private final int[] backward;
+        private final int maxDepth;
+        private long comparisons;
+        private int edits;
+
+        Search(List<?> items, List<? extends Matcher<?>> matchers) {
+            this.items = items;
+            this.matchers = matchers;
+            // A middle snake is found at a depth of half the number of edits, rounded up.
+            this.maxDepth = Math.min((maxEdits + 1) / 2 + 1, (items.size() + matchers.size() + 1) / 2);
+            this.forward = new int[2 * maxDepth + 2];
+            this.backward = new int[2 * maxDepth + 2];
+        }
+
+        List<Hunk> hunks() {
+            diff(0, items.size(), 0, matchers.size());
+            return hunks;
+        }
+
+        private boolean matches(int item, int matcher) {
+            if (++comparisons > maxComparisons) {
+                throw new OverBudget();
+            }
+            return matchers.get(matcher).matches(items.get(item));
+        }
+
+        /**
+         * Finds the edits between the items from <code>i0</code> to <code>i1</code> and the
+         * matchers from <code>j0</code> to <code>j1</code>, adding them in order.
+         */
+        private void diff(int i0, int i1, int j0, int j1) {
+            while (i0 < i1 && j0 < j1 && matches(i0, j0)) {
+                i0++;
+                j0++;
+            }
+            while (i0 < i1 && j0 < j1 && matches(i1 - 1, j1 - 1)) {
+                i1--;
+                j1--;
+            }
+            if (i0 == i1 || j0 == j1) {
+                edit(i0, i1, j0, j1);
+                return;
+            }
+            int[] split = middleSnake(i0, i1, j0, j1);
+            if (split == null) {
+                edit(i0, i1, j0, j1);
+                return;
+            }
+            diff(i0, split[0], j0, split[1]);
+            diff(split[0], i1, split[1], j1);
+        }
+
+        /**
+         * Finds a point on a shortest edit path, where the path is split into two halves of
+         * about equal numbers of edits, by searching forward from the start and backward from
+         * the end until the searches overlap.
+         *
+         * @return the item and matcher positions of the point, or null if no item matches
+         */
+        private int[] middleSnake(int i0, int i1, int j0, int j1) {
+            int n = i1 - i0;
+            int m = j1 - j0;
+            int offset = maxDepth;
+            int length = forward.length;
+            Arrays.fill(forward, -1);
+            Arrays.fill(backward, -1);
+            forward[offset + 1] = 0;
+            backward[offset + 1] = 0;
+            int delta = n - m;
+            boolean isOdd = (delta & 1) != 0;
+            // Diagonals that have run off the edge of the grid are no longer searched.
+            int forwardStart = 0;
+            int forwardEnd = 0;
+            int backwardStart = 0;
+            int backwardEnd = 0;
+            int depths = (n + m + 1) / 2;
+            for (int d = 0; d < depths; d++) {
+                if (d >= maxDepth) {
+                    throw new OverBudget();
+                }
+                for (int k = -d + forwardStart; k <= d - forwardEnd; k += 2) {
+                    int x = k == -d || (k != d && forward[offset + k - 1] < forward[offset + k + 1])
+                            ? forward[offset + k + 1] : forward[offset + k - 1] + 1;
+                    int y = x - k;
+                    while (x < n && y < m && matches(i0 + x, j0 + y)) {
+                        x++;
+                        y++;
+                    }
+                    forward[offset + k] = x;
+                    if (x > n) {
+                        forwardEnd += 2;
+                    } else if (y > m) {
+                        forwardStart += 2;
+                    } else if (isOdd) {
+                        int reverse = offset + delta - k;
+                        if (reverse >= 0 && reverse < length && backward[reverse] != -1 && x >= n - backward[reverse]) {
+                            return new int[] {i0 + x, j0 + y};
+                        }
+                    }
+                }
+                for (int k = -d + backwardStart; k <= d - backwardEnd; k += 2) {
+                    int x = k == -d || (k != d && backward[offset + k - 1] < backward[offset + k + 1])
+                            ? backward[offset + k + 1] : backward[offset + k - 1] + 1;
+                    int y = x - k;
+                    while (x < n && y < m && matches(i1 - x - 1, j1 - y - 1)) {
+                        x++;
+                        y++;
+                    }
+                    backward[offset + k] = x;
+                    if (x > n) {
+                        backwardEnd += 2;
+                    } else if (y > m) {
+                        backwardStart += 2;
+                    } else if (!isOdd) {
+                        int reverse = offset + delta - k;
+                        if (reverse >= 0 && reverse < length && forward[reverse] != -1 && forward[reverse] >= n - x) {
+                            int forwardX = forward[reverse];
+                            return new int[] {i0 + forwardX, j0 + forwardX - (delta - k)};
+                        }
+                    }
+                }
+            }
+            return null;
+        }
+
+        private void edit(int i0, int i1, int j0, int j1) {
+            edits += (i1 - i0) + (j1 - j0);
+            if (edits > maxEdits) {
+                throw new OverBudget();
+            }
+            Hunk last = hunks.isEmpty() ? null : hunks.get(hunks.size() - 1);
+            if (last != null && last.itemEnd == i0 && last.matcherEnd == j0) {
+                hunks.set(hunks.size() - 1, new Hunk(last.itemStart, i1, last.matcherStart, j1));
+            } else {
+                hunks.add(new Hunk(i0, i1, j0, j1));
+            }
+        }
+    }
+
+    private static final class OverBudget extends RuntimeException {
+        OverBudget() {
+            super(null, null, false, false);
+        }
+    }
+
+}
@@ -1,10 +1,23 @@
 package org.hamcrest.comparator;
 
+import org.hamcrest.Cost;
+import org.hamcrest.Costed;
 import org.hamcrest.Description;
+import org.hamcrest.Lowerable;
 import org.hamcrest.Matcher;
+import org.hamcrest.PrimitiveMatching;
 import org.hamcrest.TypeSafeMatcher;
+import org.hamcrest.index.Constraint;
+import org.hamcrest.index.Sargable;
+import org.hamcrest.internal.MatcherHandles;
+import org.hamcrest.internal.Structural;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.List;
 
 import static java.lang.Integer.signum;
 
@@ -14,6 +27,15 @@ import static java.lang.Integer.signum;
  */
 public final class ComparatorMatcherBuilder<T> {
 
+    // Shared, so that natural ordering matchers with equal bounds are equal.
+    @SuppressWarnings("rawtypes")
+    private static final Comparator NATURAL_ORDERING = new Comparator<Comparable<Object>>() {
+        @Override
+        public int compare(Comparable<Object> o1, Comparable<Object> o2) {
+            return o1.compareTo(o2);
+        }
+    };
+
     private final Comparator<T> comparator;
     private final boolean includeComparatorInDescription;
 
@@ -26,13 +48,9 @@ public final class ComparatorMatcherBuilder<T> {
      *     the matcher type.
      * @return The matcher.
      */
+    @SuppressWarnings("unchecked")
     public static <T extends Comparable<T>> ComparatorMatcherBuilder<T> usingNaturalOrdering() {
-        return new ComparatorMatcherBuilder<>(new Comparator<T>() {
-            @Override
-            public int compare(T o1, T o2) {
-                return o1.compareTo(o2);
-            }
-        }, false);
+        return new ComparatorMatcherBuilder<>((Comparator<T>) NATURAL_ORDERING, false);
     }
 
     /**
@@ -59,10 +77,12 @@ public final class ComparatorMatcherBuilder<T> {
         this.includeComparatorInDescription = includeComparatorInDescription;
     }
 
-    private static final class ComparatorMatcher<T> extends TypeSafeMatcher<T> {
+    private static final class ComparatorMatcher<T> extends TypeSafeMatcher<T> implements Costed, Lowerable, PrimitiveMatching, Sargable {
         private static final int LESS_THAN = -1;
         private static final int GREATER_THAN = 1;
         private static final int EQUAL = 0;
+        private static final MethodHandle MATCHES_SAFELY = MatcherHandles.findVirtual(MethodHandles.lookup(), ComparatorMatcher.class, "matchesSafely",
+                MethodType.methodType(boolean.class, Object.class));
 
         private final Comparator<T> comparator;
         private final T expected;
@@ -87,13 +107,44 @@ public final class ComparatorMatcherBuilder<T> {
         @Override
         public boolean matchesSafely(T actual) {
             try {
-                int compare = signum(comparator.compare(actual, expected));
-                return minCompare <= compare && compare <= maxCompare;
+                return inRange(comparator.compare(actual, expected));
             } catch (ClassCastException e) {
                 return false; // type erasure means someone can shonk in a non-T :(
             }
         }
 
+        // Only the natural ordering is omitted from the description, so the comparison
+        // can be made on the primitive value when the expected value has the same type.
+
+        @Override
+        public boolean matchesInt(int actual) {
+            if (!includeComparatorInDescription && expected instanceof Integer) {
+                return inRange(Integer.compare(actual, (Integer) expected));
+            }
+            return matches(actual);
+        }
+
+        @Override
+        public boolean matchesLong(long actual) {
+            if (!includeComparatorInDescription && expected instanceof Long) {
+                return inRange(Long.compare(actual, (Long) expected));
+            }
+            return matches(actual);
+        }
+
+        @Override
+        public boolean matchesDouble(double actual) {
+            if (!includeComparatorInDescription && expected instanceof Double) {
+                return inRange(Double.compare(actual, (Double) expected));
+            }
+            return matches(actual);
+        }
+
+        private boolean inRange(int compare) {
+            int sign = signum(compare);
+            return minCompare <= sign && sign <= maxCompare;
+        }
+
         @Override
         public void describeMismatchSafely(T actual, Description mismatchDescription) {
             mismatchDescription.appendValue(actual).appendText(" was ")
@@ -116,6 +167,50 @@ public final class ComparatorMatcherBuilder<T> {
             }
         }
 
+        @Override
+        public double estimatedCost() {
+            return includeComparatorInDescription ? Cost.UNKNOWN : Cost.CONSTANT;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            ComparatorMatcher<?> other = (ComparatorMatcher<?>) o;
+            return minCompare == other.minCompare && maxCompare == other.maxCompare
+                    && includeComparatorInDescription == other.includeComparatorInDescription
+                    && comparator.equals(other.comparator) && Structural.valuesEqual(expected, other.expected);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * (31 * (31 * comparator.hashCode() + Structural.valueHashCode(expected)) + minCompare) + maxCompare;
+        }
+
+        @Override
+        public MethodHandle lower(Lowering lowering) {
+            return MatcherHandles.typeSafe(Object.class, MATCHES_SAFELY.bindTo(this));
+        }
+
+        /**
+         * Only a natural ordering comparison states its range, as an index orders values the
+         * same way.
+         */
+        @Override
+        public List<Constraint> constraints() {
+            if (includeComparatorInDescription || !(expected instanceof Comparable)) {
+                return Collections.emptyList();
+            }
+            Comparable<?> bound = (Comparable<?>) expected;
+            return Collections.singletonList(Constraint.range(
+                    minCompare < EQUAL ? null : bound, minCompare == EQUAL,
+                    maxCompare > EQUAL ? null : bound, maxCompare == EQUAL));
+        }
+
         private static String asText(int comparison) {
             return comparisonDescriptions[signum(comparison) + 1];
         }
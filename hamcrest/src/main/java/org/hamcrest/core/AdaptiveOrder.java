@@ -0,0 +1,129 @@
+package org.hamcrest.core;
+
+import org.hamcrest.Matcher;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Chooses the order in which a shortcut combination evaluates its matchers, from the
+ * pass rate and cost of each matcher observed on a sample of calls.
+ *
+ * <p>One call in {@link #SAMPLE_PERIOD}, chosen at random, evaluates every matcher in
+ * declared order and records, for each, whether it passed and how long it took. Every
+ * {@link #SAMPLES_PER_REORDER} samples the matchers are sorted so that those most likely
+ * to decide the result for the least cost are evaluated first. The evaluation order is
+ * replaced, never modified, so concurrent calls always see a complete order.</p>
+ *
+ * @param <T> the matched value type
+ */
+final class AdaptiveOrder<T> {
+
+    static final int SAMPLE_PERIOD = 64;
+    static final int SAMPLES_PER_REORDER = 32;
+
+    private final Matcher<? super T>[] matchers;
+    private final boolean shortcut;
+    private final int samplePeriod;
+
+    private final long[] passes;
+    private final long[] nanos;
+    private long samples = 0;
+
+    private volatile int[] order;
+
+    /**
+     * @param matchers the matchers, in declared order
+     * @param shortcut the result of a single matcher that decides the result of the combination
+     */
+    AdaptiveOrder(Iterable<Matcher<? super T>> matchers, boolean shortcut) {
+        this(matchers, shortcut, SAMPLE_PERIOD);
+    }
+
+    @SuppressWarnings("unchecked")
+    AdaptiveOrder(Iterable<Matcher<? super T>> matchers, boolean shortcut, int samplePeriod) {
+        List<Matcher<? super T>> list = new ArrayList<>();
+        for (Matcher<? super T> matcher : matchers) {
+            list.add(matcher);
+        }
+        this.matchers = list.toArray(new Matcher[0]);
+        this.shortcut = shortcut;
+        this.samplePeriod = samplePeriod;
+        this.passes = new long[this.matchers.length];
+        this.nanos = new long[this.matchers.length];
+        this.order = new int[this.matchers.length];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+    }
+
+    boolean matches(Object item) {
+        if (ThreadLocalRandom.current().nextInt(samplePeriod) == 0) {
+            return sample(item);
+        }
+        for (int i : order) {
+            if (matchers[i].matches(item) == shortcut) {
+                return shortcut;
+            }
+        }
+        return !shortcut;
+    }
+
+    int[] order() {
+        return order.clone();
+    }
+
+    private boolean sample(Object item) {
+        boolean[] passed = new boolean[matchers.length];
+        long[] elapsed = new long[matchers.length];
+        boolean result = !shortcut;
+        for (int i = 0; i < matchers.length; i++) {
+            long start = System.nanoTime();
+            passed[i] = matchers[i].matches(item);
+            elapsed[i] = System.nanoTime() - start;
+            if (passed[i] == shortcut) {
+                result = shortcut;
+            }
+        }
+        record(passed, elapsed);
+        return result;
+    }
+
+    private synchronized void record(boolean[] passed, long[] elapsed) {
+        for (int i = 0; i < matchers.length; i++) {
+            if (passed[i]) passes[i]++;
+            nanos[i] += elapsed[i];
+        }
+        if (++samples % SAMPLES_PER_REORDER == 0) {
+            reorder();
+        }
+    }
+
+    private void reorder() {
+        final double[] rank = new double[matchers.length];
+        List<Integer> indices = new ArrayList<>(matchers.length);
+        for (int i = 0; i < matchers.length; i++) {
+            double passRate = (passes[i] + 1.0) / (samples + 2.0);
+            double decisiveRate = shortcut ? passRate : 1.0 - passRate;
+            double cost = (double) nanos[i] / samples + 1.0;
+            rank[i] = cost / decisiveRate;
+            indices.add(i);
+        }
+        Collections.sort(indices, new Comparator<Integer>() {
+            @Override
+            public int compare(Integer a, Integer b) {
+                return Double.compare(rank[a], rank[b]);
+            }
+        });
+
+        int[] newOrder = new int[matchers.length];
+        for (int i = 0; i < newOrder.length; i++) {
+            newOrder[i] = indices.get(i);
+        }
+        order = newOrder;
+    }
+
+}
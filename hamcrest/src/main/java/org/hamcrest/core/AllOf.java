@@ -1,21 +1,41 @@
 package org.hamcrest.core;
 
+import org.hamcrest.CacheableSelfDescribing;
+import org.hamcrest.Cost;
+import org.hamcrest.Costed;
 import org.hamcrest.Description;
+import org.hamcrest.DescriptionCache;
 import org.hamcrest.DiagnosingMatcher;
+import org.hamcrest.Lowerable;
 import org.hamcrest.Matcher;
 import org.hamcrest.collection.ArrayMatching;
+import org.hamcrest.index.Constraint;
+import org.hamcrest.index.MatcherAnalyzer;
+import org.hamcrest.index.Sargable;
+import org.hamcrest.internal.MatcherHandles;
+import org.hamcrest.internal.Structural;
 
+import java.lang.invoke.MethodHandle;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 
 /**
  * Calculates the logical conjunction of multiple matchers. Evaluation is shortcut, so
  * subsequent matchers are not called if an earlier matcher returns <code>false</code>.
+ * If the cost of every matcher is known (see {@link Costed}), the cheapest matchers are
+ * evaluated first; mismatches are always described in declared order.
  *
  * @param <T> the matched value type
  */
-public class AllOf<T> extends DiagnosingMatcher<T> {
+public class AllOf<T> extends DiagnosingMatcher<T> implements CacheableSelfDescribing, Costed, Lowerable, Sargable {
 
     private final Iterable<Matcher<? super T>> matchers;
+    private final DescriptionCache descriptionCache;
+    private final AdaptiveOrder<T> adaptiveOrder;
+    private final List<Matcher<? super T>> cheapestFirst;
+    private int cachedHashCode;
 
     /**
      * Constructor, best called from {@link #allOf(Matcher[])}.
@@ -33,11 +53,31 @@ public class AllOf<T> extends DiagnosingMatcher<T> {
      * @see #allOf(Iterable)
      */
     public AllOf(Iterable<Matcher<? super T>> matchers) {
-        this.matchers = matchers;
+        this(matchers, null);
+    }
+
+    AllOf(Iterable<Matcher<? super T>> matchers, AdaptiveOrder<T> adaptiveOrder) {
+        this.matchers = copyOf(matchers);
+        this.descriptionCache = DescriptionCache.forComponents(this.matchers);
+        this.adaptiveOrder = adaptiveOrder;
+        this.cheapestFirst = Cost.cheapestFirst(this.matchers);
     }
 
     @Override
     public boolean matches(Object o, Description mismatch) {
+        if (mismatch == Description.NONE) {
+            if (adaptiveOrder != null) {
+                return adaptiveOrder.matches(o);
+            }
+            if (cheapestFirst != null) {
+                for (Matcher<? super T> matcher : cheapestFirst) {
+                    if (!matcher.matches(o)) {
+                        return false;
+                    }
+                }
+                return true;
+            }
+        }
         for (Matcher<? super T> matcher : matchers) {
             if (!matcher.matches(o)) {
                 mismatch.appendDescriptionOf(matcher).appendText(" ");
@@ -53,6 +93,76 @@ public class AllOf<T> extends DiagnosingMatcher<T> {
         description.appendList("(", " " + "and" + " ", ")", matchers);
     }
 
+    @Override
+    public double estimatedCost() {
+        return Cost.sum(matchers);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        AllOf<?> other = (AllOf<?>) o;
+        return (adaptiveOrder == null) == (other.adaptiveOrder == null) && Structural.elementsEqual(matchers, other.matchers);
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = cachedHashCode;
+        if (hash == 0) {
+            hash = 31 * getClass().hashCode() + Structural.elementsHashCode(matchers);
+            cachedHashCode = hash;
+        }
+        return hash;
+    }
+
+    /**
+     * Lowers to a conjunction of the lowered matchers, in the same order as they are
+     * evaluated by {@link #matches(Object)}. Adaptive ordering is not applied.
+     */
+    @Override
+    public MethodHandle lower(Lowering lowering) {
+        List<MethodHandle> handles = new ArrayList<>();
+        for (Matcher<? super T> matcher : cheapestFirst != null ? cheapestFirst : matchers) {
+            handles.add(lowering.lower(matcher));
+        }
+        return MatcherHandles.allOf(handles);
+    }
+
+    @Override
+    public List<Constraint> constraints() {
+        return MatcherAnalyzer.allOf(matchers);
+    }
+
+    @Override
+    public boolean hasImmutableDescription() {
+        return descriptionCache != null;
+    }
+
+    @Override
+    public DescriptionCache descriptionCache() {
+        return descriptionCache;
+    }
+
+    Iterable<Matcher<? super T>> matchers() {
+        return matchers;
+    }
+
+    /**
+     * @return the matchers, copied so that they cannot change after construction
+     */
+    static <T> List<Matcher<? super T>> copyOf(Iterable<Matcher<? super T>> matchers) {
+        List<Matcher<? super T>> copy = new ArrayList<>();
+        for (Matcher<? super T> matcher : matchers) {
+            copy.add(matcher);
+        }
+        return Collections.unmodifiableList(copy);
+    }
+
     /**
      * Creates a matcher that matches if the examined object matches <b>ALL</b> of the specified matchers.
      * For example:
@@ -84,4 +194,23 @@ public class AllOf<T> extends DiagnosingMatcher<T> {
         return allOf((Iterable) Arrays.asList(matchers));
     }
 
+    /**
+     * Creates a matcher that matches if the examined object matches <b>ALL</b> of the specified matchers,
+     * evaluating them in the order that has been observed to reject mismatching objects most cheaply.
+     * A small random sample of calls evaluates every matcher to measure its pass rate and cost, and
+     * the evaluation order is adjusted from those measurements. The description, and the mismatch
+     * description, always follow the declared order.
+     * For example:
+     * <pre>assertThat(document, adaptiveAllOf(Arrays.asList(hasXPath("/a/b"), notNullValue())))</pre>
+     *
+     * @param <T>
+     *     the matcher type.
+     * @param matchers
+     *     all the matchers must pass.
+     * @return The matcher.
+     */
+    public static <T> Matcher<T> adaptiveAllOf(Iterable<Matcher<? super T>> matchers) {
+        return new AllOf<>(matchers, new AdaptiveOrder<T>(matchers, false));
+    }
+
 }
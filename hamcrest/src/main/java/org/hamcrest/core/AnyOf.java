@@ -1,10 +1,18 @@
 package org.hamcrest.core;
 
 import org.hamcrest.Description;
+import org.hamcrest.Lowerable;
 import org.hamcrest.Matcher;
 import org.hamcrest.collection.ArrayMatching;
+import org.hamcrest.index.Constraint;
+import org.hamcrest.index.MatcherAnalyzer;
+import org.hamcrest.index.Sargable;
+import org.hamcrest.internal.MatcherHandles;
 
+import java.lang.invoke.MethodHandle;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 
 /**
  * Calculates the logical disjunction of multiple matchers. Evaluation is shortcut, so
@@ -12,7 +20,7 @@ import java.util.Arrays;
  *
  * @param <T> the matched value type
  */
-public class AnyOf<T> extends ShortcutCombination<T> {
+public class AnyOf<T> extends ShortcutCombination<T> implements Lowerable, Sargable {
 
     /**
      * Constructor, best called from {@link #anyOf(Matcher[])}.
@@ -33,6 +41,10 @@ public class AnyOf<T> extends ShortcutCombination<T> {
         super(matchers);
     }
 
+    AnyOf(Iterable<Matcher<? super T>> matchers, AdaptiveOrder<T> adaptiveOrder) {
+        super(matchers, adaptiveOrder);
+    }
+
     @Override
     public boolean matches(Object o) {
         return matches(o, true);
@@ -43,6 +55,24 @@ public class AnyOf<T> extends ShortcutCombination<T> {
         describeTo(description, "or");
     }
 
+    /**
+     * Lowers to a disjunction of the lowered matchers, in the same order as they are
+     * evaluated by {@link #matches(Object)}. Adaptive ordering is not applied.
+     */
+    @Override
+    public MethodHandle lower(Lowering lowering) {
+        List<MethodHandle> handles = new ArrayList<>();
+        for (Matcher<? super T> matcher : evaluationOrder()) {
+            handles.add(lowering.lower(matcher));
+        }
+        return MatcherHandles.anyOf(handles);
+    }
+
+    @Override
+    public List<Constraint> constraints() {
+        return MatcherAnalyzer.anyOf(matchers());
+    }
+
     /**
      * Creates a matcher that matches if the examined object matches <b>ANY</b> of the specified matchers.
      * For example:
@@ -74,4 +104,23 @@ public class AnyOf<T> extends ShortcutCombination<T> {
         return anyOf((Iterable) Arrays.asList(matchers));
     }
 
+    /**
+     * Creates a matcher that matches if the examined object matches <b>ANY</b> of the specified matchers,
+     * evaluating them in the order that has been observed to accept matching objects most cheaply.
+     * A small random sample of calls evaluates every matcher to measure its pass rate and cost, and
+     * the evaluation order is adjusted from those measurements. The description always follows the
+     * declared order.
+     * For example:
+     * <pre>assertThat("myValue", adaptiveAnyOf(Arrays.asList(matchesPattern("[a-z]+Value"), startsWith("my"))))</pre>
+     *
+     * @param <T>
+     *     the matcher type.
+     * @param matchers
+     *     any the matchers must pass.
+     * @return The matcher.
+     */
+    public static <T> AnyOf<T> adaptiveAnyOf(Iterable<Matcher<? super T>> matchers) {
+        return new AnyOf<>(matchers, new AdaptiveOrder<T>(matchers, true));
+    }
+
 }
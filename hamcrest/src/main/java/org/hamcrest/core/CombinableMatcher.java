@@ -1,10 +1,21 @@
 package org.hamcrest.core;
 
+import org.hamcrest.CacheableSelfDescribing;
+import org.hamcrest.Cost;
+import org.hamcrest.Costed;
 import org.hamcrest.Description;
+import org.hamcrest.DescriptionCache;
+import org.hamcrest.Lowerable;
 import org.hamcrest.Matcher;
 import org.hamcrest.TypeSafeDiagnosingMatcher;
+import org.hamcrest.index.Constraint;
+import org.hamcrest.index.MatcherAnalyzer;
+import org.hamcrest.index.Sargable;
+import org.hamcrest.internal.MatcherHandles;
 
+import java.lang.invoke.MethodHandle;
 import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Allows matchers of the same type to be combined using
@@ -25,9 +36,10 @@ import java.util.ArrayList;
  * @see #either(Matcher)
  * @see #both(Matcher)
  */
-public class CombinableMatcher<T> extends TypeSafeDiagnosingMatcher<T> {
+public class CombinableMatcher<T> extends TypeSafeDiagnosingMatcher<T> implements CacheableSelfDescribing, Costed, Lowerable, Sargable {
 
   private final Matcher<? super T> matcher;
+  private final DescriptionCache descriptionCache;
 
   /**
    * Constructor, best called from <code>either</code> or <code>both</code>.
@@ -37,6 +49,7 @@ public class CombinableMatcher<T> extends TypeSafeDiagnosingMatcher<T> {
    */
   public CombinableMatcher(Matcher<? super T> matcher) {
     this.matcher = matcher;
+    this.descriptionCache = DescriptionCache.forComponents(matcher);
   }
 
   @Override
@@ -53,6 +66,51 @@ public class CombinableMatcher<T> extends TypeSafeDiagnosingMatcher<T> {
     description.appendDescriptionOf(matcher);
   }
 
+  @Override
+  public double estimatedCost() {
+    return Cost.CONSTANT + Cost.of(matcher);
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    return matcher.equals(((CombinableMatcher<?>) o).matcher);
+  }
+
+  @Override
+  public int hashCode() {
+    return 31 * getClass().hashCode() + matcher.hashCode();
+  }
+
+  @Override
+  public MethodHandle lower(Lowering lowering) {
+    return MatcherHandles.typeSafe(Object.class, lowering.lower(matcher));
+  }
+
+  @Override
+  public List<Constraint> constraints() {
+    return MatcherAnalyzer.constraintsOf(matcher);
+  }
+
+  @Override
+  public boolean hasImmutableDescription() {
+    return descriptionCache != null;
+  }
+
+  @Override
+  public DescriptionCache descriptionCache() {
+    return descriptionCache;
+  }
+
+  Matcher<? super T> matcher() {
+    return matcher;
+  }
+
   /**
    * Specify the second matcher in a <code>CombinableMatcher</code> pair.
    * @param other the second matcher
@@ -1,23 +1,33 @@
 package org.hamcrest.core;
 
 import org.hamcrest.BaseMatcher;
+import org.hamcrest.Cost;
+import org.hamcrest.Costed;
 import org.hamcrest.Description;
+import org.hamcrest.Lowerable;
 import org.hamcrest.Matcher;
+import org.hamcrest.index.Constraint;
+import org.hamcrest.index.MatcherAnalyzer;
+import org.hamcrest.index.Sargable;
+import org.hamcrest.internal.Structural;
 
+import java.lang.invoke.MethodHandle;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.regex.Pattern;
 
-import static java.lang.Integer.parseInt;
-
 /**
  * Provides a custom description to another matcher.
  *
  * @param <T> the matched value type
  */
-public class DescribedAs<T> extends BaseMatcher<T> {
+public class DescribedAs<T> extends BaseMatcher<T> implements Costed, Lowerable, Sargable {
 
-    private final String descriptionTemplate;
     private final Matcher<T> matcher;
     private final Object[] values;
+    private final String[] textSegments;
+    private final int[] argumentIndices;
 
     private final static Pattern ARG_PATTERN = Pattern.compile("%([0-9]+)");
 
@@ -26,11 +36,42 @@ public class DescribedAs<T> extends BaseMatcher<T> {
      * @param descriptionTemplate the new description for the wrapped matcher
      * @param matcher the matcher to wrap
      * @param values optional values to insert into the tokenised description
+     * @throws IllegalArgumentException if the template refers to a value that was not supplied
      */
     public DescribedAs(String descriptionTemplate, Matcher<T> matcher, Object[] values) {
-        this.descriptionTemplate = descriptionTemplate;
         this.matcher = matcher;
         this.values = values.clone();
+
+        List<String> texts = new ArrayList<>();
+        List<Integer> indices = new ArrayList<>();
+        java.util.regex.Matcher arg = ARG_PATTERN.matcher(descriptionTemplate);
+        int textStart = 0;
+        while (arg.find()) {
+            texts.add(descriptionTemplate.substring(textStart, arg.start()));
+            indices.add(argumentIndex(descriptionTemplate, arg.group(1), this.values.length));
+            textStart = arg.end();
+        }
+        texts.add(descriptionTemplate.substring(textStart));
+
+        this.textSegments = texts.toArray(new String[0]);
+        this.argumentIndices = new int[indices.size()];
+        for (int i = 0; i < argumentIndices.length; i++) {
+            argumentIndices[i] = indices.get(i);
+        }
+    }
+
+    private static int argumentIndex(String descriptionTemplate, String digits, int valueCount) {
+        int index;
+        try {
+            index = Integer.parseInt(digits);
+        } catch (NumberFormatException e) {
+            index = Integer.MAX_VALUE;
+        }
+        if (index >= valueCount) {
+            throw new IllegalArgumentException("Description template \"" + descriptionTemplate
+                    + "\" refers to %" + digits + " but only " + valueCount + " value(s) were supplied");
+        }
+        return index;
     }
 
     @Override
@@ -40,18 +81,48 @@ public class DescribedAs<T> extends BaseMatcher<T> {
 
     @Override
     public void describeTo(Description description) {
-        java.util.regex.Matcher arg = ARG_PATTERN.matcher(descriptionTemplate);
+        for (int i = 0; i < argumentIndices.length; i++) {
+            description.appendText(textSegments[i]);
+            description.appendValue(values[argumentIndices[i]]);
+        }
 
-        int textStart = 0;
-        while (arg.find()) {
-            description.appendText(descriptionTemplate.substring(textStart, arg.start()));
-            description.appendValue(values[parseInt(arg.group(1))]);
-            textStart = arg.end();
+        String trailingText = textSegments[argumentIndices.length];
+        if (!trailingText.isEmpty()) {
+            description.appendText(trailingText);
         }
+    }
 
-        if (textStart < descriptionTemplate.length()) {
-            description.appendText(descriptionTemplate.substring(textStart));
+    @Override
+    public double estimatedCost() {
+        return Cost.of(matcher);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
         }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        DescribedAs<?> other = (DescribedAs<?>) o;
+        return matcher.equals(other.matcher) && Arrays.equals(textSegments, other.textSegments)
+                && Arrays.equals(argumentIndices, other.argumentIndices) && Structural.valuesEqual(values, other.values);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * (31 * getClass().hashCode() + matcher.hashCode()) + Arrays.hashCode(textSegments);
+    }
+
+    @Override
+    public MethodHandle lower(Lowering lowering) {
+        return lowering.lower(matcher);
+    }
+
+    @Override
+    public List<Constraint> constraints() {
+        return MatcherAnalyzer.constraintsOf(matcher);
     }
 
     @Override
@@ -59,6 +130,10 @@ public class DescribedAs<T> extends BaseMatcher<T> {
         matcher.describeMismatch(item, description);
     }
 
+    Matcher<T> matcher() {
+        return matcher;
+    }
+
     /**
      * Wraps an existing matcher, overriding its description with that specified.  All other functions are
      * delegated to the decorated matcher, including its mismatch description.
@@ -70,6 +145,7 @@ public class DescribedAs<T> extends BaseMatcher<T> {
      * @param matcher the matcher to wrap
      * @param values optional values to insert into the tokenised description
      * @return The matcher.
+     * @throws IllegalArgumentException if the template refers to a value that was not supplied
      */
     public static <T> Matcher<T> describedAs(String descriptionTemplate, Matcher<T> matcher, Object... values) {
         return new DescribedAs<>(descriptionTemplate, matcher, values);
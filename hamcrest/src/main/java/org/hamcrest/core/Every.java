@@ -1,32 +1,61 @@
 package org.hamcrest.core;
 
+import org.hamcrest.Cost;
+import org.hamcrest.Costed;
 import org.hamcrest.Description;
 import org.hamcrest.Matcher;
 import org.hamcrest.TypeSafeDiagnosingMatcher;
 
+import java.util.Collection;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+
 /**
  * A matcher that applies a delegate matcher to every item in an  {@link Iterable}.
  *
  * @param <T> the type of the items in the iterable
  */
-public class Every<T> extends TypeSafeDiagnosingMatcher<Iterable<? extends T>> {
+public class Every<T> extends TypeSafeDiagnosingMatcher<Iterable<? extends T>> implements Costed {
 
     private final Matcher<? super T> matcher;
+    private final ForkJoinPool pool;
 
     /**
      * Constructor, best called from {@link #everyItem(Matcher)}.
      * @param matcher a matcher used to check every item in the iterable.
      */
     public Every(Matcher<? super T> matcher) {
-        this.matcher= matcher;
+        this(matcher, null);
+    }
+
+    /**
+     * Constructor, best called from {@link #everyItemInParallel(Matcher, ForkJoinPool)}.
+     * @param matcher a matcher used to check every item in the iterable.
+     * @param pool the pool that checks the items of large collections in parallel, or null to check items sequentially
+     */
+    public Every(Matcher<? super T> matcher, ForkJoinPool pool) {
+        this.matcher = matcher;
+        this.pool = pool;
     }
 
     @Override
     public boolean matchesSafely(Iterable<? extends T> collection, Description mismatchDescription) {
+        if (pool != null && collection instanceof Collection && ((Collection<?>) collection).size() >= ParallelSearch.MINIMUM_SIZE) {
+            ParallelSearch.Found mismatch = ParallelSearch.search(
+                    (Collection<?>) collection, matcher, false, isDiagnosing(mismatchDescription), pool);
+            if (mismatch == null) {
+                return true;
+            }
+            mismatchDescription.appendText("an item ");
+            matcher.describeMismatch(mismatch.element, mismatchDescription);
+            return false;
+        }
         for (T t : collection) {
             if (!matcher.matches(t)) {
-                mismatchDescription.appendText("an item ");
-                matcher.describeMismatch(t, mismatchDescription);
+                if (isDiagnosing(mismatchDescription)) {
+                    mismatchDescription.appendText("an item ");
+                    matcher.describeMismatch(t, mismatchDescription);
+                }
                 return false;
             }
         }
@@ -38,6 +67,28 @@ public class Every<T> extends TypeSafeDiagnosingMatcher<Iterable<? extends T>> {
         description.appendText("every item is ").appendDescriptionOf(matcher);
     }
 
+    @Override
+    public double estimatedCost() {
+        return Cost.perElement(Cost.of(matcher));
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        Every<?> other = (Every<?>) o;
+        return matcher.equals(other.matcher) && Objects.equals(pool, other.pool);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * getClass().hashCode() + matcher.hashCode();
+    }
+
     /**
      * Creates a matcher for {@link Iterable}s that only matches when a single pass over the
      * examined {@link Iterable} yields items that are all matched by the specified
@@ -55,4 +106,46 @@ public class Every<T> extends TypeSafeDiagnosingMatcher<Iterable<? extends T>> {
         return new Every<>(itemMatcher);
     }
 
+    /**
+     * Creates a matcher for {@link Iterable}s that only matches when the examined
+     * {@link Iterable} yields items that are all matched by the specified
+     * <code>itemMatcher</code>, which must be thread safe. The items of large
+     * {@link Collection}s are matched in parallel in the common {@link ForkJoinPool},
+     * stopping as soon as an item does not match; the mismatch described is that of the
+     * first such item, as for {@link #everyItem(Matcher)}.
+     * For example:
+     * <pre>assertThat(documents, everyItemInParallel(hasXPath("/order/id")))</pre>
+     *
+     * @param <U>
+     *     the matcher type.
+     * @param itemMatcher
+     *     the matcher to apply to every item provided by the examined {@link Iterable}
+     * @return The matcher.
+     */
+    public static <U> Matcher<Iterable<? extends U>> everyItemInParallel(final Matcher<U> itemMatcher) {
+        return everyItemInParallel(itemMatcher, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a matcher for {@link Iterable}s that only matches when the examined
+     * {@link Iterable} yields items that are all matched by the specified
+     * <code>itemMatcher</code>, which must be thread safe. The items of large
+     * {@link Collection}s are matched in parallel in the specified pool, stopping as soon
+     * as an item does not match; the mismatch described is that of the first such item, as
+     * for {@link #everyItem(Matcher)}.
+     * For example:
+     * <pre>assertThat(documents, everyItemInParallel(hasXPath("/order/id"), pool))</pre>
+     *
+     * @param <U>
+     *     the matcher type.
+     * @param itemMatcher
+     *     the matcher to apply to every item provided by the examined {@link Iterable}
+     * @param pool
+     *     the pool in which to match items
+     * @return The matcher.
+     */
+    public static <U> Matcher<Iterable<? extends U>> everyItemInParallel(final Matcher<U> itemMatcher, ForkJoinPool pool) {
+        return new Every<>(itemMatcher, pool);
+    }
+
 }
@@ -1,8 +1,19 @@
 package org.hamcrest.core;
 
 import org.hamcrest.BaseMatcher;
+import org.hamcrest.CacheableSelfDescribing;
+import org.hamcrest.Cost;
+import org.hamcrest.Costed;
 import org.hamcrest.Description;
+import org.hamcrest.DescriptionCache;
+import org.hamcrest.Lowerable;
 import org.hamcrest.Matcher;
+import org.hamcrest.index.Constraint;
+import org.hamcrest.index.MatcherAnalyzer;
+import org.hamcrest.index.Sargable;
+
+import java.lang.invoke.MethodHandle;
+import java.util.List;
 
 import static org.hamcrest.core.IsEqual.equalTo;
 
@@ -15,9 +26,10 @@ import static org.hamcrest.core.IsEqual.equalTo;
  *
  * @param <T> the matched value type
  */
-public class Is<T> extends BaseMatcher<T> {
+public class Is<T> extends BaseMatcher<T> implements CacheableSelfDescribing, Costed, Lowerable, Sargable {
 
     private final Matcher<T> matcher;
+    private final DescriptionCache descriptionCache;
 
     /**
      * Constructor, best called from {@link #is(Object)}, {@link #is(Matcher)}, or {@link #isA(Class)}.
@@ -25,6 +37,7 @@ public class Is<T> extends BaseMatcher<T> {
      */
     public Is(Matcher<T> matcher) {
         this.matcher = matcher;
+        this.descriptionCache = DescriptionCache.forComponents(matcher);
     }
 
     @Override
@@ -37,6 +50,51 @@ public class Is<T> extends BaseMatcher<T> {
         description.appendText("is ").appendDescriptionOf(matcher);
     }
 
+    @Override
+    public double estimatedCost() {
+        return Cost.of(matcher);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        return matcher.equals(((Is<?>) o).matcher);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * getClass().hashCode() + matcher.hashCode();
+    }
+
+    @Override
+    public MethodHandle lower(Lowering lowering) {
+        return lowering.lower(matcher);
+    }
+
+    @Override
+    public List<Constraint> constraints() {
+        return MatcherAnalyzer.constraintsOf(matcher);
+    }
+
+    @Override
+    public boolean hasImmutableDescription() {
+        return descriptionCache != null;
+    }
+
+    @Override
+    public DescriptionCache descriptionCache() {
+        return descriptionCache;
+    }
+
+    Matcher<T> matcher() {
+        return matcher;
+    }
+
     @Override
     public void describeMismatch(Object item, Description mismatchDescription) {
         matcher.describeMismatch(item, mismatchDescription);
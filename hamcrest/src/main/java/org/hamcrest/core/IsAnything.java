@@ -1,15 +1,23 @@
 package org.hamcrest.core;
 
 import org.hamcrest.BaseMatcher;
+import org.hamcrest.CacheableSelfDescribing;
+import org.hamcrest.Cost;
+import org.hamcrest.Costed;
 import org.hamcrest.Description;
+import org.hamcrest.DescriptionCache;
+import org.hamcrest.Lowerable;
 import org.hamcrest.Matcher;
+import org.hamcrest.internal.MatcherHandles;
+
+import java.lang.invoke.MethodHandle;
 
 /**
  * A matcher that always returns <code>true</code>.
  *
  * @param <T> the matched value type
  */
-public class IsAnything<T> extends BaseMatcher<T> {
+public class IsAnything<T> extends BaseMatcher<T> implements CacheableSelfDescribing, Costed, Lowerable {
 
     private final String message;
 
@@ -43,6 +51,42 @@ public class IsAnything<T> extends BaseMatcher<T> {
         description.appendText(message);
     }
 
+    @Override
+    public double estimatedCost() {
+        return Cost.CONSTANT;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        return message.equals(((IsAnything<?>) o).message);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * getClass().hashCode() + message.hashCode();
+    }
+
+    @Override
+    public MethodHandle lower(Lowering lowering) {
+        return MatcherHandles.constant(true);
+    }
+
+    @Override
+    public boolean hasImmutableDescription() {
+        return true;
+    }
+
+    @Override
+    public DescriptionCache descriptionCache() {
+        return null;
+    }
+
     /**
      * Creates a matcher that always matches, regardless of the examined object.
      *
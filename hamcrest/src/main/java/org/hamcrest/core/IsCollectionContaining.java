@@ -1,5 +1,7 @@
 package org.hamcrest.core;
 
+import org.hamcrest.Cost;
+import org.hamcrest.Costed;
 import org.hamcrest.Description;
 import org.hamcrest.Matcher;
 import org.hamcrest.TypeSafeDiagnosingMatcher;
@@ -9,7 +11,7 @@ import org.hamcrest.TypeSafeDiagnosingMatcher;
  * @deprecated As of release 2.1, replaced by {@link IsIterableContaining}.
  */
 @Deprecated
-public class IsCollectionContaining<T> extends TypeSafeDiagnosingMatcher<Iterable<? extends T>> {
+public class IsCollectionContaining<T> extends TypeSafeDiagnosingMatcher<Iterable<? extends T>> implements Costed {
 
     private final IsIterableContaining<T> delegate;
 
@@ -35,6 +37,11 @@ public class IsCollectionContaining<T> extends TypeSafeDiagnosingMatcher<Iterabl
         delegate.describeTo(description);
     }
 
+    @Override
+    public double estimatedCost() {
+        return Cost.of(delegate);
+    }
+
     /**
      * Creates a matcher for {@link Iterable}s that only matches when a single pass over the
      * examined {@link Iterable} yields at least one item that is matched by the specified
@@ -76,10 +83,10 @@ public class IsCollectionContaining<T> extends TypeSafeDiagnosingMatcher<Iterabl
     }
 
     /**
-     * Creates a matcher for {@link Iterable}s that matches when consecutive passes over the
-     * examined {@link Iterable} yield at least one item that is matched by the corresponding
-     * matcher from the specified <code>itemMatchers</code>.  Whilst matching, each traversal of
-     * the examined {@link Iterable} will stop as soon as a matching item is found.
+     * Creates a matcher for {@link Iterable}s that matches when a single pass over the
+     * examined {@link Iterable} yields, for each of the specified <code>itemMatchers</code>,
+     * at least one item that it matches.  Whilst matching, the traversal of the examined
+     * {@link Iterable} will stop as soon as every matcher has matched an item.
      * For example:
      * <pre>assertThat(Arrays.asList("foo", "bar", "baz"), hasItems(endsWith("z"), endsWith("o")))</pre>
      *
@@ -96,10 +103,10 @@ public class IsCollectionContaining<T> extends TypeSafeDiagnosingMatcher<Iterabl
     }
 
     /**
-     * Creates a matcher for {@link Iterable}s that matches when consecutive passes over the
-     * examined {@link Iterable} yield at least one item that is equal to the corresponding
-     * item from the specified <code>items</code>.  Whilst matching, each traversal of the
-     * examined {@link Iterable} will stop as soon as a matching item is found.
+     * Creates a matcher for {@link Iterable}s that matches when a single pass over the
+     * examined {@link Iterable} yields, for each of the specified <code>items</code>, at
+     * least one item that is equal to it.  Whilst matching, the traversal of the examined
+     * {@link Iterable} will stop as soon as every item has been found.
      * For example:
      * <pre>assertThat(Arrays.asList("foo", "bar", "baz"), hasItems("baz", "foo"))</pre>
      *
@@ -1,10 +1,27 @@
 package org.hamcrest.core;
 
 import org.hamcrest.BaseMatcher;
+import org.hamcrest.CacheableSelfDescribing;
+import org.hamcrest.Cost;
+import org.hamcrest.Costed;
 import org.hamcrest.Description;
+import org.hamcrest.DescriptionCache;
+import org.hamcrest.Lowerable;
 import org.hamcrest.Matcher;
-
+import org.hamcrest.PrimitiveMatching;
+import org.hamcrest.index.Constraint;
+import org.hamcrest.index.Sargable;
+import org.hamcrest.internal.MatcherHandles;
+import org.hamcrest.internal.Structural;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Array;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 
 /**
  * Is the value equal to another value, as tested by the
@@ -12,9 +29,13 @@ import java.lang.reflect.Array;
  *
  * @param <T> the matched value type
  */
-public class IsEqual<T> extends BaseMatcher<T> {
+public class IsEqual<T> extends BaseMatcher<T> implements CacheableSelfDescribing, Costed, Lowerable, PrimitiveMatching, Sargable {
+
+    private static final MethodHandle ARE_EQUAL = MatcherHandles.findStatic(MethodHandles.lookup(), IsEqual.class, "areEqual",
+            MethodType.methodType(boolean.class, Object.class, Object.class));
 
     private final Object expectedValue;
+    private int cachedHashCode;
 
     /**
      * Constructor, best called from {@link #equalTo(Object)} or {@link #equalToObject(Object)}.
@@ -29,11 +50,92 @@ public class IsEqual<T> extends BaseMatcher<T> {
         return areEqual(actualValue, expectedValue);
     }
 
+    @Override
+    public boolean matchesInt(int actual) {
+        return expectedValue instanceof Integer && (Integer) expectedValue == actual;
+    }
+
+    @Override
+    public boolean matchesLong(long actual) {
+        return expectedValue instanceof Long && (Long) expectedValue == actual;
+    }
+
+    @Override
+    public boolean matchesDouble(double actual) {
+        // As Double.equals: NaN is equal to itself, and 0.0 is not equal to -0.0.
+        return expectedValue instanceof Double
+                && Double.doubleToLongBits((Double) expectedValue) == Double.doubleToLongBits(actual);
+    }
+
     @Override
     public void describeTo(Description description) {
         description.appendValue(expectedValue);
     }
 
+    @Override
+    public double estimatedCost() {
+        return isCollection(expectedValue) ? Cost.perElement(Cost.CONSTANT) : Cost.CONSTANT;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        // Values that may change, such as arrays and collections, are equal only to themselves.
+        return Structural.valuesEqual(expectedValue, ((IsEqual<?>) o).expectedValue);
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = cachedHashCode;
+        if (hash == 0) {
+            hash = 31 * getClass().hashCode() + Structural.valueHashCode(expectedValue);
+            cachedHashCode = hash;
+        }
+        return hash;
+    }
+
+    @Override
+    public MethodHandle lower(Lowering lowering) {
+        if (expectedValue == null) {
+            return MatcherHandles.isNull();
+        }
+        return MethodHandles.insertArguments(ARE_EQUAL, 1, expectedValue);
+    }
+
+    /**
+     * Arrays are compared element by element, rather than by {@link Object#equals}, so an
+     * array value has no constraint.
+     */
+    @Override
+    public List<Constraint> constraints() {
+        if (expectedValue != null && isArray(expectedValue)) {
+            return Collections.emptyList();
+        }
+        return Collections.singletonList(Constraint.oneOf(Collections.singleton(expectedValue)));
+    }
+
+    @Override
+    public boolean hasImmutableDescription() {
+        return DescriptionCache.isImmutableValue(expectedValue);
+    }
+
+    @Override
+    public DescriptionCache descriptionCache() {
+        return null;
+    }
+
+    /**
+     * @return the value that matched values are equal to
+     */
+    public Object expectedValue() {
+        return expectedValue;
+    }
+
     private static boolean areEqual(Object actual, Object expected) {
         if (actual == null) {
             return expected == null;
@@ -67,6 +169,10 @@ public class IsEqual<T> extends BaseMatcher<T> {
         return o.getClass().isArray();
     }
 
+    private static boolean isCollection(Object o) {
+        return o != null && (isArray(o) || o instanceof Collection || o instanceof Map);
+    }
+
     /**
      * Creates a matcher that matches when the examined object is logically equal to the specified
      * <code>operand</code>, as determined by calling the {@link java.lang.Object#equals} method on
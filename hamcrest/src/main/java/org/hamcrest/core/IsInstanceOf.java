@@ -1,14 +1,22 @@
 package org.hamcrest.core;
 
+import org.hamcrest.CacheableSelfDescribing;
+import org.hamcrest.Cost;
+import org.hamcrest.Costed;
 import org.hamcrest.Description;
+import org.hamcrest.DescriptionCache;
 import org.hamcrest.DiagnosingMatcher;
+import org.hamcrest.Lowerable;
 import org.hamcrest.Matcher;
+import org.hamcrest.internal.MatcherHandles;
+
+import java.lang.invoke.MethodHandle;
 
 /**
  * Tests whether the value is an instance of a class.
  * Classes of basic types will be converted to the relevant "Object" classes
  */
-public class IsInstanceOf extends DiagnosingMatcher<Object> {
+public class IsInstanceOf extends DiagnosingMatcher<Object> implements CacheableSelfDescribing, Costed, Lowerable {
 
     private final Class<?> expectedClass;
     private final Class<?> matchableClass;
@@ -44,7 +52,7 @@ public class IsInstanceOf extends DiagnosingMatcher<Object> {
       }
 
       if (!matchableClass.isInstance(item)) {
-        mismatch.appendValue(item).appendText(" is a " + item.getClass().getName());
+        mismatch.appendValue(item).appendText(" is a %s", item.getClass().getName());
         return false;
       }
 
@@ -56,6 +64,42 @@ public class IsInstanceOf extends DiagnosingMatcher<Object> {
         description.appendText("an instance of ").appendText(expectedClass.getName());
     }
 
+    @Override
+    public double estimatedCost() {
+        return Cost.CONSTANT;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        return expectedClass == ((IsInstanceOf) o).expectedClass;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * getClass().hashCode() + expectedClass.hashCode();
+    }
+
+    @Override
+    public MethodHandle lower(Lowering lowering) {
+        return MatcherHandles.isInstance(matchableClass);
+    }
+
+    @Override
+    public boolean hasImmutableDescription() {
+        return true;
+    }
+
+    @Override
+    public DescriptionCache descriptionCache() {
+        return null;
+    }
+
     /**
      * Creates a matcher that matches when the examined object is an instance of the specified <code>type</code>,
      * as determined by calling the {@link java.lang.Class#isInstance(Object)} method on that type, passing the
@@ -1,22 +1,29 @@
 package org.hamcrest.core;
 
+import org.hamcrest.Cost;
+import org.hamcrest.Costed;
 import org.hamcrest.Description;
 import org.hamcrest.Matcher;
 import org.hamcrest.TypeSafeDiagnosingMatcher;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
 
-import static org.hamcrest.core.AllOf.allOf;
 import static org.hamcrest.core.IsEqual.equalTo;
 
 /**
  * Tests if an iterable contains matching elements.
  * @param <T> the type of items in the iterable
  */
-public class IsIterableContaining<T> extends TypeSafeDiagnosingMatcher<Iterable<? extends T>> {
+public class IsIterableContaining<T> extends TypeSafeDiagnosingMatcher<Iterable<? extends T>> implements Costed {
 
     private final Matcher<? super T> elementMatcher;
+    private final ForkJoinPool pool;
+    private final ItemDiagnostics<? super T> diagnostics;
 
     /**
      * Constructor, best called from one of the static factory methods.
@@ -27,39 +34,65 @@ public class IsIterableContaining<T> extends TypeSafeDiagnosingMatcher<Iterable<
      * @see #hasItems(Matcher[])
      */
     public IsIterableContaining(Matcher<? super T> elementMatcher) {
+        this(elementMatcher, null);
+    }
+
+    /**
+     * Constructor, best called from {@link #hasItemInParallel(Matcher, ForkJoinPool)}.
+     * @param elementMatcher matches the expected element
+     * @param pool the pool that searches large collections in parallel, or null to search sequentially
+     */
+    public IsIterableContaining(Matcher<? super T> elementMatcher, ForkJoinPool pool) {
+        this(elementMatcher, pool, ItemDiagnostics.defaultDiagnostics());
+    }
+
+    /**
+     * Constructor, best called from {@link #hasItem(Matcher, ItemDiagnostics)}.
+     * @param elementMatcher matches the expected element
+     * @param pool the pool that searches large collections in parallel, or null to search sequentially
+     * @param diagnostics what to report of the items when none matches
+     */
+    public IsIterableContaining(Matcher<? super T> elementMatcher, ForkJoinPool pool, ItemDiagnostics<? super T> diagnostics) {
         this.elementMatcher = elementMatcher;
+        this.pool = pool;
+        this.diagnostics = diagnostics;
     }
 
     @Override
     protected boolean matchesSafely(Iterable<? extends T> collection, Description mismatchDescription) {
-        if (isEmpty(collection)) {
-          mismatchDescription.appendText("was empty");
-          return false;
+        if (isDiagnosing(mismatchDescription)) {
+            return matchesReporting(collection, mismatchDescription);
+        }
+        if (pool != null && collection instanceof Collection && ((Collection<?>) collection).size() >= ParallelSearch.MINIMUM_SIZE) {
+            return ParallelSearch.search((Collection<?>) collection, elementMatcher, true, false, pool) != null;
         }
-
         for (Object item : collection) {
             if (elementMatcher.matches(item)) {
                 return true;
             }
         }
+        return false;
+    }
 
-        mismatchDescription.appendText("mismatches were: [");
-        boolean isPastFirst = false;
-        for (Object item : collection) {
-            if (isPastFirst) {
-              mismatchDescription.appendText(", ");
+    /**
+     * Searches the items sequentially, choosing the mismatches to report in the same pass.
+     */
+    private boolean matchesReporting(Iterable<? extends T> collection, Description mismatchDescription) {
+        ItemDiagnostics.Report<? super T> report = diagnostics.report();
+        for (T item : collection) {
+            if (elementMatcher.matches(item)) {
+                return true;
             }
-            elementMatcher.describeMismatch(item, mismatchDescription);
-            isPastFirst = true;
+            report.add(item);
+        }
+        if (report.count() == 0) {
+            mismatchDescription.appendText("was empty");
+        } else {
+            report.describeTo(elementMatcher, mismatchDescription);
         }
-        mismatchDescription.appendText("]");
         return false;
     }
 
-    private boolean isEmpty(Iterable<? extends T> iterable) {
-      return ! iterable.iterator().hasNext();
-    }
-
     @Override
     public void describeTo(Description description) {
         description
@@ -67,6 +100,33 @@ public class IsIterableContaining<T> extends TypeSafeDiagnosingMatcher<Iterable<
             .appendDescriptionOf(elementMatcher);
     }
 
+    @Override
+    public double estimatedCost() {
+        return Cost.perElement(Cost.of(elementMatcher));
+    }
+
+    Matcher<? super T> elementMatcher() {
+        return elementMatcher;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        IsIterableContaining<?> other = (IsIterableContaining<?>) o;
+        return elementMatcher.equals(other.elementMatcher) && Objects.equals(pool, other.pool)
+                && diagnostics.equals(other.diagnostics);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * getClass().hashCode() + elementMatcher.hashCode();
+    }
+
     /**
      * Creates a matcher for {@link Iterable}s that only matches when a single pass over the
      * examined {@link Iterable} yields at least one item that is matched by the specified
@@ -85,6 +145,66 @@ public class IsIterableContaining<T> extends TypeSafeDiagnosingMatcher<Iterable<
         return new IsIterableContaining<>(itemMatcher);
     }
 
+    /**
+     * Creates a matcher for {@link Iterable}s that only matches when a single pass over the
+     * examined {@link Iterable} yields at least one item that is matched by the specified
+     * <code>itemMatcher</code>, and that reports the mismatches chosen by the specified
+     * <code>diagnostics</code> when none is.
+     * For example:
+     * <pre>assertThat(prices, hasItem(closeTo(9.99, 0.001), ItemDiagnostics.closestMismatches(3, p -&gt; Math.abs(p - 9.99))))</pre>
+     *
+     * @param <T>
+     *     the matcher type.
+     * @param itemMatcher
+     *     the matcher to apply to items provided by the examined {@link Iterable}
+     * @param diagnostics
+     *     what to report of the items when none matches
+     * @return The matcher.
+     */
+    public static <T> Matcher<Iterable<? extends T>> hasItem(Matcher<? super T> itemMatcher, ItemDiagnostics<? super T> diagnostics) {
+        return new IsIterableContaining<>(itemMatcher, null, diagnostics);
+    }
+
+    /**
+     * Creates a matcher for {@link Iterable}s that only matches when the examined
+     * {@link Iterable} yields at least one item that is matched by the specified
+     * <code>itemMatcher</code>, which must be thread safe. The items of large
+     * {@link Collection}s are matched in parallel in the common {@link ForkJoinPool},
+     * stopping as soon as a matching item is found.
+     * For example:
+     * <pre>assertThat(documents, hasItemInParallel(hasXPath("/order[@priority='high']")))</pre>
+     *
+     * @param <T>
+     *     the matcher type.
+     * @param itemMatcher
+     *     the matcher to apply to items provided by the examined {@link Iterable}
+     * @return The matcher.
+     */
+    public static <T> Matcher<Iterable<? extends T>> hasItemInParallel(Matcher<? super T> itemMatcher) {
+        return hasItemInParallel(itemMatcher, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a matcher for {@link Iterable}s that only matches when the examined
+     * {@link Iterable} yields at least one item that is matched by the specified
+     * <code>itemMatcher</code>, which must be thread safe. The items of large
+     * {@link Collection}s are matched in parallel in the specified pool, stopping as soon
+     * as a matching item is found.
+     * For example:
+     * <pre>assertThat(documents, hasItemInParallel(hasXPath("/order[@priority='high']"), pool))</pre>
+     *
+     * @param <T>
+     *     the matcher type.
+     * @param itemMatcher
+     *     the matcher to apply to items provided by the examined {@link Iterable}
+     * @param pool
+     *     the pool in which to match items
+     * @return The matcher.
+     */
+    public static <T> Matcher<Iterable<? extends T>> hasItemInParallel(Matcher<? super T> itemMatcher, ForkJoinPool pool) {
+        return new IsIterableContaining<>(itemMatcher, pool);
+    }
+
     /**
      * Creates a matcher for {@link Iterable}s that only matches when a single pass over the
      * examined {@link Iterable} yields at least one item that is equal to the specified
@@ -105,10 +225,10 @@ public class IsIterableContaining<T> extends TypeSafeDiagnosingMatcher<Iterable<
     }
 
     /**
-     * Creates a matcher for {@link Iterable}s that matches when consecutive passes over the
-     * examined {@link Iterable} yield at least one item that is matched by the corresponding
-     * matcher from the specified <code>itemMatchers</code>.  Whilst matching, each traversal of
-     * the examined {@link Iterable} will stop as soon as a matching item is found.
+     * Creates a matcher for {@link Iterable}s that matches when a single pass over the
+     * examined {@link Iterable} yields, for each of the specified <code>itemMatchers</code>,
+     * at least one item that it matches.  Whilst matching, the traversal of the examined
+     * {@link Iterable} will stop as soon as every matcher has matched an item.
      * For example:
      * <pre>assertThat(Arrays.asList("foo", "bar", "baz"), hasItems(endsWith("z"), endsWith("o")))</pre>
      *
@@ -120,21 +240,14 @@ public class IsIterableContaining<T> extends TypeSafeDiagnosingMatcher<Iterable<
      */
     @SafeVarargs
     public static <T> Matcher<Iterable<? extends T>> hasItems(Matcher<? super T>... itemMatchers) {
-        List<Matcher<? super Iterable<? extends T>>> all = new ArrayList<>(itemMatchers.length);
-
-        for (Matcher<? super T> elementMatcher : itemMatchers) {
-          // Doesn't forward to hasItem() method so compiler can sort out generics.
-          all.add(new IsIterableContaining<>(elementMatcher));
-        }
-
-        return allOf(all);
+        return new IsIterableContainingItems<T>(Arrays.asList(itemMatchers));
     }
 
     /**
-     * Creates a matcher for {@link Iterable}s that matches when consecutive passes over the
-     * examined {@link Iterable} yield at least one item that is equal to the corresponding
-     * item from the specified <code>items</code>.  Whilst matching, each traversal of the
-     * examined {@link Iterable} will stop as soon as a matching item is found.
+     * Creates a matcher for {@link Iterable}s that matches when a single pass over the
+     * examined {@link Iterable} yields, for each of the specified <code>items</code>, at
+     * least one item that is equal to it.  Whilst matching, the traversal of the examined
+     * {@link Iterable} will stop as soon as every item has been found.
      * For example:
      * <pre>assertThat(Arrays.asList("foo", "bar", "baz"), hasItems("baz", "foo"))</pre>
      *
@@ -146,12 +259,11 @@ public class IsIterableContaining<T> extends TypeSafeDiagnosingMatcher<Iterable<
      */
     @SafeVarargs
     public static <T> Matcher<Iterable<? extends T>> hasItems(T... items) {
-        List<Matcher<? super Iterable<? extends T>>> all = new ArrayList<>(items.length);
+        List<Matcher<? super T>> itemMatchers = new ArrayList<>(items.length);
         for (T item : items) {
-            all.add(hasItem(item));
+            itemMatchers.add(equalTo(item));
         }
-
-        return allOf(all);
+        return new IsIterableContainingItems<>(itemMatchers);
     }
 
 }
@@ -0,0 +1,134 @@
+package org.hamcrest.core;
+
+import org.hamcrest.Cost;
+import org.hamcrest.Costed;
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+import org.hamcrest.TypeSafeDiagnosingMatcher;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Tests if an iterable contains, for each of several matchers, an element that it matches.
+ * Unlike a conjunction of {@link IsIterableContaining} matchers, the iterable is traversed
+ * once, testing each element only against the matchers that have not yet matched an element.
+ * Elements are found for <code>equalTo</code> matchers by a hash lookup, which relies on
+ * equal values having equal hash codes.
+ *
+ * <p>Matchers are described, and the first of them that matches no element is described as
+ * a mismatch, as by the conjunction.</p>
+ *
+ * @param <T> the type of items in the iterable
+ */
+public class IsIterableContainingItems<T> extends TypeSafeDiagnosingMatcher<Iterable<? extends T>> implements Costed {
+
+    private static final Object NOT_EQUALITY = new Object();
+
+    private final List<IsIterableContaining<T>> itemMatchers;
+    private final Map<Object, List<Integer>> equalItemIndices = new HashMap<>();
+    private final BitSet otherItemIndices = new BitSet();
+
+    /**
+     * Constructor, best called from {@link IsIterableContaining#hasItems(Matcher[])} or
+     * {@link IsIterableContaining#hasItems(Object[])}.
+     * @param itemMatchers the matchers that must each match an element
+     */
+    public IsIterableContainingItems(List<? extends Matcher<? super T>> itemMatchers) {
+        this.itemMatchers = new ArrayList<>(itemMatchers.size());
+        for (int i = 0; i < itemMatchers.size(); i++) {
+            Matcher<? super T> itemMatcher = itemMatchers.get(i);
+            this.itemMatchers.add(new IsIterableContaining<T>(itemMatcher));
+            Object expected = expectedValueOf(itemMatcher);
+            if (expected == NOT_EQUALITY) {
+                otherItemIndices.set(i);
+            } else {
+                List<Integer> indices = equalItemIndices.get(expected);
+                if (indices == null) {
+                    indices = new ArrayList<>();
+                    equalItemIndices.put(expected, indices);
+                }
+                indices.add(i);
+            }
+        }
+    }
+
+    @Override
+    protected boolean matchesSafely(Iterable<? extends T> collection, Description mismatchDescription) {
+        BitSet unmatched = new BitSet(itemMatchers.size());
+        unmatched.set(0, itemMatchers.size());
+        BitSet unmatchedOthers = (BitSet) otherItemIndices.clone();
+        for (Object item : collection) {
+            if (!equalItemIndices.isEmpty()) {
+                List<Integer> indices = equalItemIndices.get(item);
+                if (indices != null) {
+                    for (int index : indices) {
+                        unmatched.clear(index);
+                    }
+                }
+            }
+            for (int i = unmatchedOthers.nextSetBit(0); i >= 0; i = unmatchedOthers.nextSetBit(i + 1)) {
+                if (itemMatchers.get(i).elementMatcher().matches(item)) {
+                    unmatched.clear(i);
+                    unmatchedOthers.clear(i);
+                }
+            }
+            if (unmatched.isEmpty()) {
+                return true;
+            }
+        }
+        if (unmatched.isEmpty()) {
+            return true;
+        }
+        if (isDiagnosing(mismatchDescription)) {
+            Matcher<?> firstUnmatched = itemMatchers.get(unmatched.nextSetBit(0));
+            mismatchDescription.appendDescriptionOf(firstUnmatched).appendText(" ");
+            firstUnmatched.describeMismatch(collection, mismatchDescription);
+        }
+        return false;
+    }
+
+    @Override
+    public void describeTo(Description description) {
+        description.appendList("(", " and ", ")", itemMatchers);
+    }
+
+    @Override
+    public double estimatedCost() {
+        return Cost.sum(itemMatchers);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        return itemMatchers.equals(((IsIterableContainingItems<?>) o).itemMatchers);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * getClass().hashCode() + itemMatchers.hashCode();
+    }
+
+    /**
+     * @return the value that an element must equal, as by {@link Object#equals}, to be matched,
+     * or NOT_EQUALITY if the matcher is not a plain equality test
+     */
+    private static Object expectedValueOf(Matcher<?> matcher) {
+        if (matcher instanceof IsEqual && matcher.getClass() == IsEqual.class) {
+            Object expected = ((IsEqual<?>) matcher).expectedValue();
+            if (expected == null || !expected.getClass().isArray()) {
+                return expected;
+            }
+        }
+        return NOT_EQUALITY;
+    }
+
+}
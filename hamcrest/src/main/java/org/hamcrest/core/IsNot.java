@@ -1,8 +1,16 @@
 package org.hamcrest.core;
 
 import org.hamcrest.BaseMatcher;
+import org.hamcrest.CacheableSelfDescribing;
+import org.hamcrest.Cost;
+import org.hamcrest.Costed;
 import org.hamcrest.Description;
+import org.hamcrest.DescriptionCache;
+import org.hamcrest.Lowerable;
 import org.hamcrest.Matcher;
+import org.hamcrest.internal.MatcherHandles;
+
+import java.lang.invoke.MethodHandle;
 
 import static org.hamcrest.core.IsEqual.equalTo;
 
@@ -11,9 +19,10 @@ import static org.hamcrest.core.IsEqual.equalTo;
  *
  * @param <T> the matched value type
  */
-public class IsNot<T> extends BaseMatcher<T>  {
+public class IsNot<T> extends BaseMatcher<T> implements CacheableSelfDescribing, Costed, Lowerable {
 
     private final Matcher<T> matcher;
+    private final DescriptionCache descriptionCache;
 
     /**
      * Constructor, best called from {@link #not(Object)} or
@@ -22,6 +31,7 @@ public class IsNot<T> extends BaseMatcher<T>  {
      */
     public IsNot(Matcher<T> matcher) {
         this.matcher = matcher;
+        this.descriptionCache = DescriptionCache.forComponents(matcher);
     }
 
     @Override
@@ -34,6 +44,46 @@ public class IsNot<T> extends BaseMatcher<T>  {
         description.appendText("not ").appendDescriptionOf(matcher);
     }
 
+    @Override
+    public double estimatedCost() {
+        return Cost.of(matcher);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        return matcher.equals(((IsNot<?>) o).matcher);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * getClass().hashCode() + matcher.hashCode();
+    }
+
+    @Override
+    public MethodHandle lower(Lowering lowering) {
+        return MatcherHandles.not(lowering.lower(matcher));
+    }
+
+    @Override
+    public boolean hasImmutableDescription() {
+        return descriptionCache != null;
+    }
+
+    @Override
+    public DescriptionCache descriptionCache() {
+        return descriptionCache;
+    }
+
+    Matcher<T> matcher() {
+        return matcher;
+    }
+
     /**
      * Creates a matcher that wraps an existing matcher, but inverts the logic by which
      * it will match.
@@ -1,8 +1,16 @@
 package org.hamcrest.core;
 
 import org.hamcrest.BaseMatcher;
+import org.hamcrest.CacheableSelfDescribing;
+import org.hamcrest.Cost;
+import org.hamcrest.Costed;
 import org.hamcrest.Description;
+import org.hamcrest.DescriptionCache;
+import org.hamcrest.Lowerable;
 import org.hamcrest.Matcher;
+import org.hamcrest.internal.MatcherHandles;
+
+import java.lang.invoke.MethodHandle;
 
 import static org.hamcrest.core.IsNot.not;
 
@@ -11,7 +19,7 @@ import static org.hamcrest.core.IsNot.not;
  *
  * @param <T> the matched value type
  */
-public class IsNull<T> extends BaseMatcher<T> {
+public class IsNull<T> extends BaseMatcher<T> implements CacheableSelfDescribing, Costed, Lowerable {
 
     /**
      * Constructor, best called from {@link #nullValue()},
@@ -31,6 +39,42 @@ public class IsNull<T> extends BaseMatcher<T> {
         description.appendText("null");
     }
 
+    @Override
+    public double estimatedCost() {
+        return Cost.CONSTANT;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        return getClass().hashCode();
+    }
+
+    @Override
+    public MethodHandle lower(Lowering lowering) {
+        return MatcherHandles.isNull();
+    }
+
+    @Override
+    public boolean hasImmutableDescription() {
+        return true;
+    }
+
+    @Override
+    public DescriptionCache descriptionCache() {
+        return null;
+    }
+
     /**
      * <p>Creates a matcher that matches if examined object is <code>null</code>.
      * </p>
@@ -1,15 +1,21 @@
 package org.hamcrest.core;
 
 import org.hamcrest.BaseMatcher;
+import org.hamcrest.Cost;
+import org.hamcrest.Costed;
 import org.hamcrest.Description;
+import org.hamcrest.Lowerable;
 import org.hamcrest.Matcher;
+import org.hamcrest.internal.MatcherHandles;
+
+import java.lang.invoke.MethodHandle;
 
 /**
  * Is the value the same object as another value?
  *
  * @param <T> the matched value type
  */
-public class IsSame<T> extends BaseMatcher<T> {
+public class IsSame<T> extends BaseMatcher<T> implements Costed, Lowerable {
 
     private final T object;
 
@@ -34,6 +40,32 @@ public class IsSame<T> extends BaseMatcher<T> {
                 .appendText(")");
     }
 
+    @Override
+    public double estimatedCost() {
+        return Cost.CONSTANT;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        return object == ((IsSame<?>) o).object;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * getClass().hashCode() + System.identityHashCode(object);
+    }
+
+    @Override
+    public MethodHandle lower(Lowering lowering) {
+        return MatcherHandles.isSame(object);
+    }
+
     /**
      * Creates a matcher that matches only when the examined object is the same instance as
      * the specified target object.
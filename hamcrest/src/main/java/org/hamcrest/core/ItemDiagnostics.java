@@ -0,0 +1,212 @@
+package org.hamcrest.core;
+
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * What a matcher that searches the items of an iterable, such as <code>hasItem</code>, reports
+ * when no item matches. The items to report are chosen while the items are searched, so the
+ * iterable is traversed once, and only the chosen items are kept and described.
+ *
+ * @param <T> the type of the items
+ */
+public abstract class ItemDiagnostics<T> {
+
+    private static final ItemDiagnostics<Object> DEFAULT = firstMismatches(10);
+
+    private ItemDiagnostics() {
+    }
+
+    /**
+     * Starts choosing the items to report from one traversal.
+     *
+     * @return the report of the traversal
+     */
+    abstract Report<T> report();
+
+    /**
+     * The items chosen from one traversal of an iterable.
+     *
+     * @param <T> the type of the items
+     */
+    abstract static class Report<T> {
+        private int count;
+
+        /**
+         * Offers an item that was not matched.
+         *
+         * @param item the item
+         */
+        final void add(T item) {
+            count++;
+            choose(item);
+        }
+
+        /**
+         * @return the number of items offered
+         */
+        final int count() {
+            return count;
+        }
+
+        abstract void choose(T item);
+
+        /**
+         * Describes the chosen items, of which at least one was offered.
+         *
+         * @param elementMatcher the matcher that the items did not match
+         * @param mismatch the description to append to
+         */
+        abstract void describeTo(Matcher<?> elementMatcher, Description mismatch);
+    }
+
+    /**
+     * The diagnostics used unless others are specified: the first ten mismatches.
+     *
+     * @param <T> the type of the items
+     * @return the diagnostics
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> ItemDiagnostics<T> defaultDiagnostics() {
+        return (ItemDiagnostics<T>) DEFAULT;
+    }
+
+    /**
+     * Reports the mismatch of every item, however many there are.
+     *
+     * @param <T> the type of the items
+     * @return the diagnostics
+     */
+    public static <T> ItemDiagnostics<T> everyMismatch() {
+        return firstMismatches(Integer.MAX_VALUE);
+    }
+
+    /**
+     * Reports the mismatches of the first items, and the number of items not reported.
+     * For example, with a limit of two:
+     * <pre>mismatches were: [was &lt;1&gt;, was &lt;2&gt;, and 3 more]</pre>
+     *
+     * @param <T> the type of the items
+     * @param limit the largest number of mismatches to report
+     * @return the diagnostics
+     */
+    public static <T> ItemDiagnostics<T> firstMismatches(final int limit) {
+        if (limit < 1) {
+            throw new IllegalArgumentException("Should report at least one mismatch");
+        }
+        return new ItemDiagnostics<T>() {
+            @Override
+            Report<T> report() {
+                return new Report<T>() {
+                    private final List<T> first = new ArrayList<>();
+
+                    @Override
+                    void choose(T item) {
+                        if (first.size() < limit) {
+                            first.add(item);
+                        }
+                    }
+
+                    @Override
+                    void describeTo(Matcher<?> elementMatcher, Description mismatch) {
+                        mismatch.appendText("mismatches were: [");
+                        describeMismatches(first, elementMatcher, mismatch);
+                        if (count() > first.size()) {
+                            mismatch.appendText(", and %s more", count() - first.size());
+                        }
+                        mismatch.appendText("]");
+                    }
+                };
+            }
+        };
+    }
+
+    /**
+     * Reports the mismatches of the items closest to matching, as measured by a distance,
+     * closest first. Ties are reported in the order of the items.
+     * For example, with a limit of two and the distance of a number from 5:
+     * <pre>the 2 closest of 4 mismatches were: [was &lt;4&gt;, was &lt;7&gt;]</pre>
+     *
+     * @param <T> the type of the items
+     * @param limit the largest number of mismatches to report
+     * @param distance how far an item is from matching
+     * @return the diagnostics
+     */
+    public static <T> ItemDiagnostics<T> closestMismatches(final int limit, final ToDoubleFunction<? super T> distance) {
+        if (limit < 1) {
+            throw new IllegalArgumentException("Should report at least one mismatch");
+        }
+        return new ItemDiagnostics<T>() {
+            @Override
+            Report<T> report() {
+                return new Report<T>() {
+                    // The farthest of the closest items is at the head, to be replaced by a closer one.
+                    private final PriorityQueue<Candidate<T>> closest = new PriorityQueue<>(Collections.<Candidate<T>>reverseOrder());
+
+                    @Override
+                    void choose(T item) {
+                        Candidate<T> candidate = new Candidate<>(item, distance.applyAsDouble(item), count());
+                        if (closest.size() < limit) {
+                            closest.add(candidate);
+                        } else if (candidate.compareTo(closest.peek()) < 0) {
+                            closest.poll();
+                            closest.add(candidate);
+                        }
+                    }
+
+                    @Override
+                    void describeTo(Matcher<?> elementMatcher, Description mismatch) {
+                        List<Candidate<T>> candidates = new ArrayList<>(closest);
+                        Collections.sort(candidates);
+                        List<T> items = new ArrayList<>(candidates.size());
+                        for (Candidate<T> candidate : candidates) {
+                            items.add(candidate.item);
+                        }
+                        mismatch.appendText("the %s closest of %s mismatches were: [", items.size(), count());
+                        describeMismatches(items, elementMatcher, mismatch);
+                        mismatch.appendText("]");
+                    }
+                };
+            }
+        };
+    }
+
+    private static void describeMismatches(List<?> items, Matcher<?> elementMatcher, Description mismatch) {
+        boolean isPastFirst = false;
+        for (Object item : items) {
+            if (isPastFirst) {
+                mismatch.appendText(", ");
+            }
+            elementMatcher.describeMismatch(item, mismatch);
+            isPastFirst = true;
+        }
+    }
+
+    private static final class Candidate<T> implements Comparable<Candidate<T>> {
+        private final T item;
+        private final double distance;
+        private final int position;
+
+        Candidate(T item, double distance, int position) {
+            this.item = item;
+            this.distance = distance;
+            this.position = position;
+        }
+
+        /**
+         * Orders the closest first, then the earliest.
+         */
+        @Override
+        public int compareTo(Candidate<T> other) {
+            int byDistance = Double.compare(distance, other.distance);
+            return byDistance != 0 ? byDistance : Integer.compare(position, other.position);
+        }
+    }
+
+}
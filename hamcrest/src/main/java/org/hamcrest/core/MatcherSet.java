@@ -0,0 +1,197 @@
+package org.hamcrest.core;
+
+import org.hamcrest.Cost;
+import org.hamcrest.Matcher;
+import org.hamcrest.beans.HasPropertyWithValue;
+import org.hamcrest.beans.PropertyUtil;
+import org.hamcrest.collection.IsIn;
+import org.hamcrest.index.Constraint;
+import org.hamcrest.index.MatcherAnalyzer;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Evaluates many matchers, each identified by the number it was given when added, against
+ * one value at a time, without applying every matcher to every value.
+ *
+ * <p>Each matcher is broken into its conjuncts, the matchers of an <code>allOf</code>. Only
+ * the built-in <code>allOf</code> and <code>is</code> are broken up, and only the built-in
+ * matchers are dispatched on; any other matcher, including a subclass of a built-in one, is
+ * a conjunct that is always tested. Equal
+ * conjuncts, as determined by <code>equals</code>, which compares the built-in matchers by
+ * structure, are held once and evaluated at most once per value, however many matchers
+ * share them. Matchers with an equality constraint (see
+ * {@link MatcherAnalyzer}), such as <code>hasProperty("type", equalTo("trade"))</code>, are
+ * held in a hash table under the constrained value, so a value is only tested against the
+ * matchers whose constraint it satisfies and the matchers that have no such constraint.</p>
+ * <p>For example:</p>
+ * <pre>MatcherSet&lt;Event&gt; subscriptions = new MatcherSet&lt;&gt;();
+ * int trades = subscriptions.add(hasProperty("type", equalTo("trade")));
+ * int bigTrades = subscriptions.add(allOf(hasProperty("type", equalTo("trade")), hasProperty("size", greaterThan(1000))));
+ * int[] matched = subscriptions.matching(event);</pre>
+ *
+ * <p>Adding a matcher is not thread safe; finding matches is, if the matchers are.</p>
+ *
+ * @param <T> the type of the matched values
+ */
+public final class MatcherSet<T> {
+
+    private static final Object NO_VALUE = new Object();
+
+    private final Map<Matcher<?>, Integer> conjunctIds = new HashMap<>();
+    private final List<Matcher<?>> conjuncts = new ArrayList<>();
+    private final List<int[]> matchers = new ArrayList<>();
+    private final Map<List<String>, Map<Object, List<Integer>>> dispatch = new LinkedHashMap<>();
+    private final List<Integer> undispatched = new ArrayList<>();
+
+    /**
+     * Adds a matcher to the set.
+     *
+     * @param matcher the matcher
+     * @return the number identifying <var>matcher</var>, which is the number of matchers
+     * previously added
+     */
+    public int add(Matcher<? super T> matcher) {
+        int id = matchers.size();
+        List<Matcher<?>> flattened = new ArrayList<>();
+        flatten(matcher, flattened);
+        List<Matcher<?>> ordered = Cost.cheapestFirst(flattened);
+        int[] ids = new int[flattened.size()];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = intern(ordered != null ? ordered.get(i) : flattened.get(i));
+        }
+        matchers.add(ids);
+
+        Constraint key = dispatchKeyOf(flattened);
+        if (key == null) {
+            undispatched.add(id);
+        } else {
+            Map<Object, List<Integer>> table = dispatch.get(key.path());
+            if (table == null) {
+                table = new HashMap<>();
+                dispatch.put(key.path(), table);
+            }
+            for (Object value : key.values()) {
+                List<Integer> subscribers = table.get(value);
+                if (subscribers == null) {
+                    subscribers = new ArrayList<>();
+                    table.put(value, subscribers);
+                }
+                subscribers.add(id);
+            }
+        }
+        return id;
+    }
+
+    /**
+     * @return the number of matchers in the set
+     */
+    public int size() {
+        return matchers.size();
+    }
+
+    /**
+     * Finds the matchers that match a value.
+     *
+     * @param item the value to match
+     * @return the numbers identifying the matchers that match <var>item</var>, in ascending order
+     */
+    public int[] matching(T item) {
+        BitSet candidates = new BitSet();
+        for (Map.Entry<List<String>, Map<Object, List<Integer>>> table : dispatch.entrySet()) {
+            Object value = PropertyUtil.getPropertyValueAtPath(table.getKey(), item, NO_VALUE);
+            if (value != NO_VALUE) {
+                setAll(candidates, table.getValue().get(value));
+            }
+        }
+        setAll(candidates, undispatched);
+
+        BitSet evaluated = new BitSet();
+        BitSet matched = new BitSet();
+        BitSet results = new BitSet();
+        for (int id = candidates.nextSetBit(0); id >= 0; id = candidates.nextSetBit(id + 1)) {
+            if (allMatch(matchers.get(id), item, evaluated, results)) {
+                matched.set(id);
+            }
+        }
+        int[] ids = new int[matched.cardinality()];
+        for (int i = 0, id = matched.nextSetBit(0); id >= 0; i++, id = matched.nextSetBit(id + 1)) {
+            ids[i] = id;
+        }
+        return ids;
+    }
+
+    private boolean allMatch(int[] conjunctIds, T item, BitSet evaluated, BitSet results) {
+        for (int conjunctId : conjunctIds) {
+            if (!evaluated.get(conjunctId)) {
+                evaluated.set(conjunctId);
+                results.set(conjunctId, conjuncts.get(conjunctId).matches(item));
+            }
+            if (!results.get(conjunctId)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int intern(Matcher<?> conjunct) {
+        Integer id = conjunctIds.get(conjunct);
+        if (id == null) {
+            id = conjuncts.size();
+            conjuncts.add(conjunct);
+            conjunctIds.put(conjunct, id);
+        }
+        return id;
+    }
+
+    private static void flatten(Matcher<?> matcher, List<Matcher<?>> conjuncts) {
+        if (matcher.getClass() == AllOf.class) {
+            for (Matcher<?> conjunct : ((AllOf<?>) matcher).matchers()) {
+                flatten(conjunct, conjuncts);
+            }
+        } else if (matcher.getClass() == Is.class) {
+            flatten(((Is<?>) matcher).matcher(), conjuncts);
+        } else {
+            conjuncts.add(matcher);
+        }
+    }
+
+    /**
+     * @return the equality constraint of the built-in conjuncts with the fewest values, or
+     * null if there is none
+     */
+    private static Constraint dispatchKeyOf(List<Matcher<?>> conjuncts) {
+        Constraint key = null;
+        for (Matcher<?> conjunct : conjuncts) {
+            if (!isDispatchable(conjunct)) {
+                continue;
+            }
+            for (Constraint constraint : MatcherAnalyzer.constraintsOf(conjunct)) {
+                if (constraint.isEquality() && (key == null || constraint.values().size() < key.values().size())) {
+                    key = constraint;
+                }
+            }
+        }
+        return key;
+    }
+
+    private static boolean isDispatchable(Matcher<?> conjunct) {
+        Class<?> type = conjunct.getClass();
+        return type == IsEqual.class || type == IsIn.class || type == HasPropertyWithValue.class
+                || type == AnyOf.class || type == CombinableMatcher.class || type == DescribedAs.class;
+    }
+
+    private static void setAll(BitSet bits, List<Integer> indices) {
+        if (indices != null) {
+            for (int index : indices) {
+                bits.set(index);
+            }
+        }
+    }
+
+}
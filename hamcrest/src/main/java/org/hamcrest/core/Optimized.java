@@ -0,0 +1,269 @@
+package org.hamcrest.core;
+
+import org.hamcrest.BaseMatcher;
+import org.hamcrest.Cost;
+import org.hamcrest.Costed;
+import org.hamcrest.Description;
+import org.hamcrest.Lowerable;
+import org.hamcrest.Matcher;
+import org.hamcrest.index.Constraint;
+import org.hamcrest.index.MatcherAnalyzer;
+import org.hamcrest.index.Sargable;
+
+import java.lang.invoke.MethodHandle;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Evaluates a tree of core matchers through an equivalent, flatter, plan, while
+ * describing itself and its mismatches exactly as the original tree does.
+ *
+ * <p>When the plan is built:</p>
+ * <ul>
+ *   <li>nested {@link AllOf}s, and the <code>and</code> chains of {@link CombinableMatcher},
+ *   are flattened into a single conjunction; nested {@link AnyOf}s into a single disjunction;</li>
+ *   <li>{@link Is} and {@link DescribedAs}, which only change descriptions, are removed;</li>
+ *   <li>{@link IsAnything} is dropped from conjunctions and satisfies a whole disjunction;</li>
+ *   <li>repeated matchers in the same conjunction or disjunction are evaluated once;</li>
+ *   <li><code>not(not(x))</code> becomes <code>x</code>.</li>
+ * </ul>
+ * <p>Removing repeated matchers assumes that matchers have no side effects, as is
+ * expected of all matchers.</p>
+ *
+ * @param <T> the matched value type
+ */
+public class Optimized<T> extends BaseMatcher<T> implements Costed, Lowerable, Sargable {
+
+    private final Matcher<T> matcher;
+    private final Matcher<?> plan;
+
+    /**
+     * Constructor, best called from {@link #optimized(Matcher)}.
+     * @param matcher the matcher tree to optimise
+     */
+    public Optimized(Matcher<T> matcher) {
+        this(matcher, plan(matcher));
+    }
+
+    private Optimized(Matcher<T> matcher, Matcher<?> plan) {
+        this.matcher = matcher;
+        this.plan = plan;
+    }
+
+    @Override
+    public boolean matches(Object actual) {
+        return plan.matches(actual);
+    }
+
+    @Override
+    public void describeTo(Description description) {
+        matcher.describeTo(description);
+    }
+
+    @Override
+    public double estimatedCost() {
+        return Cost.of(matcher);
+    }
+
+    @Override
+    public MethodHandle lower(Lowering lowering) {
+        return lowering.lower(matcher);
+    }
+
+    @Override
+    public List<Constraint> constraints() {
+        return MatcherAnalyzer.constraintsOf(matcher);
+    }
+
+    @Override
+    public void describeMismatch(Object item, Description description) {
+        matcher.describeMismatch(item, description);
+    }
+
+    /**
+     * Creates a matcher that matches exactly when the specified matcher does, and has the
+     * same description and mismatch description, but evaluates nested combinations of core
+     * matchers as a flat plan with redundant steps removed. If there is nothing to optimise,
+     * the specified matcher is returned.
+     * For example:
+     * <pre>Matcher&lt;String&gt; rule = optimized(both(startsWith("a")).and(endsWith("z")).and(containsString("m")))</pre>
+     *
+     * @param <T>
+     *     the matcher type.
+     * @param matcher
+     *     the matcher tree to optimise
+     * @return The matcher.
+     */
+    public static <T> Matcher<T> optimized(Matcher<T> matcher) {
+        Matcher<?> plan = plan(matcher);
+        return plan == matcher ? matcher : new Optimized<>(matcher, plan);
+    }
+
+    /**
+     * Only the built-in classes themselves are flattened: a subclass may override
+     * <code>matches</code>, so is a leaf of the plan.
+     */
+    static Matcher<?> plan(Matcher<?> matcher) {
+        if (matcher.getClass() == Is.class) {
+            return plan(((Is<?>) matcher).matcher());
+        }
+        if (matcher.getClass() == DescribedAs.class) {
+            return plan(((DescribedAs<?>) matcher).matcher());
+        }
+        if (matcher.getClass() == Optimized.class) {
+            return ((Optimized<?>) matcher).plan;
+        }
+        if (matcher.getClass() == IsNot.class) {
+            return negationOf((IsNot<?>) matcher);
+        }
+        if (matcher.getClass() == CombinableMatcher.class) {
+            // CombinableMatcher is type safe, so never matches null.
+            List<Matcher<?>> conjuncts = new ArrayList<>();
+            conjuncts.add(NotNull.INSTANCE);
+            conjuncts.add(((CombinableMatcher<?>) matcher).matcher());
+            return conjunctionOf(conjuncts);
+        }
+        if (matcher.getClass() == AllOf.class) {
+            return conjunctionOf(((AllOf<?>) matcher).matchers());
+        }
+        if (matcher.getClass() == AnyOf.class) {
+            return disjunctionOf(((AnyOf<?>) matcher).matchers());
+        }
+        return matcher;
+    }
+
+    private static boolean isAnything(Matcher<?> matcher) {
+        return matcher.getClass() == IsAnything.class;
+    }
+
+    private static Matcher<?> negationOf(IsNot<?> not) {
+        Matcher<?> negated = plan(not.matcher());
+        if (negated.getClass() == IsNot.class) {
+            return ((IsNot<?>) negated).matcher();
+        }
+        if (isAnything(negated) || negated == Constant.TRUE) {
+            return Constant.FALSE;
+        }
+        if (negated == Constant.FALSE) {
+            return Constant.TRUE;
+        }
+        return negated == not.matcher() ? not : new IsNot<>(negated);
+    }
+
+    private static Matcher<?> conjunctionOf(Iterable<? extends Matcher<?>> matchers) {
+        List<Matcher<?>> conjuncts = new ArrayList<>();
+        Set<Matcher<?>> seen = new HashSet<>();
+        for (Matcher<?> child : matchers) {
+            Matcher<?> planned = plan(child);
+            if (planned instanceof Conjunction) {
+                for (Matcher<?> conjunct : ((Conjunction) planned).matchers) {
+                    if (seen.add(conjunct)) conjuncts.add(conjunct);
+                }
+            } else if (planned == Constant.FALSE) {
+                return Constant.FALSE;
+            } else if (!(isAnything(planned) || planned == Constant.TRUE) && seen.add(planned)) {
+                conjuncts.add(planned);
+            }
+        }
+        if (conjuncts.isEmpty()) {
+            return Constant.TRUE;
+        }
+        return conjuncts.size() == 1 ? conjuncts.get(0) : new Conjunction(conjuncts);
+    }
+
+    private static Matcher<?> disjunctionOf(Iterable<? extends Matcher<?>> matchers) {
+        List<Matcher<?>> disjuncts = new ArrayList<>();
+        Set<Matcher<?>> seen = new HashSet<>();
+        for (Matcher<?> child : matchers) {
+            Matcher<?> planned = plan(child);
+            if (planned instanceof Disjunction) {
+                for (Matcher<?> disjunct : ((Disjunction) planned).matchers) {
+                    if (seen.add(disjunct)) disjuncts.add(disjunct);
+                }
+            } else if (isAnything(planned) || planned == Constant.TRUE) {
+                return Constant.TRUE;
+            } else if (planned != Constant.FALSE && seen.add(planned)) {
+                disjuncts.add(planned);
+            }
+        }
+        if (disjuncts.isEmpty()) {
+            return Constant.FALSE;
+        }
+        return disjuncts.size() == 1 ? disjuncts.get(0) : new Disjunction(disjuncts);
+    }
+
+    /**
+     * Plan steps are never described: the {@link Optimized} matcher that holds them
+     * always describes the original tree.
+     */
+    private abstract static class Step extends BaseMatcher<Object> {
+        @Override
+        public void describeTo(Description description) {
+            description.appendText("optimised ").appendText(getClass().getSimpleName().toLowerCase());
+        }
+    }
+
+    private static final class Conjunction extends Step {
+        private final Matcher<?>[] matchers;
+
+        Conjunction(List<Matcher<?>> matchers) {
+            this.matchers = matchers.toArray(new Matcher<?>[0]);
+        }
+
+        @Override
+        public boolean matches(Object actual) {
+            for (Matcher<?> matcher : matchers) {
+                if (!matcher.matches(actual)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    private static final class Disjunction extends Step {
+        private final Matcher<?>[] matchers;
+
+        Disjunction(List<Matcher<?>> matchers) {
+            this.matchers = matchers.toArray(new Matcher<?>[0]);
+        }
+
+        @Override
+        public boolean matches(Object actual) {
+            for (Matcher<?> matcher : matchers) {
+                if (matcher.matches(actual)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    private static final class NotNull extends Step {
+        static final NotNull INSTANCE = new NotNull();
+
+        @Override
+        public boolean matches(Object actual) {
+            return actual != null;
+        }
+    }
+
+    private static final class Constant extends Step {
+        static final Constant TRUE = new Constant(true);
+        static final Constant FALSE = new Constant(false);
+
+        private final boolean value;
+
+        private Constant(boolean value) {
+            this.value = value;
+        }
+
+        @Override
+        public boolean matches(Object actual) {
+            return value;
+        }
+    }
+
+}
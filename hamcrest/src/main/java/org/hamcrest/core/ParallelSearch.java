@@ -0,0 +1,150 @@
+package org.hamcrest.core;
+
+import org.hamcrest.Matcher;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+/**
+ * Searches the elements of a collection, in parallel, for an element with a given match
+ * result. The collection's spliterator is split into tasks run by a {@link ForkJoinPool};
+ * once an element is found, tasks stop, except those that may still find an earlier
+ * element when the first one is wanted.
+ */
+final class ParallelSearch {
+
+    /**
+     * Collections smaller than this are searched sequentially, as splitting them costs more
+     * than it saves.
+     */
+    static final int MINIMUM_SIZE = 1 << 10;
+
+    private final Matcher<?> matcher;
+    private final boolean matchResult;
+    private final boolean firstWanted;
+    private final long leafSize;
+    private final AtomicReference<Found> found = new AtomicReference<>();
+
+    private ParallelSearch(Matcher<?> matcher, boolean matchResult, boolean firstWanted, long leafSize) {
+        this.matcher = matcher;
+        this.matchResult = matchResult;
+        this.firstWanted = firstWanted;
+        this.leafSize = leafSize;
+    }
+
+    /**
+     * @param collection the elements to search
+     * @param matcher the matcher to apply to the elements
+     * @param matchResult the match result of the element to find
+     * @param firstWanted whether the element must be the first, in the collection's order,
+     *                    with that result; otherwise any such element is found
+     * @param pool the pool that runs the search
+     * @return the element found, or null if there is none
+     */
+    static Found search(Collection<?> collection, Matcher<?> matcher, boolean matchResult, boolean firstWanted, ForkJoinPool pool) {
+        Spliterator<?> spliterator = collection.spliterator();
+        if (!spliterator.hasCharacteristics(Spliterator.SUBSIZED)) {
+            // Without exact sizes the position of an element is unknown.
+            spliterator = Spliterators.spliterator(collection.toArray(), Spliterator.ORDERED);
+        }
+        long leafSize = Math.max(spliterator.getExactSizeIfKnown() / (8L * pool.getParallelism()), 1);
+        ParallelSearch search = new ParallelSearch(matcher, matchResult, firstWanted, leafSize);
+        pool.invoke(search.new Task(spliterator, 0));
+        return search.found.get();
+    }
+
+    /**
+     * @return the position before which elements still need to be searched
+     */
+    private long bound() {
+        Found current = found.get();
+        if (current == null) {
+            return Long.MAX_VALUE;
+        }
+        return firstWanted ? current.index : Long.MIN_VALUE;
+    }
+
+    private void record(long index, Object element) {
+        Found candidate = new Found(index, element);
+        while (true) {
+            Found current = found.get();
+            if (current != null && (!firstWanted || current.index < index)) {
+                return;
+            }
+            if (found.compareAndSet(current, candidate)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * An element found by a search, and its position in the collection.
+     */
+    static final class Found {
+        final long index;
+        final Object element;
+
+        Found(long index, Object element) {
+            this.index = index;
+            this.element = element;
+        }
+    }
+
+    private final class Task extends RecursiveAction {
+        private final Spliterator<?> spliterator;
+        private final long offset;
+
+        Task(Spliterator<?> spliterator, long offset) {
+            this.spliterator = spliterator;
+            this.offset = offset;
+        }
+
+        @Override
+        protected void compute() {
+            // Split off and fork the later elements, so this task searches the earliest.
+            Spliterator<?> earliest = spliterator;
+            List<Task> later = new ArrayList<>();
+            while (earliest.estimateSize() > leafSize && offset < bound()) {
+                Spliterator<?> prefix = earliest.trySplit();
+                if (prefix == null) {
+                    break;
+                }
+                Task task = new Task(earliest, offset + prefix.getExactSizeIfKnown());
+                task.fork();
+                later.add(task);
+                earliest = prefix;
+            }
+            Scanner scanner = new Scanner(offset);
+            while (scanner.index < bound() && earliest.tryAdvance(scanner)) {
+                // scanned
+            }
+            for (Task task : later) {
+                task.join();
+            }
+        }
+    }
+
+    private final class Scanner implements Consumer<Object> {
+        long index;
+
+        Scanner(long index) {
+            this.index = index;
+        }
+
+        @Override
+        public void accept(Object element) {
+            if (matcher.matches(element) == matchResult) {
+                record(index, element);
+            }
+            index++;
+        }
+    }
+
+}
@@ -1,15 +1,33 @@
 package org.hamcrest.core;
 
 import org.hamcrest.BaseMatcher;
+import org.hamcrest.CacheableSelfDescribing;
+import org.hamcrest.Cost;
+import org.hamcrest.Costed;
 import org.hamcrest.Description;
+import org.hamcrest.DescriptionCache;
 import org.hamcrest.Matcher;
+import org.hamcrest.internal.Structural;
 
-abstract class ShortcutCombination<T> extends BaseMatcher<T> {
+import java.util.List;
+
+abstract class ShortcutCombination<T> extends BaseMatcher<T> implements CacheableSelfDescribing, Costed {
 
     private final Iterable<Matcher<? super T>> matchers;
+    private final DescriptionCache descriptionCache;
+    private final AdaptiveOrder<T> adaptiveOrder;
+    private final List<Matcher<? super T>> cheapestFirst;
+    private int cachedHashCode;
 
     public ShortcutCombination(Iterable<Matcher<? super T>> matchers) {
-        this.matchers = matchers;
+        this(matchers, null);
+    }
+
+    ShortcutCombination(Iterable<Matcher<? super T>> matchers, AdaptiveOrder<T> adaptiveOrder) {
+        this.matchers = AllOf.copyOf(matchers);
+        this.descriptionCache = DescriptionCache.forComponents(this.matchers);
+        this.adaptiveOrder = adaptiveOrder;
+        this.cheapestFirst = Cost.cheapestFirst(this.matchers);
     }
 
     @Override
@@ -18,18 +36,68 @@ abstract class ShortcutCombination<T> extends BaseMatcher<T> {
     @Override
     public abstract void describeTo(Description description);
 
+    @Override
+    public boolean hasImmutableDescription() {
+        return descriptionCache != null;
+    }
+
+    @Override
+    public DescriptionCache descriptionCache() {
+        return descriptionCache;
+    }
+
+    @Override
+    public double estimatedCost() {
+        return Cost.sum(matchers);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        ShortcutCombination<?> other = (ShortcutCombination<?>) o;
+        return (adaptiveOrder == null) == (other.adaptiveOrder == null) && Structural.elementsEqual(matchers, other.matchers);
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = cachedHashCode;
+        if (hash == 0) {
+            hash = 31 * getClass().hashCode() + Structural.elementsHashCode(matchers);
+            cachedHashCode = hash;
+        }
+        return hash;
+    }
+
+    Iterable<Matcher<? super T>> matchers() {
+        return matchers;
+    }
+
+    Iterable<Matcher<? super T>> evaluationOrder() {
+        return cheapestFirst != null ? cheapestFirst : matchers;
+    }
+
     /**
      * Evaluates the argument <var>o</var> against the delegate matchers.
      *
      * Evaluation will stop at the first matcher that evaluates to the value of the
-     * <code>shortcut</code> argument.
+     * <code>shortcut</code> argument. If this combination was created with an adaptive
+     * order, the delegate matchers are evaluated in that order; otherwise, if the cost of
+     * every delegate matcher is known, the cheapest are evaluated first.
      *
      * @param o the value to check
      * @param shortcut the match result to be checked against all delegate matchers
      * @return the value of <var>shortcut</var> if all delegate matchers give the same value
      */
     protected boolean matches(Object o, boolean shortcut) {
-        for (Matcher<? super T> matcher : matchers) {
+        if (adaptiveOrder != null) {
+            return adaptiveOrder.matches(o);
+        }
+        for (Matcher<? super T> matcher : evaluationOrder()) {
             if (matcher.matches(o) == shortcut) {
                 return shortcut;
             }
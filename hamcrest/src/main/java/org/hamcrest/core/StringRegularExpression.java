@@ -2,6 +2,8 @@ package org.hamcrest.core;
 
 import java.util.regex.Pattern;
 
+import org.hamcrest.Cost;
+import org.hamcrest.Costed;
 import org.hamcrest.Description;
 import org.hamcrest.Matcher;
 import org.hamcrest.TypeSafeDiagnosingMatcher;
@@ -12,7 +14,7 @@ import org.hamcrest.TypeSafeDiagnosingMatcher;
  * @author borettim
  * @author sf105
  */
-public class StringRegularExpression extends TypeSafeDiagnosingMatcher<String> {
+public class StringRegularExpression extends TypeSafeDiagnosingMatcher<String> implements Costed {
 
   /**
    * Constructor, best used from {@link #matchesRegex(String)}.
@@ -29,6 +31,28 @@ public class StringRegularExpression extends TypeSafeDiagnosingMatcher<String> {
     description.appendText("a string matching the pattern ").appendValue(pattern);
   }
 
+  @Override
+  public double estimatedCost() {
+    return Cost.REGEX;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    StringRegularExpression other = (StringRegularExpression) o;
+    return pattern.pattern().equals(other.pattern.pattern()) && pattern.flags() == other.pattern.flags();
+  }
+
+  @Override
+  public int hashCode() {
+    return 31 * (31 * getClass().hashCode() + pattern.pattern().hashCode()) + pattern.flags();
+  }
+
   @Override
   protected boolean matchesSafely(String actual, Description mismatchDescription) {
     if (!pattern.matcher(actual).matches()) {
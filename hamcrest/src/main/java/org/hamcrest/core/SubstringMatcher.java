@@ -1,7 +1,17 @@
 package org.hamcrest.core;
 
+import org.hamcrest.CacheableSelfDescribing;
+import org.hamcrest.Cost;
+import org.hamcrest.Costed;
 import org.hamcrest.Description;
+import org.hamcrest.DescriptionCache;
+import org.hamcrest.Lowerable;
 import org.hamcrest.TypeSafeMatcher;
+import org.hamcrest.internal.MatcherHandles;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 
 /**
  * Common behaviour for matchers that check substrings.
@@ -10,11 +20,14 @@ import org.hamcrest.TypeSafeMatcher;
  * @see StringEndsWith
  * @see StringStartsWith
  */
-public abstract class SubstringMatcher extends TypeSafeMatcher<String> {
+public abstract class SubstringMatcher extends TypeSafeMatcher<String> implements CacheableSelfDescribing, Costed, Lowerable {
 
     // TODO: Replace String with CharSequence to allow for easy interoperability between
     //       String, StringBuffer, StringBuilder, CharBuffer, etc (joe).
 
+    private static final MethodHandle MATCHES_SAFELY = MatcherHandles.findVirtual(MethodHandles.lookup(), SubstringMatcher.class, "matchesSafely",
+            MethodType.methodType(boolean.class, String.class));
+
     private final String relationship;
     private final boolean ignoringCase;
     /** The substring to match */
@@ -55,6 +68,43 @@ public abstract class SubstringMatcher extends TypeSafeMatcher<String> {
         }
     }
 
+    @Override
+    public double estimatedCost() {
+        return Cost.STRING;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        SubstringMatcher other = (SubstringMatcher) o;
+        return ignoringCase == other.ignoringCase && relationship.equals(other.relationship) && substring.equals(other.substring);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * (31 * getClass().hashCode() + substring.hashCode()) + Boolean.hashCode(ignoringCase);
+    }
+
+    @Override
+    public MethodHandle lower(Lowering lowering) {
+        return MatcherHandles.typeSafe(String.class, MATCHES_SAFELY.bindTo(this));
+    }
+
+    @Override
+    public boolean hasImmutableDescription() {
+        return true;
+    }
+
+    @Override
+    public DescriptionCache descriptionCache() {
+        return null;
+    }
+
     /**
      * Helper method to allow subclasses to handle case insensitivity.
      * @param arg the string to adjust for case
@@ -0,0 +1,129 @@
+package org.hamcrest.index;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * A condition, on a value or on a JavaBean property reached from it, that every value
+ * matched by some matcher satisfies. A constraint is either an equality constraint, which
+ * holds for a set of allowed values, or a range constraint, which holds for values between
+ * two bounds in their natural ordering.
+ *
+ * @see MatcherAnalyzer
+ */
+public final class Constraint {
+
+    private final List<String> path;
+    private final Set<Object> values;
+    private final Comparable<?> lower;
+    private final boolean lowerInclusive;
+    private final Comparable<?> upper;
+    private final boolean upperInclusive;
+
+    private Constraint(List<String> path, Set<Object> values,
+                       Comparable<?> lower, boolean lowerInclusive, Comparable<?> upper, boolean upperInclusive) {
+        this.path = path;
+        this.values = values;
+        this.lower = lower;
+        this.lowerInclusive = lowerInclusive;
+        this.upper = upper;
+        this.upperInclusive = upperInclusive;
+    }
+
+    /**
+     * @param values the allowed values
+     * @return a constraint that a value is equal to one of <var>values</var>
+     */
+    public static Constraint oneOf(Collection<?> values) {
+        return new Constraint(Collections.<String>emptyList(), Collections.unmodifiableSet(new HashSet<Object>(values)),
+                null, false, null, false);
+    }
+
+    /**
+     * @param lower the lower bound, or null if there is none
+     * @param lowerInclusive whether a value equal to <var>lower</var> is within the range
+     * @param upper the upper bound, or null if there is none
+     * @param upperInclusive whether a value equal to <var>upper</var> is within the range
+     * @return a constraint that a value lies between the bounds, in its natural ordering
+     */
+    public static Constraint range(Comparable<?> lower, boolean lowerInclusive, Comparable<?> upper, boolean upperInclusive) {
+        return new Constraint(Collections.<String>emptyList(), null, lower, lowerInclusive, upper, upperInclusive);
+    }
+
+    /**
+     * @param propertyName the name of a JavaBean property
+     * @return the same constraint, applied to the named property of a value
+     */
+    public Constraint onProperty(String propertyName) {
+        List<String> propertyPath = new ArrayList<>(path.size() + 1);
+        propertyPath.add(propertyName);
+        propertyPath.addAll(path);
+        return new Constraint(Collections.unmodifiableList(propertyPath), values, lower, lowerInclusive, upper, upperInclusive);
+    }
+
+    /**
+     * @return the JavaBean property names leading from a value to the constrained value;
+     * empty if the value itself is constrained
+     */
+    public List<String> path() {
+        return path;
+    }
+
+    /**
+     * @return true for an equality constraint, false for a range constraint
+     */
+    public boolean isEquality() {
+        return values != null;
+    }
+
+    /**
+     * @return the allowed values of an equality constraint, or null for a range constraint
+     */
+    public Set<Object> values() {
+        return values;
+    }
+
+    /**
+     * @return the lower bound of a range constraint, or null if there is none
+     */
+    public Comparable<?> lower() {
+        return lower;
+    }
+
+    /**
+     * @return whether the lower bound is within the range
+     */
+    public boolean isLowerInclusive() {
+        return lowerInclusive;
+    }
+
+    /**
+     * @return the upper bound of a range constraint, or null if there is none
+     */
+    public Comparable<?> upper() {
+        return upper;
+    }
+
+    /**
+     * @return whether the upper bound is within the range
+     */
+    public boolean isUpperInclusive() {
+        return upperInclusive;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder text = new StringBuilder(path.isEmpty() ? "value" : String.join(".", path));
+        if (isEquality()) {
+            return text.append(" in ").append(values).toString();
+        }
+        text.append(" in ").append(lowerInclusive ? '[' : '(').append(lower == null ? "" : lower)
+            .append(", ").append(upper == null ? "" : upper).append(upperInclusive ? ']' : ')');
+        return text.toString();
+    }
+
+}
@@ -0,0 +1,219 @@
+package org.hamcrest.index;
+
+import org.hamcrest.Matcher;
+import org.hamcrest.beans.PropertyUtil;
+
+import java.util.AbstractCollection;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * An unmodifiable collection that selects the elements matched by a matcher using indexes
+ * on the elements, or on their JavaBean properties, rather than by matching every element.
+ *
+ * <p>The {@link Constraint}s of the matcher, as found by {@link MatcherAnalyzer}, are looked
+ * up in the indexes to find candidate elements, and the matcher is then applied to the
+ * candidates only. Equality constraints, for example from <code>equalTo</code> or
+ * <code>in</code>, use hash or sorted indexes; range constraints, from the natural ordering
+ * comparisons, use sorted indexes. If no constraint can be answered by an index, every
+ * element is matched. Either way, the selection is the same as filtering the elements with
+ * the matcher.</p>
+ * <p>For example:</p>
+ * <pre>IndexedCollection&lt;Person&gt; people = new IndexedCollection&lt;&gt;(all)
+ *         .addHashIndex("country")
+ *         .addSortedIndex("age");
+ * people.select(allOf(hasProperty("country", equalTo("NZ")), hasProperty("age", greaterThan(65))))</pre>
+ *
+ * <p>Indexes hold the property values at the time that they are added, so the elements must
+ * not change in ways that affect indexed properties. Adding an index is not thread safe;
+ * selecting is, if the matcher is.</p>
+ *
+ * @param <T> the type of the elements
+ */
+public final class IndexedCollection<T> extends AbstractCollection<T> {
+
+    private static final Object NO_VALUE = new Object();
+
+    private final List<T> elements;
+    private final Map<List<String>, Map<Object, BitSet>> hashIndexes = new HashMap<>();
+    private final Map<List<String>, NavigableMap<Object, BitSet>> sortedIndexes = new HashMap<>();
+
+    /**
+     * @param elements the elements, which are copied
+     */
+    public IndexedCollection(Collection<? extends T> elements) {
+        this.elements = new ArrayList<>(elements);
+    }
+
+    /**
+     * Indexes the elements by the value at a property path, for equality constraints.
+     *
+     * @param path the dot-separated JavaBean property path from an element to the indexed
+     *             value, as in <code>hasPropertyAtPath</code>; or the empty string to index the
+     *             elements themselves
+     * @return this collection
+     */
+    public IndexedCollection<T> addHashIndex(String path) {
+        List<String> properties = pathOf(path);
+        Map<Object, BitSet> index = new HashMap<>();
+        for (int i = 0; i < elements.size(); i++) {
+            Object value = PropertyUtil.getPropertyValueAtPath(properties, elements.get(i), NO_VALUE);
+            if (value != NO_VALUE) {
+                bitsFor(index, value).set(i);
+            }
+        }
+        hashIndexes.put(properties, index);
+        return this;
+    }
+
+    /**
+     * Indexes the elements by the value at a property path, in its natural ordering, for
+     * range and equality constraints. Null values are not indexed, as no ordering
+     * comparison matches them.
+     *
+     * @param path the dot-separated JavaBean property path from an element to the indexed
+     *             value, as in <code>hasPropertyAtPath</code>; or the empty string to index the
+     *             elements themselves
+     * @return this collection
+     * @throws IllegalArgumentException if the values are not mutually comparable
+     */
+    public IndexedCollection<T> addSortedIndex(String path) {
+        List<String> properties = pathOf(path);
+        NavigableMap<Object, BitSet> index = new TreeMap<>();
+        for (int i = 0; i < elements.size(); i++) {
+            Object value = PropertyUtil.getPropertyValueAtPath(properties, elements.get(i), NO_VALUE);
+            if (value != NO_VALUE && value != null) {
+                try {
+                    bitsFor(index, value).set(i);
+                } catch (ClassCastException e) {
+                    throw new IllegalArgumentException("Values at '" + path + "' are not mutually comparable", e);
+                }
+            }
+        }
+        sortedIndexes.put(properties, index);
+        return this;
+    }
+
+    /**
+     * Selects the elements matched by a matcher.
+     *
+     * @param matcher the matcher to apply
+     * @return the matched elements, in the order of this collection
+     */
+    public List<T> select(Matcher<? super T> matcher) {
+        BitSet candidates = null;
+        for (Constraint constraint : MatcherAnalyzer.constraintsOf(matcher)) {
+            BitSet found = lookUp(constraint);
+            if (found != null) {
+                if (candidates == null) {
+                    candidates = found;
+                } else {
+                    candidates.and(found);
+                }
+            }
+        }
+        List<T> selected = new ArrayList<>();
+        if (candidates == null) {
+            for (T element : elements) {
+                if (matcher.matches(element)) {
+                    selected.add(element);
+                }
+            }
+        } else {
+            for (int i = candidates.nextSetBit(0); i >= 0; i = candidates.nextSetBit(i + 1)) {
+                T element = elements.get(i);
+                if (matcher.matches(element)) {
+                    selected.add(element);
+                }
+            }
+        }
+        return selected;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return Collections.unmodifiableList(elements).iterator();
+    }
+
+    @Override
+    public int size() {
+        return elements.size();
+    }
+
+    /**
+     * @return the elements that may satisfy the constraint, or null if no index can tell
+     */
+    private BitSet lookUp(Constraint constraint) {
+        if (constraint.isEquality()) {
+            Map<Object, BitSet> hashIndex = hashIndexes.get(constraint.path());
+            if (hashIndex != null) {
+                return union(hashIndex, constraint);
+            }
+        }
+        NavigableMap<Object, BitSet> sortedIndex = sortedIndexes.get(constraint.path());
+        if (sortedIndex == null) {
+            return null;
+        }
+        try {
+            if (constraint.isEquality()) {
+                return constraint.values().contains(null) ? null : union(sortedIndex, constraint);
+            }
+            return union(rangeOf(sortedIndex, constraint).values());
+        } catch (ClassCastException e) {
+            return null; // a value that is not comparable with those indexed
+        }
+    }
+
+    private static BitSet union(Map<Object, BitSet> index, Constraint constraint) {
+        BitSet found = new BitSet();
+        for (Object value : constraint.values()) {
+            BitSet bits = index.get(value);
+            if (bits != null) {
+                found.or(bits);
+            }
+        }
+        return found;
+    }
+
+    private static BitSet union(Collection<BitSet> bitSets) {
+        BitSet found = new BitSet();
+        for (BitSet bits : bitSets) {
+            found.or(bits);
+        }
+        return found;
+    }
+
+    private static NavigableMap<Object, BitSet> rangeOf(NavigableMap<Object, BitSet> index, Constraint constraint) {
+        NavigableMap<Object, BitSet> range = index;
+        if (constraint.lower() != null) {
+            range = range.tailMap(constraint.lower(), constraint.isLowerInclusive());
+        }
+        if (constraint.upper() != null) {
+            range = range.headMap(constraint.upper(), constraint.isUpperInclusive());
+        }
+        return range;
+    }
+
+    private static BitSet bitsFor(Map<Object, BitSet> index, Object value) {
+        BitSet bits = index.get(value);
+        if (bits == null) {
+            bits = new BitSet();
+            index.put(value, bits);
+        }
+        return bits;
+    }
+
+    private static List<String> pathOf(String path) {
+        return path.isEmpty() ? Collections.<String>emptyList() : Arrays.asList(path.split("\\."));
+    }
+
+}
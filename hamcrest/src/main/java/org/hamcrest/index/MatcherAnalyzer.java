@@ -0,0 +1,155 @@
+package org.hamcrest.index;
+
+import org.hamcrest.Matcher;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Finds the {@link Constraint}s of matcher trees: conditions that every matched value
+ * satisfies, and that an index can answer without applying the matcher.
+ *
+ * <p>Matchers state their own constraints by implementing {@link Sargable}. The built-in
+ * <code>equalTo</code>, <code>in</code>, the natural ordering comparisons,
+ * <code>hasProperty</code>, <code>allOf</code> and <code>anyOf</code> do so, as do the
+ * matchers that only decorate another, such as <code>is</code>. A matcher is only trusted if
+ * its own class declares {@link Sargable#constraints()}, as a subclass that inherits the method
+ * may match values that the inherited constraints exclude. Any other matcher has no
+ * constraints, which is always correct.</p>
+ *
+ * @see IndexedCollection
+ */
+public final class MatcherAnalyzer {
+
+    private static final ClassValue<Boolean> DECLARES_CONSTRAINTS = new ClassValue<Boolean>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            try {
+                type.getDeclaredMethod("constraints");
+                return true;
+            } catch (NoSuchMethodException e) {
+                return false;
+            }
+        }
+    };
+
+    private MatcherAnalyzer() {
+    }
+
+    /**
+     * @param matcher the matcher to analyse
+     * @return constraints satisfied by every value <var>matcher</var> matches; empty if none are known
+     */
+    public static List<Constraint> constraintsOf(Matcher<?> matcher) {
+        if (matcher instanceof Sargable && DECLARES_CONSTRAINTS.get(matcher.getClass())) {
+            return ((Sargable) matcher).constraints();
+        }
+        return Collections.emptyList();
+    }
+
+    /**
+     * Finds the constraints of a conjunction, which are those of every one of its matchers.
+     *
+     * @param matchers the matchers that must all match
+     * @return constraints satisfied by every value that all of <var>matchers</var> match
+     */
+    public static List<Constraint> allOf(Iterable<? extends Matcher<?>> matchers) {
+        List<Constraint> constraints = new ArrayList<>();
+        for (Matcher<?> matcher : matchers) {
+            constraints.addAll(constraintsOf(matcher));
+        }
+        return constraints;
+    }
+
+    /**
+     * Finds the constraints of a disjunction. Where every one of its matchers has an
+     * equality constraint on the same path, the disjunction is constrained to the union of
+     * their values. Range constraints are not combined.
+     *
+     * @param matchers the matchers of which any must match
+     * @return constraints satisfied by every value that any of <var>matchers</var> match
+     */
+    public static List<Constraint> anyOf(Iterable<? extends Matcher<?>> matchers) {
+        Iterator<? extends Matcher<?>> iterator = matchers.iterator();
+        if (!iterator.hasNext()) {
+            return Collections.emptyList();
+        }
+        Map<List<String>, Set<Object>> union = equalitiesOf(iterator.next());
+        while (iterator.hasNext() && !union.isEmpty()) {
+            Map<List<String>, Set<Object>> branch = equalitiesOf(iterator.next());
+            union.keySet().retainAll(branch.keySet());
+            for (Map.Entry<List<String>, Set<Object>> entry : union.entrySet()) {
+                entry.getValue().addAll(branch.get(entry.getKey()));
+            }
+        }
+        List<Constraint> constraints = new ArrayList<>(union.size());
+        for (Map.Entry<List<String>, Set<Object>> entry : union.entrySet()) {
+            Constraint constraint = Constraint.oneOf(entry.getValue());
+            List<String> path = entry.getKey();
+            for (int i = path.size() - 1; i >= 0; i--) {
+                constraint = constraint.onProperty(path.get(i));
+            }
+            constraints.add(constraint);
+        }
+        return constraints;
+    }
+
+    /**
+     * Finds, from its constraints, the largest integer that a matcher of integers can match.
+     * For example, it is <code>9</code> for <code>lessThan(10)</code>.
+     *
+     * @param matcher a matcher of {@link Integer}s
+     * @return the largest integer that <var>matcher</var> may match; {@link Integer#MAX_VALUE}
+     * if no smaller bound is known
+     */
+    public static int largestIntegerMatchedBy(Matcher<?> matcher) {
+        int largest = Integer.MAX_VALUE;
+        for (Constraint constraint : constraintsOf(matcher)) {
+            if (constraint.path().isEmpty()) {
+                largest = Math.min(largest, largestIntegerWithin(constraint));
+            }
+        }
+        return largest;
+    }
+
+    private static int largestIntegerWithin(Constraint constraint) {
+        if (constraint.isEquality()) {
+            int largest = Integer.MIN_VALUE;
+            for (Object value : constraint.values()) {
+                if (!(value instanceof Integer)) {
+                    return Integer.MAX_VALUE;
+                }
+                largest = Math.max(largest, (Integer) value);
+            }
+            return largest;
+        }
+        if (constraint.upper() instanceof Integer) {
+            int upper = (Integer) constraint.upper();
+            return constraint.isUpperInclusive() || upper == Integer.MIN_VALUE ? upper : upper - 1;
+        }
+        return Integer.MAX_VALUE;
+    }
+
+    private static Map<List<String>, Set<Object>> equalitiesOf(Matcher<?> matcher) {
+        Map<List<String>, Set<Object>> equalities = new LinkedHashMap<>();
+        for (Constraint constraint : constraintsOf(matcher)) {
+            if (constraint.isEquality()) {
+                Set<Object> values = equalities.get(constraint.path());
+                if (values == null) {
+                    equalities.put(constraint.path(), new HashSet<Object>(constraint.values()));
+                } else {
+                    // Both constraints hold, so only the values in both are possible.
+                    values.retainAll(constraint.values());
+                }
+            }
+        }
+        return equalities;
+    }
+
+}
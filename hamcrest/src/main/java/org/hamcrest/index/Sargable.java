@@ -0,0 +1,21 @@
+package org.hamcrest.index;
+
+import java.util.List;
+
+/**
+ * A {@link org.hamcrest.Matcher} that can state {@link Constraint}s that every value it
+ * matches satisfies, so that an index can find candidate values without matching every one.
+ *
+ * <p>Constraints must be necessary, not sufficient: a value that satisfies every constraint
+ * may still not match, but a value that does not satisfy one must never match. Matchers that
+ * hold other matchers can use {@link MatcherAnalyzer#constraintsOf(org.hamcrest.Matcher)} to
+ * find their constraints.</p>
+ */
+public interface Sargable {
+
+    /**
+     * @return constraints satisfied by every value this matcher matches; empty if there are none
+     */
+    List<Constraint> constraints();
+
+}
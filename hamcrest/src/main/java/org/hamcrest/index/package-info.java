@@ -0,0 +1,5 @@
+/**
+ * Analysis of matcher trees for constraints that can be answered from an index, and
+ * collections that use those constraints to avoid matching every element.
+ */
+package org.hamcrest.index;
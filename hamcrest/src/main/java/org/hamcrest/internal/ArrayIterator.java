@@ -1,28 +1,54 @@
 package org.hamcrest.internal;
 
-import java.lang.reflect.Array;
 import java.util.Iterator;
+import java.util.NoSuchElementException;
 
-public class ArrayIterator implements Iterator<Object> {
+/**
+ * Iterates over the elements of an array of any component type, boxing primitive
+ * elements as they are returned. Each primitive component type has its own
+ * implementation, so elements are read directly rather than through
+ * {@link java.lang.reflect.Array}.
+ */
+public abstract class ArrayIterator implements Iterator<Object> {
 
-    private final Object array;
+    private final int length;
     private int currentIndex = 0;
 
-    public ArrayIterator(Object array) {
-        if (!array.getClass().isArray()) {
-            throw new IllegalArgumentException("not an array");
-        }
-        this.array = array;
+    private ArrayIterator(int length) {
+        this.length = length;
+    }
+
+    /**
+     * Create an iterator over the given array.
+     *
+     * @param array an array of object or primitive component type
+     * @return an iterator over the elements of the array
+     * @throws IllegalArgumentException if the argument is not an array
+     */
+    public static ArrayIterator of(Object array) {
+        if (array instanceof Object[]) return new OfObject((Object[]) array);
+        if (array instanceof int[]) return new OfInt((int[]) array);
+        if (array instanceof long[]) return new OfLong((long[]) array);
+        if (array instanceof double[]) return new OfDouble((double[]) array);
+        if (array instanceof byte[]) return new OfByte((byte[]) array);
+        if (array instanceof char[]) return new OfChar((char[]) array);
+        if (array instanceof boolean[]) return new OfBoolean((boolean[]) array);
+        if (array instanceof float[]) return new OfFloat((float[]) array);
+        if (array instanceof short[]) return new OfShort((short[]) array);
+        throw new IllegalArgumentException("not an array");
     }
 
     @Override
     public boolean hasNext() {
-        return currentIndex < Array.getLength(array);
+        return currentIndex < length;
     }
 
     @Override
     public Object next() {
-        return Array.get(array, currentIndex++);
+        if (currentIndex >= length) {
+            throw new NoSuchElementException();
+        }
+        return get(currentIndex++);
     }
 
     @Override
@@ -30,4 +56,60 @@ public class ArrayIterator implements Iterator<Object> {
         throw new UnsupportedOperationException("cannot remove items from an array");
     }
 
+    abstract Object get(int index);
+
+    private static final class OfObject extends ArrayIterator {
+        private final Object[] array;
+        OfObject(Object[] array) { super(array.length); this.array = array; }
+        @Override Object get(int index) { return array[index]; }
+    }
+
+    private static final class OfInt extends ArrayIterator {
+        private final int[] array;
+        OfInt(int[] array) { super(array.length); this.array = array; }
+        @Override Object get(int index) { return array[index]; }
+    }
+
+    private static final class OfLong extends ArrayIterator {
+        private final long[] array;
+        OfLong(long[] array) { super(array.length); this.array = array; }
+        @Override Object get(int index) { return array[index]; }
+    }
+
+    private static final class OfDouble extends ArrayIterator {
+        private final double[] array;
+        OfDouble(double[] array) { super(array.length); this.array = array; }
+        @Override Object get(int index) { return array[index]; }
+    }
+
+    private static final class OfFloat extends ArrayIterator {
+        private final float[] array;
+        OfFloat(float[] array) { super(array.length); this.array = array; }
+        @Override Object get(int index) { return array[index]; }
+    }
+
+    private static final class OfByte extends ArrayIterator {
+        private final byte[] array;
+        OfByte(byte[] array) { super(array.length); this.array = array; }
+        @Override Object get(int index) { return array[index]; }
+    }
+
+    private static final class OfShort extends ArrayIterator {
+        private final short[] array;
+        OfShort(short[] array) { super(array.length); this.array = array; }
+        @Override Object get(int index) { return array[index]; }
+    }
+
+    private static final class OfChar extends ArrayIterator {
+        private final char[] array;
+        OfChar(char[] array) { super(array.length); this.array = array; }
+        @Override Object get(int index) { return array[index]; }
+    }
+
+    private static final class OfBoolean extends ArrayIterator {
+        private final boolean[] array;
+        OfBoolean(boolean[] array) { super(array.length); this.array = array; }
+        @Override Object get(int index) { return array[index]; }
+    }
+
 }
@@ -0,0 +1,217 @@
+package org.hamcrest.internal;
+
+import org.hamcrest.Lowerable;
+import org.hamcrest.Matcher;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.List;
+
+/**
+ * Combinators for the method handles that {@link org.hamcrest.Lowerable} matchers lower to.
+ * Every handle built here has the type {@link #MATCHES}.
+ */
+public final class MatcherHandles {
+
+    /**
+     * The type of a lowered matcher: <code>(Object)boolean</code>.
+     */
+    public static final MethodType MATCHES = MethodType.methodType(boolean.class, Object.class);
+
+    private static final MethodHandle TRUE = MethodHandles.dropArguments(MethodHandles.constant(boolean.class, true), 0, Object.class);
+    private static final MethodHandle FALSE = MethodHandles.dropArguments(MethodHandles.constant(boolean.class, false), 0, Object.class);
+    private static final MethodHandle NOT = findStatic(MethodHandles.lookup(), MatcherHandles.class, "not", MethodType.methodType(boolean.class, boolean.class));
+    private static final MethodHandle IS_NULL = findStatic(MethodHandles.lookup(), MatcherHandles.class, "isNull", MATCHES);
+    private static final MethodHandle IS_SAME = findStatic(MethodHandles.lookup(), MatcherHandles.class, "isSame", MethodType.methodType(boolean.class, Object.class, Object.class));
+    private static final MethodHandle IS_INSTANCE = findVirtual(MethodHandles.lookup(), Class.class, "isInstance", MATCHES);
+    private static final MethodHandle MATCHER_MATCHES = findVirtual(MethodHandles.lookup(), Matcher.class, "matches", MATCHES);
+
+    private static final Lowerable.Lowering LOWERING = new Lowerable.Lowering() {
+        @Override
+        public MethodHandle lower(Matcher<?> matcher) {
+            return matcher.toMethodHandle();
+        }
+    };
+
+    private static final ClassValue<Boolean> LOWERS_AS_IT_MATCHES = new ClassValue<Boolean>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            Class<?> lowering;
+            try {
+                lowering = type.getMethod("lower", Lowerable.Lowering.class).getDeclaringClass();
+            } catch (NoSuchMethodException e) {
+                return false;
+            }
+            for (Class<?> c = type; c != lowering; c = c.getSuperclass()) {
+                for (Method method : c.getDeclaredMethods()) {
+                    if (!method.isSynthetic() && (method.getName().equals("matches") || method.getName().equals("matchesSafely"))) {
+                        return false;
+                    }
+                }
+            }
+            return true;
+        }
+    };
+
+    private MatcherHandles() {
+    }
+
+    /**
+     * Lowers a matcher, and the matchers it holds, as far as they implement {@link Lowerable}.
+     * This is the default implementation of {@link Matcher#toMethodHandle()}.
+     *
+     * <p>A matcher is only lowered if <code>matches</code> and <code>matchesSafely</code> are
+     * declared in the class that declares {@link Lowerable#lower} or in its ancestors, as a
+     * subclass that overrides them would not agree with the lowering it inherits. Methods
+     * that a lowering calls on the matcher, such as <code>featureValueOf</code>, may be
+     * overridden. Other matchers are called through <code>matches</code>.</p>
+     *
+     * @param matcher the matcher to lower
+     * @return a handle of type {@link #MATCHES} that evaluates <var>matcher</var>
+     * @throws IllegalStateException if a {@link Lowerable} matcher lowers to a handle of the wrong type
+     */
+    public static MethodHandle lower(Matcher<?> matcher) {
+        if (!(matcher instanceof Lowerable) || !LOWERS_AS_IT_MATCHES.get(matcher.getClass())) {
+            return interpreted(matcher);
+        }
+        MethodHandle handle = ((Lowerable) matcher).lower(LOWERING);
+        if (!handle.type().equals(MATCHES)) {
+            throw new IllegalStateException(matcher.getClass().getName() + " lowered to a handle of type " + handle.type());
+        }
+        return handle;
+    }
+
+    /**
+     * @param value the result
+     * @return a handle that gives <var>value</var> for every argument
+     */
+    public static MethodHandle constant(boolean value) {
+        return value ? TRUE : FALSE;
+    }
+
+    /**
+     * @return a handle that is true only for a null argument
+     */
+    public static MethodHandle isNull() {
+        return IS_NULL;
+    }
+
+    /**
+     * @param type a class
+     * @return a handle that is true only for instances of <var>type</var>
+     */
+    public static MethodHandle isInstance(Class<?> type) {
+        return type == Object.class ? not(IS_NULL) : IS_INSTANCE.bindTo(type);
+    }
+
+    /**
+     * @param object any object
+     * @return a handle that is true only for <var>object</var> itself
+     */
+    public static MethodHandle isSame(Object object) {
+        return MethodHandles.insertArguments(IS_SAME, 1, object);
+    }
+
+    /**
+     * @param matcher any matcher
+     * @return a handle that calls {@link Matcher#matches(Object)} on <var>matcher</var>
+     */
+    public static MethodHandle interpreted(Matcher<?> matcher) {
+        return MATCHER_MATCHES.bindTo(matcher);
+    }
+
+    /**
+     * @param handle a lowered matcher
+     * @return a handle that negates the result of <var>handle</var>
+     */
+    public static MethodHandle not(MethodHandle handle) {
+        return MethodHandles.filterReturnValue(handle, NOT);
+    }
+
+    /**
+     * @param handles lowered matchers, in evaluation order
+     * @return a handle that is true when all of <var>handles</var> are, evaluating them in order
+     * only until one is false
+     */
+    public static MethodHandle allOf(List<MethodHandle> handles) {
+        MethodHandle result = TRUE;
+        for (int i = handles.size() - 1; i >= 0; i--) {
+            result = result == TRUE ? handles.get(i) : MethodHandles.guardWithTest(handles.get(i), result, FALSE);
+        }
+        return result;
+    }
+
+    /**
+     * @param handles lowered matchers, in evaluation order
+     * @return a handle that is true when any of <var>handles</var> is, evaluating them in order
+     * only until one is true
+     */
+    public static MethodHandle anyOf(List<MethodHandle> handles) {
+        MethodHandle result = FALSE;
+        for (int i = handles.size() - 1; i >= 0; i--) {
+            result = result == FALSE ? handles.get(i) : MethodHandles.guardWithTest(handles.get(i), TRUE, result);
+        }
+        return result;
+    }
+
+    /**
+     * @param type the type that arguments must have
+     * @param handle a handle that takes a non-null argument of <var>type</var> and returns boolean
+     * @return a handle that is false for null arguments and arguments of other types, and
+     * otherwise gives the result of <var>handle</var>
+     */
+    public static MethodHandle typeSafe(Class<?> type, MethodHandle handle) {
+        return MethodHandles.guardWithTest(isInstance(type), handle.asType(MATCHES), FALSE);
+    }
+
+    /**
+     * Finds a static method, for use by matchers lowering themselves.
+     *
+     * @param lookup a lookup with access to the method
+     * @param owner the class that declares the method
+     * @param name the name of the method
+     * @param type the type of the method
+     * @return a handle for the method
+     * @throws IllegalStateException if the method cannot be found or accessed
+     */
+    public static MethodHandle findStatic(MethodHandles.Lookup lookup, Class<?> owner, String name, MethodType type) {
+        try {
+            return lookup.findStatic(owner, name, type);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Cannot find " + owner.getName() + "." + name + type, e);
+        }
+    }
+
+    /**
+     * Finds a virtual method, for use by matchers lowering themselves.
+     *
+     * @param lookup a lookup with access to the method
+     * @param owner the class that declares the method
+     * @param name the name of the method
+     * @param type the type of the method, not including the receiver
+     * @return a handle for the method, which takes the receiver as its first argument
+     * @throws IllegalStateException if the method cannot be found or accessed
+     */
+    public static MethodHandle findVirtual(MethodHandles.Lookup lookup, Class<?> owner, String name, MethodType type) {
+        try {
+            return lookup.findVirtual(owner, name, type);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Cannot find " + owner.getName() + "." + name + type, e);
+        }
+    }
+
+    private static boolean not(boolean value) {
+        return !value;
+    }
+
+    private static boolean isNull(Object value) {
+        return value == null;
+    }
+
+    private static boolean isSame(Object actual, Object expected) {
+        return actual == expected;
+    }
+
+}
@@ -0,0 +1,110 @@
+package org.hamcrest.internal;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Iterator;
+
+/**
+ * Helpers for the structural <code>equals</code> and <code>hashCode</code> of matchers
+ * that hold sequences of other matchers, or values.
+ *
+ * <p>Values are only compared by <code>equals</code> if they are known to be immutable;
+ * any other value, such as a collection or an array, may change after the matcher is
+ * built, so is only equal to itself.</p>
+ */
+public class Structural {
+
+    private Structural() {
+    }
+
+    /**
+     * @param first a sequence
+     * @param second another sequence
+     * @return true if both sequences have equal elements in the same order
+     */
+    public static boolean elementsEqual(Iterable<?> first, Iterable<?> second) {
+        Iterator<?> firstElements = first.iterator();
+        Iterator<?> secondElements = second.iterator();
+        while (firstElements.hasNext() && secondElements.hasNext()) {
+            Object element = firstElements.next();
+            Object other = secondElements.next();
+            if (element == null ? other != null : !element.equals(other)) {
+                return false;
+            }
+        }
+        return !firstElements.hasNext() && !secondElements.hasNext();
+    }
+
+    /**
+     * @param elements a sequence
+     * @return a hash code of the elements, consistent with {@link #elementsEqual(Iterable, Iterable)}
+     */
+    public static int elementsHashCode(Iterable<?> elements) {
+        int hash = 1;
+        for (Object element : elements) {
+            hash = 31 * hash + (element == null ? 0 : element.hashCode());
+        }
+        return hash;
+    }
+
+    /**
+     * @param value a value held by a matcher
+     * @param other a value held by another matcher
+     * @return true if both values are the same, or are equal immutable values
+     */
+    public static boolean valuesEqual(Object value, Object other) {
+        if (value == other) {
+            return true;
+        }
+        return isImmutableValue(value) && value.equals(other);
+    }
+
+    /**
+     * @param values values held by a matcher
+     * @param others values held by another matcher
+     * @return true if both arrays have the same length and {@link #valuesEqual(Object, Object)
+     * equal values} in the same order
+     */
+    public static boolean valuesEqual(Object[] values, Object[] others) {
+        if (values.length != others.length) {
+            return false;
+        }
+        for (int i = 0; i < values.length; i++) {
+            if (!valuesEqual(values[i], others[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @param value a value held by a matcher
+     * @return a hash code of the value, consistent with {@link #valuesEqual(Object, Object)}
+     */
+    public static int valueHashCode(Object value) {
+        if (value == null) {
+            return 0;
+        }
+        return isImmutableValue(value) ? value.hashCode() : System.identityHashCode(value);
+    }
+
+    /**
+     * Subclasses of the number classes may be mutable, so only the classes themselves are
+     * immutable here.
+     */
+    private static boolean isImmutableValue(Object value) {
+        return value instanceof String
+            || value instanceof Integer
+            || value instanceof Long
+            || value instanceof Short
+            || value instanceof Byte
+            || value instanceof Character
+            || value instanceof Boolean
+            || value instanceof Double
+            || value instanceof Float
+            || value instanceof Class
+            || value instanceof Enum
+            || (value != null && (value.getClass() == BigInteger.class || value.getClass() == BigDecimal.class));
+    }
+
+}
@@ -1,5 +1,7 @@
 package org.hamcrest.number;
 
+import org.hamcrest.Cost;
+import org.hamcrest.Costed;
 import org.hamcrest.Description;
 import org.hamcrest.Matcher;
 import org.hamcrest.TypeSafeMatcher;
@@ -11,7 +13,7 @@ import java.math.MathContext;
 /**
  * A matcher that checks a {@link BigDecimal} is close to an expected value.
  */
-public class BigDecimalCloseTo extends TypeSafeMatcher<BigDecimal> {
+public class BigDecimalCloseTo extends TypeSafeMatcher<BigDecimal> implements Costed {
 
   private final BigDecimal delta;
   private final BigDecimal value;
@@ -49,6 +51,11 @@ public class BigDecimalCloseTo extends TypeSafeMatcher<BigDecimal> {
               .appendValue(value);
   }
 
+  @Override
+  public double estimatedCost() {
+    return Cost.CONSTANT;
+  }
+
   private BigDecimal actualDelta(BigDecimal item) {
       return item.subtract(value, MathContext.DECIMAL128).abs().subtract(delta, MathContext.DECIMAL128).stripTrailingZeros();
   }
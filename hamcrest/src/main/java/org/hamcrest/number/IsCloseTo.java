@@ -1,7 +1,10 @@
 package org.hamcrest.number;
 
+import org.hamcrest.Cost;
+import org.hamcrest.Costed;
 import org.hamcrest.Description;
 import org.hamcrest.Matcher;
+import org.hamcrest.PrimitiveMatching;
 import org.hamcrest.TypeSafeMatcher;
 
 import static java.lang.Math.abs;
@@ -9,7 +12,7 @@ import static java.lang.Math.abs;
 /**
  * Is the value a number equal to a value within some range of acceptable error?
  */
-public class IsCloseTo extends TypeSafeMatcher<Double> {
+public class IsCloseTo extends TypeSafeMatcher<Double> implements Costed, PrimitiveMatching {
 
     private final double delta;
     private final double value;
@@ -29,6 +32,21 @@ public class IsCloseTo extends TypeSafeMatcher<Double> {
         return actualDelta(item) <= 0.0;
     }
 
+    @Override
+    public boolean matchesInt(int actual) {
+        return false;
+    }
+
+    @Override
+    public boolean matchesLong(long actual) {
+        return false;
+    }
+
+    @Override
+    public boolean matchesDouble(double actual) {
+        return abs(actual - value) - delta <= 0.0;
+    }
+
     @Override
     public void describeMismatchSafely(Double item, Description mismatchDescription) {
       mismatchDescription.appendValue(item)
@@ -46,6 +64,28 @@ public class IsCloseTo extends TypeSafeMatcher<Double> {
                 .appendValue(value);
     }
 
+    @Override
+    public double estimatedCost() {
+        return Cost.CONSTANT;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        IsCloseTo other = (IsCloseTo) o;
+        return Double.compare(value, other.value) == 0 && Double.compare(delta, other.delta) == 0;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * (31 * getClass().hashCode() + Double.hashCode(value)) + Double.hashCode(delta);
+    }
+
     private double actualDelta(Double item) {
       return abs(item - value) - delta;
     }
@@ -1,5 +1,7 @@
 package org.hamcrest.number;
 
+import org.hamcrest.Cost;
+import org.hamcrest.Costed;
 import org.hamcrest.Description;
 import org.hamcrest.Matcher;
 import org.hamcrest.TypeSafeMatcher;
@@ -7,7 +9,7 @@ import org.hamcrest.TypeSafeMatcher;
 /**
  * Is the value a number actually not a number (NaN)?
  */
-public final class IsNaN extends TypeSafeMatcher<Double> {
+public final class IsNaN extends TypeSafeMatcher<Double> implements Costed {
 
     private IsNaN() { }
 
@@ -26,6 +28,11 @@ public final class IsNaN extends TypeSafeMatcher<Double> {
         description.appendText("a double value of NaN");
     }
 
+    @Override
+    public double estimatedCost() {
+        return Cost.CONSTANT;
+    }
+
     /**
      * Creates a matcher of {@link Double}s that matches when an examined double is not a number.
      * For example:
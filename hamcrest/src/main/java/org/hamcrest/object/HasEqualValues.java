@@ -1,5 +1,7 @@
 package org.hamcrest.object;
 
+import org.hamcrest.Cost;
+import org.hamcrest.Costed;
 import org.hamcrest.Description;
 import org.hamcrest.DiagnosingMatcher;
 import org.hamcrest.Matcher;
@@ -16,7 +18,7 @@ import static java.lang.String.format;
  * A matcher that checks if an object as equal fields values to an expected object.
  * @param <T> the type of the object being matched.
  */
-public class HasEqualValues<T> extends TypeSafeDiagnosingMatcher<T> {
+public class HasEqualValues<T> extends TypeSafeDiagnosingMatcher<T> implements Costed {
 
     private final T expectedObject;
     private final List<FieldMatcher> fieldMatchers;
@@ -48,6 +50,11 @@ public class HasEqualValues<T> extends TypeSafeDiagnosingMatcher<T> {
                 .appendList("[", ", ", "]", fieldMatchers);
     }
 
+    @Override
+    public double estimatedCost() {
+        return Cost.REFLECTION;
+    }
+
     private static class FieldMatcher extends DiagnosingMatcher<Object> {
         private final Field field;
         private final Matcher<Object> matcher;
@@ -1,5 +1,6 @@
 package org.hamcrest.object;
 
+import org.hamcrest.Cost;
 import org.hamcrest.FeatureMatcher;
 import org.hamcrest.Matcher;
 
@@ -24,6 +25,11 @@ public class HasToString<T> extends FeatureMatcher<T, String> {
       return String.valueOf(actual);
     }
 
+    @Override
+    protected double featureCost() {
+        return Cost.STRING;
+    }
+
     /**
      * Creates a matcher that matches any examined object whose <code>toString</code> method
      * returns a value that satisfies the specified matcher.
@@ -1,5 +1,7 @@
 package org.hamcrest.object;
 
+import org.hamcrest.Cost;
+import org.hamcrest.Costed;
 import org.hamcrest.Description;
 import org.hamcrest.Matcher;
 import org.hamcrest.TypeSafeMatcher;
@@ -8,7 +10,7 @@ import org.hamcrest.TypeSafeMatcher;
  * A matcher of {@link Class} that matches when the specified baseType is assignable from the examined class.
  * @param <T> the type of the class
  */
-public class IsCompatibleType<T> extends TypeSafeMatcher<Class<?>> {
+public class IsCompatibleType<T> extends TypeSafeMatcher<Class<?>> implements Costed {
 
     private final Class<T> type;
 
@@ -35,6 +37,11 @@ public class IsCompatibleType<T> extends TypeSafeMatcher<Class<?>> {
         description.appendText("type < ").appendText(type.getName());
     }
 
+    @Override
+    public double estimatedCost() {
+        return Cost.CONSTANT;
+    }
+
     /**
      * Creates a matcher of {@link Class} that matches when the specified baseType is
      * assignable from the examined class.
@@ -1,5 +1,7 @@
 package org.hamcrest.object;
 
+import org.hamcrest.Cost;
+import org.hamcrest.Costed;
 import org.hamcrest.Description;
 import org.hamcrest.Matcher;
 import org.hamcrest.TypeSafeDiagnosingMatcher;
@@ -9,7 +11,7 @@ import java.util.EventObject;
 /**
  * Tests if the value is an event announced by a specific object.
  */
-public class IsEventFrom extends TypeSafeDiagnosingMatcher<EventObject> {
+public class IsEventFrom extends TypeSafeDiagnosingMatcher<EventObject> implements Costed {
 
     private final Class<?> eventClass;
     private final Object source;
@@ -27,7 +29,7 @@ public class IsEventFrom extends TypeSafeDiagnosingMatcher<EventObject> {
     @Override
     public boolean matchesSafely(EventObject item, Description mismatchDescription) {
         if (!eventClass.isInstance(item)) {
-          mismatchDescription.appendText("item type was " + item.getClass().getName());
+          mismatchDescription.appendText("item type was %s", item.getClass().getName());
           return false;
         }
 
@@ -50,6 +52,11 @@ public class IsEventFrom extends TypeSafeDiagnosingMatcher<EventObject> {
                 .appendValue(source);
     }
 
+    @Override
+    public double estimatedCost() {
+        return Cost.CONSTANT;
+    }
+
     /**
      * Creates a matcher of {@link java.util.EventObject} that matches any object
      * derived from <var>eventClass</var> announced by <var>source</var>.
@@ -1,5 +1,7 @@
 package org.hamcrest.optional;
 
+import org.hamcrest.Cost;
+import org.hamcrest.Costed;
 import org.hamcrest.Description;
 import org.hamcrest.Matcher;
 import org.hamcrest.TypeSafeDiagnosingMatcher;
@@ -11,7 +13,7 @@ import java.util.Optional;
 
  * @param <T> type of {@link Optional} value
  */
-public class OptionalEmpty<T> extends TypeSafeDiagnosingMatcher<Optional<T>> {
+public class OptionalEmpty<T> extends TypeSafeDiagnosingMatcher<Optional<T>> implements Costed {
 
     /**
      * Constructor, best called from {@link #emptyOptional()}.
@@ -31,7 +33,7 @@ public class OptionalEmpty<T> extends TypeSafeDiagnosingMatcher<Optional<T>> {
 
     @Override
     protected boolean matchesSafely(Optional<T> value, Description mismatchDescription) {
-        mismatchDescription.appendText("is " + value);
+        mismatchDescription.appendText("is %s", value);
         return !value.isPresent();
     }
 
@@ -39,4 +41,9 @@ public class OptionalEmpty<T> extends TypeSafeDiagnosingMatcher<Optional<T>> {
     public void describeTo(Description description) {
         description.appendText("empty");
     }
+
+    @Override
+    public double estimatedCost() {
+        return Cost.CONSTANT;
+    }
 }
@@ -1,5 +1,7 @@
 package org.hamcrest.optional;
 
+import org.hamcrest.Cost;
+import org.hamcrest.Costed;
 import org.hamcrest.Description;
 import org.hamcrest.Matcher;
 import org.hamcrest.TypeSafeDiagnosingMatcher;
@@ -14,7 +16,7 @@ import static org.hamcrest.core.IsEqual.equalTo;
  *
  * @param <T> type of {@link Optional} value
  */
-public class OptionalWithValue<T> extends TypeSafeDiagnosingMatcher<Optional<T>> {
+public class OptionalWithValue<T> extends TypeSafeDiagnosingMatcher<Optional<T>> implements Costed {
 
     private final Matcher<? super T> matcher;
 
@@ -61,7 +63,7 @@ public class OptionalWithValue<T> extends TypeSafeDiagnosingMatcher<Optional<T>>
 
     @Override
     protected boolean matchesSafely(Optional<T> value, Description mismatchDescription) {
-        mismatchDescription.appendText("is " + value);
+        mismatchDescription.appendText("is %s", value);
         return value.isPresent() && matcher.matches(value.get());
     }
 
@@ -70,4 +72,9 @@ public class OptionalWithValue<T> extends TypeSafeDiagnosingMatcher<Optional<T>>
         description.appendText("present and matches ")
                 .appendDescriptionOf(matcher);
     }
+
+    @Override
+    public double estimatedCost() {
+        return Cost.CONSTANT + Cost.of(matcher);
+    }
 }
@@ -0,0 +1,183 @@
+package org.hamcrest.primitive;
+
+import org.hamcrest.Matcher;
+import org.hamcrest.MatcherPredicates;
+
+import java.util.Arrays;
+import java.util.function.DoublePredicate;
+import java.util.function.IntPredicate;
+import java.util.function.LongPredicate;
+
+/**
+ * The operations on an array of one type of primitive that the matchers need.
+ *
+ * @param <A> the type of the array
+ */
+abstract class ElementType<A> {
+
+    static final ElementType<int[]> INT = new ElementType<int[]>(int[].class) {
+        @Override
+        int length(int[] array) {
+            return array.length;
+        }
+
+        @Override
+        Object elementAt(int[] array, int index) {
+            return array[index];
+        }
+
+        @Override
+        boolean areEqual(int[] actual, int[] expected) {
+            return Arrays.equals(actual, expected);
+        }
+
+        @Override
+        ElementTest<int[]> test(Matcher<?> matcher) {
+            return ints(MatcherPredicates.asIntPredicate(ElementType.<Integer>asMatcherOf(matcher)));
+        }
+    };
+
+    static final ElementType<long[]> LONG = new ElementType<long[]>(long[].class) {
+        @Override
+        int length(long[] array) {
+            return array.length;
+        }
+
+        @Override
+        Object elementAt(long[] array, int index) {
+            return array[index];
+        }
+
+        @Override
+        boolean areEqual(long[] actual, long[] expected) {
+            return Arrays.equals(actual, expected);
+        }
+
+        @Override
+        ElementTest<long[]> test(Matcher<?> matcher) {
+            return longs(MatcherPredicates.asLongPredicate(ElementType.<Long>asMatcherOf(matcher)));
+        }
+    };
+
+    /**
+     * Doubles are equal as by {@link Double#equals}: NaN is equal to itself, and 0.0 is not
+     * equal to -0.0.
+     */
+    static final ElementType<double[]> DOUBLE = new ElementType<double[]>(double[].class) {
+        @Override
+        int length(double[] array) {
+            return array.length;
+        }
+
+        @Override
+        Object elementAt(double[] array, int index) {
+            return array[index];
+        }
+
+        @Override
+        boolean areEqual(double[] actual, double[] expected) {
+            return Arrays.equals(actual, expected);
+        }
+
+        @Override
+        ElementTest<double[]> test(Matcher<?> matcher) {
+            return doubles(MatcherPredicates.asDoublePredicate(ElementType.<Double>asMatcherOf(matcher)));
+        }
+    };
+
+    /**
+     * Bytes are tested as {@link Byte}s, whose boxes are all cached, so are never allocated.
+     */
+    static final ElementType<byte[]> BYTE = new ElementType<byte[]>(byte[].class) {
+        @Override
+        int length(byte[] array) {
+            return array.length;
+        }
+
+        @Override
+        Object elementAt(byte[] array, int index) {
+            return array[index];
+        }
+
+        @Override
+        boolean areEqual(byte[] actual, byte[] expected) {
+            return Arrays.equals(actual, expected);
+        }
+
+        @Override
+        ElementTest<byte[]> test(final Matcher<?> matcher) {
+            return new ElementTest<byte[]>() {
+                @Override
+                public boolean test(byte[] array, int index) {
+                    return matcher.matches(array[index]);
+                }
+            };
+        }
+    };
+
+    private final Class<A> arrayType;
+
+    private ElementType(Class<A> arrayType) {
+        this.arrayType = arrayType;
+    }
+
+    Class<A> arrayType() {
+        return arrayType;
+    }
+
+    abstract int length(A array);
+
+    /**
+     * @return the element boxed, for a description
+     */
+    abstract Object elementAt(A array, int index);
+
+    abstract boolean areEqual(A actual, A expected);
+
+    /**
+     * @return a test of an element by a matcher of the boxed element type
+     */
+    abstract ElementTest<A> test(Matcher<?> matcher);
+
+    static ElementTest<int[]> ints(final IntPredicate predicate) {
+        return new ElementTest<int[]>() {
+            @Override
+            public boolean test(int[] array, int index) {
+                return predicate.test(array[index]);
+            }
+        };
+    }
+
+    static ElementTest<long[]> longs(final LongPredicate predicate) {
+        return new ElementTest<long[]>() {
+            @Override
+            public boolean test(long[] array, int index) {
+                return predicate.test(array[index]);
+            }
+        };
+    }
+
+    static ElementTest<double[]> doubles(final DoublePredicate predicate) {
+        return new ElementTest<double[]>() {
+            @Override
+            public boolean test(double[] array, int index) {
+                return predicate.test(array[index]);
+            }
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Matcher<? super T> asMatcherOf(Matcher<?> matcher) {
+        return (Matcher<? super T>) matcher;
+    }
+
+    /**
+     * Tests an element of an array in place.
+     *
+     * @param <A> the type of the array
+     */
+    interface ElementTest<A> {
+        boolean test(A array, int index);
+    }
+
+}
@@ -0,0 +1,66 @@
+package org.hamcrest.primitive;
+
+import org.hamcrest.Cost;
+import org.hamcrest.Costed;
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+import org.hamcrest.TypeSafeDiagnosingMatcher;
+import org.hamcrest.primitive.ElementType.ElementTest;
+
+/**
+ * Tests if every element of an array of primitives is matched, stopping at the first that
+ * is not, which describes the mismatch.
+ *
+ * @param <A> the type of the array
+ */
+final class EveryPrimitiveItem<A> extends TypeSafeDiagnosingMatcher<A> implements Costed {
+
+    private final ElementType<A> type;
+    private final Matcher<?> elementMatcher;
+    private final ElementTest<A> test;
+
+    /**
+     * @param elementMatcher the matcher of the elements, or null if they are tested by a predicate
+     * @param test the test of each element
+     */
+    EveryPrimitiveItem(ElementType<A> type, Matcher<?> elementMatcher, ElementTest<A> test) {
+        super(type.arrayType());
+        this.type = type;
+        this.elementMatcher = elementMatcher;
+        this.test = test;
+    }
+
+    @Override
+    protected boolean matchesSafely(A array, Description mismatchDescription) {
+        int length = type.length(array);
+        for (int i = 0; i < length; i++) {
+            if (!test.test(array, i)) {
+                if (isDiagnosing(mismatchDescription)) {
+                    if (elementMatcher != null) {
+                        mismatchDescription.appendText("an item ");
+                        elementMatcher.describeMismatch(type.elementAt(array, i), mismatchDescription);
+                    } else {
+                        mismatchDescription.appendText("item %s was ", i).appendValue(type.elementAt(array, i));
+                    }
+                }
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public void describeTo(Description description) {
+        if (elementMatcher != null) {
+            description.appendText("every item is ").appendDescriptionOf(elementMatcher);
+        } else {
+            description.appendText("every item satisfies the predicate");
+        }
+    }
+
+    @Override
+    public double estimatedCost() {
+        return Cost.perElement(elementMatcher != null ? Cost.of(elementMatcher) : Cost.CONSTANT);
+    }
+
+}
@@ -0,0 +1,51 @@
+package org.hamcrest.primitive;
+
+import org.hamcrest.Cost;
+import org.hamcrest.Costed;
+import org.hamcrest.Description;
+import org.hamcrest.TypeSafeDiagnosingMatcher;
+
+/**
+ * Tests if a byte array holds a run of bytes at an offset. A mismatch is described by the
+ * first byte of the run that differs, or by the size if the array is too short.
+ */
+final class HasBytesAt extends TypeSafeDiagnosingMatcher<byte[]> implements Costed {
+
+    private final int offset;
+    private final byte[] bytes;
+
+    HasBytesAt(int offset, byte[] bytes) {
+        super(byte[].class);
+        if (offset < 0) {
+            throw new IllegalArgumentException("Offset should not be negative: " + offset);
+        }
+        this.offset = offset;
+        this.bytes = bytes.clone();
+    }
+
+    @Override
+    protected boolean matchesSafely(byte[] array, Description mismatchDescription) {
+        if (array.length - offset < bytes.length) {
+            mismatchDescription.appendText("array size was ").appendValue(array.length);
+            return false;
+        }
+        for (int i = 0; i < bytes.length; i++) {
+            if (array[offset + i] != bytes[i]) {
+                mismatchDescription.appendText("item %s: was ", offset + i).appendValue(array[offset + i]);
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public void describeTo(Description description) {
+        description.appendText("an array with ").appendValue(bytes).appendText(" at item %s", offset);
+    }
+
+    @Override
+    public double estimatedCost() {
+        return Cost.perElement(Cost.CONSTANT);
+    }
+
+}
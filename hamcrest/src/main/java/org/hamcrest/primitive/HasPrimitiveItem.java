@@ -0,0 +1,65 @@
+package org.hamcrest.primitive;
+
+import org.hamcrest.Cost;
+import org.hamcrest.Costed;
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+import org.hamcrest.TypeSafeDiagnosingMatcher;
+import org.hamcrest.primitive.ElementType.ElementTest;
+
+/**
+ * Tests if an array of primitives has an element that is matched, stopping at the first.
+ * A mismatch is described by the mismatches of the first ten elements.
+ *
+ * @param <A> the type of the array
+ */
+final class HasPrimitiveItem<A> extends TypeSafeDiagnosingMatcher<A> implements Costed {
+
+    private static final int MAX_LISTED_MISMATCHES = 10;
+
+    private final ElementType<A> type;
+    private final Matcher<?> elementMatcher;
+    private final ElementTest<A> test;
+
+    HasPrimitiveItem(ElementType<A> type, Matcher<?> elementMatcher) {
+        super(type.arrayType());
+        this.type = type;
+        this.elementMatcher = elementMatcher;
+        this.test = type.test(elementMatcher);
+    }
+
+    @Override
+    protected boolean matchesSafely(A array, Description mismatchDescription) {
+        int length = type.length(array);
+        for (int i = 0; i < length; i++) {
+            if (test.test(array, i)) {
+                return true;
+            }
+        }
+        if (length == 0) {
+            mismatchDescription.appendText("was empty");
+        } else if (isDiagnosing(mismatchDescription)) {
+            mismatchDescription.appendText("mismatches were: [");
+            for (int i = 0; i < length && i < MAX_LISTED_MISMATCHES; i++) {
+                mismatchDescription.appendText(i > 0 ? ", " : "");
+                elementMatcher.describeMismatch(type.elementAt(array, i), mismatchDescription);
+            }
+            if (length > MAX_LISTED_MISMATCHES) {
+                mismatchDescription.appendText(", and %s more", length - MAX_LISTED_MISMATCHES);
+            }
+            mismatchDescription.appendText("]");
+        }
+        return false;
+    }
+
+    @Override
+    public void describeTo(Description description) {
+        description.appendText("an array containing ").appendDescriptionOf(elementMatcher);
+    }
+
+    @Override
+    public double estimatedCost() {
+        return Cost.perElement(Cost.of(elementMatcher));
+    }
+
+}
@@ -0,0 +1,63 @@
+package org.hamcrest.primitive;
+
+import org.hamcrest.Cost;
+import org.hamcrest.Costed;
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+import org.hamcrest.TypeSafeDiagnosingMatcher;
+import org.hamcrest.primitive.ElementType.ElementTest;
+
+import java.util.List;
+
+/**
+ * Tests if each element of an array of primitives is matched by the matcher in the same
+ * position. An array of a different size is rejected before any element is tested.
+ *
+ * @param <A> the type of the array
+ */
+final class IsPrimitiveArrayContainingInOrder<A> extends TypeSafeDiagnosingMatcher<A> implements Costed {
+
+    private final ElementType<A> type;
+    private final List<? extends Matcher<?>> matchers;
+    private final ElementTest<A>[] tests;
+
+    @SuppressWarnings("unchecked")
+    IsPrimitiveArrayContainingInOrder(ElementType<A> type, List<? extends Matcher<?>> matchers) {
+        super(type.arrayType());
+        this.type = type;
+        this.matchers = matchers;
+        this.tests = new ElementTest[matchers.size()];
+        for (int i = 0; i < tests.length; i++) {
+            tests[i] = type.test(matchers.get(i));
+        }
+    }
+
+    @Override
+    protected boolean matchesSafely(A array, Description mismatchDescription) {
+        if (type.length(array) != tests.length) {
+            mismatchDescription.appendText("array size was ").appendValue(type.length(array));
+            return false;
+        }
+        for (int i = 0; i < tests.length; i++) {
+            if (!tests[i].test(array, i)) {
+                if (isDiagnosing(mismatchDescription)) {
+                    mismatchDescription.appendText("item %s: ", i);
+                    matchers.get(i).describeMismatch(type.elementAt(array, i), mismatchDescription);
+                }
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public void describeTo(Description description) {
+        description.appendList("[", ", ", "]", matchers);
+    }
+
+    @Override
+    public double estimatedCost() {
+        return Cost.sum(matchers);
+    }
+
+}
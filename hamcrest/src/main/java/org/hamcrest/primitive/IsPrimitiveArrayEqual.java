@@ -0,0 +1,53 @@
+package org.hamcrest.primitive;
+
+import org.hamcrest.Cost;
+import org.hamcrest.Costed;
+import org.hamcrest.Description;
+import org.hamcrest.TypeSafeDiagnosingMatcher;
+
+/**
+ * Tests if an array of primitives has the same elements as another, comparing them in bulk.
+ * A mismatch is described by the first element that differs, or the size.
+ *
+ * @param <A> the type of the array
+ */
+final class IsPrimitiveArrayEqual<A> extends TypeSafeDiagnosingMatcher<A> implements Costed {
+
+    private final ElementType<A> type;
+    private final A expected;
+
+    IsPrimitiveArrayEqual(ElementType<A> type, A expected) {
+        super(type.arrayType());
+        this.type = type;
+        this.expected = expected;
+    }
+
+    @Override
+    protected boolean matchesSafely(A array, Description mismatchDescription) {
+        if (type.areEqual(array, expected)) {
+            return true;
+        }
+        if (isDiagnosing(mismatchDescription)) {
+            int length = Math.min(type.length(array), type.length(expected));
+            for (int i = 0; i < length; i++) {
+                if (!type.elementAt(array, i).equals(type.elementAt(expected, i))) {
+                    mismatchDescription.appendText("item %s: was ", i).appendValue(type.elementAt(array, i));
+                    return false;
+                }
+            }
+            mismatchDescription.appendText("array size was ").appendValue(type.length(array));
+        }
+        return false;
+    }
+
+    @Override
+    public void describeTo(Description description) {
+        description.appendValue(expected);
+    }
+
+    @Override
+    public double estimatedCost() {
+        return Cost.perElement(Cost.CONSTANT);
+    }
+
+}
@@ -0,0 +1,51 @@
+package org.hamcrest.primitive;
+
+import org.hamcrest.Cost;
+import org.hamcrest.Costed;
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+import org.hamcrest.MatcherPredicates;
+import org.hamcrest.TypeSafeDiagnosingMatcher;
+
+import java.util.function.IntPredicate;
+
+/**
+ * Tests if the length of an array of primitives satisfies a size matcher.
+ *
+ * @param <A> the type of the array
+ */
+final class IsPrimitiveArrayWithSize<A> extends TypeSafeDiagnosingMatcher<A> implements Costed {
+
+    private final ElementType<A> type;
+    private final Matcher<? super Integer> sizeMatcher;
+    private final IntPredicate sizeTest;
+
+    IsPrimitiveArrayWithSize(ElementType<A> type, Matcher<? super Integer> sizeMatcher) {
+        super(type.arrayType());
+        this.type = type;
+        this.sizeMatcher = sizeMatcher;
+        this.sizeTest = MatcherPredicates.asIntPredicate(sizeMatcher);
+    }
+
+    @Override
+    protected boolean matchesSafely(A array, Description mismatchDescription) {
+        int size = type.length(array);
+        if (sizeTest.test(size)) {
+            return true;
+        }
+        mismatchDescription.appendText("array size ");
+        sizeMatcher.describeMismatch(size, mismatchDescription);
+        return false;
+    }
+
+    @Override
+    public void describeTo(Description description) {
+        description.appendText("an array with size ").appendDescriptionOf(sizeMatcher);
+    }
+
+    @Override
+    public double estimatedCost() {
+        return Cost.CONSTANT + Cost.of(sizeMatcher);
+    }
+
+}
@@ -0,0 +1,432 @@
+package org.hamcrest.primitive;
+
+import org.hamcrest.Matcher;
+
+import java.util.Arrays;
+import java.util.function.DoublePredicate;
+import java.util.function.IntPredicate;
+import java.util.function.LongPredicate;
+
+import static org.hamcrest.core.IsEqual.equalTo;
+
+/**
+ * Matchers of arrays of <code>int</code>, <code>long</code>, <code>double</code> and
+ * <code>byte</code>. Elements are tested in place: values are compared in bulk, and element
+ * matchers that can test a primitive, such as <code>equalTo</code>, <code>closeTo</code> and
+ * the comparisons, are given the element unboxed (see
+ * {@link org.hamcrest.MatcherPredicates}). Other element matchers are given each element
+ * boxed, and an element is only boxed otherwise to describe a mismatch.
+ */
+public final class PrimitiveArrayMatching {
+
+    private PrimitiveArrayMatching() {
+    }
+
+    /**
+     * Creates a matcher for <code>int[]</code>s that matches when the examined array has the
+     * same elements as the specified array, in the same order.
+     * For example:
+     * <pre>assertThat(new int[] {1, 2, 3}, intArrayContaining(1, 2, 3))</pre>
+     *
+     * @param elements
+     *     the elements that the examined array should have
+     * @return The matcher.
+     */
+    public static Matcher<int[]> intArrayContaining(int... elements) {
+        return new IsPrimitiveArrayEqual<>(ElementType.INT, elements.clone());
+    }
+
+    /**
+     * Creates a matcher for <code>int[]</code>s that matches when the examined array has as many
+     * elements as there are specified matchers, each matched by the matcher in the same position.
+     * For example:
+     * <pre>assertThat(new int[] {1, 2, 3}, intArrayContaining(equalTo(1), anything(), greaterThan(0)))</pre>
+     *
+     * @param itemMatchers
+     *     the matchers that the elements of examined arrays should satisfy, in order
+     * @return The matcher.
+     */
+    @SafeVarargs
+    public static Matcher<int[]> intArrayContaining(Matcher<? super Integer>... itemMatchers) {
+        return new IsPrimitiveArrayContainingInOrder<>(ElementType.INT, Arrays.asList(itemMatchers));
+    }
+
+    /**
+     * Creates a matcher for <code>int[]</code>s that matches when the length of the examined array
+     * equals the specified <code>size</code>.
+     * For example:
+     * <pre>assertThat(new int[] {1, 2, 3}, intArrayWithSize(3))</pre>
+     *
+     * @param size
+     *     the length that examined arrays should have
+     * @return The matcher.
+     */
+    public static Matcher<int[]> intArrayWithSize(int size) {
+        return intArrayWithSize(equalTo(size));
+    }
+
+    /**
+     * Creates a matcher for <code>int[]</code>s that matches when the length of the examined array
+     * satisfies the specified matcher.
+     * For example:
+     * <pre>assertThat(new int[] {1, 2, 3}, intArrayWithSize(lessThan(4)))</pre>
+     *
+     * @param sizeMatcher
+     *     a matcher for the length of examined arrays
+     * @return The matcher.
+     */
+    public static Matcher<int[]> intArrayWithSize(Matcher<? super Integer> sizeMatcher) {
+        return new IsPrimitiveArrayWithSize<>(ElementType.INT, sizeMatcher);
+    }
+
+    /**
+     * Creates a matcher for <code>int[]</code>s that matches when the examined array has an element
+     * equal to the specified <code>element</code>, as by <code>Integer.equals</code>.
+     * For example:
+     * <pre>assertThat(new int[] {1, 2, 3}, hasIntItem(2))</pre>
+     *
+     * @param element
+     *     the element that should be present in examined arrays
+     * @return The matcher.
+     */
+    public static Matcher<int[]> hasIntItem(int element) {
+        return hasIntItem(equalTo(element));
+    }
+
+    /**
+     * Creates a matcher for <code>int[]</code>s that matches when the examined array has an element
+     * that is matched by the specified <code>elementMatcher</code>. Elements are tested until
+     * a matching one is found.
+     * For example:
+     * <pre>assertThat(new int[] {1, 2, 3}, hasIntItem(greaterThan(0)))</pre>
+     *
+     * @param elementMatcher
+     *     the matcher to apply to elements of examined arrays
+     * @return The matcher.
+     */
+    public static Matcher<int[]> hasIntItem(Matcher<? super Integer> elementMatcher) {
+        return new HasPrimitiveItem<>(ElementType.INT, elementMatcher);
+    }
+
+    /**
+     * Creates a matcher for <code>int[]</code>s that matches when every element of the examined
+     * array satisfies the specified <code>predicate</code>. Elements are tested until one does
+     * not satisfy it.
+     * For example:
+     * <pre>assertThat(new int[] {1, 2, 3}, everyInt(x -&gt; x &gt; 0))</pre>
+     *
+     * @param predicate
+     *     the predicate that every element of examined arrays should satisfy
+     * @return The matcher.
+     */
+    public static Matcher<int[]> everyInt(IntPredicate predicate) {
+        return new EveryPrimitiveItem<>(ElementType.INT, null, ElementType.ints(predicate));
+    }
+
+    /**
+     * Creates a matcher for <code>int[]</code>s that matches when every element of the examined
+     * array is matched by the specified <code>elementMatcher</code>. Elements are tested until
+     * one does not match.
+     * For example:
+     * <pre>assertThat(new int[] {1, 2, 3}, everyInt(greaterThan(0)))</pre>
+     *
+     * @param elementMatcher
+     *     the matcher to apply to every element of examined arrays
+     * @return The matcher.
+     */
+    public static Matcher<int[]> everyInt(Matcher<? super Integer> elementMatcher) {
+        return new EveryPrimitiveItem<>(ElementType.INT, elementMatcher, ElementType.INT.test(elementMatcher));
+    }
+
+    /**
+     * Creates a matcher for <code>long[]</code>s that matches when the examined array has the
+     * same elements as the specified array, in the same order.
+     * For example:
+     * <pre>assertThat(new long[] {1L, 2L, 3L}, longArrayContaining(1L, 2L, 3L))</pre>
+     *
+     * @param elements
+     *     the elements that the examined array should have
+     * @return The matcher.
+     */
+    public static Matcher<long[]> longArrayContaining(long... elements) {
+        return new IsPrimitiveArrayEqual<>(ElementType.LONG, elements.clone());
+    }
+
+    /**
+     * Creates a matcher for <code>long[]</code>s that matches when the examined array has as many
+     * elements as there are specified matchers, each matched by the matcher in the same position.
+     * For example:
+     * <pre>assertThat(new long[] {1L, 2L, 3L}, longArrayContaining(equalTo(1L), anything(), greaterThan(0L)))</pre>
+     *
+     * @param itemMatchers
+     *     the matchers that the elements of examined arrays should satisfy, in order
+     * @return The matcher.
+     */
+    @SafeVarargs
+    public static Matcher<long[]> longArrayContaining(Matcher<? super Long>... itemMatchers) {
+        return new IsPrimitiveArrayContainingInOrder<>(ElementType.LONG, Arrays.asList(itemMatchers));
+    }
+
+    /**
+     * Creates a matcher for <code>long[]</code>s that matches when the length of the examined array
+     * equals the specified <code>size</code>.
+     * For example:
+     * <pre>assertThat(new long[] {1L, 2L, 3L}, longArrayWithSize(3))</pre>
+     *
+     * @param size
+     *     the length that examined arrays should have
+     * @return The matcher.
+     */
+    public static Matcher<long[]> longArrayWithSize(int size) {
+        return longArrayWithSize(equalTo(size));
+    }
+
+    /**
+     * Creates a matcher for <code>long[]</code>s that matches when the length of the examined array
+     * satisfies the specified matcher.
+     * For example:
+     * <pre>assertThat(new long[] {1L, 2L, 3L}, longArrayWithSize(lessThan(4)))</pre>
+     *
+     * @param sizeMatcher
+     *     a matcher for the length of examined arrays
+     * @return The matcher.
+     */
+    public static Matcher<long[]> longArrayWithSize(Matcher<? super Integer> sizeMatcher) {
+        return new IsPrimitiveArrayWithSize<>(ElementType.LONG, sizeMatcher);
+    }
+
+    /**
+     * Creates a matcher for <code>long[]</code>s that matches when the examined array has an element
+     * equal to the specified <code>element</code>, as by <code>Long.equals</code>.
+     * For example:
+     * <pre>assertThat(new long[] {1L, 2L, 3L}, hasLongItem(2L))</pre>
+     *
+     * @param element
+     *     the element that should be present in examined arrays
+     * @return The matcher.
+     */
+    public static Matcher<long[]> hasLongItem(long element) {
+        return hasLongItem(equalTo(element));
+    }
+
+    /**
+     * Creates a matcher for <code>long[]</code>s that matches when the examined array has an element
+     * that is matched by the specified <code>elementMatcher</code>. Elements are tested until
+     * a matching one is found.
+     * For example:
+     * <pre>assertThat(new long[] {1L, 2L, 3L}, hasLongItem(greaterThan(0L)))</pre>
+     *
+     * @param elementMatcher
+     *     the matcher to apply to elements of examined arrays
+     * @return The matcher.
+     */
+    public static Matcher<long[]> hasLongItem(Matcher<? super Long> elementMatcher) {
+        return new HasPrimitiveItem<>(ElementType.LONG, elementMatcher);
+    }
+
+    /**
+     * Creates a matcher for <code>long[]</code>s that matches when every element of the examined
+     * array satisfies the specified <code>predicate</code>. Elements are tested until one does
+     * not satisfy it.
+     * For example:
+     * <pre>assertThat(new long[] {1L, 2L, 3L}, everyLong(x -&gt; x &gt; 0))</pre>
+     *
+     * @param predicate
+     *     the predicate that every element of examined arrays should satisfy
+     * @return The matcher.
+     */
+    public static Matcher<long[]> everyLong(LongPredicate predicate) {
+        return new EveryPrimitiveItem<>(ElementType.LONG, null, ElementType.longs(predicate));
+    }
+
+    /**
+     * Creates a matcher for <code>long[]</code>s that matches when every element of the examined
+     * array is matched by the specified <code>elementMatcher</code>. Elements are tested until
+     * one does not match.
+     * For example:
+     * <pre>assertThat(new long[] {1L, 2L, 3L}, everyLong(greaterThan(0L)))</pre>
+     *
+     * @param elementMatcher
+     *     the matcher to apply to every element of examined arrays
+     * @return The matcher.
+     */
+    public static Matcher<long[]> everyLong(Matcher<? super Long> elementMatcher) {
+        return new EveryPrimitiveItem<>(ElementType.LONG, elementMatcher, ElementType.LONG.test(elementMatcher));
+    }
+
+    /**
+     * Creates a matcher for <code>double[]</code>s that matches when the examined array has the
+     * same elements as the specified array, in the same order.
+     * For example:
+     * <pre>assertThat(new double[] {1.0, 2.0, 3.0}, doubleArrayContaining(1.0, 2.0, 3.0))</pre>
+     *
+     * @param elements
+     *     the elements that the examined array should have
+     * @return The matcher.
+     */
+    public static Matcher<double[]> doubleArrayContaining(double... elements) {
+        return new IsPrimitiveArrayEqual<>(ElementType.DOUBLE, elements.clone());
+    }
+
+    /**
+     * Creates a matcher for <code>double[]</code>s that matches when the examined array has as many
+     * elements as there are specified matchers, each matched by the matcher in the same position.
+     * For example:
+     * <pre>assertThat(new double[] {1.0, 2.0, 3.0}, doubleArrayContaining(equalTo(1.0), anything(), greaterThan(0.0)))</pre>
+     *
+     * @param itemMatchers
+     *     the matchers that the elements of examined arrays should satisfy, in order
+     * @return The matcher.
+     */
+    @SafeVarargs
+    public static Matcher<double[]> doubleArrayContaining(Matcher<? super Double>... itemMatchers) {
+        return new IsPrimitiveArrayContainingInOrder<>(ElementType.DOUBLE, Arrays.asList(itemMatchers));
+    }
+
+    /**
+     * Creates a matcher for <code>double[]</code>s that matches when the length of the examined array
+     * equals the specified <code>size</code>.
+     * For example:
+     * <pre>assertThat(new double[] {1.0, 2.0, 3.0}, doubleArrayWithSize(3))</pre>
+     *
+     * @param size
+     *     the length that examined arrays should have
+     * @return The matcher.
+     */
+    public static Matcher<double[]> doubleArrayWithSize(int size) {
+        return doubleArrayWithSize(equalTo(size));
+    }
+
+    /**
+     * Creates a matcher for <code>double[]</code>s that matches when the length of the examined array
+     * satisfies the specified matcher.
+     * For example:
+     * <pre>assertThat(new double[] {1.0, 2.0, 3.0}, doubleArrayWithSize(lessThan(4)))</pre>
+     *
+     * @param sizeMatcher
+     *     a matcher for the length of examined arrays
+     * @return The matcher.
+     */
+    public static Matcher<double[]> doubleArrayWithSize(Matcher<? super Integer> sizeMatcher) {
+        return new IsPrimitiveArrayWithSize<>(ElementType.DOUBLE, sizeMatcher);
+    }
+
+    /**
+     * Creates a matcher for <code>double[]</code>s that matches when the examined array has an element
+     * equal to the specified <code>element</code>, as by <code>Double.equals</code>.
+     * For example:
+     * <pre>assertThat(new double[] {1.0, 2.0, 3.0}, hasDoubleItem(2.0))</pre>
+     *
+     * @param element
+     *     the element that should be present in examined arrays
+     * @return The matcher.
+     */
+    public static Matcher<double[]> hasDoubleItem(double element) {
+        return hasDoubleItem(equalTo(element));
+    }
+
+    /**
+     * Creates a matcher for <code>double[]</code>s that matches when the examined array has an element
+     * that is matched by the specified <code>elementMatcher</code>. Elements are tested until
+     * a matching one is found.
+     * For example:
+     * <pre>assertThat(new double[] {1.0, 2.0, 3.0}, hasDoubleItem(greaterThan(0.0)))</pre>
+     *
+     * @param elementMatcher
+     *     the matcher to apply to elements of examined arrays
+     * @return The matcher.
+     */
+    public static Matcher<double[]> hasDoubleItem(Matcher<? super Double> elementMatcher) {
+        return new HasPrimitiveItem<>(ElementType.DOUBLE, elementMatcher);
+    }
+
+    /**
+     * Creates a matcher for <code>double[]</code>s that matches when every element of the examined
+     * array satisfies the specified <code>predicate</code>. Elements are tested until one does
+     * not satisfy it.
+     * For example:
+     * <pre>assertThat(new double[] {1.0, 2.0, 3.0}, everyDouble(x -&gt; x &gt; 0))</pre>
+     *
+     * @param predicate
+     *     the predicate that every element of examined arrays should satisfy
+     * @return The matcher.
+     */
+    public static Matcher<double[]> everyDouble(DoublePredicate predicate) {
+        return new EveryPrimitiveItem<>(ElementType.DOUBLE, null, ElementType.doubles(predicate));
+    }
+
+    /**
+     * Creates a matcher for <code>double[]</code>s that matches when every element of the examined
+     * array is matched by the specified <code>elementMatcher</code>. Elements are tested until
+     * one does not match.
+     * For example:
+     * <pre>assertThat(new double[] {1.0, 2.0, 3.0}, everyDouble(greaterThan(0.0)))</pre>
+     *
+     * @param elementMatcher
+     *     the matcher to apply to every element of examined arrays
+     * @return The matcher.
+     */
+    public static Matcher<double[]> everyDouble(Matcher<? super Double> elementMatcher) {
+        return new EveryPrimitiveItem<>(ElementType.DOUBLE, elementMatcher, ElementType.DOUBLE.test(elementMatcher));
+    }
+
+    /**
+     * Creates a matcher for <code>byte[]</code>s that matches when the examined array has the
+     * same bytes as the specified array, in the same order.
+     * For example:
+     * <pre>assertThat("OK".getBytes(US_ASCII), byteArrayContaining((byte) 'O', (byte) 'K'))</pre>
+     *
+     * @param bytes
+     *     the bytes that the examined array should have
+     * @return The matcher.
+     */
+    public static Matcher<byte[]> byteArrayContaining(byte... bytes) {
+        return new IsPrimitiveArrayEqual<>(ElementType.BYTE, bytes.clone());
+    }
+
+    /**
+     * Creates a matcher for <code>byte[]</code>s that matches when the length of the examined array
+     * equals the specified <code>size</code>.
+     * For example:
+     * <pre>assertThat("OK".getBytes(US_ASCII), byteArrayWithSize(2))</pre>
+     *
+     * @param size
+     *     the length that examined arrays should have
+     * @return The matcher.
+     */
+    public static Matcher<byte[]> byteArrayWithSize(int size) {
+        return byteArrayWithSize(equalTo(size));
+    }
+
+    /**
+     * Creates a matcher for <code>byte[]</code>s that matches when the length of the examined array
+     * satisfies the specified matcher.
+     * For example:
+     * <pre>assertThat("OK".getBytes(US_ASCII), byteArrayWithSize(lessThan(3)))</pre>
+     *
+     * @param sizeMatcher
+     *     a matcher for the length of examined arrays
+     * @return The matcher.
+     */
+    public static Matcher<byte[]> byteArrayWithSize(Matcher<? super Integer> sizeMatcher) {
+        return new IsPrimitiveArrayWithSize<>(ElementType.BYTE, sizeMatcher);
+    }
+
+    /**
+     * Creates a matcher for <code>byte[]</code>s that matches when the examined array holds the
+     * specified <code>bytes</code> starting at the specified <code>offset</code>, whatever the
+     * bytes around them. Only the bytes in that range are compared.
+     * For example:
+     * <pre>assertThat(header, hasBytesAt(0, (byte) 0xCA, (byte) 0xFE, (byte) 0xBA, (byte) 0xBE))</pre>
+     *
+     * @param offset
+     *     the index in examined arrays of the first of the bytes
+     * @param bytes
+     *     the bytes that examined arrays should hold at <code>offset</code>
+     * @return The matcher.
+     */
+    public static Matcher<byte[]> hasBytesAt(int offset, byte... bytes) {
+        return new HasBytesAt(offset, bytes);
+    }
+
+}
@@ -0,0 +1,4 @@
+/**
+ * Matchers of arrays of primitives, which test the elements without boxing them.
+ */
+package org.hamcrest.primitive;
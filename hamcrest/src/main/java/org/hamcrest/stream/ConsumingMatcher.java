@@ -0,0 +1,271 @@
+package org.hamcrest.stream;
+
+import org.hamcrest.BaseMatcher;
+import org.hamcrest.Costed;
+import org.hamcrest.Description;
+import org.hamcrest.SelfDescribing;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * A matcher of a one-shot source of elements, which takes the elements from the source once,
+ * stopping as soon as the result is decided.
+ *
+ * <p>As a source cannot be read again, the outcome of each source that did not match is
+ * kept, for as long as the source is, and the mismatch of that source is described from it.
+ * Outcomes are kept per source, so a matcher can be shared by threads or used on several
+ * sources in turn.
+ * A subclass keeps at most a {@link Tail} of the elements it has seen for its mismatch
+ * description.</p>
+ *
+ * @param <S> the type of the source
+ */
+abstract class ConsumingMatcher<S> extends BaseMatcher<S> implements Costed {
+
+    private final Source source;
+    private final Outcomes outcomes = new Outcomes();
+
+    ConsumingMatcher(Source source) {
+        this.source = source;
+    }
+
+    @Override
+    public final boolean matches(Object actual) {
+        Spliterator<?> elements = source.elementsOf(actual);
+        if (elements == null) {
+            return false;
+        }
+        Outcome outcome = consume(elements);
+        if (!outcome.isMatched()) {
+            outcomes.put(actual, outcome);
+        }
+        return outcome.isMatched();
+    }
+
+    /**
+     * Describes the mismatch from the outcome of matching <var>actual</var>. A source that this
+     * matcher has not found to mismatch is read now, unless it is a stream that has been
+     * consumed, which is described as such.
+     */
+    @Override
+    public final void describeMismatch(Object actual, Description mismatch) {
+        Outcome outcome = outcomes.get(actual);
+        if (outcome == null) {
+            Spliterator<?> elements;
+            try {
+                elements = source.elementsOf(actual);
+            } catch (IllegalStateException e) {
+                mismatch.appendText("was a " + source.noun + " that had already been consumed");
+                return;
+            }
+            if (elements == null) {
+                super.describeMismatch(actual, mismatch);
+                return;
+            }
+            outcome = consume(elements);
+            outcomes.put(actual, outcome);
+        }
+        outcome.describeTo(mismatch);
+    }
+
+    @Override
+    public final void describeTo(Description description) {
+        description.appendText("a " + source.noun + " ");
+        describeElementsTo(description);
+    }
+
+    /**
+     * Takes elements from a source until the result is decided.
+     *
+     * @param elements the elements of the source
+     * @return the outcome
+     */
+    abstract Outcome consume(Spliterator<?> elements);
+
+    /**
+     * Describes the elements of a matching source, following "a stream ".
+     *
+     * @param description the description to append to
+     */
+    abstract void describeElementsTo(Description description);
+
+    /**
+     * The kinds of source, and how their elements are taken.
+     */
+    enum Source {
+        STREAM("stream") {
+            @Override
+            Spliterator<?> elementsOf(Object actual) {
+                return actual instanceof Stream ? ((Stream<?>) actual).spliterator() : null;
+            }
+        },
+        ITERATOR("iterator") {
+            @Override
+            Spliterator<?> elementsOf(Object actual) {
+                return actual instanceof Iterator ? Spliterators.spliteratorUnknownSize((Iterator<?>) actual, 0) : null;
+            }
+        },
+        SPLITERATOR("spliterator") {
+            @Override
+            Spliterator<?> elementsOf(Object actual) {
+                return actual instanceof Spliterator ? (Spliterator<?>) actual : null;
+            }
+        };
+
+        private final String noun;
+
+        Source(String noun) {
+            this.noun = noun;
+        }
+
+        /**
+         * @return the elements of <var>actual</var>, or null if it is not a source of this kind
+         */
+        abstract Spliterator<?> elementsOf(Object actual);
+    }
+
+    /**
+     * Whether a source matched and, if not, why.
+     */
+    static final class Outcome {
+        private static final Outcome MATCHED = new Outcome(true, null);
+
+        private final boolean matched;
+        private final SelfDescribing mismatch;
+
+        private Outcome(boolean matched, SelfDescribing mismatch) {
+            this.matched = matched;
+            this.mismatch = mismatch;
+        }
+
+        static Outcome matched() {
+            return MATCHED;
+        }
+
+        static Outcome mismatched(SelfDescribing mismatch) {
+            return new Outcome(false, mismatch);
+        }
+
+        boolean isMatched() {
+            return matched;
+        }
+
+        void describeTo(Description description) {
+            if (mismatch != null) {
+                mismatch.describeTo(description);
+            }
+        }
+    }
+
+    /**
+     * The outcomes of matching sources, each kept until its source is garbage collected.
+     * Sources are told apart by identity, not <code>equals</code>.
+     */
+    private static final class Outcomes {
+        private final Map<SourceReference, Outcome> outcomes = new HashMap<>();
+        private final ReferenceQueue<Object> collected = new ReferenceQueue<>();
+
+        synchronized void put(Object source, Outcome outcome) {
+            expungeCollected();
+            outcomes.put(new SourceReference(source, collected), outcome);
+        }
+
+        synchronized Outcome get(Object source) {
+            expungeCollected();
+            return outcomes.get(new SourceReference(source, null));
+        }
+
+        private void expungeCollected() {
+            for (Reference<?> reference = collected.poll(); reference != null; reference = collected.poll()) {
+                outcomes.remove(reference);
+            }
+        }
+    }
+
+    private static final class SourceReference extends WeakReference<Object> {
+        private final int hash;
+
+        SourceReference(Object source, ReferenceQueue<Object> queue) {
+            super(source, queue);
+            this.hash = System.identityHashCode(source);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof SourceReference)) {
+                return false;
+            }
+            Object source = get();
+            return source != null && source == ((SourceReference) o).get();
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    /**
+     * The last elements taken from a source, and how many were taken.
+     */
+    static final class Tail {
+        static final int CAPACITY = 10;
+
+        private final Object[] items = new Object[CAPACITY];
+        private long count;
+
+        void add(Object item) {
+            items[(int) (count % CAPACITY)] = item;
+            count++;
+        }
+
+        long count() {
+            return count;
+        }
+
+        /**
+         * @return whether elements were taken before those kept
+         */
+        boolean isTruncated() {
+            return count > CAPACITY;
+        }
+
+        /**
+         * @return the elements kept, oldest first
+         */
+        List<Object> items() {
+            List<Object> kept = new ArrayList<>(CAPACITY);
+            for (long i = Math.max(0, count - CAPACITY); i < count; i++) {
+                kept.add(items[(int) (i % CAPACITY)]);
+            }
+            return kept;
+        }
+    }
+
+    /**
+     * Receives one element at a time from {@link Spliterator#tryAdvance}.
+     */
+    static final class Next implements Consumer<Object> {
+        Object item;
+
+        @Override
+        public void accept(Object item) {
+            this.item = item;
+        }
+    }
+
+}
@@ -0,0 +1,66 @@
+package org.hamcrest.stream;
+
+import org.hamcrest.Cost;
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+import org.hamcrest.SelfDescribing;
+
+import java.util.List;
+import java.util.Spliterator;
+
+/**
+ * Tests if a source yields an element that matches, taking elements until one does.
+ */
+final class StreamContaining<S> extends ConsumingMatcher<S> {
+
+    private final Matcher<?> elementMatcher;
+
+    StreamContaining(Source source, Matcher<?> elementMatcher) {
+        super(source);
+        this.elementMatcher = elementMatcher;
+    }
+
+    @Override
+    Outcome consume(Spliterator<?> elements) {
+        Next next = new Next();
+        final Tail tail = new Tail();
+        while (elements.tryAdvance(next)) {
+            if (elementMatcher.matches(next.item)) {
+                return Outcome.matched();
+            }
+            tail.add(next.item);
+        }
+        return Outcome.mismatched(new SelfDescribing() {
+            @Override
+            public void describeTo(Description mismatch) {
+                if (tail.count() == 0) {
+                    mismatch.appendText("was empty");
+                    return;
+                }
+                mismatch.appendText("mismatches were: [");
+                if (tail.isTruncated()) {
+                    mismatch.appendText("%s earlier, ", tail.count() - Tail.CAPACITY);
+                }
+                List<Object> items = tail.items();
+                for (int i = 0; i < items.size(); i++) {
+                    if (i > 0) {
+                        mismatch.appendText(", ");
+                    }
+                    elementMatcher.describeMismatch(items.get(i), mismatch);
+                }
+                mismatch.appendText("]");
+            }
+        });
+    }
+
+    @Override
+    void describeElementsTo(Description description) {
+        description.appendText("containing ").appendDescriptionOf(elementMatcher);
+    }
+
+    @Override
+    public double estimatedCost() {
+        return Cost.perElement(Cost.of(elementMatcher));
+    }
+
+}
@@ -0,0 +1,73 @@
+package org.hamcrest.stream;
+
+import org.hamcrest.Cost;
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+import org.hamcrest.SelfDescribing;
+
+import java.util.List;
+import java.util.Spliterator;
+
+/**
+ * Tests if the elements of a source match a list of matchers, one for one and in order,
+ * taking elements until one does not match or there is one too many.
+ */
+final class StreamContainingInOrder<S> extends ConsumingMatcher<S> {
+
+    private final List<? extends Matcher<?>> matchers;
+
+    StreamContainingInOrder(Source source, List<? extends Matcher<?>> matchers) {
+        super(source);
+        this.matchers = matchers;
+    }
+
+    @Override
+    Outcome consume(Spliterator<?> elements) {
+        Next next = new Next();
+        int index = 0;
+        while (elements.tryAdvance(next)) {
+            final Object item = next.item;
+            if (index == matchers.size()) {
+                return Outcome.mismatched(new SelfDescribing() {
+                    @Override
+                    public void describeTo(Description mismatch) {
+                        mismatch.appendText("not matched: ").appendValue(item);
+                    }
+                });
+            }
+            final int itemIndex = index;
+            final Matcher<?> matcher = matchers.get(index);
+            if (!matcher.matches(item)) {
+                return Outcome.mismatched(new SelfDescribing() {
+                    @Override
+                    public void describeTo(Description mismatch) {
+                        mismatch.appendText("item %s: ", itemIndex);
+                        matcher.describeMismatch(item, mismatch);
+                    }
+                });
+            }
+            index++;
+        }
+        if (index < matchers.size()) {
+            final Matcher<?> matcher = matchers.get(index);
+            return Outcome.mismatched(new SelfDescribing() {
+                @Override
+                public void describeTo(Description mismatch) {
+                    mismatch.appendText("no item was ").appendDescriptionOf(matcher);
+                }
+            });
+        }
+        return Outcome.matched();
+    }
+
+    @Override
+    void describeElementsTo(Description description) {
+        description.appendList("of [", ", ", "]", matchers);
+    }
+
+    @Override
+    public double estimatedCost() {
+        return Cost.sum(matchers);
+    }
+
+}
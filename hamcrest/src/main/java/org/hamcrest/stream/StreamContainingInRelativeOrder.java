@@ -0,0 +1,64 @@
+package org.hamcrest.stream;
+
+import org.hamcrest.Cost;
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+import org.hamcrest.SelfDescribing;
+
+import java.util.List;
+import java.util.Spliterator;
+
+/**
+ * Tests if a source yields elements matching a list of matchers in the same relative order,
+ * taking elements until the last matcher is matched.
+ */
+final class StreamContainingInRelativeOrder<S> extends ConsumingMatcher<S> {
+
+    private final List<? extends Matcher<?>> matchers;
+
+    StreamContainingInRelativeOrder(Source source, List<? extends Matcher<?>> matchers) {
+        super(source);
+        this.matchers = matchers;
+    }
+
+    @Override
+    Outcome consume(Spliterator<?> elements) {
+        Next next = new Next();
+        int index = 0;
+        boolean hasMatched = false;
+        Object lastMatched = null;
+        while (index < matchers.size() && elements.tryAdvance(next)) {
+            if (matchers.get(index).matches(next.item)) {
+                hasMatched = true;
+                lastMatched = next.item;
+                index++;
+            }
+        }
+        if (index == matchers.size()) {
+            return Outcome.matched();
+        }
+        final Matcher<?> matcher = matchers.get(index);
+        final boolean isAfter = hasMatched;
+        final Object after = lastMatched;
+        return Outcome.mismatched(new SelfDescribing() {
+            @Override
+            public void describeTo(Description mismatch) {
+                mismatch.appendDescriptionOf(matcher).appendText(" was not found");
+                if (isAfter) {
+                    mismatch.appendText(" after ").appendValue(after);
+                }
+            }
+        });
+    }
+
+    @Override
+    void describeElementsTo(Description description) {
+        description.appendList("containing [", ", ", "]", matchers).appendText(" in relative order");
+    }
+
+    @Override
+    public double estimatedCost() {
+        return Cost.perElement(Cost.sum(matchers));
+    }
+
+}
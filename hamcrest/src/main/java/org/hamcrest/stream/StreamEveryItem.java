@@ -0,0 +1,50 @@
+package org.hamcrest.stream;
+
+import org.hamcrest.Cost;
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+import org.hamcrest.SelfDescribing;
+
+import java.util.Spliterator;
+
+/**
+ * Tests if every element of a source matches, taking elements until one does not.
+ */
+final class StreamEveryItem<S> extends ConsumingMatcher<S> {
+
+    private final Matcher<?> elementMatcher;
+
+    StreamEveryItem(Source source, Matcher<?> elementMatcher) {
+        super(source);
+        this.elementMatcher = elementMatcher;
+    }
+
+    @Override
+    Outcome consume(Spliterator<?> elements) {
+        Next next = new Next();
+        while (elements.tryAdvance(next)) {
+            if (!elementMatcher.matches(next.item)) {
+                final Object item = next.item;
+                return Outcome.mismatched(new SelfDescribing() {
+                    @Override
+                    public void describeTo(Description mismatch) {
+                        mismatch.appendText("an item ");
+                        elementMatcher.describeMismatch(item, mismatch);
+                    }
+                });
+            }
+        }
+        return Outcome.matched();
+    }
+
+    @Override
+    void describeElementsTo(Description description) {
+        description.appendText("whose every item is ").appendDescriptionOf(elementMatcher);
+    }
+
+    @Override
+    public double estimatedCost() {
+        return Cost.perElement(Cost.of(elementMatcher));
+    }
+
+}
@@ -0,0 +1,287 @@
+package org.hamcrest.stream;
+
+import org.hamcrest.Matcher;
+import org.hamcrest.stream.ConsumingMatcher.Source;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.stream.Stream;
+
+/**
+ * Matchers of one-shot sources of elements: {@link Stream}s, {@link Iterator}s and
+ * {@link Spliterator}s. Each counterpart of a collection matcher takes the elements of the
+ * examined source once, in order, and only until the result is decided; to describe a
+ * mismatch, it keeps only the elements it needs, such as the last few that did not match.
+ * The mismatch of a source that a matcher has matched is described from that match, without
+ * taking any more elements; a stream that was consumed elsewhere is described as such.
+ */
+public final class StreamMatching {
+
+    private StreamMatching() {
+    }
+
+    /**
+     * Creates a matcher for {@link Stream}s that matches when the examined stream yields at least one
+     * element that is matched by the specified <code>elementMatcher</code>. Elements are taken
+     * until a matching one is found.
+     * For example:
+     * <pre>assertThat(Stream.of("foo", "bar"), streamHasItem(startsWith("ba")))</pre>
+     *
+     * @param <E>
+     *     the type of the elements.
+     * @param elementMatcher
+     *     the matcher to apply to elements of the examined stream
+     * @return The matcher.
+     */
+    public static <E> Matcher<Stream<? extends E>> streamHasItem(Matcher<? super E> elementMatcher) {
+        return new StreamContaining<>(Source.STREAM, elementMatcher);
+    }
+
+    /**
+     * Creates a matcher for {@link Stream}s that matches when every element of the examined stream is
+     * matched by the specified <code>elementMatcher</code>. Elements are taken until one does
+     * not match.
+     * For example:
+     * <pre>assertThat(Stream.of("foo", "bar"), streamEveryItem(hasLength(3)))</pre>
+     *
+     * @param <E>
+     *     the type of the elements.
+     * @param elementMatcher
+     *     the matcher to apply to every element of the examined stream
+     * @return The matcher.
+     */
+    public static <E> Matcher<Stream<? extends E>> streamEveryItem(Matcher<? super E> elementMatcher) {
+        return new StreamEveryItem<>(Source.STREAM, elementMatcher);
+    }
+
+    /**
+     * Creates a matcher for {@link Stream}s that matches when the examined stream yields as many elements
+     * as there are specified matchers, each matched by the matcher in the same position.
+     * Elements are taken until one does not match or there is one more than there are matchers.
+     * For example:
+     * <pre>assertThat(Stream.of("foo", "bar"), streamContains(equalTo("foo"), equalTo("bar")))</pre>
+     *
+     * @param <E>
+     *     the type of the elements.
+     * @param elementMatchers
+     *     the matchers that must be satisfied by the elements of the examined stream, in order
+     * @return The matcher.
+     */
+    @SafeVarargs
+    public static <E> Matcher<Stream<? extends E>> streamContains(Matcher<? super E>... elementMatchers) {
+        return new StreamContainingInOrder<>(Source.STREAM, Arrays.asList(elementMatchers));
+    }
+
+    /**
+     * Creates a matcher for {@link Stream}s that matches when the examined stream yields elements matched
+     * by the specified matchers in the same relative order. Elements are taken until the last
+     * matcher is satisfied.
+     * For example:
+     * <pre>assertThat(Stream.of("foo", "bar"), streamContainsInRelativeOrder(equalTo("bar")))</pre>
+     *
+     * @param <E>
+     *     the type of the elements.
+     * @param elementMatchers
+     *     the matchers that must be satisfied by elements of the examined stream, in relative order
+     * @return The matcher.
+     */
+    @SafeVarargs
+    public static <E> Matcher<Stream<? extends E>> streamContainsInRelativeOrder(Matcher<? super E>... elementMatchers) {
+        return new StreamContainingInRelativeOrder<>(Source.STREAM, Arrays.asList(elementMatchers));
+    }
+
+    /**
+     * Creates a matcher for {@link Stream}s that matches when the number of elements of the examined
+     * stream satisfies the specified matcher. The number is taken from the stream if it is known
+     * exactly; otherwise the elements are counted, stopping once there are more than
+     * <code>sizeMatcher</code> can match, if it has such a bound.
+     * For example:
+     * <pre>assertThat(Stream.of("foo", "bar"), streamWithSize(lessThan(3)))</pre>
+     *
+     * @param <E>
+     *     the type of the elements.
+     * @param sizeMatcher
+     *     a matcher for the number of elements of the examined stream
+     * @return The matcher.
+     */
+    public static <E> Matcher<Stream<? extends E>> streamWithSize(Matcher<? super Integer> sizeMatcher) {
+        return new StreamWithSize<>(Source.STREAM, sizeMatcher);
+    }
+
+    /**
+     * Creates a matcher for {@link Iterator}s that matches when the examined iterator yields at least one
+     * element that is matched by the specified <code>elementMatcher</code>. Elements are taken
+     * until a matching one is found.
+     * For example:
+     * <pre>assertThat(Arrays.asList("foo", "bar").iterator(), iteratorHasItem(startsWith("ba")))</pre>
+     *
+     * @param <E>
+     *     the type of the elements.
+     * @param elementMatcher
+     *     the matcher to apply to elements of the examined iterator
+     * @return The matcher.
+     */
+    public static <E> Matcher<Iterator<? extends E>> iteratorHasItem(Matcher<? super E> elementMatcher) {
+        return new StreamContaining<>(Source.ITERATOR, elementMatcher);
+    }
+
+    /**
+     * Creates a matcher for {@link Iterator}s that matches when every element of the examined iterator is
+     * matched by the specified <code>elementMatcher</code>. Elements are taken until one does
+     * not match.
+     * For example:
+     * <pre>assertThat(Arrays.asList("foo", "bar").iterator(), iteratorEveryItem(hasLength(3)))</pre>
+     *
+     * @param <E>
+     *     the type of the elements.
+     * @param elementMatcher
+     *     the matcher to apply to every element of the examined iterator
+     * @return The matcher.
+     */
+    public static <E> Matcher<Iterator<? extends E>> iteratorEveryItem(Matcher<? super E> elementMatcher) {
+        return new StreamEveryItem<>(Source.ITERATOR, elementMatcher);
+    }
+
+    /**
+     * Creates a matcher for {@link Iterator}s that matches when the examined iterator yields as many elements
+     * as there are specified matchers, each matched by the matcher in the same position.
+     * Elements are taken until one does not match or there is one more than there are matchers.
+     * For example:
+     * <pre>assertThat(Arrays.asList("foo", "bar").iterator(), iteratorContains(equalTo("foo"), equalTo("bar")))</pre>
+     *
+     * @param <E>
+     *     the type of the elements.
+     * @param elementMatchers
+     *     the matchers that must be satisfied by the elements of the examined iterator, in order
+     * @return The matcher.
+     */
+    @SafeVarargs
+    public static <E> Matcher<Iterator<? extends E>> iteratorContains(Matcher<? super E>... elementMatchers) {
+        return new StreamContainingInOrder<>(Source.ITERATOR, Arrays.asList(elementMatchers));
+    }
+
+    /**
+     * Creates a matcher for {@link Iterator}s that matches when the examined iterator yields elements matched
+     * by the specified matchers in the same relative order. Elements are taken until the last
+     * matcher is satisfied.
+     * For example:
+     * <pre>assertThat(Arrays.asList("foo", "bar").iterator(), iteratorContainsInRelativeOrder(equalTo("bar")))</pre>
+     *
+     * @param <E>
+     *     the type of the elements.
+     * @param elementMatchers
+     *     the matchers that must be satisfied by elements of the examined iterator, in relative order
+     * @return The matcher.
+     */
+    @SafeVarargs
+    public static <E> Matcher<Iterator<? extends E>> iteratorContainsInRelativeOrder(Matcher<? super E>... elementMatchers) {
+        return new StreamContainingInRelativeOrder<>(Source.ITERATOR, Arrays.asList(elementMatchers));
+    }
+
+    /**
+     * Creates a matcher for {@link Iterator}s that matches when the number of elements of the examined
+     * iterator satisfies the specified matcher. The elements are counted, stopping once there are
+     * more than <code>sizeMatcher</code> can match, if it has such a bound.
+     * For example:
+     * <pre>assertThat(Arrays.asList("foo", "bar").iterator(), iteratorWithSize(lessThan(3)))</pre>
+     *
+     * @param <E>
+     *     the type of the elements.
+     * @param sizeMatcher
+     *     a matcher for the number of elements of the examined iterator
+     * @return The matcher.
+     */
+    public static <E> Matcher<Iterator<? extends E>> iteratorWithSize(Matcher<? super Integer> sizeMatcher) {
+        return new StreamWithSize<>(Source.ITERATOR, sizeMatcher);
+    }
+
+    /**
+     * Creates a matcher for {@link Spliterator}s that matches when the examined spliterator yields at least one
+     * element that is matched by the specified <code>elementMatcher</code>. Elements are taken
+     * until a matching one is found.
+     * For example:
+     * <pre>assertThat(Arrays.asList("foo", "bar").spliterator(), spliteratorHasItem(startsWith("ba")))</pre>
+     *
+     * @param <E>
+     *     the type of the elements.
+     * @param elementMatcher
+     *     the matcher to apply to elements of the examined spliterator
+     * @return The matcher.
+     */
+    public static <E> Matcher<Spliterator<? extends E>> spliteratorHasItem(Matcher<? super E> elementMatcher) {
+        return new StreamContaining<>(Source.SPLITERATOR, elementMatcher);
+    }
+
+    /**
+     * Creates a matcher for {@link Spliterator}s that matches when every element of the examined spliterator is
+     * matched by the specified <code>elementMatcher</code>. Elements are taken until one does
+     * not match.
+     * For example:
+     * <pre>assertThat(Arrays.asList("foo", "bar").spliterator(), spliteratorEveryItem(hasLength(3)))</pre>
+     *
+     * @param <E>
+     *     the type of the elements.
+     * @param elementMatcher
+     *     the matcher to apply to every element of the examined spliterator
+     * @return The matcher.
+     */
+    public static <E> Matcher<Spliterator<? extends E>> spliteratorEveryItem(Matcher<? super E> elementMatcher) {
+        return new StreamEveryItem<>(Source.SPLITERATOR, elementMatcher);
+    }
+
+    /**
+     * Creates a matcher for {@link Spliterator}s that matches when the examined spliterator yields as many elements
+     * as there are specified matchers, each matched by the matcher in the same position.
+     * Elements are taken until one does not match or there is one more than there are matchers.
+     * For example:
+     * <pre>assertThat(Arrays.asList("foo", "bar").spliterator(), spliteratorContains(equalTo("foo"), equalTo("bar")))</pre>
+     *
+     * @param <E>
+     *     the type of the elements.
+     * @param elementMatchers
+     *     the matchers that must be satisfied by the elements of the examined spliterator, in order
+     * @return The matcher.
+     */
+    @SafeVarargs
+    public static <E> Matcher<Spliterator<? extends E>> spliteratorContains(Matcher<? super E>... elementMatchers) {
+        return new StreamContainingInOrder<>(Source.SPLITERATOR, Arrays.asList(elementMatchers));
+    }
+
+    /**
+     * Creates a matcher for {@link Spliterator}s that matches when the examined spliterator yields elements matched
+     * by the specified matchers in the same relative order. Elements are taken until the last
+     * matcher is satisfied.
+     * For example:
+     * <pre>assertThat(Arrays.asList("foo", "bar").spliterator(), spliteratorContainsInRelativeOrder(equalTo("bar")))</pre>
+     *
+     * @param <E>
+     *     the type of the elements.
+     * @param elementMatchers
+     *     the matchers that must be satisfied by elements of the examined spliterator, in relative order
+     * @return The matcher.
+     */
+    @SafeVarargs
+    public static <E> Matcher<Spliterator<? extends E>> spliteratorContainsInRelativeOrder(Matcher<? super E>... elementMatchers) {
+        return new StreamContainingInRelativeOrder<>(Source.SPLITERATOR, Arrays.asList(elementMatchers));
+    }
+
+    /**
+     * Creates a matcher for {@link Spliterator}s that matches when the number of elements of the examined
+     * spliterator satisfies the specified matcher. The number is taken from the spliterator if it is known
+     * exactly; otherwise the elements are counted, stopping once there are more than
+     * <code>sizeMatcher</code> can match, if it has such a bound.
+     * For example:
+     * <pre>assertThat(Arrays.asList("foo", "bar").spliterator(), spliteratorWithSize(lessThan(3)))</pre>
+     *
+     * @param <E>
+     *     the type of the elements.
+     * @param sizeMatcher
+     *     a matcher for the number of elements of the examined spliterator
+     * @return The matcher.
+     */
+    public static <E> Matcher<Spliterator<? extends E>> spliteratorWithSize(Matcher<? super Integer> sizeMatcher) {
+        return new StreamWithSize<>(Source.SPLITERATOR, sizeMatcher);
+    }
+
+}
@@ -0,0 +1,69 @@
+package org.hamcrest.stream;
+
+import org.hamcrest.Cost;
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+import org.hamcrest.SelfDescribing;
+import org.hamcrest.index.MatcherAnalyzer;
+
+import java.util.Spliterator;
+
+/**
+ * Tests the number of elements of a source. The size is taken from the source if it is known
+ * exactly; otherwise elements are counted, but only until there are more than the size
+ * matcher can match, if {@link MatcherAnalyzer} finds such a bound.
+ */
+final class StreamWithSize<S> extends ConsumingMatcher<S> {
+
+    private final Matcher<? super Integer> sizeMatcher;
+    private final int largestMatchingSize;
+
+    StreamWithSize(Source source, Matcher<? super Integer> sizeMatcher) {
+        super(source);
+        this.sizeMatcher = sizeMatcher;
+        this.largestMatchingSize = MatcherAnalyzer.largestIntegerMatchedBy(sizeMatcher);
+    }
+
+    @Override
+    Outcome consume(Spliterator<?> elements) {
+        long size = elements.getExactSizeIfKnown();
+        boolean isCounted = size < 0;
+        if (isCounted) {
+            Next next = new Next();
+            size = 0;
+            while (size <= largestMatchingSize && elements.tryAdvance(next)) {
+                size++;
+            }
+        }
+        if (isCounted ? size > largestMatchingSize : size > Integer.MAX_VALUE) {
+            return Outcome.mismatched(new SelfDescribing() {
+                @Override
+                public void describeTo(Description mismatch) {
+                    mismatch.appendText("size was more than ").appendValue(largestMatchingSize);
+                }
+            });
+        }
+        final int exactSize = (int) size;
+        if (sizeMatcher.matches(exactSize)) {
+            return Outcome.matched();
+        }
+        return Outcome.mismatched(new SelfDescribing() {
+            @Override
+            public void describeTo(Description mismatch) {
+                mismatch.appendText("size ");
+                sizeMatcher.describeMismatch(exactSize, mismatch);
+            }
+        });
+    }
+
+    @Override
+    void describeElementsTo(Description description) {
+        description.appendText("with size ").appendDescriptionOf(sizeMatcher);
+    }
+
+    @Override
+    public double estimatedCost() {
+        return Cost.perElement(Cost.CONSTANT) + Cost.of(sizeMatcher);
+    }
+
+}
@@ -0,0 +1,5 @@
+/**
+ * Matchers of streams, iterators and spliterators, which consume their source once and only
+ * as far as needed to decide the match.
+ */
+package org.hamcrest.stream;
@@ -1,5 +1,6 @@
 package org.hamcrest.text;
 
+import org.hamcrest.Cost;
 import org.hamcrest.FeatureMatcher;
 import org.hamcrest.Matcher;
 
@@ -30,6 +31,11 @@ public class CharSequenceLength extends FeatureMatcher<CharSequence, Integer> {
         return actual.length();
     }
 
+    @Override
+    protected double featureCost() {
+        return Cost.CONSTANT;
+    }
+
     /**
      * Creates a matcher of {@link CharSequence} that matches when a char sequence has the given length
      * For example:
@@ -1,5 +1,7 @@
 package org.hamcrest.text;
 
+import org.hamcrest.Cost;
+import org.hamcrest.Costed;
 import org.hamcrest.Description;
 import org.hamcrest.Matcher;
 import org.hamcrest.TypeSafeMatcher;
@@ -12,7 +14,7 @@ import static org.hamcrest.core.IsNull.nullValue;
 /**
  * Matches blank Strings (and null).
  */
-public final class IsBlankString extends TypeSafeMatcher<String> {
+public final class IsBlankString extends TypeSafeMatcher<String> implements Costed {
 
     private static final IsBlankString BLANK_INSTANCE = new IsBlankString();
     @SuppressWarnings("unchecked")
@@ -32,6 +34,11 @@ public final class IsBlankString extends TypeSafeMatcher<String> {
         description.appendText("a blank string");
     }
 
+    @Override
+    public double estimatedCost() {
+        return Cost.REGEX;
+    }
+
     /**
      * Creates a matcher of {@link String} that matches when the examined string contains
      * zero or more whitespace characters and nothing else.
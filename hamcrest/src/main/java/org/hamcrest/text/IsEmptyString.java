@@ -1,5 +1,7 @@
 package org.hamcrest.text;
 
+import org.hamcrest.Cost;
+import org.hamcrest.Costed;
 import org.hamcrest.Description;
 import org.hamcrest.Matcher;
 import org.hamcrest.TypeSafeMatcher;
@@ -10,7 +12,7 @@ import static org.hamcrest.core.IsNull.nullValue;
 /**
  * Matches empty Strings (and null).
  */
-public final class IsEmptyString extends TypeSafeMatcher<String> {
+public final class IsEmptyString extends TypeSafeMatcher<String> implements Costed {
 
     private static final IsEmptyString INSTANCE = new IsEmptyString();
     @SuppressWarnings("unchecked")
@@ -28,6 +30,11 @@ public final class IsEmptyString extends TypeSafeMatcher<String> {
         description.appendText("an empty string");
     }
 
+    @Override
+    public double estimatedCost() {
+        return Cost.CONSTANT;
+    }
+
     /**
      * Creates a matcher of {@link String} that matches when the examined string has zero length.
      * For example:
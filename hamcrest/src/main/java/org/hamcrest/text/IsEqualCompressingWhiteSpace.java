@@ -1,5 +1,7 @@
 package org.hamcrest.text;
 
+import org.hamcrest.Cost;
+import org.hamcrest.Costed;
 import org.hamcrest.Description;
 import org.hamcrest.Matcher;
 import org.hamcrest.TypeSafeMatcher;
@@ -7,7 +9,7 @@ import org.hamcrest.TypeSafeMatcher;
 /**
  * Tests if a string is equal to another string, compressing any changes in whitespace.
  */
-public class IsEqualCompressingWhiteSpace extends TypeSafeMatcher<String> {
+public class IsEqualCompressingWhiteSpace extends TypeSafeMatcher<String> implements Costed {
 
     // TODO: Replace String with CharSequence to allow for easy interoperability between
     //       String, StringBuffer, StringBuilder, CharBuffer, etc (joe).
@@ -50,6 +52,11 @@ public class IsEqualCompressingWhiteSpace extends TypeSafeMatcher<String> {
                 .appendText(" compressing white space");
     }
 
+    @Override
+    public double estimatedCost() {
+        return Cost.STRING;
+    }
+
     /**
      * Strips spaces
      * @param toBeStripped the string to be stripped
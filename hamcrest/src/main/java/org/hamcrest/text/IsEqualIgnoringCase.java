@@ -1,5 +1,7 @@
 package org.hamcrest.text;
 
+import org.hamcrest.Cost;
+import org.hamcrest.Costed;
 import org.hamcrest.Description;
 import org.hamcrest.Matcher;
 import org.hamcrest.TypeSafeMatcher;
@@ -7,7 +9,7 @@ import org.hamcrest.TypeSafeMatcher;
 /**
  * Tests if a string is equal to another string, regardless of the case.
  */
-public class IsEqualIgnoringCase extends TypeSafeMatcher<String> {
+public class IsEqualIgnoringCase extends TypeSafeMatcher<String> implements Costed {
 
     // TODO: Replace String with CharSequence to allow for easy interoperability between
     //       String, StringBuffer, StringBuilder, CharBuffer, etc (joe).
@@ -42,6 +44,11 @@ public class IsEqualIgnoringCase extends TypeSafeMatcher<String> {
                 .appendText(" ignoring case");
     }
 
+    @Override
+    public double estimatedCost() {
+        return Cost.STRING;
+    }
+
     /**
      * Creates a matcher of {@link String} that matches when the examined string is equal to
      * the specified expectedString, ignoring case.
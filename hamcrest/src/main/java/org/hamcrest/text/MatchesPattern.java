@@ -1,5 +1,7 @@
 package org.hamcrest.text;
 
+import org.hamcrest.Cost;
+import org.hamcrest.Costed;
 import org.hamcrest.Description;
 import org.hamcrest.Matcher;
 import org.hamcrest.TypeSafeMatcher;
@@ -9,7 +11,7 @@ import java.util.regex.Pattern;
 /**
  * Tests if a string matches a regular expression.
  */
-public class MatchesPattern extends TypeSafeMatcher<String> {
+public class MatchesPattern extends TypeSafeMatcher<String> implements Costed {
 
     private final Pattern pattern;
 
@@ -32,6 +34,11 @@ public class MatchesPattern extends TypeSafeMatcher<String> {
         description.appendText("a string matching the pattern '" + pattern + "'");
     }
 
+    @Override
+    public double estimatedCost() {
+        return Cost.REGEX;
+    }
+
     /**
      * Creates a matcher of {@link java.lang.String} that matches when the examined string
      * exactly matches the given {@link java.util.regex.Pattern}.
@@ -1,5 +1,7 @@
 package org.hamcrest.text;
 
+import org.hamcrest.Cost;
+import org.hamcrest.Costed;
 import org.hamcrest.Description;
 import org.hamcrest.Matcher;
 import org.hamcrest.TypeSafeMatcher;
@@ -9,7 +11,7 @@ import java.util.Arrays;
 /**
  * Tests if a string contains the given substrings in order.
  */
-public class StringContainsInOrder extends TypeSafeMatcher<String> {
+public class StringContainsInOrder extends TypeSafeMatcher<String> implements Costed {
 
     private final Iterable<String> substrings;
 
@@ -48,6 +50,11 @@ public class StringContainsInOrder extends TypeSafeMatcher<String> {
                    .appendText(" in order");
     }
 
+    @Override
+    public double estimatedCost() {
+        return Cost.STRING;
+    }
+
     /**
      * Creates a matcher of {@link String} that matches when the examined string contains all of
      * the specified substrings, considering the order of their appearance.
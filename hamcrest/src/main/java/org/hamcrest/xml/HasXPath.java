@@ -1,6 +1,8 @@
 package org.hamcrest.xml;
 
 import org.hamcrest.Condition;
+import org.hamcrest.Cost;
+import org.hamcrest.Costed;
 import org.hamcrest.Description;
 import org.hamcrest.Matcher;
 import org.hamcrest.TypeSafeDiagnosingMatcher;
@@ -21,7 +23,7 @@ import static org.hamcrest.Condition.notMatched;
  * @author Joe Walnes
  * @author Steve Freeman
  */
-public class HasXPath extends TypeSafeDiagnosingMatcher<Node> {
+public class HasXPath extends TypeSafeDiagnosingMatcher<Node> implements Costed {
 
     /**
      * Null <code>NamespaceContext</code>, used to document deliberate use
@@ -76,6 +78,11 @@ public class HasXPath extends TypeSafeDiagnosingMatcher<Node> {
         }
     }
 
+    @Override
+    public double estimatedCost() {
+        return Cost.XPATH + (valueMatcher == null ? 0 : Cost.of(valueMatcher));
+    }
+
     private Condition<Object> evaluated(Node item, Description mismatch) {
         try {
             return matched(compiledXPath.evaluate(item, evaluationMode), mismatch);
@@ -92,6 +92,27 @@ public final class BaseDescriptionTest {
         assertEquals("[\"2\", \"3\"]", result.toString());
     }
 
+    @Test public void
+    describesAppendedPrimitiveArrayValues() {
+        baseDescription.appendValue(new int[] {1, 2})
+                       .appendValue(new long[] {3L})
+                       .appendValue(new char[] {'a'})
+                       .appendValue(new boolean[0]);
+        assertEquals("[<1>, <2>][<3L>][\"a\"][]", result.toString());
+    }
+
+    @Test public void
+    describesAppendedNestedArrayValue() {
+        baseDescription.appendValue(new Object[] {new byte[] {1}, null});
+        assertEquals("[[<1b>], null]", result.toString());
+    }
+
+    @Test public void
+    describesValueListWithSeparators() {
+        baseDescription.appendValueList("{", "; ", "}", "a", 1);
+        assertEquals("{\"a\"; <1>}", result.toString());
+    }
+
     @Test public void
     bracketsAppendedObjectValue() {
         final Object value = new Object();
@@ -112,4 +133,10 @@ public final class BaseDescriptionTest {
         assertEquals("<" + expected + ">", result.toString());
     }
 
+    @Test public void
+    formatsAppendedText() {
+        baseDescription.appendText("%s is %s", "foo", 42);
+        assertEquals("foo is 42", result.toString());
+    }
+
 }
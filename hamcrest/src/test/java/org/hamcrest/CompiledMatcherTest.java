@@ -0,0 +1,158 @@
+package org.hamcrest;
+
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.hamcrest.Matchers.*;
+import static org.hamcrest.CompiledMatcher.compile;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public final class CompiledMatcherTest {
+
+    private static final List<Object> VALUES = Arrays.<Object>asList(
+            null, "", "a", "abc", "xyz", "ABC", 0, 5, 10, 11, 42, 3.5, new Thing("EU", 5), new Thing("EU", 20),
+            new Thing("US", 20), new Thing(null, 0), new Object());
+
+    @Test public void
+    compilesMatchersThatMatchExactlyTheSameValues() {
+        assertSameMatches(equalTo("abc"));
+        assertSameMatches(equalTo(null));
+        assertSameMatches(nullValue());
+        assertSameMatches(notNullValue());
+        assertSameMatches(anything());
+        assertSameMatches(startsWith("a"));
+        assertSameMatches(endsWithIgnoringCase("bc"));
+        assertSameMatches(greaterThan(10));
+        assertSameMatches(lessThanOrEqualTo(5));
+        assertSameMatches(is(not(equalTo("a"))));
+        assertSameMatches(allOf(notNullValue(), not(equalTo("")), startsWith("a")));
+        assertSameMatches(anyOf(nullValue(), equalTo(5), containsString("y")));
+        assertSameMatches(both(startsWith("a")).and(endsWith("c")));
+        assertSameMatches(either(equalTo(0)).or(greaterThan(10)));
+        assertSameMatches(describedAs("a small number", lessThan(10)));
+        assertSameMatches(allOf(hasProperty("region", equalTo("EU")), hasProperty("size", greaterThan(10))));
+        assertSameMatches(hasProperty("region", nullValue()));
+        assertSameMatches(hasProperty("missing"));
+        assertSameMatches(hasProperty("failing", anything()));
+    }
+
+    @Test public void
+    fallsBackToMatchesForOtherMatchers() {
+        Matcher<Object> custom = new BaseMatcher<Object>() {
+            @Override public boolean matches(Object actual) {
+                return actual instanceof Integer && ((Integer) actual) % 2 == 0;
+            }
+
+            @Override public void describeTo(Description description) {
+                description.appendText("even");
+            }
+        };
+
+        assertSameMatches(custom);
+        assertSameMatches(allOf(notNullValue(), custom));
+        assertSameMatches(anyOf(equalTo("a"), not(custom)));
+    }
+
+    @Test public void
+    fallsBackToMatchesForSubclassesOfLowerableMatchers() throws Throwable {
+        Matcher<String> lenient = new Lenient("abc");
+
+        assertSameMatches(lenient);
+        assertSameMatches(not(lenient));
+        assertTrue((boolean) lenient.toMethodHandle().invokeExact((Object) "ABC"));
+    }
+
+    @Test public void
+    describesCompiledMatchersAsTheOriginal() {
+        Matcher<String> original = allOf(startsWith("a"), endsWith("z"));
+        Matcher<String> compiled = compile(original);
+
+        assertEquals(StringDescription.toString(original), StringDescription.toString(compiled));
+
+        StringDescription expected = new StringDescription();
+        original.describeMismatch("abc", expected);
+        StringDescription actual = new StringDescription();
+        compiled.describeMismatch("abc", actual);
+        assertEquals(expected.toString(), actual.toString());
+    }
+
+    @Test public void
+    compilesToAHandleThatCanBeInvokedExactly() throws Throwable {
+        MethodHandle handle = anyOf(equalTo(1), equalTo(2)).toMethodHandle();
+
+        assertTrue((boolean) handle.invokeExact((Object) 2));
+        assertFalse((boolean) handle.invokeExact((Object) 3));
+    }
+
+    @Test public void
+    rejectsLoweringsOfTheWrongType() {
+        final Matcher<Object> broken = new BrokenMatcher();
+
+        assertThrows(IllegalStateException.class, () -> compile(broken));
+    }
+
+    private static void assertSameMatches(Matcher<?> matcher) {
+        Matcher<?> compiled = compile(matcher);
+        for (Object value : VALUES) {
+            assertEquals(matcher.matches(value), compiled.matches(value), matcher + " with " + value);
+        }
+    }
+
+    private static final class BrokenMatcher extends BaseMatcher<Object> implements Lowerable {
+        @Override public boolean matches(Object actual) {
+            return true;
+        }
+
+        @Override public void describeTo(Description description) {
+            description.appendText("broken");
+        }
+
+        @Override public MethodHandle lower(Lowering lowering) {
+            return MethodHandles.constant(boolean.class, true);
+        }
+    }
+
+    private static final class Lenient extends IsEqual<String> {
+        private final String expected;
+
+        Lenient(String expected) {
+            super(expected);
+            this.expected = expected;
+        }
+
+        @Override public boolean matches(Object actual) {
+            return actual instanceof String && expected.equalsIgnoreCase((String) actual);
+        }
+    }
+
+    public static final class Thing {
+        private final String region;
+        private final int size;
+
+        public Thing(String region, int size) {
+            this.region = region;
+            this.size = size;
+        }
+
+        public String getRegion() {
+            return region;
+        }
+
+        public int getSize() {
+            return size;
+        }
+
+        public String getFailing() {
+            throw new IllegalArgumentException("always fails");
+        }
+    }
+
+}
@@ -0,0 +1,101 @@
+package org.hamcrest;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public final class CostTest {
+
+    private final List<String> evaluated = new ArrayList<>();
+
+    @Test public void
+    estimatesBuiltInMatchers() {
+        assertEquals(Cost.CONSTANT, Cost.of(nullValue()));
+        assertEquals(Cost.REGEX, Cost.of(matchesPattern("a+")));
+        assertEquals(Cost.REFLECTION + Cost.CONSTANT, Cost.of(hasProperty("name", equalTo("x"))));
+        assertEquals(Cost.perElement(Cost.STRING), Cost.of(hasItem(startsWith("a"))));
+        assertEquals(2 * Cost.CONSTANT, Cost.of(hasSize(3)));
+        assertTrue(Cost.of(hasXPath("/a")) > Cost.of(hasProperty("a")));
+    }
+
+    @Test public void
+    propagatesUnknownCosts() {
+        Matcher<Object> unknown = new TrackingMatcher("unknown", true, Cost.UNKNOWN);
+
+        assertFalse(Cost.isKnown(Cost.of(unknown)));
+        assertFalse(Cost.isKnown(Cost.of(not(unknown))));
+        assertFalse(Cost.isKnown(Cost.of(allOf(nullValue(), unknown))));
+        assertFalse(Cost.isKnown(Cost.of(everyItem(unknown))));
+    }
+
+    @Test public void
+    ordersCheapestFirstOnlyWhenAllCostsAreKnown() {
+        Matcher<Object> cheap = new TrackingMatcher("cheap", true, 1);
+        Matcher<Object> dear = new TrackingMatcher("dear", true, 10);
+        Matcher<Object> unknown = new TrackingMatcher("unknown", true, Cost.UNKNOWN);
+
+        assertEquals(Arrays.asList(cheap, dear), Cost.cheapestFirst(Arrays.asList(dear, cheap)));
+        assertNull(Cost.cheapestFirst(Arrays.asList(dear, unknown, cheap)));
+    }
+
+    @Test public void
+    evaluatesCheaperMatchersFirstInCombinations() {
+        Matcher<Object> cheapFail = new TrackingMatcher("cheap", false, 1);
+        Matcher<Object> dearFail = new TrackingMatcher("dear", false, 10);
+
+        assertFalse(allOf(dearFail, cheapFail).matches("x"));
+        assertEquals(Arrays.asList("cheap"), evaluated);
+
+        evaluated.clear();
+        assertFalse(allOf(dearFail, cheapFail, new TrackingMatcher("unknown", false, Cost.UNKNOWN)).matches("x"));
+        assertEquals(Arrays.asList("dear"), evaluated);
+
+        evaluated.clear();
+        assertTrue(anyOf(new TrackingMatcher("dear", true, 10), new TrackingMatcher("cheap", true, 1)).matches("x"));
+        assertEquals(Arrays.asList("cheap"), evaluated);
+    }
+
+    @Test public void
+    describesMismatchesInDeclaredOrder() {
+        Matcher<Object> matcher = allOf(new TrackingMatcher("dear", false, 10), new TrackingMatcher("cheap", false, 1));
+
+        StringDescription mismatch = new StringDescription();
+        matcher.describeMismatch("x", mismatch);
+
+        assertEquals("dear was \"x\"", mismatch.toString());
+    }
+
+    private final class TrackingMatcher extends BaseMatcher<Object> implements Costed {
+        private final String name;
+        private final boolean result;
+        private final double cost;
+
+        TrackingMatcher(String name, boolean result, double cost) {
+            this.name = name;
+            this.result = result;
+            this.cost = cost;
+        }
+
+        @Override public boolean matches(Object actual) {
+            evaluated.add(name);
+            return result;
+        }
+
+        @Override public void describeTo(Description description) {
+            description.appendText(name);
+        }
+
+        @Override public double estimatedCost() {
+            return cost;
+        }
+    }
+
+}
@@ -0,0 +1,85 @@
+package org.hamcrest;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+
+import static org.hamcrest.core.AllOf.allOf;
+import static org.hamcrest.core.AnyOf.anyOf;
+import static org.hamcrest.core.DescribedAs.describedAs;
+import static org.hamcrest.core.IsEqual.equalTo;
+import static org.hamcrest.core.IsNot.not;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public final class DescriptionCacheTest {
+
+    private final CountingMatcher counting = new CountingMatcher();
+
+    @Test public void
+    rendersImmutableCompositeOnlyOnce() {
+        Matcher<Object> matcher = allOf(equalTo("a"), anyOf(counting, not(equalTo(1))));
+
+        assertEquals("(\"a\" and (counted or not <1>))", StringDescription.toString(matcher));
+        assertEquals("(\"a\" and (counted or not <1>))", StringDescription.toString(matcher));
+        assertEquals("(\"a\" and (counted or not <1>))", matcher.toString());
+        assertEquals(1, counting.describeCount);
+    }
+
+    @Test public void
+    doesNotCacheCompositeWithComponentThatMayChange() {
+        Matcher<Object> matcher = allOf(counting, describedAs("other", equalTo(1)));
+
+        assertFalse(DescriptionCache.isImmutable(matcher));
+        assertEquals("(counted and other)", StringDescription.toString(matcher));
+        assertEquals("(counted and other)", StringDescription.toString(matcher));
+        assertEquals(2, counting.describeCount);
+    }
+
+    @Test public void
+    treatsOnlyImmutableValuesAsFixedDescriptions() {
+        assertTrue(DescriptionCache.isImmutable(equalTo("text")));
+        assertTrue(DescriptionCache.isImmutable(equalTo(null)));
+        assertFalse(DescriptionCache.isImmutable(equalTo(new ArrayList<String>())));
+        assertFalse(DescriptionCache.isImmutable(equalTo(new int[] {1})));
+    }
+
+    @Test public void
+    describesAfreshIntoDescriptionSubclasses() {
+        Matcher<Object> matcher = allOf(counting, equalTo(1));
+        Description description = new StringDescription() {
+            @Override public Description appendValue(Object value) {
+                return appendText("?");
+            }
+        };
+
+        StringDescription.toString(matcher);
+        description.appendDescriptionOf(matcher);
+
+        assertEquals("(counted and ?)", description.toString());
+        assertEquals(2, counting.describeCount);
+    }
+
+    private static final class CountingMatcher extends BaseMatcher<Object> implements CacheableSelfDescribing {
+        int describeCount = 0;
+
+        @Override public boolean matches(Object actual) {
+            return false;
+        }
+
+        @Override public void describeTo(Description description) {
+            describeCount++;
+            description.appendText("counted");
+        }
+
+        @Override public boolean hasImmutableDescription() {
+            return true;
+        }
+
+        @Override public DescriptionCache descriptionCache() {
+            return null;
+        }
+    }
+
+}
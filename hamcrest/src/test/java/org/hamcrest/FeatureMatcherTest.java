@@ -34,6 +34,27 @@ public final class FeatureMatcherTest {
         assertEquals("was ShouldNotMatch <ShouldNotMatch>", mismatchDescription.toString());
     }
 
+    @Test public void
+    onlyDescribesFeatureMismatchWhenDiagnosing() {
+        final int[] describedMismatches = {0};
+        FeatureMatcher<Thingy, String> matcher = new FeatureMatcher<Thingy, String>(new Match("bar") {
+            @Override public void describeMismatch(Object item, Description description) {
+                describedMismatches[0]++;
+                super.describeMismatch(item, description);
+            }
+        }, "Thingy with result", "result") {
+            @Override
+            protected String featureValueOf(Thingy actual) {
+                return actual.getResult();
+            }
+        };
+
+        assertDoesNotMatch("feature", matcher, new Thingy("foo"));
+        assertEquals(0, describedMismatches[0]);
+        assertMismatchDescription("result mismatch-description", matcher, new Thingy("foo"));
+        assertEquals(1, describedMismatches[0]);
+    }
+
     public static class Match extends IsEqual<String> {
         public Match(String equalArg) { super(equalArg); }
         @Override public void describeMismatch(Object item, Description description) {
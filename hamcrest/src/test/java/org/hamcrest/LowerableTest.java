@@ -0,0 +1,118 @@
+package org.hamcrest;
+
+import org.hamcrest.core.IsInstanceOf;
+import org.hamcrest.core.IsSame;
+import org.junit.jupiter.api.Test;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.ConstantCallSite;
+import java.lang.invoke.MethodHandle;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public final class LowerableTest {
+
+    private static final Object SAME = new Object();
+
+    private static final List<Object> VALUES = Arrays.<Object>asList(
+            null, "", "a", "abc", 0, 7, 42, 3.5, SAME, new Object(),
+            Collections.emptyList(), Arrays.asList(1, 2), Arrays.asList("a", "b", "c"));
+
+    @Test public void
+    lowersMatchersToHandlesThatMatchTheSameValues() throws Throwable {
+        assertSameMatches(equalTo("abc"));
+        assertSameMatches(nullValue());
+        assertSameMatches(notNullValue());
+        assertSameMatches(instanceOf(String.class));
+        assertSameMatches(any(Integer.class));
+        assertSameMatches(instanceOf(int.class));
+        assertSameMatches(sameInstance(SAME));
+        assertSameMatches(greaterThan(5));
+        assertSameMatches(allOf(instanceOf(String.class), not(equalTo(""))));
+        assertSameMatches(anyOf(sameInstance(SAME), lessThan(1), nullValue()));
+        assertSameMatches(hasSize(2));
+        assertSameMatches(hasToString(startsWith("a")));
+        assertSameMatches(not(hasSize(greaterThan(1))));
+    }
+
+    @Test public void
+    callsMatchesOnMatchersThatCannotBeLowered() throws Throwable {
+        assertSameMatches(hasItem("b"));
+        assertSameMatches(allOf(notNullValue(), hasItem(2)));
+    }
+
+    @Test public void
+    callsMatchesOnFeatureMatchersThatOverrideMatchesSafely() throws Throwable {
+        FeatureMatcher<String, Integer> lengthOrEmpty = new FeatureMatcher<String, Integer>(equalTo(3), "length", "length") {
+            @Override
+            protected Integer featureValueOf(String actual) {
+                return actual.length();
+            }
+
+            @Override
+            protected boolean matchesSafely(String actual, Description mismatch) {
+                return actual.isEmpty() || super.matchesSafely(actual, mismatch);
+            }
+        };
+
+        assertSameMatches(lengthOrEmpty);
+    }
+
+    @Test public void
+    lowersSubclassesThatOnlyOverrideWhatTheLoweringCalls() throws Throwable {
+        FeatureMatcher<String, Integer> length = new FeatureMatcher<String, Integer>(equalTo(3), "length", "length") {
+            @Override
+            protected Integer featureValueOf(String actual) {
+                return actual.length();
+            }
+        };
+
+        assertSameMatches(length);
+        assertSameMatches(not(length));
+    }
+
+    @Test public void
+    callsMatchesOnSubclassesThatInheritTheirLowering() throws Throwable {
+        Matcher<Object> sameOrNull = new IsSame<Object>(SAME) {
+            @Override
+            public boolean matches(Object actual) {
+                return actual == null || super.matches(actual);
+            }
+        };
+        Matcher<Object> numberOrString = new IsInstanceOf(Number.class) {
+            @Override
+            protected boolean matches(Object actual, Description mismatch) {
+                return actual instanceof String || super.matches(actual, mismatch);
+            }
+        };
+
+        assertSameMatches(sameOrNull);
+        assertSameMatches(numberOrString);
+        assertSameMatches(allOf(notNullValue(), not(numberOrString)));
+        assertTrue((boolean) sameOrNull.toMethodHandle().invokeExact((Object) null));
+    }
+
+    @Test public void
+    canBeLinkedThroughAConstantCallSite() throws Throwable {
+        CallSite site = new ConstantCallSite(allOf(notNullValue(), greaterThan(10)).toMethodHandle());
+        MethodHandle invoker = site.dynamicInvoker();
+
+        assertTrue((boolean) invoker.invokeExact((Object) 11));
+        assertFalse((boolean) invoker.invokeExact((Object) 10));
+        assertFalse((boolean) invoker.invokeExact((Object) null));
+    }
+
+    private static void assertSameMatches(Matcher<?> matcher) throws Throwable {
+        MethodHandle handle = matcher.toMethodHandle();
+        for (Object value : VALUES) {
+            assertEquals(matcher.matches(value), (boolean) handle.invokeExact(value), matcher + " with " + value);
+        }
+    }
+
+}
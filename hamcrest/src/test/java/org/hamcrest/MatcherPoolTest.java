@@ -0,0 +1,102 @@
+package org.hamcrest;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public final class MatcherPoolTest {
+
+    @Test public void
+    comparesBuiltInMatchersByStructure() {
+        assertStructurallyEqual(equalTo("a"), equalTo("a"));
+        assertStructurallyEqual(equalTo(null), equalTo(null));
+        assertStructurallyEqual(not(nullValue()), not(nullValue()));
+        assertStructurallyEqual(is(instanceOf(String.class)), is(instanceOf(String.class)));
+        assertStructurallyEqual(containsString("a"), containsString("a"));
+        assertStructurallyEqual(greaterThan(3), greaterThan(3));
+        assertStructurallyEqual(closeTo(1.0, 0.5), closeTo(1.0, 0.5));
+        assertStructurallyEqual(equalTo(new BigDecimal("1.5")), equalTo(new BigDecimal("1.5")));
+        List<Integer> values = Arrays.asList(1, 2);
+        assertStructurallyEqual(in(values), in(values));
+        assertStructurallyEqual(equalTo(values), equalTo(values));
+        assertStructurallyEqual(matchesRegex("a+"), matchesRegex("a+"));
+        assertStructurallyEqual(describedAs("x %0", anything(), 1), describedAs("x %0", anything(), 1));
+        assertStructurallyEqual(everyItem(hasItem(sameInstance(this))), everyItem(hasItem(sameInstance(this))));
+        assertStructurallyEqual(
+                allOf(hasProperty("type", equalTo("trade")), anyOf(startsWith("a"), endsWith("z"))),
+                allOf(hasProperty("type", equalTo("trade")), anyOf(startsWith("a"), endsWith("z"))));
+    }
+
+    @Test public void
+    distinguishesDifferentMatchers() {
+        assertNotEquals(equalTo("a"), equalTo("b"));
+        assertNotEquals(containsString("a"), startsWith("a"));
+        assertNotEquals(containsString("a"), containsStringIgnoringCase("a"));
+        assertNotEquals(greaterThan(3), greaterThanOrEqualTo(3));
+        assertNotEquals(allOf(equalTo("a"), equalTo("b")), anyOf(equalTo("a"), equalTo("b")));
+        assertNotEquals(allOf(equalTo("a"), equalTo("b")), allOf(equalTo("b"), equalTo("a")));
+        assertNotEquals(hasProperty("a", equalTo(1)), hasProperty("b", equalTo(1)));
+        assertNotEquals(equalTo(new int[] {1}), equalTo(new int[] {1}));
+        assertNotEquals(sameInstance("a"), sameInstance(new String("a")));
+        assertNotEquals(in(Arrays.asList(1, 2)), in(Arrays.asList(1, 2)));
+        assertNotEquals(equalTo(Arrays.asList(1, 2)), equalTo(Arrays.asList(1, 2)));
+        assertNotEquals(describedAs("x %0", anything(), new ArrayList<>()), describedAs("x %0", anything(), new ArrayList<>()));
+    }
+
+    @Test public void
+    internsEqualMatchersAsOneInstance() {
+        Matcher<Object> first = intern(hasProperty("type", equalTo("trade")));
+        Matcher<Object> second = hasProperty("type", equalTo("trade"));
+
+        assertNotSame(first, second);
+        assertSame(first, intern(second));
+        assertSame(first, MatcherPool.intern(first));
+        assertNotSame(first, intern(hasProperty("type", equalTo("quote"))));
+    }
+
+    @Test public void
+    doesNotShareMatchersOfMutableValues() {
+        List<String> theirs = new ArrayList<>(Arrays.asList("a"));
+        List<String> mine = new ArrayList<>(Arrays.asList("a"));
+        Matcher<List<String>> theirMatcher = intern(equalTo(theirs));
+        Matcher<List<String>> myMatcher = intern(equalTo(mine));
+
+        assertNotSame(theirMatcher, myMatcher);
+        theirs.add("b");
+        assertTrue(myMatcher.matches(mine));
+    }
+
+    @Test public void
+    keepsHashCodesOfMutableValuesStable() {
+        List<String> values = new ArrayList<>(Arrays.asList("a"));
+        Matcher<String> matcher = in(values);
+        Set<Matcher<?>> set = new HashSet<>();
+        set.add(matcher);
+
+        values.add("b");
+        assertTrue(set.contains(matcher));
+    }
+
+    private static void assertStructurallyEqual(Matcher<?> matcher, Matcher<?> other) {
+        assertEquals(matcher, other);
+        assertEquals(matcher.hashCode(), other.hashCode());
+        Set<Matcher<?>> set = new HashSet<>();
+        set.add(matcher);
+        assertEquals(1, set.size(), "set of " + matcher);
+        set.add(other);
+        assertEquals(1, set.size(), "set of " + matcher);
+    }
+
+}
@@ -0,0 +1,161 @@
+package org.hamcrest;
+
+import org.hamcrest.core.IsEqual;
+import org.hamcrest.number.IsCloseTo;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.DoublePredicate;
+import java.util.function.IntPredicate;
+import java.util.function.LongPredicate;
+import java.util.function.Predicate;
+
+import static org.hamcrest.Matchers.*;
+import static org.hamcrest.comparator.ComparatorMatcherBuilder.comparedBy;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public final class MatcherPredicatesTest {
+
+    @Test public void
+    testsValuesAsTheMatcherMatchesThem() {
+        Predicate<Object> predicate = asPredicate(anyOf(nullValue(), equalTo((Object) "a")));
+
+        assertTrue(predicate.test(null));
+        assertTrue(predicate.test("a"));
+        assertFalse(predicate.test("b"));
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    @Test public void
+    rejectsNullsAndOtherTypesForTypeSafeMatchers() {
+        Predicate<Object> predicate = asPredicate((Matcher) startsWith("a"));
+
+        assertTrue(predicate.test("abc"));
+        assertFalse(predicate.test("xyz"));
+        assertFalse(predicate.test(null));
+        assertFalse(predicate.test(42));
+    }
+
+    @Test public void
+    testsWithKnownTypeForTypeSafeMatchers() {
+        Predicate<String> predicate = asPredicate(String.class, startsWith("a"));
+
+        assertTrue(predicate.test("abc"));
+        assertFalse(predicate.test("xyz"));
+        assertFalse(predicate.test(null));
+    }
+
+    @Test public void
+    evaluatesDiagnosingMatchersWithoutDescribing() {
+        final List<Description> descriptions = new java.util.ArrayList<>();
+        Matcher<String> matcher = new TypeSafeDiagnosingMatcher<String>() {
+            @Override
+            protected boolean matchesSafely(String item, Description mismatchDescription) {
+                descriptions.add(mismatchDescription);
+                return item.isEmpty();
+            }
+
+            @Override
+            public void describeTo(Description description) {
+                description.appendText("empty");
+            }
+        };
+
+        Predicate<String> predicate = asPredicate(matcher);
+        assertTrue(predicate.test(""));
+        assertFalse(predicate.test("a"));
+        assertFalse(predicate.test(null));
+
+        assertFalse(asPredicate(String.class, matcher).test("a"));
+        assertTrue(asPredicate(String.class, matcher).test(""));
+
+        for (Description description : descriptions) {
+            assertSame(Description.NONE, description);
+        }
+    }
+
+    @Test public void
+    testsPrimitiveValuesWithNumericMatchers() {
+        IntPredicate ints = asIntPredicate(greaterThan(5));
+        assertTrue(ints.test(6));
+        assertFalse(ints.test(5));
+
+        LongPredicate longs = asLongPredicate(lessThanOrEqualTo(10L));
+        assertTrue(longs.test(10L));
+        assertFalse(longs.test(Long.MAX_VALUE));
+
+        DoublePredicate doubles = asDoublePredicate(closeTo(1.0, 0.1));
+        assertTrue(doubles.test(1.05));
+        assertFalse(doubles.test(1.2));
+    }
+
+    @Test public void
+    testsPrimitiveEqualityAsBoxedEqualityWould() {
+        assertTrue(asIntPredicate(equalTo(300)).test(300));
+        assertFalse(asIntPredicate(equalTo(300)).test(301));
+        assertTrue(asLongPredicate(equalTo(300L)).test(300L));
+        assertTrue(asDoublePredicate(equalTo(Double.NaN)).test(Double.NaN));
+        assertFalse(asDoublePredicate(equalTo(0.0)).test(-0.0));
+        assertFalse(asLongPredicate(equalTo((Object) 300)).test(300L));
+    }
+
+    @Test public void
+    boxesValuesForOtherMatchers() {
+        IntPredicate evens = asIntPredicate(new CustomTypeSafeMatcher<Integer>("even") {
+            @Override
+            protected boolean matchesSafely(Integer item) {
+                return item % 2 == 0;
+            }
+        });
+        assertTrue(evens.test(4));
+        assertFalse(evens.test(5));
+
+        IntPredicate reversed = asIntPredicate(comparedBy(new Comparator<Integer>() {
+            @Override
+            public int compare(Integer a, Integer b) {
+                return b.compareTo(a);
+            }
+        }).greaterThan(5));
+        assertTrue(reversed.test(4));
+        assertFalse(reversed.test(6));
+
+        assertTrue(asIntPredicate(anyOf(equalTo(1), equalTo(2))).test(2));
+    }
+
+    @Test public void
+    boxesValuesForSubclassesThatOverrideMatches() {
+        Matcher<Integer> anyInteger = new IsEqual<Integer>(0) {
+            @Override
+            public boolean matches(Object actual) {
+                return true;
+            }
+        };
+        Matcher<Double> anyDouble = new IsCloseTo(0.0, 0.1) {
+            @Override
+            public boolean matchesSafely(Double item) {
+                return true;
+            }
+        };
+
+        assertTrue(asIntPredicate(anyInteger).test(5));
+        assertTrue(asLongPredicate(new IsEqual<Long>(0L) {
+            @Override
+            public boolean matches(Object actual) {
+                return true;
+            }
+        }).test(5L));
+        assertTrue(asDoublePredicate(anyDouble).test(5.0));
+    }
+
+    @Test public void
+    filtersStreams() {
+        assertTrue(Arrays.asList("apple", "banana", "avocado").stream()
+                .filter(asPredicate(String.class, startsWith("a")))
+                .count() == 2);
+    }
+
+}
@@ -15,4 +15,16 @@ public final class NullDescriptionTest {
         assertEquals("", nullDescription.toString());
     }
 
+    @Test public void
+    doesNotFormatAppendedText() {
+        Object unformattable = new Object() {
+            @Override public String toString() {
+                throw new AssertionError("should not be formatted");
+            }
+        };
+        nullDescription.appendText("%s", unformattable);
+        Description.NONE.appendText("%s", unformattable);
+        assertEquals("", nullDescription.toString());
+    }
+
 }
@@ -0,0 +1,67 @@
+package org.hamcrest;
+
+import org.hamcrest.StructuredDescription.Kind;
+import org.hamcrest.StructuredDescription.Node;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringWriter;
+import java.util.Arrays;
+
+import static org.hamcrest.core.AllOf.allOf;
+import static org.hamcrest.core.IsEqual.equalTo;
+import static org.hamcrest.core.IsNull.nullValue;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public final class StructuredDescriptionTest {
+
+    private final StructuredDescription description = new StructuredDescription();
+
+    @Test public void
+    recordsCallTreeOfMatcherDescription() {
+        description.appendDescriptionOf(allOf(equalTo(1), nullValue()));
+
+        Node allOf = description.nodes().get(0);
+        assertEquals(Kind.DESCRIBE, allOf.kind());
+        assertEquals("org.hamcrest.core.AllOf", allOf.className());
+
+        Node list = allOf.children().get(0);
+        assertEquals(Kind.LIST, list.kind());
+        assertEquals(" and ", list.separator());
+        assertEquals(2, list.children().size());
+
+        Node value = list.children().get(0).children().get(0);
+        assertEquals(Kind.VALUE, value.kind());
+        assertEquals("java.lang.Integer", value.className());
+        assertEquals("<1>", value.text());
+    }
+
+    @Test public void
+    rendersSameTextAsStringDescription() {
+        Matcher<Object> matcher = allOf(equalTo("a\"b"), nullValue(), equalTo(new int[] {1, 2}));
+        description.appendText("Expected: ").appendDescriptionOf(matcher)
+                   .appendValueList("{", "; ", "}", Arrays.asList(1L, null));
+
+        assertEquals(
+            new StringDescription().appendText("Expected: ").appendDescriptionOf(matcher)
+                                   .appendValueList("{", "; ", "}", Arrays.asList(1L, null)).toString(),
+            description.toString());
+    }
+
+    @Test public void
+    streamsJson() throws Exception {
+        description.appendText("line\n").appendValue("q\"").appendValueList("[", ",", "]", 1, null);
+
+        StringWriter json = new StringWriter();
+        description.writeJsonTo(json);
+
+        assertEquals(
+            "[{\"type\":\"text\",\"text\":\"line\\n\"},"
+                + "{\"type\":\"value\",\"class\":\"java.lang.String\",\"text\":\"\\\"q\\\\\\\"\\\"\"},"
+                + "{\"type\":\"list\",\"start\":\"[\",\"separator\":\",\",\"end\":\"]\",\"items\":["
+                + "{\"type\":\"value\",\"class\":\"java.lang.Integer\",\"text\":\"<1>\"},"
+                + "{\"type\":\"value\",\"class\":null,\"text\":\"null\"}]}]",
+            json.toString());
+        assertEquals(json.toString(), description.toJson());
+    }
+
+}
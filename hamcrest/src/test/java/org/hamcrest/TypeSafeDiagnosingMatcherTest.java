@@ -2,7 +2,13 @@ package org.hamcrest;
 
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.util.Arrays.asList;
+
 import static org.hamcrest.test.MatcherAssertions.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 
 /**
  * @author Steve Freeman 2016 http://www.hamcrest.com
@@ -48,6 +54,25 @@ public class TypeSafeDiagnosingMatcherTest {
         assertMatches("other not built in", (Matcher)matcher, new OtherNotBuiltIn());
     }
 
+    @Test public void
+    only_diagnoses_when_describing_a_mismatch() {
+      final List<Boolean> diagnosing = new ArrayList<>();
+      final Matcher<String> matcher = new TypeSafeDiagnosingMatcher<String>() {
+        @Override
+        protected boolean matchesSafely(String item, Description mismatchDescription) {
+          diagnosing.add(isDiagnosing(mismatchDescription));
+          return false;
+        }
+
+        @Override public void describeTo(Description description) { description.appendText("nothing"); }
+      };
+
+      assertDoesNotMatch("never matches", matcher, "value");
+      assertMismatchDescription("", matcher, "value");
+
+      assertEquals(asList(false, false, true), diagnosing);
+    }
+
     private static final TypeSafeDiagnosingMatcher STRING_MATCHER = new TypeSafeDiagnosingMatcher<String>() {
         @Override
         protected boolean matchesSafely(String item, Description mismatchDescription) {
@@ -50,4 +50,12 @@ public class ArrayMatchingInOrderTest extends AbstractMatcherTest {
       assertMatches("with nulls", arrayContaining(null, null), new Object[]{null, null});
     }
 
+    @Test
+    public void testComparesEqualItemsInBulk() {
+        assertMatches(arrayContaining("a", null, "c"), new String[] {"a", null, "c"});
+        assertDoesNotMatch(arrayContaining("a", "b"), new String[] {"a", "c"});
+        assertDoesNotMatch(arrayContaining("a", "b"), new String[] {"a", "b", "c"});
+        assertMismatchDescription("item 1: was \"c\"", arrayContaining("a", "b"), new String[] {"a", "c"});
+    }
+
 }
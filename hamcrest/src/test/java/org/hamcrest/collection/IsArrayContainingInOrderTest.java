@@ -5,9 +5,12 @@ import static org.hamcrest.collection.IsArrayContainingInOrder.arrayContaining;
 import static org.hamcrest.core.IsEqual.equalTo;
 
 import org.hamcrest.test.AbstractMatcherTest;
+import org.hamcrest.Description;
 import org.hamcrest.Matcher;
 import org.junit.jupiter.api.Test;
 
+import java.util.Arrays;
+
 public class IsArrayContainingInOrderTest extends AbstractMatcherTest {
 
     @SuppressWarnings("unchecked")
@@ -45,4 +48,20 @@ public class IsArrayContainingInOrderTest extends AbstractMatcherTest {
       assertMismatchDescription("item 2: was <4>", matcher, new Integer[] {1,2, 4});
     }
 
+    @Test
+    public void testMatchesThroughSubclassesOfTheIterableMatcher() {
+      IsIterableContainingInOrder<Integer> nonEmptyOrInOrder = new IsIterableContainingInOrder<Integer>(
+              Arrays.<Matcher<? super Integer>>asList(equalTo(1), equalTo(2))) {
+          @Override
+          protected boolean matchesSafely(Iterable<? extends Integer> iterable, Description mismatchDescription) {
+              return iterable.iterator().hasNext() || super.matchesSafely(iterable, mismatchDescription);
+          }
+      };
+      Matcher<Integer[]> matcher = new ArrayAsIterableMatcher<>(
+              nonEmptyOrInOrder, Arrays.<Matcher<? super Integer>>asList(equalTo(1), equalTo(2)), "in order");
+
+      assertMatches("subclass", matcher, new Integer[] {4, 3});
+      assertDoesNotMatch("subclass", matcher, new Integer[] {});
+    }
+
 }
@@ -1,6 +1,7 @@
 package org.hamcrest.collection;
 
 import org.hamcrest.test.AbstractMatcherTest;
+import org.hamcrest.CustomMatcher;
 import org.hamcrest.FeatureMatcher;
 import org.hamcrest.Matcher;
 import org.junit.jupiter.api.Test;
@@ -12,6 +13,7 @@ import static java.util.Collections.singletonList;
 import static org.hamcrest.test.MatcherAssertions.*;
 import static org.hamcrest.collection.IsIterableContainingInOrder.contains;
 import static org.hamcrest.core.IsEqual.equalTo;
+import static org.hamcrest.number.OrderingComparison.lessThan;
 
 @SuppressWarnings("unchecked")
 public class IsIterableContainingInOrderTest extends AbstractMatcherTest {
@@ -69,6 +71,32 @@ public class IsIterableContainingInOrderTest extends AbstractMatcherTest {
         assertMatches(contains(null, null), asList(null, null));
     }
 
+    @Test
+    public void testMatchesRandomAccessListsByIndex() {
+        ArrayList<Integer> numbers = new ArrayList<>(asList(1, 2, 3));
+
+        assertMatches(contains(1, 2, 3), numbers);
+        assertMatches(contains(equalTo(1), lessThan(3), equalTo(3)), numbers);
+        assertDoesNotMatch(contains(1, 2), numbers);
+        assertDoesNotMatch(contains(1, 2, 3, 4), numbers);
+        assertDoesNotMatch(contains(1, 5, 3), numbers);
+        assertMatches(contains(new int[] {1}, null), asList(new int[] {1}, null));
+        assertMismatchDescription("not matched: <3>", contains(1, 2), numbers);
+        assertMismatchDescription("item 1: was <2>", contains(1, 5, 3), numbers);
+    }
+
+    @Test
+    public void testDoesNotMatchListOfDifferentSizeWithoutMatchingItems() {
+        Matcher<Object> unmatchable = new CustomMatcher<Object>("unmatchable") {
+            @Override
+            public boolean matches(Object actual) {
+                throw new AssertionError("should not be matched");
+            }
+        };
+
+        assertDoesNotMatch(contains(unmatchable), asList(1, 2));
+    }
+
     public static class WithValue {
       private final int value;
       public WithValue(int value) { this.value = value; }
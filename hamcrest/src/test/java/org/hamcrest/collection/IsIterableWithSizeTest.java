@@ -4,11 +4,17 @@ import org.hamcrest.test.AbstractMatcherTest;
 import org.hamcrest.Matcher;
 import org.junit.jupiter.api.Test;
 
+import java.util.AbstractCollection;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Iterator;
+import java.util.stream.Stream;
 
 import static org.hamcrest.test.MatcherAssertions.*;
 import static org.hamcrest.collection.IsIterableWithSize.iterableWithSize;
+import static org.hamcrest.number.OrderingComparison.greaterThan;
+import static org.hamcrest.number.OrderingComparison.lessThan;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 
 public class IsIterableWithSizeTest extends AbstractMatcherTest {
 
@@ -42,4 +48,89 @@ public class IsIterableWithSizeTest extends AbstractMatcherTest {
         assertDescription("an iterable with size <4>", iterableWithSize(4));
     }
 
+    @Test
+    public void testUsesTheSizeOfCollectionsWithoutIterating() {
+        assertMatches("Collection", iterableWithSize(1000), new SizedCollection(1000));
+        assertDoesNotMatch("Collection", iterableWithSize(lessThan(10)), new SizedCollection(1000));
+    }
+
+    @Test
+    public void testStopsCountingOnceTheSizeCannotMatch() {
+        Numbers numbers = new Numbers(Integer.MAX_VALUE);
+
+        assertDoesNotMatch("Too long", iterableWithSize(3), numbers);
+        assertEquals(4, numbers.counted);
+        assertDoesNotMatch("Too long", iterableWithSize(lessThan(10)), numbers);
+        assertEquals(4 + 10, numbers.counted);
+        assertMatches("Short enough", iterableWithSize(lessThan(10)), new Numbers(9));
+    }
+
+    @Test
+    public void testCountsEveryItemWhenTheSizeIsNotBounded() {
+        assertMatches("Long enough", iterableWithSize(greaterThan(100)), new Numbers(101));
+        assertDoesNotMatch("Not long enough", iterableWithSize(greaterThan(100)), new Numbers(100));
+    }
+
+    @Test
+    public void testDescribesAMismatchWithoutCountingPastTheLargestMatchingSize() {
+        Numbers numbers = new Numbers(20);
+
+        assertMismatchDescription("iterable size was more than <3>", iterableWithSize(3), numbers);
+        assertEquals(2 * 4, numbers.counted);
+        assertMismatchDescription("iterable size was <2>", iterableWithSize(3), new Numbers(2));
+        assertMismatchDescription("iterable size <20> was less than <100>", iterableWithSize(greaterThan(100)), new Numbers(20));
+    }
+
+    @Test
+    public void testDescribesAMismatchOfAnEndlessIterable() {
+        Iterable<Integer> endless = () -> Stream.iterate(0, i -> i + 1).iterator();
+
+        assertMismatchDescription("iterable size was more than <9>", iterableWithSize(lessThan(10)), endless);
+    }
+
+    private static final class SizedCollection extends AbstractCollection<Object> {
+        private final int size;
+
+        SizedCollection(int size) {
+            this.size = size;
+        }
+
+        @Override
+        public Iterator<Object> iterator() {
+            throw new UnsupportedOperationException("should not iterate");
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+
+    private static final class Numbers implements Iterable<Integer> {
+        private final int count;
+        int counted;
+
+        Numbers(int count) {
+            this.count = count;
+        }
+
+        @Override
+        public Iterator<Integer> iterator() {
+            return new Iterator<Integer>() {
+                private int next;
+
+                @Override
+                public boolean hasNext() {
+                    return next < count;
+                }
+
+                @Override
+                public Integer next() {
+                    counted++;
+                    return next++;
+                }
+            };
+        }
+    }
+
 }
@@ -0,0 +1,62 @@
+package org.hamcrest.collection;
+
+import org.hamcrest.Matcher;
+import org.hamcrest.test.AbstractMatcherTest;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.hamcrest.collection.IsMapContainingEntries.hasEntries;
+import static org.hamcrest.test.MatcherAssertions.*;
+
+public final class IsMapContainingEntriesTest extends AbstractMatcherTest {
+
+    @Override
+    protected Matcher<?> createMatcher() {
+        return hasEntries(mapOf("a", 1));
+    }
+
+    @Test
+    public void matchesMapsContainingEveryEntry() {
+        Map<String, Integer> expected = mapOf("a", 1, "b", null);
+
+        assertMatches(hasEntries(expected), mapOf("a", 1, "b", null, "c", 3));
+        assertMatches(hasEntries(expected), new TreeMap<>(mapOf("a", 1, "b", null)));
+        assertMatches(hasEntries(expected), new LinkedHashMap<>(mapOf("a", 1, "b", null)));
+        assertDoesNotMatch(hasEntries(expected), mapOf("a", 1));
+        assertDoesNotMatch(hasEntries(expected), mapOf("a", 2, "b", null));
+        assertMatches(hasEntries(new HashMap<String, Integer>()), mapOf("a", 1));
+    }
+
+    @Test
+    public void findsKeysByEquals() {
+        Map<String, Integer> caseInsensitive = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        caseInsensitive.put("a", 1);
+
+        assertDoesNotMatch(hasEntries(mapOf("A", 1)), caseInsensitive);
+    }
+
+    @Test
+    public void describesMissingAndDifferentKeys() {
+        Matcher<Map<? extends String, ? extends Integer>> matcher = hasEntries(mapOf("a", 1, "b", 2, "c", 3));
+
+        assertMismatchDescription("missing keys [\"b\"] and different values for keys [\"c\": was <4>]", matcher, mapOf("a", 1, "c", 4));
+        assertMismatchDescription("missing keys [\"b\"] and different values for keys [\"c\": was <4>]", matcher, new TreeMap<>(mapOf("a", 1, "c", 4)));
+        assertMismatchDescription("missing keys [\"a\", \"b\", \"c\"]", matcher, mapOf());
+        assertDescription("map containing [\"a\"-><1>, \"b\"-><2>, \"c\"-><3>]", matcher);
+    }
+
+    private static <K, V> Map<K, V> mapOf(Object... keysAndValues) {
+        Map<Object, Object> map = new HashMap<>();
+        for (int i = 0; i < keysAndValues.length; i += 2) {
+            map.put(keysAndValues[i], keysAndValues[i + 1]);
+        }
+        @SuppressWarnings("unchecked")
+        Map<K, V> typed = (Map<K, V>) map;
+        return typed;
+    }
+
+}
@@ -14,6 +14,7 @@ import static org.hamcrest.collection.IsMapContaining.hasEntry;
 import static org.hamcrest.core.IsAnything.anything;
 import static org.hamcrest.core.IsEqual.equalTo;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class IsMapContainingTest extends AbstractMatcherTest {
 
@@ -63,4 +64,51 @@ public class IsMapContainingTest extends AbstractMatcherTest {
         assertThat(m, hasEntry("foo", foo));
     }
 
+    @Test
+    public void testLooksUpKeysOfHashMaps() {
+        Map<Key, Integer> map = new HashMap<>();
+        for (int i = 0; i < 1000; i++) {
+            map.put(new Key(i), i);
+        }
+        map.put(new Key(-1), null);
+        Key.comparisons = 0;
+
+        assertMatches(hasEntry(new Key(500), 500), map);
+        assertMatches(hasEntry(new Key(-1), null), map);
+        assertDoesNotMatch(hasEntry(new Key(500), 2), map);
+        assertDoesNotMatch(hasEntry(new Key(1000), null), map);
+        assertMatches(IsMapContaining.hasKey(new Key(999)), map);
+        assertDoesNotMatch(IsMapContaining.hasKey(new Key(-2)), map);
+        assertTrue(Key.comparisons < 20, "keys compared " + Key.comparisons + " times");
+    }
+
+    @Test
+    public void testScansMapsThatFindKeysOtherThanByEquals() {
+        Map<String, Integer> map = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        map.put("a", 1);
+
+        assertDoesNotMatch(hasEntry("A", 1), map);
+        assertMatches(hasEntry("a", 1), map);
+    }
+
+    private static final class Key {
+        static int comparisons;
+        private final int id;
+
+        Key(int id) {
+            this.id = id;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            comparisons++;
+            return o instanceof Key && ((Key) o).id == id;
+        }
+
+        @Override
+        public int hashCode() {
+            return id;
+        }
+    }
+
 }
@@ -0,0 +1,78 @@
+package org.hamcrest.collection;
+
+import org.hamcrest.Matcher;
+import org.hamcrest.test.AbstractMatcherTest;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedList;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.collection.IsSorted.sorted;
+import static org.hamcrest.collection.IsSorted.sortedBy;
+import static org.hamcrest.collection.IsSorted.strictlyIncreasing;
+import static org.hamcrest.collection.IsSorted.strictlyIncreasingBy;
+import static org.hamcrest.collection.IsSortedArray.sortedDoubleArray;
+import static org.hamcrest.collection.IsSortedArray.sortedIntArray;
+import static org.hamcrest.collection.IsSortedArray.sortedLongArray;
+import static org.hamcrest.collection.IsSortedArray.strictlyIncreasingIntArray;
+import static org.hamcrest.test.MatcherAssertions.*;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+public final class IsSortedTest extends AbstractMatcherTest {
+
+    @Override
+    protected Matcher<?> createMatcher() {
+        return sorted();
+    }
+
+    @Test
+    public void matchesItemsInNaturalOrder() {
+        assertMatches(IsSorted.<Integer>sorted(), asList(1, 2, 2, 3));
+        assertMatches(IsSorted.<Integer>sorted(), new LinkedList<>(asList(1, 2, 2, 3)));
+        assertMatches(IsSorted.<Integer>sorted(), new ArrayList<Integer>());
+        assertDoesNotMatch(IsSorted.<Integer>sorted(), asList(1, 3, 2));
+        assertMatches(IsSorted.<Integer>strictlyIncreasing(), asList(1, 2, 3));
+        assertDoesNotMatch(IsSorted.<Integer>strictlyIncreasing(), asList(1, 2, 2));
+    }
+
+    @Test
+    public void matchesItemsInTheOrderOfAComparator() {
+        Comparator<String> reverse = Collections.reverseOrder();
+
+        assertMatches(sortedBy(reverse), asList("c", "b", "b", "a"));
+        assertDoesNotMatch(strictlyIncreasingBy(reverse), asList("c", "b", "b", "a"));
+        assertDoesNotMatch(sortedBy(reverse), asList("a", "b"));
+    }
+
+    @Test
+    public void describesTheFirstItemOutOfOrder() {
+        assertMismatchDescription("out of order at item 2: <2> came after <3>", IsSorted.<Integer>sorted(), asList(1, 3, 2, 0));
+        assertMismatchDescription("out of order at item 2: <2> came after <3>", IsSorted.<Integer>sorted(), new LinkedList<>(asList(1, 3, 2, 0)));
+        assertMismatchDescription("out of order at item 1: <1> came after <1>", IsSorted.<Integer>strictlyIncreasing(), asList(1, 1));
+        assertMismatchDescription("item 1 was null", IsSorted.<Integer>sorted(), asList(1, null));
+        assertDescription("an iterable in ascending order", sorted());
+        assertDescription("an iterable in strictly ascending order", strictlyIncreasing());
+    }
+
+    @Test
+    public void matchesPrimitiveArrays() {
+        assertMatches(sortedIntArray(), new int[] {1, 2, 2, 3});
+        assertDoesNotMatch(sortedIntArray(), new int[] {2, 1});
+        assertMatches(sortedLongArray(), new long[] {Long.MIN_VALUE, 0L, Long.MAX_VALUE});
+        assertMatches(sortedDoubleArray(), new double[] {-0.0, 0.0, 1.0, Double.NaN});
+        assertDoesNotMatch(sortedDoubleArray(), new double[] {0.0, -0.0});
+        assertMatches(strictlyIncreasingIntArray(), new int[] {});
+        assertDoesNotMatch(strictlyIncreasingIntArray(), new int[] {1, 1});
+        assertFalse(sortedIntArray().matches(new long[] {1L}));
+    }
+
+    @Test
+    public void describesTheFirstPrimitiveOutOfOrder() {
+        assertMismatchDescription("out of order at item 3: <1L> came after <5L>", sortedLongArray(), new long[] {1L, 2L, 5L, 1L});
+        assertDescription("an array in strictly ascending order", strictlyIncreasingIntArray());
+    }
+
+}
@@ -0,0 +1,125 @@
+package org.hamcrest.collection;
+
+import org.hamcrest.Matcher;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Random;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.collection.ArrayMatching.arrayContainingWithDiff;
+import static org.hamcrest.collection.ArrayMatching.asEqualMatchers;
+import static org.hamcrest.collection.IsIterableContainingInOrder.containsWithDiff;
+import static org.hamcrest.test.MatcherAssertions.assertDoesNotMatch;
+import static org.hamcrest.test.MatcherAssertions.assertMatches;
+import static org.hamcrest.test.MatcherAssertions.assertMismatchDescription;
+import static org.hamcrest.test.MatcherAssertions.mismatchDescription;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public final class SequenceDiffTest {
+
+    private static final SequenceDiff DIFF = SequenceDiff.defaultBudget();
+
+    @Test
+    public void matchesLikeContains() {
+        assertMatches(containsWithDiff(expected(1, 2, 3), DIFF), asList(1, 2, 3));
+        assertDoesNotMatch(containsWithDiff(expected(1, 2, 3), DIFF), asList(1, 2));
+    }
+
+    @Test
+    public void describesChangedItem() {
+        assertMismatchDescription("differs in 1 place: item 1: was <5>", containsWithDiff(expected(1, 2, 3), DIFF), asList(1, 5, 3));
+    }
+
+    @Test
+    public void describesUnexpectedAndMissingItems() {
+        assertMismatchDescription("differs in 2 places: item 1 unexpected: <9>; missing at item 4: <4>",
+                containsWithDiff(expected(1, 2, 3, 4), DIFF), asList(1, 9, 2, 3));
+        assertMismatchDescription("differs in 1 place: items 0 to 1 unexpected: [<7>, <8>]",
+                containsWithDiff(expected(1, 2), DIFF), asList(7, 8, 1, 2));
+        assertMismatchDescription("differs in 1 place: missing at item 0: [<1>, <2>]",
+                containsWithDiff(expected(1, 2, 3), DIFF), asList(3));
+    }
+
+    @Test
+    public void describesReplacedRanges() {
+        assertMismatchDescription("differs in 1 place: items 1 to 2 were [<8>, <9>] instead of <2>",
+                containsWithDiff(expected(1, 2, 3), DIFF), asList(1, 8, 9, 3));
+        assertMismatchDescription("differs in 1 place: items 0 to 6 were [<0>, <0>, <0>, <0>, <0>, and 2 more] instead of [<1>, <1>]",
+                containsWithDiff(expected(1, 1), DIFF), asList(0, 0, 0, 0, 0, 0, 0));
+    }
+
+    @Test
+    public void findsFewEditsInLongSequences() {
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 100000; i++) {
+            expected.add(i);
+        }
+        List<Integer> actual = new LinkedList<>(expected);
+        actual.remove(50000);
+        actual.add(70000, -1);
+
+        assertMismatchDescription("differs in 2 places: missing at item 50000: <50000>; item 70000 unexpected: <-1>",
+                containsWithDiff(asEqualMatchers(expected.toArray(new Integer[0])), DIFF), actual);
+    }
+
+    @Test
+    public void findsShortestEditScripts() {
+        Random random = new Random(42);
+        for (int trial = 0; trial < 500; trial++) {
+            List<Integer> expected = randomList(random);
+            List<Integer> actual = randomList(random);
+            if (expected.equals(actual)) {
+                continue;
+            }
+            int distance = editDistance(expected, actual);
+            List<Matcher<? super Integer>> matchers = expected(expected.toArray(new Integer[0]));
+            String withinBudget = mismatchDescription(containsWithDiff(matchers, SequenceDiff.withBudget(100, distance, 100000)), actual);
+            String overBudget = mismatchDescription(containsWithDiff(matchers, SequenceDiff.withBudget(100, distance - 1, 100000)), actual);
+
+            assertTrue(withinBudget.startsWith("differs in "), expected + " " + actual + ": " + withinBudget);
+            assertFalse(overBudget.startsWith("differs in "), expected + " " + actual + ": " + overBudget);
+        }
+    }
+
+    @Test
+    public void fallsBackToFirstDifferenceWhenOverBudget() {
+        assertMismatchDescription("item 0: was <9>", containsWithDiff(expected(1, 2, 3), SequenceDiff.withBudget(10, 1, 1000)), asList(9, 8, 7));
+        assertMismatchDescription("item 0: was <9>", containsWithDiff(expected(1, 2, 3), SequenceDiff.withBudget(10, 10, 2)), asList(9, 8, 7));
+        assertMismatchDescription("item 0: was <9>", containsWithDiff(expected(1, 2, 3), SequenceDiff.withBudget(2, 10, 1000)), asList(9, 8, 7));
+    }
+
+    @Test
+    public void describesArrayMismatches() {
+        assertMismatchDescription("differs in 1 place: item 0 unexpected: \"x\"",
+                arrayContainingWithDiff(asEqualMatchers(new String[] {"a", "b"}), DIFF), new String[] {"x", "a", "b"});
+    }
+
+    @SafeVarargs
+    private static <E> List<Matcher<? super E>> expected(E... items) {
+        return asEqualMatchers(items);
+    }
+
+    private static List<Integer> randomList(Random random) {
+        List<Integer> list = new ArrayList<>();
+        int size = 1 + random.nextInt(12);
+        for (int i = 0; i < size; i++) {
+            list.add(random.nextInt(4));
+        }
+        return list;
+    }
+
+    private static int editDistance(List<Integer> a, List<Integer> b) {
+        int[][] lcs = new int[a.size() + 1][b.size() + 1];
+        for (int i = a.size() - 1; i >= 0; i--) {
+            for (int j = b.size() - 1; j >= 0; j--) {
+                lcs[i][j] = a.get(i).equals(b.get(j)) ? lcs[i + 1][j + 1] + 1 : Math.max(lcs[i + 1][j], lcs[i][j + 1]);
+            }
+        }
+        return a.size() + b.size() - 2 * lcs[0][0];
+    }
+
+}
@@ -0,0 +1,99 @@
+package org.hamcrest.core;
+
+import org.hamcrest.BaseMatcher;
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.hamcrest.test.MatcherAssertions.*;
+import static org.hamcrest.core.AllOf.adaptiveAllOf;
+import static org.hamcrest.core.AnyOf.adaptiveAnyOf;
+import static org.hamcrest.core.IsEqual.equalTo;
+import static org.hamcrest.core.StringEndsWith.endsWith;
+import static org.hamcrest.core.StringStartsWith.startsWith;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public final class AdaptiveOrderTest {
+
+    private final Matcher<Object> slowPass = new SlowMatcher(true);
+    private final Matcher<Object> cheapFail = new IsNull<>();
+    private final Matcher<Object> cheapPass = new IsAnything<>();
+
+    @Test public void
+    evaluatesCheapDecisiveMatchersFirstInConjunction() {
+        AdaptiveOrder<Object> order = new AdaptiveOrder<>(list(slowPass, cheapFail), false, 1);
+
+        for (int i = 0; i < AdaptiveOrder.SAMPLES_PER_REORDER; i++) {
+            assertFalse(order.matches("x"));
+        }
+
+        assertArrayEquals(new int[] {1, 0}, order.order());
+    }
+
+    @Test public void
+    evaluatesCheapDecisiveMatchersFirstInDisjunction() {
+        AdaptiveOrder<Object> order = new AdaptiveOrder<>(list(slowPass, cheapFail, cheapPass), true, 1);
+
+        for (int i = 0; i < AdaptiveOrder.SAMPLES_PER_REORDER; i++) {
+            assertTrue(order.matches("x"));
+        }
+
+        assertArrayEquals(new int[] {2, 1, 0}, order.order());
+    }
+
+    @Test public void
+    keepsDeclaredOrderInDescriptionsAndMismatches() {
+        Matcher<String> allOf = adaptiveAllOf(Arrays.<Matcher<? super String>>asList(startsWith("goo"), endsWith("ood")));
+        Matcher<String> anyOf = adaptiveAnyOf(Arrays.<Matcher<? super String>>asList(startsWith("goo"), endsWith("ood")));
+
+        for (int i = 0; i < 10 * AdaptiveOrder.SAMPLE_PERIOD; i++) {
+            assertMatches(allOf, "good");
+            assertDoesNotMatch(allOf, "mood");
+            assertMatches(anyOf, "mood");
+            assertDoesNotMatch(anyOf, "fred");
+        }
+
+        assertDescription("(a string starting with \"goo\" and a string ending with \"ood\")", allOf);
+        assertMismatchDescription("a string ending with \"ood\" was \"goon\"", allOf, "goon");
+        assertDescription("(a string starting with \"goo\" or a string ending with \"ood\")", anyOf);
+    }
+
+    @Test public void
+    copesWithNullsAndUnknownTypes() {
+        Matcher<String> matcher = adaptiveAllOf(Arrays.<Matcher<? super String>>asList(equalTo("irrelevant"), startsWith("irr")));
+
+        assertNullSafe(matcher);
+        assertUnknownTypeSafe(matcher);
+    }
+
+    @SafeVarargs
+    private static List<Matcher<? super Object>> list(Matcher<? super Object>... matchers) {
+        return Arrays.asList(matchers);
+    }
+
+    private static final class SlowMatcher extends BaseMatcher<Object> {
+        private final boolean result;
+
+        SlowMatcher(boolean result) {
+            this.result = result;
+        }
+
+        @Override public boolean matches(Object actual) {
+            long until = System.nanoTime() + 50_000;
+            while (System.nanoTime() < until) {
+                Thread.yield();
+            }
+            return result;
+        }
+
+        @Override public void describeTo(Description description) {
+            description.appendText("slow");
+        }
+    }
+
+}
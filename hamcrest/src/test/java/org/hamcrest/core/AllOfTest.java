@@ -3,6 +3,9 @@ package org.hamcrest.core;
 import org.hamcrest.Matcher;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.test.MatcherAssertions.*;
 import static org.hamcrest.core.AllOf.allOf;
@@ -63,6 +66,21 @@ public final class AllOfTest {
         assertMismatchDescription("\"good\" was \"bad\"", allOf(equalTo("bad"), equalTo("good")), "bad");
     }
 
+    @Test public void
+    usesTheMatchersGivenAtConstruction() {
+        List<Matcher<? super String>> matchers = new ArrayList<>();
+        matchers.add(equalTo("a"));
+        Matcher<String> matcher = allOf(matchers);
+        Matcher<String> either = AnyOf.anyOf(matchers);
+        matchers.add(equalTo("b"));
+
+        assertMatches(matcher, "a");
+        assertDescription("(\"a\")", matcher);
+        assertMismatchDescription("\"a\" was \"c\"", matcher, "c");
+        assertDoesNotMatch(either, "b");
+        assertDescription("(\"a\")", either);
+    }
+
     @Test public void
     varargs() {
         assertThat("the text!", new AllOf<>(startsWith("the"), containsString("text"), endsWith("!")));
@@ -3,6 +3,8 @@ package org.hamcrest.core;
 import org.hamcrest.Matcher;
 import org.junit.jupiter.api.Test;
 
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
 import static org.hamcrest.test.MatcherAssertions.*;
 import static org.hamcrest.core.DescribedAs.describedAs;
 import static org.hamcrest.core.IsAnything.anything;
@@ -32,6 +34,20 @@ public final class DescribedAsTest {
         assertDescription("value 1 = <33>, value 2 = <97>", matcher);
     }
 
+    @Test public void
+    reusesValuesAndRendersRepeatedly() {
+        Matcher<?> matcher = describedAs("%1%0 and %1", anything(), "a", "b");
+
+        assertDescription("\"b\"\"a\" and \"b\"", matcher);
+        assertDescription("\"b\"\"a\" and \"b\"", matcher);
+    }
+
+    @Test public void
+    rejectsTemplateReferringToMissingValue() {
+        assertThrows(IllegalArgumentException.class, () -> describedAs("value = %1", anything(), 33));
+        assertThrows(IllegalArgumentException.class, () -> describedAs("value = %99999999999", anything(), 33));
+    }
+
     @Test public void
     celegatesMatchingToAnotherMatcher() {
         Matcher<String> matcher = describedAs("irrelevant", equalTo("hi"));
@@ -4,11 +4,15 @@ import org.hamcrest.Matcher;
 import org.junit.jupiter.api.Test;
 
 import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 
 import static java.util.Arrays.asList;
 import static java.util.Collections.singletonList;
 import static org.hamcrest.test.MatcherAssertions.*;
 import static org.hamcrest.core.StringContains.containsString;
+import static org.hamcrest.core.StringStartsWith.startsWith;
 
 public final class EveryTest {
 
@@ -41,4 +45,32 @@ public final class EveryTest {
         assertMismatchDescription("an item was \"BXB\"", matcher, singletonList("BXB"));
     }
 
+    @Test public void
+    matchesLargeCollectionsInParallel() {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            Matcher<Iterable<? extends String>> parallel = Every.everyItemInParallel(startsWith("item"), pool);
+            List<String> items = items(100000);
+
+            assertMatches(parallel, items);
+            assertMatches(parallel, new HashSet<>(items));
+            items.set(70000, "other 70000");
+            items.set(30000, "other 30000");
+            items.set(90000, "other 90000");
+            assertDoesNotMatch(parallel, items);
+            assertMismatchDescription("an item was \"other 30000\"", parallel, items);
+            assertMismatchDescription("an item was \"BXB\"", Every.everyItemInParallel(containsString("a"), pool), singletonList("BXB"));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private static List<String> items(int count) {
+        List<String> items = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            items.add("item " + i);
+        }
+        return items;
+    }
+
 }
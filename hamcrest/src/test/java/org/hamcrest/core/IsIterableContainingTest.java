@@ -8,7 +8,10 @@ import org.junit.jupiter.api.Test;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
 
 import static java.util.Arrays.asList;
 import static java.util.Collections.singleton;
@@ -17,6 +20,7 @@ import static org.hamcrest.Matchers.not;
 import static org.hamcrest.core.IsEqual.equalTo;
 import static org.hamcrest.core.IsIterableContaining.hasItem;
 import static org.hamcrest.core.IsIterableContaining.hasItems;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 
 public final class IsIterableContainingTest {
 
@@ -89,6 +93,110 @@ public final class IsIterableContainingTest {
                                   matcher, asList(1, 2, 3));
     }
 
+    @SuppressWarnings("unchecked")
+    @Test public void
+    matchesMultipleItemsInASinglePass() {
+        final CountingIterable<String> strings = new CountingIterable<>(asList("e", "c", "b", "a", "d", "f"));
+        final Matcher<Iterable<? extends String>> matcher = hasItems(equalTo("a"), mismatchable("b"), equalTo("c"), equalTo("a"));
+
+        assertMatches(matcher, strings);
+        assertEquals(1, strings.iterators);
+        assertEquals(4, strings.nexts);
+    }
+
+    @Test public void
+    matchesEqualItemsIncludingNulls() {
+        assertMatches(hasItems("a", null), asList(null, "b", "a"));
+        assertDoesNotMatch(hasItems("a", null), asList("b", "a"));
+        assertMatches(hasItems(1, 1, 2), asList(2, 1));
+    }
+
+    @Test public void
+    describesTheFirstUnmatchedItem() {
+        assertDescription("(a collection containing \"a\" and a collection containing \"b\")", hasItems("a", "b"));
+        assertMismatchDescription("a collection containing \"b\" mismatches were: [was \"c\"]", hasItems("b", "c", "d"), asList("c"));
+        assertMismatchDescription("a collection containing \"a\" was empty", hasItems("a"), new ArrayList<String>());
+    }
+
+    @Test public void
+    searchesLargeCollectionsInParallel() {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            List<Integer> numbers = new ArrayList<>();
+            for (int i = 0; i < 100000; i++) {
+                numbers.add(i);
+            }
+            assertMatches(IsIterableContaining.hasItemInParallel(equalTo(99999), pool), numbers);
+            assertMatches(IsIterableContaining.hasItemInParallel(equalTo(5), pool), new HashSet<>(numbers));
+            assertDoesNotMatch(IsIterableContaining.hasItemInParallel(equalTo(-1), pool), numbers);
+            assertMismatchDescription("mismatches were: [was <1>, was <2>]",
+                    IsIterableContaining.hasItemInParallel(equalTo(3), pool), asList(1, 2));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test public void
+    describesMismatchInASinglePass() {
+        final CountingIterable<Integer> numbers = new CountingIterable<>(asList(1, 2, 3));
+
+        assertEquals("mismatches were: [was <1>, was <2>, was <3>]", mismatchDescription(hasItem(equalTo(4)), numbers));
+        assertEquals(1, numbers.iterators);
+        assertEquals(3, numbers.nexts);
+    }
+
+    @Test public void
+    reportsTheFirstMismatchesAndCountsTheRest() {
+        List<Integer> numbers = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            numbers.add(i);
+        }
+
+        assertMismatchDescription("mismatches were: [was <0>, was <1>, and 498 more]",
+                hasItem(equalTo(-1), ItemDiagnostics.firstMismatches(2)), numbers);
+        assertMismatchDescription("mismatches were: [was <0>, was <1>, was <2>, was <3>, was <4>, was <5>, was <6>, was <7>, was <8>, was <9>, and 490 more]",
+                hasItem(equalTo(-1)), numbers);
+        assertMismatchDescription("mismatches were: [was <0>, was <1>, was <2>]",
+                hasItem(equalTo(-1), ItemDiagnostics.everyMismatch()), numbers.subList(0, 3));
+    }
+
+    @Test public void
+    reportsTheClosestMismatches() {
+        Matcher<Iterable<? extends Integer>> matcher = hasItem(equalTo(5), ItemDiagnostics.<Integer>closestMismatches(2, n -> Math.abs(n - 5)));
+
+        assertMismatchDescription("the 2 closest of 5 mismatches were: [was <6>, was <4>]", matcher, asList(1, 9, 6, 4, 3));
+        assertMismatchDescription("the 1 closest of 1 mismatches were: [was <0>]", matcher, asList(0));
+        assertMismatchDescription("was empty", matcher, new ArrayList<Integer>());
+    }
+
+    private static final class CountingIterable<T> implements Iterable<T> {
+        private final Iterable<T> iterable;
+        int iterators;
+        int nexts;
+
+        CountingIterable(Iterable<T> iterable) {
+            this.iterable = iterable;
+        }
+
+        @Override
+        public Iterator<T> iterator() {
+            iterators++;
+            final Iterator<T> iterator = iterable.iterator();
+            return new Iterator<T>() {
+                @Override
+                public boolean hasNext() {
+                    return iterator.hasNext();
+                }
+
+                @Override
+                public T next() {
+                    nexts++;
+                    return iterator.next();
+                }
+            };
+        }
+    }
+
     private static Matcher<String> mismatchable(final String string) {
         return new TypeSafeDiagnosingMatcher<String>() {
             @Override
@@ -0,0 +1,150 @@
+package org.hamcrest.core;
+
+import org.hamcrest.BaseMatcher;
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public final class MatcherSetTest {
+
+    private static final List<String> TYPES = Arrays.asList("trade", "quote", "cancel", "fill");
+
+    private final MatcherSet<Event> set = new MatcherSet<>();
+
+    @Test public void
+    findsTheSameMatchersAsApplyingEveryOne() {
+        Random random = new Random(42);
+        List<Matcher<? super Event>> matchers = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            Matcher<Event> matcher;
+            switch (i % 5) {
+                case 0: matcher = hasProperty("type", equalTo(type(random))); break;
+                case 1: matcher = allOf(hasProperty("type", equalTo(type(random))), hasProperty("size", greaterThan(random.nextInt(100)))); break;
+                case 2: matcher = anyOf(hasProperty("type", equalTo(type(random))), hasProperty("type", equalTo(type(random)))); break;
+                case 3: matcher = hasProperty("size", lessThan(random.nextInt(100))); break;
+                default: matcher = is(CombinableMatcher.<Event>both(hasProperty("type", in(TYPES.subList(0, 2)))).and(hasProperty("size", greaterThan(50)))); break;
+            }
+            assertEquals(i, set.add(matcher));
+            matchers.add(matcher);
+        }
+
+        for (int n = 0; n < 100; n++) {
+            Event event = n % 20 == 0 ? null : new Event(n % 17 == 0 ? null : type(random), random.nextInt(100));
+            List<Integer> expected = new ArrayList<>();
+            for (int i = 0; i < matchers.size(); i++) {
+                if (matchers.get(i).matches(event)) {
+                    expected.add(i);
+                }
+            }
+            assertEquals(expected, asList(set.matching(event)), String.valueOf(event));
+        }
+    }
+
+    @Test public void
+    evaluatesSharedConjunctsOncePerValue() {
+        Counting large = new Counting(hasProperty("size", greaterThan(10)));
+        set.add(allOf(hasProperty("type", equalTo("trade")), large));
+        set.add(allOf(hasProperty("type", equalTo("fill")), large));
+        set.add(allOf(startsWithLetter(), large));
+
+        assertArrayEquals(new int[] {0, 2}, set.matching(new Event("trade", 20)));
+        assertEquals(1, large.calls);
+    }
+
+    @Test public void
+    onlyTestsMatchersWhoseEqualityConstraintIsSatisfied() {
+        Counting trades = new Counting(hasProperty("size", greaterThan(0)));
+        Counting quotes = new Counting(hasProperty("size", greaterThan(1)));
+        set.add(allOf(hasProperty("type", equalTo("trade")), trades));
+        set.add(allOf(hasProperty("type", equalTo("quote")), quotes));
+
+        assertArrayEquals(new int[] {1}, set.matching(new Event("quote", 5)));
+        assertEquals(0, trades.calls);
+        assertEquals(1, quotes.calls);
+        assertArrayEquals(new int[0], set.matching(null));
+        assertEquals(2, set.size());
+    }
+
+    @Test public void
+    testsSubclassesOfBuiltInMatchersWhole() {
+        MatcherSet<Object> values = new MatcherSet<>();
+        values.add(new IsEqual<Object>("abc") {
+            @Override
+            public boolean matches(Object actual) {
+                return "ABC".equals(actual) || super.matches(actual);
+            }
+        });
+        values.add(new AllOf<Object>(Arrays.<Matcher<? super Object>>asList(notNullValue(), equalTo("abc"))) {
+            @Override
+            public boolean matches(Object actual, Description mismatch) {
+                return "ABC".equals(actual) || super.matches(actual, mismatch);
+            }
+        });
+        values.add(is(equalTo("abc")));
+
+        assertArrayEquals(new int[] {0, 1}, values.matching("ABC"));
+        assertArrayEquals(new int[] {0, 1, 2}, values.matching("abc"));
+    }
+
+    private static Matcher<Event> startsWithLetter() {
+        return hasProperty("type", matchesPattern("[a-z].*"));
+    }
+
+    private static String type(Random random) {
+        return TYPES.get(random.nextInt(TYPES.size()));
+    }
+
+    private static List<Integer> asList(int[] ids) {
+        List<Integer> list = new ArrayList<>();
+        for (int id : ids) {
+            list.add(id);
+        }
+        return list;
+    }
+
+    private static final class Counting extends BaseMatcher<Object> {
+        private final Matcher<?> matcher;
+        int calls;
+
+        Counting(Matcher<?> matcher) {
+            this.matcher = matcher;
+        }
+
+        @Override
+        public boolean matches(Object actual) {
+            calls++;
+            return matcher.matches(actual);
+        }
+
+        @Override
+        public void describeTo(Description description) {
+            description.appendDescriptionOf(matcher);
+        }
+    }
+
+    public static final class Event {
+        private final String type;
+        private final int size;
+
+        Event(String type, int size) {
+            this.type = type;
+            this.size = size;
+        }
+
+        public String getType() { return type; }
+        public int getSize() { return size; }
+
+        @Override
+        public String toString() { return type + ":" + size; }
+    }
+
+}
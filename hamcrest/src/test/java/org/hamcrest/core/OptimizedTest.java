@@ -0,0 +1,117 @@
+package org.hamcrest.core;
+
+import org.hamcrest.BaseMatcher;
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+import org.hamcrest.StringDescription;
+import org.junit.jupiter.api.Test;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.test.MatcherAssertions.*;
+import static org.hamcrest.core.AllOf.allOf;
+import static org.hamcrest.core.AnyOf.anyOf;
+import static org.hamcrest.core.CombinableMatcher.both;
+import static org.hamcrest.core.CombinableMatcher.either;
+import static org.hamcrest.core.IsAnything.anything;
+import static org.hamcrest.core.IsEqual.equalTo;
+import static org.hamcrest.core.IsNot.not;
+import static org.hamcrest.core.IsNull.notNullValue;
+import static org.hamcrest.core.IsNull.nullValue;
+import static org.hamcrest.core.Optimized.optimized;
+import static org.hamcrest.core.StringContains.containsString;
+import static org.hamcrest.core.StringEndsWith.endsWith;
+import static org.hamcrest.core.StringStartsWith.startsWith;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public final class OptimizedTest {
+
+    @Test public void
+    copesWithNullsAndUnknownTypes() {
+        Matcher<String> matcher = optimized(allOf(allOf(equalTo("irrelevant"), startsWith("irr")), anything()));
+
+        assertNullSafe(matcher);
+        assertUnknownTypeSafe(matcher);
+    }
+
+    @Test public void
+    keepsDescriptionAndMismatchDescriptionOfOriginal() {
+        Matcher<String> original = both(startsWith("a")).and(endsWith("z")).and(containsString("m"));
+        Matcher<String> matcher = optimized(original);
+
+        assertDescription(StringDescription.toString(original), matcher);
+        StringDescription mismatch = new StringDescription();
+        original.describeMismatch("abc", mismatch);
+
+        assertMismatchDescription(mismatch.toString(), matcher, "abc");
+        assertMatches(matcher, "amz");
+        assertDoesNotMatch(matcher, "mz");
+    }
+
+    @Test public void
+    evaluatesFlattenedCombinationsOnce() {
+        CountingMatcher counting = new CountingMatcher();
+        Matcher<Object> matcher = optimized(allOf(counting, allOf(counting, anything(), not(not(counting)))));
+
+        assertMatches(matcher, "x");
+        assertEquals(1, counting.count);
+    }
+
+    @Test public void
+    keepsNullSemanticsOfCombinableMatcher() {
+        Matcher<Object> matcher = optimized(both(nullValue()).and(anything()));
+
+        assertDoesNotMatch(matcher, null);
+        assertMatches(optimized(allOf(nullValue(), anything())), null);
+    }
+
+    @Test public void
+    foldsConstants() {
+        assertMatches(optimized(anyOf(equalTo(1), anything())), 2);
+        assertDoesNotMatch(optimized(allOf(equalTo(2), not(anything()))), 2);
+        assertMatches(optimized(either(equalTo(1)).or(not(not(equalTo(2))))), 2);
+        assertDoesNotMatch(optimized(either(equalTo(1)).or(equalTo(2))), 3);
+    }
+
+    @Test public void
+    keepsSubclassesOfCombinationsWhole() {
+        Matcher<String> allOfOrA = new AllOf<String>(asList(startsWith("b"), endsWith("c"))) {
+            @Override
+            public boolean matches(Object o, Description mismatch) {
+                return "a".equals(o) || super.matches(o, mismatch);
+            }
+        };
+        Matcher<Object> notOrA = new IsNot<Object>(anything()) {
+            @Override
+            public boolean matches(Object arg) {
+                return "a".equals(arg);
+            }
+        };
+
+        assertMatches(optimized(allOfOrA), "a");
+        assertMatches(optimized(allOf(notNullValue(), allOfOrA)), "a");
+        assertMatches(optimized(notOrA), "a");
+        assertDoesNotMatch(optimized(notOrA), "b");
+    }
+
+    @Test public void
+    returnsMatchersThatCannotBeOptimised() {
+        Matcher<String> matcher = startsWith("a");
+
+        assertSame(matcher, optimized(matcher));
+    }
+
+    private static final class CountingMatcher extends BaseMatcher<Object> {
+        int count = 0;
+
+        @Override public boolean matches(Object actual) {
+            count++;
+            return true;
+        }
+
+        @Override public void describeTo(Description description) {
+            description.appendText("counted");
+        }
+    }
+
+}
@@ -0,0 +1,178 @@
+package org.hamcrest.index;
+
+import org.hamcrest.BaseMatcher;
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class IndexedCollectionTest {
+
+    private final List<Person> people = Arrays.asList(
+            new Person("Ann", "FR", 34, new Address("Paris")),
+            new Person("Bob", "DE", 61, new Address("Berlin")),
+            new Person("Cat", "FR", 70, null),
+            new Person("Dan", null, 12, new Address("Lyon")),
+            null,
+            new Person("Eve", "NZ", 34, new Address("Paris")));
+
+    private final IndexedCollection<Person> indexed = new IndexedCollection<>(people)
+            .addHashIndex("country")
+            .addHashIndex("address.city")
+            .addSortedIndex("age");
+
+    @Test public void
+    selectsTheSameElementsAsMatchingEveryOne() {
+        assertSelectsAsScan(hasProperty("country", equalTo("FR")));
+        assertSelectsAsScan(hasProperty("country", equalTo(null)));
+        assertSelectsAsScan(hasProperty("country", is(in(Arrays.asList("DE", "NZ", "UK")))));
+        assertSelectsAsScan(hasProperty("address", hasProperty("city", equalTo("Paris"))));
+        assertSelectsAsScan(hasProperty("age", greaterThan(34)));
+        assertSelectsAsScan(hasProperty("age", lessThanOrEqualTo(34)));
+        assertSelectsAsScan(hasProperty("age", comparesEqualTo(34)));
+        assertSelectsAsScan(allOf(hasProperty("country", equalTo("FR")), hasProperty("age", greaterThanOrEqualTo(34))));
+        assertSelectsAsScan(anyOf(hasProperty("country", equalTo("DE")), hasProperty("country", equalTo("NZ"))));
+        assertSelectsAsScan(anyOf(hasProperty("country", equalTo("DE")), hasProperty("name", equalTo("Dan"))));
+        assertSelectsAsScan(hasProperty("name", startsWith("C")));
+        assertSelectsAsScan(nullValue());
+    }
+
+    @Test public void
+    onlyMatchesCandidatesFromTheIndexes() {
+        Counting<Person> frenchAdults = new Counting<>(
+                allOf(hasProperty("country", equalTo("FR")), hasProperty("age", greaterThan(40))));
+
+        assertEquals(Collections.singletonList(people.get(2)), indexed.select(frenchAdults));
+        assertEquals(1, frenchAdults.calls);
+
+        Counting<Person> unindexed = new Counting<>(hasProperty("name", equalTo("Eve")));
+        assertEquals(Collections.singletonList(people.get(5)), indexed.select(unindexed));
+        assertEquals(people.size(), unindexed.calls);
+    }
+
+    @Test public void
+    scansForSubclassesThatInheritTheirConstraints() {
+        Counting<Person> french = new Counting<>(hasProperty("country", new Lenient("fr")));
+
+        assertEquals(Arrays.asList(people.get(0), people.get(2)), indexed.select(french));
+        assertEquals(people.size(), french.calls);
+    }
+
+    @Test public void
+    indexesElementsThemselves() {
+        IndexedCollection<Object> values = new IndexedCollection<Object>(Arrays.asList("a", "b", null, 3))
+                .addHashIndex("");
+
+        assertEquals(Collections.singletonList("b"), values.select(equalTo("b")));
+        assertEquals(Collections.singletonList(null), values.select(equalTo(null)));
+        assertEquals(Collections.singletonList(3), values.select(equalToObject(3)));
+    }
+
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    @Test public void
+    fallsBackToMatchingWhenBoundsAreNotComparableWithTheIndex() {
+        IndexedCollection<Object> values = new IndexedCollection<Object>(Arrays.<Object>asList(1, 5, 9))
+                .addSortedIndex("");
+
+        assertEquals(Arrays.<Object>asList(5, 9), values.select((Matcher) greaterThan(1)));
+        assertEquals(Collections.emptyList(), values.select((Matcher) greaterThan(1L)));
+    }
+
+    @Test public void
+    rejectsSortedIndexesOfIncomparableValues() {
+        IndexedCollection<Object> values = new IndexedCollection<Object>(Arrays.<Object>asList(1, "a"));
+
+        assertThrows(IllegalArgumentException.class, () -> values.addSortedIndex(""));
+    }
+
+    private void assertSelectsAsScan(Matcher<? super Person> matcher) {
+        List<Person> expected = new ArrayList<>();
+        for (Person person : people) {
+            if (matcher.matches(person)) {
+                expected.add(person);
+            }
+        }
+        assertEquals(expected, indexed.select(matcher), matcher.toString());
+    }
+
+    private static final class Counting<T> extends BaseMatcher<T> implements Sargable {
+        private final Matcher<T> matcher;
+        int calls;
+
+        Counting(Matcher<T> matcher) {
+            this.matcher = matcher;
+        }
+
+        @Override
+        public boolean matches(Object actual) {
+            calls++;
+            return matcher.matches(actual);
+        }
+
+        @Override
+        public void describeTo(Description description) {
+            description.appendDescriptionOf(matcher);
+        }
+
+        @Override
+        public List<Constraint> constraints() {
+            return MatcherAnalyzer.constraintsOf(matcher);
+        }
+    }
+
+    private static final class Lenient extends IsEqual<Object> {
+        private final String expected;
+
+        Lenient(String expected) {
+            super(expected);
+            this.expected = expected;
+        }
+
+        @Override
+        public boolean matches(Object actual) {
+            return actual instanceof String && expected.equalsIgnoreCase((String) actual);
+        }
+    }
+
+    public static final class Person {
+        private final String name;
+        private final String country;
+        private final int age;
+        private final Address address;
+
+        Person(String name, String country, int age, Address address) {
+            this.name = name;
+            this.country = country;
+            this.age = age;
+            this.address = address;
+        }
+
+        public String getName() { return name; }
+        public String getCountry() { return country; }
+        public int getAge() { return age; }
+        public Address getAddress() { return address; }
+
+        @Override
+        public String toString() { return name; }
+    }
+
+    public static final class Address {
+        private final String city;
+
+        Address(String city) {
+            this.city = city;
+        }
+
+        public String getCity() { return city; }
+    }
+
+}
@@ -0,0 +1,93 @@
+package org.hamcrest.index;
+
+import org.hamcrest.Matcher;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.TreeSet;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public final class MatcherAnalyzerTest {
+
+    @Test public void
+    findsEqualityConstraints() {
+        Constraint constraint = onlyConstraintOf(equalTo("a"));
+
+        assertTrue(constraint.isEquality());
+        assertEquals(Collections.emptyList(), constraint.path());
+        assertEquals(Collections.singleton("a"), constraint.values());
+        assertEquals(Collections.singleton(null), onlyConstraintOf(equalTo(null)).values());
+        assertEquals(new HashSet<>(Arrays.asList("a", "b")), onlyConstraintOf(is(in(Arrays.asList("a", "b")))).values());
+    }
+
+    @Test public void
+    hasNoConstraintsForArraysOrSortedSets() {
+        assertTrue(MatcherAnalyzer.constraintsOf(equalTo(new int[] {1})).isEmpty());
+        assertTrue(MatcherAnalyzer.constraintsOf(in(new TreeSet<>(String.CASE_INSENSITIVE_ORDER))).isEmpty());
+        assertTrue(MatcherAnalyzer.constraintsOf(startsWith("a")).isEmpty());
+    }
+
+    @Test public void
+    findsRangeConstraintsOfNaturalOrderings() {
+        assertRange(null, false, 5, false, onlyConstraintOf(lessThan(5)));
+        assertRange(null, false, 5, true, onlyConstraintOf(lessThanOrEqualTo(5)));
+        assertRange(5, false, null, false, onlyConstraintOf(greaterThan(5)));
+        assertRange(5, true, null, false, onlyConstraintOf(greaterThanOrEqualTo(5)));
+        assertRange(5, true, 5, true, onlyConstraintOf(comparesEqualTo(5)));
+        assertTrue(MatcherAnalyzer.constraintsOf(closeTo(1.0, 0.1)).isEmpty());
+    }
+
+    @Test public void
+    prefixesPropertyPaths() {
+        Constraint constraint = onlyConstraintOf(hasProperty("address", hasProperty("city", equalTo("Paris"))));
+
+        assertEquals(Arrays.asList("address", "city"), constraint.path());
+        assertEquals(Collections.singleton("Paris"), constraint.values());
+    }
+
+    @Test public void
+    combinesConjunctions() {
+        List<Constraint> constraints = MatcherAnalyzer.constraintsOf(
+                both(hasProperty("name", equalTo("a"))).and(hasProperty("age", greaterThan(3))));
+
+        assertEquals(2, constraints.size());
+        assertTrue(constraints.get(0).isEquality());
+        assertFalse(constraints.get(1).isEquality());
+    }
+
+    @Test public void
+    combinesDisjunctionsOnlyWhereEveryBranchHasAnEqualityOnThePath() {
+        Constraint constraint = onlyConstraintOf(anyOf(
+                hasProperty("country", equalTo("FR")),
+                allOf(hasProperty("country", in(Arrays.asList("DE", "AT"))), hasProperty("age", greaterThan(3)))));
+
+        assertEquals(Collections.singletonList("country"), constraint.path());
+        assertEquals(new HashSet<>(Arrays.asList("FR", "DE", "AT")), constraint.values());
+        assertTrue(MatcherAnalyzer.constraintsOf(anyOf(equalTo("a"), startsWith("b"))).isEmpty());
+        assertTrue(MatcherAnalyzer.constraintsOf(anyOf(lessThan(1), greaterThan(5))).isEmpty());
+    }
+
+    private static Constraint onlyConstraintOf(Matcher<?> matcher) {
+        List<Constraint> constraints = MatcherAnalyzer.constraintsOf(matcher);
+        assertEquals(1, constraints.size(), constraints.toString());
+        return constraints.get(0);
+    }
+
+    private static void assertRange(Object lower, boolean lowerInclusive, Object upper, boolean upperInclusive, Constraint constraint) {
+        assertFalse(constraint.isEquality());
+        assertNull(constraint.values());
+        assertEquals(lower, constraint.lower());
+        assertEquals(lowerInclusive, constraint.isLowerInclusive());
+        assertEquals(upper, constraint.upper());
+        assertEquals(upperInclusive, constraint.isUpperInclusive());
+    }
+
+}
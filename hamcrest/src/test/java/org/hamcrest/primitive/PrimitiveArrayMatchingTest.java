@@ -0,0 +1,176 @@
+package org.hamcrest.primitive;
+
+import org.hamcrest.BaseMatcher;
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+import org.hamcrest.PrimitiveMatching;
+import org.hamcrest.core.IsEqual;
+import org.hamcrest.test.AbstractMatcherTest;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.core.IsAnything.anything;
+import static org.hamcrest.core.IsEqual.equalTo;
+import static org.hamcrest.number.OrderingComparison.greaterThan;
+import static org.hamcrest.number.OrderingComparison.lessThan;
+import static org.hamcrest.primitive.PrimitiveArrayMatching.byteArrayContaining;
+import static org.hamcrest.primitive.PrimitiveArrayMatching.byteArrayWithSize;
+import static org.hamcrest.primitive.PrimitiveArrayMatching.doubleArrayContaining;
+import static org.hamcrest.primitive.PrimitiveArrayMatching.everyDouble;
+import static org.hamcrest.primitive.PrimitiveArrayMatching.everyInt;
+import static org.hamcrest.primitive.PrimitiveArrayMatching.everyLong;
+import static org.hamcrest.primitive.PrimitiveArrayMatching.hasBytesAt;
+import static org.hamcrest.primitive.PrimitiveArrayMatching.hasDoubleItem;
+import static org.hamcrest.primitive.PrimitiveArrayMatching.hasIntItem;
+import static org.hamcrest.primitive.PrimitiveArrayMatching.hasLongItem;
+import static org.hamcrest.primitive.PrimitiveArrayMatching.intArrayContaining;
+import static org.hamcrest.primitive.PrimitiveArrayMatching.intArrayWithSize;
+import static org.hamcrest.primitive.PrimitiveArrayMatching.longArrayContaining;
+import static org.hamcrest.primitive.PrimitiveArrayMatching.longArrayWithSize;
+import static org.hamcrest.test.MatcherAssertions.assertDescription;
+import static org.hamcrest.test.MatcherAssertions.assertDoesNotMatch;
+import static org.hamcrest.test.MatcherAssertions.assertMatches;
+import static org.hamcrest.test.MatcherAssertions.assertMismatchDescription;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+public final class PrimitiveArrayMatchingTest extends AbstractMatcherTest {
+
+    @Override
+    protected Matcher<?> createMatcher() {
+        return intArrayContaining(1, 2);
+    }
+
+    @Test
+    public void matchesArraysWithTheSameElements() {
+        assertMatches(intArrayContaining(1, 2, 3), new int[] {1, 2, 3});
+        assertMatches(intArrayContaining(new int[0]), new int[0]);
+        assertDoesNotMatch(intArrayContaining(1, 2, 3), new int[] {1, 2});
+        assertMatches(longArrayContaining(1L, Long.MAX_VALUE), new long[] {1L, Long.MAX_VALUE});
+        assertMatches(doubleArrayContaining(Double.NaN), new double[] {Double.NaN});
+        assertDoesNotMatch(doubleArrayContaining(0.0), new double[] {-0.0});
+        assertMatches(byteArrayContaining((byte) 1, (byte) -1), new byte[] {1, -1});
+        assertFalse(intArrayContaining(1).matches(new long[] {1L}));
+        assertFalse(intArrayContaining(1).matches(null));
+    }
+
+    @Test
+    public void describesTheFirstDifferentElementOrTheSize() {
+        assertDescription("[<1>, <2>, <3>]", intArrayContaining(1, 2, 3));
+        assertMismatchDescription("item 1: was <5>", intArrayContaining(1, 2, 3), new int[] {1, 5, 3});
+        assertMismatchDescription("array size was <2>", intArrayContaining(1, 2, 3), new int[] {1, 2});
+        assertMismatchDescription("item 0: was <7L>", longArrayContaining(1L), new long[] {7L});
+    }
+
+    @Test
+    public void matchesEachElementByTheMatcherInTheSamePosition() {
+        Matcher<int[]> matcher = intArrayContaining(equalTo(1), anything(), greaterThan(2));
+        assertMatches(matcher, new int[] {1, 9, 3});
+        assertDoesNotMatch(matcher, new int[] {1, 9, 3, 4});
+        assertDescription("[<1>, ANYTHING, a value greater than <2>]", matcher);
+        assertMismatchDescription("item 2: <2> was equal to <2>", matcher, new int[] {1, 9, 2});
+        assertMismatchDescription("array size was <1>", matcher, new int[] {1});
+    }
+
+    @Test
+    public void matchesTheSizeOfArrays() {
+        assertMatches(intArrayWithSize(2), new int[] {4, 5});
+        assertMatches(longArrayWithSize(lessThan(3)), new long[] {4L});
+        assertMatches(byteArrayWithSize(0), new byte[0]);
+        assertDescription("an array with size <2>", intArrayWithSize(2));
+        assertMismatchDescription("array size was <3>", intArrayWithSize(2), new int[] {1, 2, 3});
+    }
+
+    @Test
+    public void matchesArraysWithAMatchingElement() {
+        assertMatches(hasIntItem(2), new int[] {1, 2, 3});
+        assertMatches(hasLongItem(greaterThan(2L)), new long[] {1L, 3L});
+        assertMatches(hasDoubleItem(Double.NaN), new double[] {Double.NaN});
+        assertDoesNotMatch(hasIntItem(4), new int[] {1, 2, 3});
+        assertDescription("an array containing <4>", hasIntItem(4));
+        assertMismatchDescription("mismatches were: [was <1>, was <2>]", hasIntItem(4), new int[] {1, 2});
+        assertMismatchDescription("was empty", hasIntItem(4), new int[0]);
+        assertMismatchDescription("mismatches were: [was <0>, was <1>, was <2>, was <3>, was <4>, was <5>, was <6>, was <7>, was <8>, was <9>, and 2 more]",
+                hasIntItem(20), new int[] {0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11});
+    }
+
+    @Test
+    public void matchesArraysWhoseElementsAllMatch() {
+        assertMatches(everyInt(x -> x > 0), new int[] {1, 2});
+        assertMatches(everyInt(x -> x > 0), new int[0]);
+        assertMatches(everyLong(lessThan(3L)), new long[] {1L, 2L});
+        assertMatches(everyDouble(x -> !Double.isNaN(x)), new double[] {1.0, 2.0});
+        assertDescription("every item satisfies the predicate", everyInt(x -> x > 0));
+        assertMismatchDescription("item 1 was <0>", everyInt(x -> x > 0), new int[] {1, 0, 2});
+        assertDescription("every item is a value less than <3L>", everyLong(lessThan(3L)));
+        assertMismatchDescription("an item <4L> was greater than <3L>", everyLong(lessThan(3L)), new long[] {1L, 4L});
+    }
+
+    @Test
+    public void testsElementsWithoutBoxingThemIfTheMatcherCan() {
+        assertMatches(hasIntItem(new UnboxedOnly(3)), new int[] {1, 2, 3});
+        assertMatches(everyInt(new UnboxedOnly(3)), new int[] {3, 3});
+        assertMatches(intArrayContaining(new UnboxedOnly(1), new UnboxedOnly(2)), new int[] {1, 2});
+        assertMatches(intArrayWithSize(new UnboxedOnly(2)), new int[] {1, 2});
+    }
+
+    @Test
+    public void boxesElementsForSubclassesThatOverrideMatches() {
+        Matcher<Integer> anyInteger = new IsEqual<Integer>(0) {
+            @Override
+            public boolean matches(Object actual) {
+                return true;
+            }
+        };
+
+        assertMatches(hasIntItem(anyInteger), new int[] {5});
+        assertMatches(everyInt(anyInteger), new int[] {5, 6});
+        assertMatches(intArrayContaining(anyInteger), new int[] {5});
+    }
+
+    @Test
+    public void matchesBytesAtAnOffset() {
+        byte[] header = {0, (byte) 0xCA, (byte) 0xFE, 7};
+        assertMatches(hasBytesAt(1, (byte) 0xCA, (byte) 0xFE), header);
+        assertMatches(hasBytesAt(4), header);
+        assertDoesNotMatch(hasBytesAt(3, (byte) 7, (byte) 8), header);
+        assertDescription("an array with [<1b>, <2b>] at item 3", hasBytesAt(3, (byte) 1, (byte) 2));
+        assertMismatchDescription("item 2: was <-2b>", hasBytesAt(1, (byte) 0xCA, (byte) 0xFF), header);
+        assertMismatchDescription("array size was <4>", hasBytesAt(3, (byte) 7, (byte) 8), header);
+    }
+
+    /**
+     * Matches ints equal to a value, but cannot match boxed values.
+     */
+    private static final class UnboxedOnly extends BaseMatcher<Integer> implements PrimitiveMatching {
+        private final int expected;
+
+        UnboxedOnly(int expected) {
+            this.expected = expected;
+        }
+
+        @Override
+        public boolean matches(Object actual) {
+            throw new AssertionError("Boxed " + actual);
+        }
+
+        @Override
+        public boolean matchesInt(int actual) {
+            return actual == expected;
+        }
+
+        @Override
+        public boolean matchesLong(long actual) {
+            return actual == expected;
+        }
+
+        @Override
+        public boolean matchesDouble(double actual) {
+            return actual == expected;
+        }
+
+        @Override
+        public void describeTo(Description description) {
+            description.appendValue(expected);
+        }
+    }
+
+}
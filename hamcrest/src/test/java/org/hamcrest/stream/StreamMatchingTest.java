@@ -0,0 +1,210 @@
+package org.hamcrest.stream;
+
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+import org.hamcrest.StringDescription;
+import org.hamcrest.test.AbstractMatcherTest;
+import org.junit.jupiter.api.Test;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.core.IsEqual.equalTo;
+import static org.hamcrest.number.OrderingComparison.greaterThan;
+import static org.hamcrest.number.OrderingComparison.lessThan;
+import static org.hamcrest.stream.StreamMatching.iteratorContains;
+import static org.hamcrest.stream.StreamMatching.iteratorContainsInRelativeOrder;
+import static org.hamcrest.stream.StreamMatching.iteratorEveryItem;
+import static org.hamcrest.stream.StreamMatching.iteratorHasItem;
+import static org.hamcrest.stream.StreamMatching.iteratorWithSize;
+import static org.hamcrest.stream.StreamMatching.spliteratorWithSize;
+import static org.hamcrest.stream.StreamMatching.streamContains;
+import static org.hamcrest.stream.StreamMatching.streamContainsInRelativeOrder;
+import static org.hamcrest.stream.StreamMatching.streamEveryItem;
+import static org.hamcrest.stream.StreamMatching.streamHasItem;
+import static org.hamcrest.stream.StreamMatching.streamWithSize;
+import static org.hamcrest.test.MatcherAssertions.assertDescription;
+import static org.hamcrest.test.MatcherAssertions.assertDoesNotMatch;
+import static org.hamcrest.test.MatcherAssertions.assertMatches;
+import static org.hamcrest.test.MatcherAssertions.assertMismatchDescription;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public final class StreamMatchingTest extends AbstractMatcherTest {
+
+    @Override
+    protected Matcher<?> createMatcher() {
+        return streamHasItem(equalTo(1));
+    }
+
+    @Test
+    public void matchesStreamContainingItem() {
+        assertMatches(streamHasItem(equalTo("b")), Stream.of("a", "b", "c"));
+        assertDoesNotMatch(streamHasItem(equalTo("d")), Stream.of("a", "b", "c"));
+        assertFalse(streamHasItem(equalTo("d")).matches(asList("d")));
+    }
+
+    @Test
+    public void stopsTakingItemsOnceItemIsFound() {
+        CountingIterator<Integer> items = new CountingIterator<>(1, 2, 3, 4);
+
+        assertTrue(iteratorHasItem(equalTo(2)).matches(items));
+        assertEquals(2, items.taken);
+    }
+
+    @Test
+    public void describesMismatchFromTheMatchWithoutTakingItemsAgain() {
+        CountingIterator<Integer> items = new CountingIterator<>(1, 2);
+
+        assertMismatchDescription("mismatches were: [was <1>, was <2>]", iteratorHasItem(equalTo(3)), items);
+        assertEquals(2, items.taken);
+    }
+
+    @Test
+    public void describesEachSourceFromItsOwnMatch() {
+        Matcher<Stream<? extends Integer>> matcher = streamHasItem(equalTo(3));
+        Stream<Integer> first = Stream.of(1, 2);
+        Stream<Integer> second = Stream.of(4);
+
+        assertFalse(matcher.matches(first));
+        assertFalse(matcher.matches(second));
+        assertEquals("mismatches were: [was <1>, was <2>]", describeMismatch(matcher, first));
+        assertEquals("mismatches were: [was <4>]", describeMismatch(matcher, second));
+
+        Matcher<Iterator<? extends Integer>> iteratorMatcher = iteratorHasItem(equalTo(3));
+        Iterator<Integer> items = asList(1, 2).iterator();
+        assertFalse(iteratorMatcher.matches(items));
+        assertFalse(iteratorMatcher.matches(asList(4).iterator()));
+        assertEquals("mismatches were: [was <1>, was <2>]", describeMismatch(iteratorMatcher, items));
+    }
+
+    @Test
+    public void describesAStreamConsumedElsewhereWithoutReadingIt() {
+        Stream<Integer> consumed = Stream.of(1, 2);
+        consumed.forEach(i -> { });
+
+        assertEquals("was a stream that had already been consumed", describeMismatch(streamHasItem(equalTo(3)), consumed));
+    }
+
+    @Test
+    public void keepsNoOutcomeOfAMatchedStream() {
+        Matcher<Stream<? extends Integer>> matcher = streamHasItem(equalTo(2));
+        Stream<Integer> matched = Stream.of(1, 2);
+        assertTrue(matcher.matches(matched));
+
+        assertEquals("was a stream that had already been consumed", describeMismatch(matcher, matched));
+    }
+
+    @Test
+    public void describesOnlyTheLastItemsOfALongMismatch() {
+        assertMismatchDescription(
+                "mismatches were: [4 earlier, was <5>, was <6>, was <7>, was <8>, was <9>, was <10>, was <11>, was <12>, was <13>, was <14>]",
+                streamHasItem(equalTo(0)), IntStream.range(0, 15).boxed().filter(i -> i != 0));
+    }
+
+    @Test
+    public void describesEmptyStream() {
+        assertMismatchDescription("was empty", streamHasItem(equalTo(0)), Stream.empty());
+        assertDescription("a stream containing <0>", streamHasItem(equalTo(0)));
+    }
+
+    @Test
+    public void matchesWhenEveryItemMatchesAndStopsAtFirstMismatch() {
+        CountingIterator<Integer> items = new CountingIterator<>(1, 5, 2, 6);
+
+        assertMatches(streamEveryItem(lessThan(3)), Stream.of(1, 2));
+        assertMismatchDescription("an item <5> was greater than <3>", iteratorEveryItem(lessThan(3)), items);
+        assertEquals(2, items.taken);
+        assertDescription("a stream whose every item is a value less than <3>", streamEveryItem(lessThan(3)));
+    }
+
+    @Test
+    public void matchesItemsInOrder() {
+        assertMatches(streamContains(equalTo(1), equalTo(2)), Stream.of(1, 2));
+        assertMatches(streamContains(), Stream.empty());
+        assertMismatchDescription("item 1: was <3>", streamContains(equalTo(1), equalTo(2)), Stream.of(1, 3));
+        assertMismatchDescription("no item was <2>", streamContains(equalTo(1), equalTo(2)), Stream.of(1));
+        assertMismatchDescription("not matched: <3>", streamContains(equalTo(1), equalTo(2)), Stream.of(1, 2, 3, 4));
+        assertDescription("a stream of [<1>, <2>]", streamContains(equalTo(1), equalTo(2)));
+    }
+
+    @Test
+    public void stopsTakingItemsAtFirstExtraItem() {
+        CountingIterator<Integer> items = new CountingIterator<>(1, 2, 3, 4);
+
+        assertFalse(iteratorContains(equalTo(1), equalTo(2)).matches(items));
+        assertEquals(3, items.taken);
+    }
+
+    @Test
+    public void matchesItemsInRelativeOrderAndStopsOnceAllAreFound() {
+        CountingIterator<Integer> items = new CountingIterator<>(1, 2, 3, 4);
+
+        assertTrue(iteratorContainsInRelativeOrder(equalTo(1), equalTo(3)).matches(items));
+        assertEquals(3, items.taken);
+        assertMismatchDescription("<1> was not found after <3>",
+                streamContainsInRelativeOrder(equalTo(3), equalTo(1)), Stream.of(1, 2, 3));
+        assertMismatchDescription("<4> was not found", streamContainsInRelativeOrder(equalTo(4)), Stream.of(1, 2, 3));
+        assertDescription("a stream containing [<1>, <3>] in relative order", streamContainsInRelativeOrder(equalTo(1), equalTo(3)));
+    }
+
+    @Test
+    public void matchesSize() {
+        assertMatches(streamWithSize(equalTo(3)), Stream.of(1, 2, 3).filter(i -> true));
+        assertMismatchDescription("size was <2>", streamWithSize(equalTo(3)), Stream.of(1, 2).filter(i -> true));
+        assertDescription("a stream with size <3>", streamWithSize(equalTo(3)));
+    }
+
+    @Test
+    public void stopsCountingOnceSizeCannotMatch() {
+        CountingIterator<Integer> items = new CountingIterator<>(1, 2, 3, 4, 5);
+
+        assertMismatchDescription("size was more than <2>", iteratorWithSize(lessThan(3)), items);
+        assertEquals(3, items.taken);
+    }
+
+    @Test
+    public void takesSizeFromSourceWhenKnownExactly() {
+        Spliterator<Integer> items = asList(1, 2, 3, 4).spliterator();
+
+        assertMismatchDescription("size <4> was greater than <3>", spliteratorWithSize(lessThan(3)), items);
+        assertTrue(items.tryAdvance(i -> { }));
+        assertMatches(streamWithSize(greaterThan(2)), Stream.of(1, 2, 3));
+    }
+
+    private static final class CountingIterator<T> implements Iterator<T> {
+        private final Iterator<T> items;
+        private int taken;
+
+        @SafeVarargs
+        CountingIterator(T... items) {
+            this.items = asList(items).iterator();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return items.hasNext();
+        }
+
+        @Override
+        public T next() {
+            if (!items.hasNext()) {
+                throw new NoSuchElementException();
+            }
+            taken++;
+            return items.next();
+        }
+    }
+
+    private static String describeMismatch(Matcher<?> matcher, Object actual) {
+        Description mismatch = new StringDescription();
+        matcher.describeMismatch(actual, mismatch);
+        return mismatch.toString();
+    }
+
+}